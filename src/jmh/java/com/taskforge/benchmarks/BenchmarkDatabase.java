@@ -0,0 +1,111 @@
+package com.taskforge.benchmarks;
+
+import com.taskforge.AppContext;
+import com.taskforge.tools.DatasetGenerator;
+import com.taskforge.tools.DatasetOptions;
+import com.taskforge.tools.DatasetSummary;
+import com.taskforge.util.DatabaseManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark state holding a temporary SQLite database seeded at the scale given by {@link #taskCount},
+ * together with the application's DAO and service graph.
+ *
+ * <p>
+ * The database is filled by {@link DatasetGenerator} with one user per {@value #TASKS_PER_USER}
+ * tasks and otherwise default {@link DatasetOptions}. The generator uses a fixed seed, so runs are comparable.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    static final int TASKS_PER_USER = 20;
+
+    /** Approximate number of tasks to seed. */
+    @Param({"1000", "10000", "100000"})
+    public int taskCount;
+
+    private DatasetSummary dataset;
+
+    private Path directory;
+    private AppContext context;
+
+    /**
+     * Creates and seeds the temporary database, then builds the DAO and service graph on top of it.
+     *
+     * @throws IOException If the temporary directory cannot be created.
+     * @throws SQLException If seeding fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("taskforge-jmh");
+        System.setProperty("taskforge.db.path", directory.resolve("taskforge.db").toString());
+        System.setProperty("taskforge.db.checkpointIntervalMs", "0");
+        DatabaseManager.shutdown();
+        DatabaseManager.initializeDatabase();
+
+        dataset = new DatasetGenerator(new DatasetOptions()
+                .setUsers(Math.max(10, taskCount / TASKS_PER_USER))
+                .setMeanTasksPerUser(TASKS_PER_USER)).generate();
+        System.out.println("Seeded benchmark database: " + dataset);
+
+        context = new AppContext();
+    }
+
+    /**
+     * Closes the database and deletes the temporary directory.
+     *
+     * @throws IOException If the temporary files cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.shutdown();
+        DatabaseManager.shutdown();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Gets the DAO and service graph bound to the benchmark database.
+     * @return The AppContext.
+     */
+    public AppContext getContext() {
+        return context;
+    }
+
+    /**
+     * Picks a random existing user ID.
+     *
+     * @param random The per-thread random source.
+     * @return A user ID between 1 and the number of seeded users.
+     */
+    int randomUserId(SplittableRandom random) {
+        return random.nextInt(dataset.users()) + 1;
+    }
+
+    /**
+     * Picks a random seeded task ID.
+     *
+     * @param random The per-thread random source.
+     * @return A task ID between 1 and the number of seeded tasks.
+     */
+    int randomTaskId(SplittableRandom random) {
+        return random.nextInt(dataset.tasks()) + 1;
+    }
+}
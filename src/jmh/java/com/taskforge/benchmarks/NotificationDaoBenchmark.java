@@ -0,0 +1,48 @@
+package com.taskforge.benchmarks;
+
+import com.taskforge.dao.Page;
+import com.taskforge.model.Notification;
+import com.taskforge.service.TaskManagerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the NotificationDAO inbox queries against the seeded {@link BenchmarkDatabase}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationDaoBenchmark {
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Benchmark
+    public List<Notification> getNotificationsByUserId(BenchmarkDatabase db) {
+        return db.getContext().getNotificationDAO().getNotificationsByUserId(db.randomUserId(random));
+    }
+
+    @Benchmark
+    public Page<Notification> getNotificationsByUserIdFirstPage(BenchmarkDatabase db) {
+        return db.getContext().getNotificationDAO()
+                .getNotificationsByUserId(db.randomUserId(random), TaskManagerService.DEFAULT_PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public List<Notification> getUnreadNotificationsByUserId(BenchmarkDatabase db) {
+        return db.getContext().getNotificationDAO().getUnreadNotificationsByUserId(db.randomUserId(random));
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskforge.benchmarks;
+
+import com.taskforge.tools.DatasetGenerator;
+import com.taskforge.util.SecurityUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks password hashing and verification. Does not touch the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityUtilBenchmark {
+
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        storedHash = SecurityUtil.hashPassword(DatasetGenerator.PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return SecurityUtil.hashPassword(DatasetGenerator.PASSWORD);
+    }
+
+    @Benchmark
+    public boolean checkPassword() {
+        return SecurityUtil.checkPassword(DatasetGenerator.PASSWORD, storedHash);
+    }
+}
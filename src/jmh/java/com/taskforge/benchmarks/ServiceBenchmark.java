@@ -0,0 +1,41 @@
+package com.taskforge.benchmarks;
+
+import com.taskforge.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the service-layer hot paths used by the task screens against the seeded {@link BenchmarkDatabase}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Benchmark
+    public List<Task> getAllVisibleTasks(BenchmarkDatabase db) {
+        return db.getContext().getTaskManagerService().getAllVisibleTasks(db.randomUserId(random));
+    }
+
+    @Benchmark
+    public boolean areUsersInSameTeam(BenchmarkDatabase db) {
+        return db.getContext().getUserManagerService()
+                .areUsersInSameTeam(db.randomUserId(random), db.randomUserId(random));
+    }
+}
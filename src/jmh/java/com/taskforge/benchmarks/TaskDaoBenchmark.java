@@ -0,0 +1,80 @@
+package com.taskforge.benchmarks;
+
+import com.taskforge.dao.Page;
+import com.taskforge.dao.TaskDAO;
+import com.taskforge.dao.TaskOrder;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.service.TaskManagerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks TaskDAO reads and writes against the seeded {@link BenchmarkDatabase}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDaoBenchmark {
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Benchmark
+    public Optional<Task> getTaskById(BenchmarkDatabase db) {
+        return taskDAO(db).getTaskById(db.randomTaskId(random));
+    }
+
+    @Benchmark
+    public List<Task> getTasksByAssignedUserId(BenchmarkDatabase db) {
+        return taskDAO(db).getTasksByAssignedUserId(db.randomUserId(random));
+    }
+
+    @Benchmark
+    public List<Task> getTasksVisibleToUser(BenchmarkDatabase db) {
+        return taskDAO(db).getTasksVisibleToUser(db.randomUserId(random));
+    }
+
+    @Benchmark
+    public Page<Task> getTasksVisibleToUserFirstPage(BenchmarkDatabase db) {
+        return taskDAO(db).getTasksVisibleToUser(db.randomUserId(random), TaskOrder.DEFAULT, TaskManagerService.DEFAULT_PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public boolean updateTask(BenchmarkDatabase db) {
+        TaskDAO taskDAO = taskDAO(db);
+        Optional<Task> task = taskDAO.getTaskById(db.randomTaskId(random));
+        if (task.isEmpty()) {
+            return false;
+        }
+        task.get().setStatus(Status.values()[random.nextInt(Status.values().length)]);
+        return taskDAO.updateTask(task.get());
+    }
+
+    @Benchmark
+    public boolean createAndDeleteTask(BenchmarkDatabase db) {
+        TaskDAO taskDAO = taskDAO(db);
+        Task template = taskDAO.getTaskById(db.randomTaskId(random)).orElseThrow();
+        template.setId(0);
+        Task created = taskDAO.createTask(template);
+        return created != null && taskDAO.deleteTask(created.getId());
+    }
+
+    private static TaskDAO taskDAO(BenchmarkDatabase db) {
+        return db.getContext().getTaskDAO();
+    }
+}
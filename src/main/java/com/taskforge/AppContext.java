@@ -0,0 +1,253 @@
+package com.taskforge;
+
+import com.taskforge.dao.ChangeLogDAO;
+import com.taskforge.dao.NotificationDAO;
+import com.taskforge.dao.ProjectDAO;
+import com.taskforge.dao.TaskDAO;
+import com.taskforge.dao.TeamDAO;
+import com.taskforge.dao.UserDAO;
+import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.EventBus;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.service.AuthService;
+import com.taskforge.service.ChangeLogCompactor;
+import com.taskforge.service.DataVersionWatcher;
+import com.taskforge.service.NotificationDispatcher;
+import com.taskforge.service.ProjectManagerService;
+import com.taskforge.service.SearchService;
+import com.taskforge.service.TaskManagerService;
+import com.taskforge.service.UserManagerService;
+import com.taskforge.ui.BackgroundExecutor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Application-wide registry of the DAO and service graph.
+ * A single AppContext is created when {@link com.taskforge.ui.MainApp} starts, so every screen
+ * shares the same DAO instances and therefore the same entity caches.
+ *
+ * <p>
+ * Controllers receive the context through {@link #createController(Class)}, which is installed
+ * as the controller factory of every {@code FXMLLoader}. A controller that declares a public
+ * constructor taking an {@code AppContext} is constructed with this context; any other controller
+ * is constructed through its no-argument constructor.
+ * </p>
+ */
+public class AppContext {
+
+    private final UserDAO userDAO;
+    private final TeamDAO teamDAO;
+    private final ProjectDAO projectDAO;
+    private final TaskDAO taskDAO;
+    private final NotificationDAO notificationDAO;
+    private final UserTeamDAO userTeamDAO;
+    private final ChangeLogDAO changeLogDAO;
+
+    private final EventBus eventBus;
+    private final NotificationDispatcher notificationDispatcher;
+    private final DataVersionWatcher dataVersionWatcher;
+    private final ChangeLogCompactor changeLogCompactor;
+
+    private final AuthService authService;
+    private final UserManagerService userManagerService;
+    private final ProjectManagerService projectManagerService;
+    private final TaskManagerService taskManagerService;
+    private final SearchService searchService;
+
+    private final BackgroundExecutor backgroundExecutor;
+
+    /**
+     * Constructs the DAO and service graph.
+     * DAOs are created before the services that depend on them.
+     */
+    public AppContext() {
+        this.userDAO = new UserDAO();
+        this.teamDAO = new TeamDAO();
+        this.projectDAO = new ProjectDAO(teamDAO);
+        this.taskDAO = new TaskDAO(userDAO, projectDAO);
+        this.notificationDAO = new NotificationDAO(userDAO);
+        this.userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
+        this.changeLogDAO = new ChangeLogDAO();
+
+        this.eventBus = new EventBus();
+        this.notificationDispatcher = new NotificationDispatcher(notificationDAO, eventBus);
+
+        this.authService = new AuthService(userDAO);
+        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO, notificationDAO,
+                notificationDispatcher, eventBus);
+        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO);
+        this.taskManagerService = new TaskManagerService(taskDAO, userDAO, projectDAO,
+                notificationDAO, userTeamDAO, userManagerService, notificationDispatcher, eventBus);
+        this.searchService = new SearchService(taskDAO);
+
+        this.backgroundExecutor = new BackgroundExecutor();
+        // Projects changed by another instance sharing the database must not be served from the cache
+        eventBus.subscribe(projectDAO, DatabaseChanged.class, event -> {
+            if (!event.complete()) {
+                projectDAO.invalidateAllProjects();
+                return;
+            }
+            for (ChangeLogEntry change : event.changes()) {
+                if (change.entity().equals(ChangeLogEntry.PROJECTS)) {
+                    projectDAO.invalidateProject(change.entityId());
+                }
+            }
+        });
+        this.dataVersionWatcher = new DataVersionWatcher(changeLogDAO, eventBus);
+        this.changeLogCompactor = new ChangeLogCompactor(changeLogDAO);
+    }
+
+    /**
+     * Stops background work. Called when the application exits, before the database is shut down.
+     */
+    public void shutdown() {
+        dataVersionWatcher.shutdown();
+        changeLogCompactor.shutdown();
+        backgroundExecutor.shutdown();
+        notificationDispatcher.shutdown();
+        eventBus.shutdown();
+    }
+
+    /**
+     * Creates an FXML controller, injecting this context when the controller accepts it.
+     * Intended to be passed to {@code FXMLLoader.setControllerFactory(context::createController)}.
+     *
+     * @param controllerClass The controller class declared by the FXML file's {@code fx:controller} attribute.
+     * @return A new controller instance.
+     * @throws IllegalStateException if the controller cannot be instantiated.
+     */
+    public Object createController(Class<?> controllerClass) {
+        try {
+            try {
+                Constructor<?> constructor = controllerClass.getConstructor(AppContext.class);
+                return constructor.newInstance(this);
+            } catch (NoSuchMethodException e) {
+                return controllerClass.getConstructor().newInstance();
+            }
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create controller " + controllerClass.getName(), e);
+        }
+    }
+
+    /**
+     * Gets the shared Data Access Object for User entities.
+     * @return The UserDAO.
+     */
+    public UserDAO getUserDAO() {
+        return userDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for Team entities.
+     * @return The TeamDAO.
+     */
+    public TeamDAO getTeamDAO() {
+        return teamDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for Project entities.
+     * @return The ProjectDAO.
+     */
+    public ProjectDAO getProjectDAO() {
+        return projectDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for Task entities.
+     * @return The TaskDAO.
+     */
+    public TaskDAO getTaskDAO() {
+        return taskDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for Notification entities.
+     * @return The NotificationDAO.
+     */
+    public NotificationDAO getNotificationDAO() {
+        return notificationDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for UserTeamMembership entities.
+     * @return The UserTeamDAO.
+     */
+    public UserTeamDAO getUserTeamDAO() {
+        return userTeamDAO;
+    }
+
+    /**
+     * Gets the shared Data Access Object for the database change log.
+     * @return The ChangeLogDAO.
+     */
+    public ChangeLogDAO getChangeLogDAO() {
+        return changeLogDAO;
+    }
+
+    /**
+     * Gets the shared bus on which the services publish domain events.
+     * @return The EventBus.
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets the shared write-behind queue for notifications created by the services.
+     * @return The NotificationDispatcher.
+     */
+    public NotificationDispatcher getNotificationDispatcher() {
+        return notificationDispatcher;
+    }
+
+    /**
+     * Gets the shared authentication service.
+     * @return The AuthService.
+     */
+    public AuthService getAuthService() {
+        return authService;
+    }
+
+    /**
+     * Gets the shared user and team management service.
+     * @return The UserManagerService.
+     */
+    public UserManagerService getUserManagerService() {
+        return userManagerService;
+    }
+
+    /**
+     * Gets the shared project management service.
+     * @return The ProjectManagerService.
+     */
+    public ProjectManagerService getProjectManagerService() {
+        return projectManagerService;
+    }
+
+    /**
+     * Gets the shared task management service.
+     * @return The TaskManagerService.
+     */
+    public TaskManagerService getTaskManagerService() {
+        return taskManagerService;
+    }
+
+    /**
+     * Gets the shared full-text search service.
+     * @return The SearchService.
+     */
+    public SearchService getSearchService() {
+        return searchService;
+    }
+
+    /**
+     * Gets the shared executor that runs service calls off the JavaFX Application Thread.
+     * @return The BackgroundExecutor.
+     */
+    public BackgroundExecutor getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+}
@@ -3,6 +3,7 @@ package com.taskforge.dao;
 import com.taskforge.model.Attachment;
 import com.taskforge.model.Task;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -10,7 +11,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,8 +25,6 @@ public class AttachmentDAO {
 
     private final TaskDAO taskDAO;    // Dependency for fetching Task objects
 
-    // DateTimeFormatter for converting LocalDateTime to and from String for SQLite TEXT storage
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     /**
      * Constructs an AttachmentDAO with a TaskDAO dependency.
@@ -52,7 +50,7 @@ public class AttachmentDAO {
             pstmt.setInt(1, attachment.getTask().getId());
             pstmt.setString(2, attachment.getFileName());
             pstmt.setString(3, attachment.getFilePath());
-            pstmt.setString(4, attachment.getUploadedAt().format(FORMATTER)); // Convert LocalDateTime to String
+            pstmt.setLong(4, Timestamps.toEpochMillis(attachment.getUploadedAt()));
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -80,7 +78,7 @@ public class AttachmentDAO {
      */
     public Optional<Attachment> getAttachmentById(int id) {
         String sql = "SELECT id, task_id, file_name, file_path, uploaded_at FROM Attachments WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -104,7 +102,7 @@ public class AttachmentDAO {
     public List<Attachment> getAttachmentsByTaskId(int taskId) {
         List<Attachment> attachments = new ArrayList<>();
         String sql = "SELECT id, task_id, file_name, file_path, uploaded_at FROM Attachments WHERE task_id = ? ORDER BY uploaded_at ASC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, taskId);
@@ -127,7 +125,7 @@ public class AttachmentDAO {
     public List<Attachment> getAllAttachments() {
         List<Attachment> attachments = new ArrayList<>();
         String sql = "SELECT id, task_id, file_name, file_path, uploaded_at FROM Attachments";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -155,7 +153,7 @@ public class AttachmentDAO {
             pstmt.setInt(1, attachment.getTask().getId());
             pstmt.setString(2, attachment.getFileName());
             pstmt.setString(3, attachment.getFilePath());
-            pstmt.setString(4, attachment.getUploadedAt().format(FORMATTER));
+            pstmt.setLong(4, Timestamps.toEpochMillis(attachment.getUploadedAt()));
             pstmt.setInt(5, attachment.getId());
 
             int affectedRows = pstmt.executeUpdate();
@@ -200,8 +198,7 @@ public class AttachmentDAO {
         int taskId = rs.getInt("task_id");
         String fileName = rs.getString("file_name");
         String filePath = rs.getString("file_path");
-        String uploadedAtStr = rs.getString("uploaded_at");
-        LocalDateTime uploadedAt = LocalDateTime.parse(uploadedAtStr, FORMATTER);
+        LocalDateTime uploadedAt = Timestamps.fromEpochMillis(rs.getLong("uploaded_at"));
 
         // Fetch associated Task object using its DAO
         Task task = taskDAO.getTaskById(taskId)
@@ -0,0 +1,115 @@
+package com.taskforge.dao;
+
+import com.taskforge.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Runs a batch of writes as a single JDBC batch inside one transaction on the writer connection,
+ * so a batch of any size costs one commit instead of one per row. Either every row is written
+ * or, if any statement fails, none is. Inside a unit of work opened with
+ * {@link DatabaseManager#inTransaction(DatabaseManager.TransactionWork)} the batch joins that transaction.
+ */
+final class BatchWriter {
+
+    /**
+     * Binds the parameters of one batched statement.
+     *
+     * @param <T> The type of the item being written.
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement pstmt, T item) throws SQLException;
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BatchWriter() {
+    }
+
+    /**
+     * Inserts every item into a table with an auto-generated integer key.
+     *
+     * <p>
+     * The SQLite driver does not report generated keys for a batch, so they are derived from
+     * {@code last_insert_rowid()}: all writes go through the single writer connection and the batch
+     * runs in one transaction, so SQLite assigns the rows consecutive IDs in batch order.
+     * </p>
+     *
+     * @param sql The INSERT statement, without an explicit ID column.
+     * @param items The items to insert, in order.
+     * @param binder Binds an item to the statement's parameters.
+     * @param <T> The type of the items.
+     * @return The generated IDs, in the same order as {@code items}.
+     * @throws SQLException If any insert fails; the transaction is rolled back.
+     */
+    static <T> int[] insert(String sql, List<T> items, Binder<? super T> binder) throws SQLException {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        return DatabaseManager.inTransaction(() -> {
+            try (Connection conn = DatabaseManager.getConnection()) {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (T item : items) {
+                        binder.bind(pstmt, item);
+                        pstmt.addBatch();
+                    }
+                    for (int count : pstmt.executeBatch()) {
+                        if (count != 1) {
+                            throw new SQLException("Batch insert did not write exactly one row per item");
+                        }
+                    }
+                }
+                long lastId;
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("SELECT last_insert_rowid()")) {
+                    rs.next();
+                    lastId = rs.getLong(1);
+                }
+                int[] ids = new int[items.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = (int) (lastId - ids.length + 1 + i);
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Runs a statement once per item, for writes that do not generate keys.
+     *
+     * @param sql The statement to run.
+     * @param items The items to write.
+     * @param binder Binds an item to the statement's parameters.
+     * @param <T> The type of the items.
+     * @return The total number of rows affected.
+     * @throws SQLException If any statement fails; the transaction is rolled back.
+     */
+    static <T> int execute(String sql, Collection<T> items, Binder<? super T> binder) throws SQLException {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        return DatabaseManager.inTransaction(() -> {
+            try (Connection conn = DatabaseManager.getConnection()) {
+                int affected = 0;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (T item : items) {
+                        binder.bind(pstmt, item);
+                        pstmt.addBatch();
+                    }
+                    for (int count : pstmt.executeBatch()) {
+                        affected += Math.max(count, 0);
+                    }
+                }
+                return affected;
+            }
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskforge.dao;
+
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object (DAO) for the 'ChangeLog' table.
+ * The log is written only by database triggers; this class reads it as an incremental feed of
+ * row changes and compacts it.
+ *
+ * <p>
+ * A consumer remembers the sequence number of the last entry it has seen, starting from
+ * {@link #getLatestSeq()}, and asks for {@link #getChangesSince(long, int)} whenever it wants to catch up.
+ * {@link #compact(long)} keeps only the newest entry per row and drops entries past a retention period;
+ * the first never hides a change from a consumer, since the entry kept is newer than any it replaces.
+ * A consumer that falls behind by more than the retention period may miss changes and should reload
+ * everything instead.
+ * </p>
+ */
+public class ChangeLogDAO {
+
+    /**
+     * Gets the sequence number of the newest entry ever written, including entries removed by compaction.
+     *
+     * @return The latest sequence number, or 0 if nothing has been logged yet or the query failed.
+     */
+    public long getLatestSeq() {
+        String sql = "SELECT seq FROM sqlite_sequence WHERE name = 'ChangeLog'";
+        try (Connection conn = DatabaseManager.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        } catch (SQLException e) {
+            System.err.println("Error reading latest change log sequence: " + e.getMessage());
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the changes logged after a given sequence number, oldest first.
+     *
+     * @param afterSeq The sequence number of the last entry already seen.
+     * @param limit The maximum number of entries to return.
+     * @return The entries, or an empty list if there are none or the query failed.
+     */
+    public List<ChangeLogEntry> getChangesSince(long afterSeq, int limit) {
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        String sql = "SELECT seq, entity, entity_id, related_id, op, changed_at FROM ChangeLog " +
+                "WHERE seq > ? ORDER BY seq LIMIT ?";
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, afterSeq);
+            pstmt.setInt(2, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Integer relatedId = rs.getInt("related_id");
+                    if (rs.wasNull()) {
+                        relatedId = null;
+                    }
+                    entries.add(new ChangeLogEntry(
+                            rs.getLong("seq"),
+                            rs.getString("entity"),
+                            rs.getInt("entity_id"),
+                            relatedId,
+                            ChangeLogEntry.Operation.valueOf(rs.getString("op")),
+                            Timestamps.fromEpochMillis(rs.getLong("changed_at"))
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving changes since " + afterSeq + ": " + e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Compacts the log in a single transaction: entries superseded by a newer entry for the same row
+     * are removed, then entries older than the retention period are removed.
+     *
+     * @param retentionMillis How long entries are kept, in milliseconds.
+     * @return The number of entries removed, or 0 if the compaction failed.
+     */
+    public int compact(long retentionMillis) {
+        String supersededSql = "DELETE FROM ChangeLog WHERE seq NOT IN (" +
+                "SELECT MAX(seq) FROM ChangeLog GROUP BY entity, entity_id, related_id)";
+        String expiredSql = "DELETE FROM ChangeLog WHERE changed_at < ?";
+        try {
+            return DatabaseManager.inTransaction(() -> {
+                try (Connection conn = DatabaseManager.getConnection()) {
+                    int removed;
+                    try (Statement stmt = conn.createStatement()) {
+                        removed = stmt.executeUpdate(supersededSql);
+                    }
+                    try (PreparedStatement pstmt = conn.prepareStatement(expiredSql)) {
+                        pstmt.setLong(1, System.currentTimeMillis() - retentionMillis);
+                        removed += pstmt.executeUpdate();
+                    }
+                    return removed;
+                }
+            });
+        } catch (SQLException e) {
+            System.err.println("Error compacting change log: " + e.getMessage());
+        }
+        return 0;
+    }
+}
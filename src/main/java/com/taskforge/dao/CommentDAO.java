@@ -4,6 +4,7 @@ import com.taskforge.model.Comment;
 import com.taskforge.model.Task;
 import com.taskforge.model.User;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -11,7 +12,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -27,8 +27,6 @@ public class CommentDAO {
     private final TaskDAO taskDAO;    // Dependency for fetching Task objects
     private final UserDAO userDAO;    // Dependency for fetching User objects
 
-    // DateTimeFormatter for converting LocalDateTime to and from String for SQLite TEXT storage
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     /**
      * Constructs a CommentDAO with TaskDAO and UserDAO dependencies.
@@ -53,10 +51,7 @@ public class CommentDAO {
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            pstmt.setInt(1, comment.getTask().getId());
-            pstmt.setInt(2, comment.getAuthor().getId());
-            pstmt.setString(3, comment.getCommentText());
-            pstmt.setString(4, comment.getCreatedAt().format(FORMATTER)); // Convert LocalDateTime to String
+            bindCommentColumns(pstmt, comment);
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -76,6 +71,30 @@ public class CommentDAO {
         return null;
     }
 
+    /**
+     * Inserts several comments in a single transaction.
+     * Either every comment is inserted or, if any insert fails, none is.
+     * The generated IDs are set back into the Comment objects.
+     *
+     * @param comments The Comment objects to be saved.
+     * @return The Comment objects with their database-generated IDs, in the given order,
+     *         or an empty list if the insertion failed.
+     */
+    public List<Comment> createComments(List<Comment> comments) {
+        String sql = "INSERT INTO Comments(task_id, author_id, comment_text, created_at) VALUES(?, ?, ?, ?)";
+        try {
+            int[] ids = BatchWriter.insert(sql, comments, this::bindCommentColumns);
+            for (int i = 0; i < ids.length; i++) {
+                comments.get(i).setId(ids[i]);
+            }
+            System.out.println("Created " + ids.length + " comments.");
+            return comments;
+        } catch (SQLException e) {
+            System.err.println("Error creating comments: " + e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
     /**
      * Retrieves a comment from the database by its ID.
      *
@@ -84,7 +103,7 @@ public class CommentDAO {
      */
     public Optional<Comment> getCommentById(int id) {
         String sql = "SELECT id, task_id, author_id, comment_text, created_at FROM Comments WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -108,7 +127,7 @@ public class CommentDAO {
     public List<Comment> getCommentsByTaskId(int taskId) {
         List<Comment> comments = new ArrayList<>();
         String sql = "SELECT id, task_id, author_id, comment_text, created_at FROM Comments WHERE task_id = ? ORDER BY created_at ASC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, taskId);
@@ -131,7 +150,7 @@ public class CommentDAO {
     public List<Comment> getAllComments() {
         List<Comment> comments = new ArrayList<>();
         String sql = "SELECT id, task_id, author_id, comment_text, created_at FROM Comments";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -159,7 +178,7 @@ public class CommentDAO {
             pstmt.setInt(1, comment.getTask().getId());
             pstmt.setInt(2, comment.getAuthor().getId());
             pstmt.setString(3, comment.getCommentText());
-            pstmt.setString(4, comment.getCreatedAt().format(FORMATTER));
+            pstmt.setLong(4, Timestamps.toEpochMillis(comment.getCreatedAt()));
             pstmt.setInt(5, comment.getId());
 
             int affectedRows = pstmt.executeUpdate();
@@ -191,6 +210,20 @@ public class CommentDAO {
         return false;
     }
 
+    /**
+     * Binds the column values of the comment INSERT statement to parameters 1 to 4.
+     *
+     * @param pstmt The statement to bind.
+     * @param comment The comment whose values are bound.
+     * @throws SQLException If a parameter cannot be set.
+     */
+    private void bindCommentColumns(PreparedStatement pstmt, Comment comment) throws SQLException {
+        pstmt.setInt(1, comment.getTask().getId());
+        pstmt.setInt(2, comment.getAuthor().getId());
+        pstmt.setString(3, comment.getCommentText());
+        pstmt.setLong(4, Timestamps.toEpochMillis(comment.getCreatedAt()));
+    }
+
     /**
      * Helper method to extract a Comment object from a ResultSet.
      * This centralizes the logic for mapping database rows to Comment objects.
@@ -204,8 +237,7 @@ public class CommentDAO {
         int taskId = rs.getInt("task_id");
         int authorId = rs.getInt("author_id");
         String commentText = rs.getString("comment_text");
-        String createdAtStr = rs.getString("created_at");
-        LocalDateTime createdAt = LocalDateTime.parse(createdAtStr, FORMATTER);
+        LocalDateTime createdAt = Timestamps.fromEpochMillis(rs.getLong("created_at"));
 
         // Fetch associated Task and User objects using their DAOs
         Task task = taskDAO.getTaskById(taskId)
@@ -0,0 +1,67 @@
+package com.taskforge.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset-paginated page: the value of the sort column and the row ID,
+ * which breaks ties between rows with equal sort values.
+ * Cursors are handed to callers as opaque URL-safe Base64 strings.
+ *
+ * @param sortKey The sort column value of the last row, as stored in the database.
+ * @param id The ID of the last row.
+ */
+record KeysetCursor(String sortKey, int id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * Encodes this cursor as an opaque string.
+     *
+     * @return The encoded cursor.
+     */
+    String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned in a previous {@link Page}.
+     *
+     * @param cursor The encoded cursor, or null for the first page.
+     * @return The decoded cursor, or null if cursor is null.
+     * @throws IllegalArgumentException If the cursor was not produced by {@link #encode()}.
+     */
+    static KeysetCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed page cursor: " + cursor, e);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 1) {
+            throw new IllegalArgumentException("Malformed page cursor: " + cursor);
+        }
+        try {
+            return new KeysetCursor(raw.substring(separator + 1), Integer.parseInt(raw.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed page cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Checks that a requested page size is positive.
+     *
+     * @param pageSize The requested number of rows per page.
+     * @throws IllegalArgumentException If pageSize is less than one.
+     */
+    static void requireValidPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.taskforge.dao;
 import com.taskforge.model.Notification;
 import com.taskforge.model.User;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -10,8 +11,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +26,6 @@ public class NotificationDAO {
 
     private final UserDAO userDAO;    // Dependency for fetching User objects
 
-    // DateTimeFormatter for converting LocalDateTime to and from String for SQLite TEXT storage
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     /**
      * Constructs a NotificationDAO with a UserDAO dependency.
@@ -49,12 +48,7 @@ public class NotificationDAO {
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            pstmt.setInt(1, notification.getRecipient().getId());
-            pstmt.setString(2, notification.getMessage());
-            pstmt.setString(3, notification.getSentAt().format(FORMATTER)); // Convert LocalDateTime to String
-            pstmt.setBoolean(4, notification.isRead()); // Store boolean as 0 or 1
-            pstmt.setInt(5, notification.getRelatedEntityId()); // Add related_entity_id
-            pstmt.setString(6, notification.getNotificationType().name()); // Add notification_type
+            bindNotificationColumns(pstmt, notification);
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -74,6 +68,30 @@ public class NotificationDAO {
         return null;
     }
 
+    /**
+     * Inserts several notifications in a single transaction.
+     * Either every notification is inserted or, if any insert fails, none is.
+     * The generated IDs are set back into the Notification objects.
+     *
+     * @param notifications The Notification objects to be saved.
+     * @return The Notification objects with their database-generated IDs, in the given order,
+     *         or an empty list if the insertion failed.
+     */
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        String sql = "INSERT INTO Notifications(user_id, message, sent_at, is_read, related_entity_id, notification_type) VALUES(?, ?, ?, ?, ?, ?)";
+        try {
+            int[] ids = BatchWriter.insert(sql, notifications, this::bindNotificationColumns);
+            for (int i = 0; i < ids.length; i++) {
+                notifications.get(i).setId(ids[i]);
+            }
+            System.out.println("Created " + ids.length + " notifications.");
+            return notifications;
+        } catch (SQLException e) {
+            System.err.println("Error creating notifications: " + e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
     /**
      * Retrieves a notification from the database by its ID.
      *
@@ -82,7 +100,7 @@ public class NotificationDAO {
      */
     public Optional<Notification> getNotificationById(int id) {
         String sql = "SELECT id, user_id, message, sent_at, is_read, related_entity_id, notification_type FROM Notifications WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -106,7 +124,7 @@ public class NotificationDAO {
     public List<Notification> getNotificationsByUserId(int userId) {
         List<Notification> notifications = new ArrayList<>();
         String sql = "SELECT id, user_id, message, sent_at, is_read, related_entity_id, notification_type FROM Notifications WHERE user_id = ? ORDER BY sent_at DESC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
@@ -121,6 +139,55 @@ public class NotificationDAO {
         return notifications;
     }
 
+    /**
+     * Retrieves one page of a user's notifications, newest first.
+     * Notifications sent at the same time are ordered by descending ID.
+     *
+     * @param userId The ID of the recipient user.
+     * @param pageSize The maximum number of notifications on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Notification objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Notification> getNotificationsByUserId(int userId, int pageSize, String cursor) {
+        KeysetCursor.requireValidPageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String sql = "SELECT id, user_id, message, sent_at, is_read, related_entity_id, notification_type FROM Notifications WHERE user_id = ?" +
+                (after != null ? " AND (sent_at, id) < (?, ?)" : "") +
+                " ORDER BY sent_at DESC, id DESC LIMIT ?";
+        List<Notification> notifications = new ArrayList<>();
+        long lastSentAt = 0;
+        boolean hasNext = false;
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            int index = 1;
+            pstmt.setInt(index++, userId);
+            if (after != null) {
+                pstmt.setLong(index++, parseSentAt(after.sortKey()));
+                pstmt.setInt(index++, after.id());
+            }
+            pstmt.setInt(index, pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (notifications.size() == pageSize) {
+                        hasNext = true;
+                        break;
+                    }
+                    lastSentAt = rs.getLong("sent_at");
+                    notifications.add(extractNotificationFromResultSet(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error retrieving page of notifications by user ID: " + e.getMessage());
+            return Page.empty();
+        }
+        String nextCursor = hasNext
+                ? new KeysetCursor(Long.toString(lastSentAt), notifications.get(notifications.size() - 1).getId()).encode()
+                : null;
+        return new Page<>(notifications, nextCursor);
+    }
+
     /**
      * Retrieves all unread notifications for a specific user.
      *
@@ -130,7 +197,7 @@ public class NotificationDAO {
     public List<Notification> getUnreadNotificationsByUserId(int userId) {
         List<Notification> notifications = new ArrayList<>();
         String sql = "SELECT id, user_id, message, sent_at, is_read, related_entity_id, notification_type FROM Notifications WHERE user_id = ? AND is_read = 0 ORDER BY sent_at DESC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
@@ -145,6 +212,28 @@ public class NotificationDAO {
         return notifications;
     }
 
+    /**
+     * Counts the unread notifications of a specific user, for example for an inbox badge.
+     * The count is read from the (user_id, is_read, sent_at) index without loading any notification.
+     *
+     * @param userId The ID of the recipient user.
+     * @return The number of unread notifications; 0 if the query fails.
+     */
+    public int countUnreadNotificationsByUserId(int userId) {
+        String sql = "SELECT COUNT(*) FROM Notifications WHERE user_id = ? AND is_read = 0";
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting unread notifications by user ID: " + e.getMessage());
+            return 0;
+        }
+    }
+
     /**
      * Retrieves all notifications from the database.
      *
@@ -153,7 +242,7 @@ public class NotificationDAO {
     public List<Notification> getAllNotifications() {
         List<Notification> notifications = new ArrayList<>();
         String sql = "SELECT id, user_id, message, sent_at, is_read, related_entity_id, notification_type FROM Notifications ORDER BY sent_at DESC";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -180,10 +269,10 @@ public class NotificationDAO {
 
             pstmt.setInt(1, notification.getRecipient().getId());
             pstmt.setString(2, notification.getMessage());
-            pstmt.setString(3, notification.getSentAt().format(FORMATTER));
+            pstmt.setLong(3, Timestamps.toEpochMillis(notification.getSentAt()));
             pstmt.setBoolean(4, notification.isRead());
             pstmt.setInt(5, notification.getRelatedEntityId());
-            pstmt.setString(6, notification.getNotificationType().name());
+            pstmt.setInt(6, notification.getNotificationType().getCode());
             pstmt.setInt(7, notification.getId());
 
             int affectedRows = pstmt.executeUpdate();
@@ -214,6 +303,22 @@ public class NotificationDAO {
         return false;
     }
 
+    /**
+     * Marks several notifications as read in a single transaction.
+     *
+     * @param notificationIds The IDs of the notifications to mark as read.
+     * @return The number of notifications updated, or 0 if the update failed.
+     */
+    public int markNotificationsAsRead(Collection<Integer> notificationIds) {
+        String sql = "UPDATE Notifications SET is_read = 1 WHERE id = ?";
+        try {
+            return BatchWriter.execute(sql, notificationIds, (pstmt, id) -> pstmt.setInt(1, id));
+        } catch (SQLException e) {
+            System.err.println("Error marking notifications as read: " + e.getMessage());
+        }
+        return 0;
+    }
+
     /**
      * Deletes a notification from the database by its ID.
      *
@@ -235,6 +340,37 @@ public class NotificationDAO {
         return false;
     }
 
+    /**
+     * Parses the sent time stored in a notification page cursor.
+     *
+     * @param sortKey The sort value of the cursor.
+     * @return The sent time in epoch milliseconds.
+     * @throws IllegalArgumentException If the value is not a number, which means the cursor is malformed.
+     */
+    private static long parseSentAt(String sortKey) {
+        try {
+            return Long.parseLong(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed notification page cursor: " + sortKey, e);
+        }
+    }
+
+    /**
+     * Binds the column values of the notification INSERT statement to parameters 1 to 6.
+     *
+     * @param pstmt The statement to bind.
+     * @param notification The notification whose values are bound.
+     * @throws SQLException If a parameter cannot be set.
+     */
+    private void bindNotificationColumns(PreparedStatement pstmt, Notification notification) throws SQLException {
+        pstmt.setInt(1, notification.getRecipient().getId());
+        pstmt.setString(2, notification.getMessage());
+        pstmt.setLong(3, Timestamps.toEpochMillis(notification.getSentAt()));
+        pstmt.setBoolean(4, notification.isRead()); // Store boolean as 0 or 1
+        pstmt.setInt(5, notification.getRelatedEntityId()); // Add related_entity_id
+        pstmt.setInt(6, notification.getNotificationType().getCode()); // Add notification_type code
+    }
+
     /**
      * Helper method to extract a Notification object from a ResultSet.
      * This centralizes the logic for mapping database rows to Notification objects.
@@ -247,11 +383,10 @@ public class NotificationDAO {
         int notificationId = rs.getInt("id");
         int userId = rs.getInt("user_id");
         String message = rs.getString("message");
-        String sentAtStr = rs.getString("sent_at");
-        LocalDateTime sentAt = LocalDateTime.parse(sentAtStr, FORMATTER);
+        LocalDateTime sentAt = Timestamps.fromEpochMillis(rs.getLong("sent_at"));
         boolean isRead = rs.getBoolean("is_read");
         int relatedEntityId = rs.getInt("related_entity_id"); // Retrieve new field
-        Notification.NotificationType notificationType = Notification.NotificationType.valueOf(rs.getString("notification_type")); // Retrieve new field
+        Notification.NotificationType notificationType = Notification.NotificationType.fromCode(rs.getInt("notification_type")); // Retrieve new field
 
         // Fetch associated User object using its DAO
         User recipient = userDAO.getUserById(userId)
@@ -0,0 +1,70 @@
+package com.taskforge.dao;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ * It holds the rows of the page and an opaque cursor pointing just past the last row.
+ * Passing the cursor back to the same query returns the next page, so a page costs
+ * the same no matter how many rows precede it.
+ *
+ * @param <T> The type of the rows on the page.
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Constructs a Page.
+     *
+     * @param items The rows of this page, in query order.
+     * @param nextCursor The cursor of the next page, or null if this is the last page.
+     */
+    public Page(List<T> items, String nextCursor) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Creates an empty last page, returned when a query fails.
+     *
+     * @param <T> The type of the rows on the page.
+     * @return A page without rows or next cursor.
+     */
+    public static <T> Page<T> empty() {
+        return new Page<>(List.of(), null);
+    }
+
+    /**
+     * Gets the rows of this page.
+     * @return An unmodifiable list of rows.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the cursor to pass back to the query for the next page.
+     * @return The cursor, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether more rows follow this page.
+     * @return true if a next page exists, false otherwise.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "items=" + items.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
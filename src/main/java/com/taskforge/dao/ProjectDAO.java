@@ -2,7 +2,9 @@ package com.taskforge.dao;
 
 import com.taskforge.model.Project;
 import com.taskforge.model.Team;
+import com.taskforge.util.CacheStats;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.EntityCache;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -21,6 +23,14 @@ import java.util.Optional;
  */
 public class ProjectDAO {
 
+    /** The maximum number of projects kept in the cache. */
+    private static final int CACHE_MAX_SIZE = 10_000;
+    /** How long a cached project stays valid, bounding staleness from writes made by other DAO instances. */
+    private static final long CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+
+    /** Identity-mapped cache of projects loaded by ID. */
+    private final EntityCache<Integer, Project> projectCache = new EntityCache<>("projects", CACHE_MAX_SIZE, CACHE_TTL_MILLIS);
+
     /** The Data Access Object for Team entities, used to fetch associated Team objects. */
     private final TeamDAO teamDAO;
 
@@ -72,13 +82,25 @@ public class ProjectDAO {
 
     /**
      * Retrieves a project from the database by its ID.
+     * Repeated lookups for the same ID are served from the cache and return the same instance
+     * until the project is updated, deleted, evicted or expires.
      *
      * @param id The ID of the project to retrieve.
      * @return An Optional containing the Project object if found, or an empty Optional if not found.
      */
     public Optional<Project> getProjectById(int id) {
+        return projectCache.getOrLoad(id, this::loadProjectById);
+    }
+
+    /**
+     * Loads a project from the database by its ID, bypassing the cache.
+     *
+     * @param id The ID of the project to load.
+     * @return An Optional containing the Project object if found, or an empty Optional if not found.
+     */
+    private Optional<Project> loadProjectById(int id) {
         String sql = "SELECT id, name, team_id FROM Projects WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -110,7 +132,7 @@ public class ProjectDAO {
         List<Project> projects = new ArrayList<>();
         // Using LIKE for partial matching, and LOWER for case-insensitivity
         String sql = "SELECT id, name, team_id FROM Projects WHERE LOWER(name) LIKE LOWER(?)";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, "%" + name + "%"); // Wildcard for partial match
@@ -141,7 +163,7 @@ public class ProjectDAO {
     public List<Project> getProjectsByTeamId(int teamId) {
         List<Project> projects = new ArrayList<>();
         String sql = "SELECT id, name, team_id FROM Projects WHERE team_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, teamId);
@@ -167,7 +189,7 @@ public class ProjectDAO {
     public List<Project> getAllProjects() {
         List<Project> projects = new ArrayList<>();
         String sql = "SELECT id, name, team_id FROM Projects";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -211,6 +233,8 @@ public class ProjectDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error updating project: " + e.getMessage());
+        } finally {
+            projectCache.invalidate(project.getId());
         }
         return false;
     }
@@ -232,7 +256,35 @@ public class ProjectDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error deleting project: " + e.getMessage());
+        } finally {
+            projectCache.invalidate(id);
         }
         return false;
     }
+
+    /**
+     * Evicts a project from the cache, so that the next lookup reads it from the database.
+     * Used when another process sharing the database file changed the project.
+     *
+     * @param id The ID of the project.
+     */
+    public void invalidateProject(int id) {
+        projectCache.invalidate(id);
+    }
+
+    /**
+     * Evicts every project from the cache.
+     */
+    public void invalidateAllProjects() {
+        projectCache.invalidateAll();
+    }
+
+    /**
+     * Gets the hit, miss and eviction statistics of this DAO's project cache.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public CacheStats getCacheStats() {
+        return projectCache.getStats();
+    }
 }
@@ -1,12 +1,19 @@
 package com.taskforge.dao;
 
+import com.taskforge.model.LazyReference;
 import com.taskforge.model.Task;
+import com.taskforge.model.TaskCounts;
+import com.taskforge.model.TaskSearchResult;
+import com.taskforge.model.TaskSummary;
+import com.taskforge.model.Team;
 import com.taskforge.model.User;
+import com.taskforge.model.UserTeamMembership;
 import com.taskforge.model.Project;
 import com.taskforge.model.Priority;
 import com.taskforge.model.Status;
 import com.taskforge.model.Visibility; // Import the new Visibility enum
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -14,24 +21,102 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Data Access Object (DAO) for the Task entity.
  * This class provides methods to perform CRUD (Create, Read, Update, Delete)
  * operations on the 'Tasks' table in the database.
- * It handles associations with User and Project entities, and conversions for LocalDateTime.
+ * It handles associations with User and Project entities, and stores due dates as epoch milliseconds.
+ * By default tasks are loaded with {@link TaskFetchPlan#LAZY} references to their creator, assignee and
+ * project, which are looked up through the entity caches only when accessed. Queries taking a
+ * {@link TaskFetchPlan#FULL_GRAPH} plan load the creator, assignee, project and team with a single joined
+ * query instead. Task lists read {@link TaskSummary} projections, which select only the listed columns.
  */
 public class TaskDAO {
 
     private final UserDAO userDAO;    // Dependency for fetching User objects
     private final ProjectDAO projectDAO; // Dependency for fetching Project objects
 
-    // DateTimeFormatter for converting LocalDateTime to and from String for SQLite TEXT storage
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    /**
+     * Columns of the Tasks table, aliased {@code t}.
+     */
+    private static final String TASK_COLUMNS = "t.id, t.title, t.description, t.due_date, t.priority, t.status, " +
+            "t.assigned_to_user_id, t.project_id, t.visibility, t.creator_id";
+
+    /**
+     * Columns selected when loading tasks together with their creator, assignee, project and project team.
+     */
+    private static final String TASK_GRAPH_COLUMNS = TASK_COLUMNS + ", " +
+            "c.username AS creator_username, c.email AS creator_email, c.password_hash AS creator_password_hash, " +
+            "a.username AS assignee_username, a.email AS assignee_email, a.password_hash AS assignee_password_hash, " +
+            "p.name AS project_name, p.team_id AS project_team_id, tm.name AS team_name";
+
+    /**
+     * Joins of the task graph query. Tasks are aliased {@code t}.
+     */
+    private static final String TASK_GRAPH_FROM = "FROM Tasks t " +
+            "JOIN Users c ON c.id = t.creator_id " +
+            "LEFT JOIN Users a ON a.id = t.assigned_to_user_id " +
+            "LEFT JOIN Projects p ON p.id = t.project_id " +
+            "LEFT JOIN Teams tm ON tm.id = p.team_id";
+
+    /**
+     * Base query for loading tasks with lazy references to their associations. Callers append a WHERE
+     * clause as needed.
+     */
+    private static final String TASK_SELECT = "SELECT " + TASK_COLUMNS + " FROM Tasks t";
+
+    /**
+     * Columns of a {@link TaskSummary}: the listed task columns, the start of the description and the
+     * names of the project, assignee and creator.
+     */
+    private static final String TASK_SUMMARY_COLUMNS = "t.id, t.title, " +
+            "substr(t.description, 1, " + TaskSummary.DESCRIPTION_EXCERPT_LENGTH + ") AS description_excerpt, " +
+            "t.due_date, t.priority, t.status, t.visibility, t.creator_id, " +
+            "p.name AS project_name, a.username AS assignee_username, c.username AS creator_username";
+
+    /**
+     * Joins of the task summary query. Tasks are aliased {@code t}.
+     */
+    private static final String TASK_SUMMARY_FROM = "FROM Tasks t " +
+            "JOIN Users c ON c.id = t.creator_id " +
+            "LEFT JOIN Users a ON a.id = t.assigned_to_user_id " +
+            "LEFT JOIN Projects p ON p.id = t.project_id";
+
+    /**
+     * SQL predicate selecting the tasks a viewer may see. It mirrors the application's visibility rules:
+     * creators and assignees always see their tasks, PUBLIC tasks are visible to everyone, and RESTRICTED
+     * tasks are visible to users who share at least one ACCEPTED team membership with the creator.
+     * It expects the viewer's user ID to be bound three times.
+     */
+    private static final String VISIBLE_TO_USER_PREDICATE = "(t.creator_id = ? " +
+            "OR t.assigned_to_user_id = ? " +
+            "OR t.visibility = " + Visibility.PUBLIC.getCode() + " " +
+            "OR (t.visibility = " + Visibility.RESTRICTED.getCode() + " AND EXISTS (" +
+            "SELECT 1 FROM UserTeamMemberships viewer_m " +
+            "JOIN UserTeamMemberships creator_m ON creator_m.team_id = viewer_m.team_id " +
+            "WHERE viewer_m.user_id = ? " +
+            "AND viewer_m.invitation_status = '" + UserTeamMembership.InvitationStatus.ACCEPTED.name() + "' " +
+            "AND creator_m.user_id = t.creator_id " +
+            "AND creator_m.invitation_status = '" + UserTeamMembership.InvitationStatus.ACCEPTED.name() + "')))";
+
+    /**
+     * Sort value stored in place of a missing due date, so that tasks without one sort after all dated tasks.
+     */
+    private static final long NO_DUE_DATE_SORT_KEY = Long.MAX_VALUE;
+
+    /**
+     * The expression tasks are ordered and range-filtered by when sorting by due date. It matches the
+     * expression index of schema migration 6, so these queries seek in the index instead of sorting.
+     */
+    private static final String DUE_DATE_SORT_EXPRESSION = "IFNULL(t.due_date, " + NO_DUE_DATE_SORT_KEY + ")";
 
     /**
      * Constructs a TaskDAO with UserDAO and ProjectDAO dependencies.
@@ -56,25 +141,7 @@ public class TaskDAO {
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            pstmt.setString(1, task.getTitle());
-            pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDueDate() != null ? task.getDueDate().format(FORMATTER) : null); // Convert LocalDateTime to String
-            pstmt.setString(4, task.getPriority().name()); // Store enum name as String
-            pstmt.setString(5, task.getStatus().name());   // Store enum name as String
-
-            if (task.getAssignedTo() != null) {
-                pstmt.setInt(6, task.getAssignedTo().getId());
-            } else {
-                pstmt.setNull(6, java.sql.Types.INTEGER);
-            }
-
-            if (task.getProject() != null) {
-                pstmt.setInt(7, task.getProject().getId());
-            } else {
-                pstmt.setNull(7, java.sql.Types.INTEGER);
-            }
-            pstmt.setString(8, task.getVisibility().name()); // Store Visibility enum name as String
-            pstmt.setInt(9, task.getCreator().getId()); // Store Creator ID
+            bindTaskColumns(pstmt, task);
 
             int affectedRows = pstmt.executeUpdate();
 
@@ -95,20 +162,55 @@ public class TaskDAO {
     }
 
     /**
-     * Retrieves a task from the database by its ID.
+     * Inserts several tasks in a single transaction.
+     * Either every task is inserted or, if any insert fails, none is.
+     * The generated IDs are set back into the Task objects.
+     *
+     * @param tasks The Task objects to be saved.
+     * @return The Task objects with their database-generated IDs, in the given order,
+     *         or an empty list if the insertion failed.
+     */
+    public List<Task> createTasks(List<Task> tasks) {
+        String sql = "INSERT INTO Tasks(title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try {
+            int[] ids = BatchWriter.insert(sql, tasks, this::bindTaskColumns);
+            for (int i = 0; i < ids.length; i++) {
+                tasks.get(i).setId(ids[i]);
+            }
+            System.out.println("Created " + ids.length + " tasks.");
+            return tasks;
+        } catch (SQLException e) {
+            System.err.println("Error creating tasks: " + e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Retrieves a task from the database by its ID, with lazy references to its associations.
      *
      * @param id The ID of the task to retrieve.
      * @return An Optional containing the Task object if found, or an empty Optional if not found.
      */
     public Optional<Task> getTaskById(int id) {
-        String sql = "SELECT id, title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id FROM Tasks WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        return getTaskById(id, TaskFetchPlan.LAZY);
+    }
+
+    /**
+     * Retrieves a task from the database by its ID, loading its associations as the plan says.
+     *
+     * @param id The ID of the task to retrieve.
+     * @param plan How the task's associations are loaded.
+     * @return An Optional containing the Task object if found, or an empty Optional if not found.
+     */
+    public Optional<Task> getTaskById(int id, TaskFetchPlan plan) {
+        String sql = selectFor(plan) + " WHERE t.id = ?";
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(extractTaskFromResultSet(rs));
+                    return Optional.of(newMapper(plan).map(rs));
                 }
             }
         } catch (SQLException e) {
@@ -124,13 +226,14 @@ public class TaskDAO {
      */
     public List<Task> getAllTasks() {
         List<Task> tasks = new ArrayList<>();
-        String sql = "SELECT id, title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id FROM Tasks";
-        try (Connection conn = DatabaseManager.getConnection();
+        String sql = TASK_SELECT;
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
+            RowMapper<Task> mapper = new LazyTaskMapper();
             while (rs.next()) {
-                tasks.add(extractTaskFromResultSet(rs));
+                tasks.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             System.err.println("Error retrieving all tasks: " + e.getMessage());
@@ -146,14 +249,15 @@ public class TaskDAO {
      */
     public List<Task> getTasksByAssignedUserId(int userId) {
         List<Task> tasks = new ArrayList<>();
-        String sql = "SELECT id, title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id FROM Tasks WHERE assigned_to_user_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        String sql = TASK_SELECT + " WHERE t.assigned_to_user_id = ?";
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
             try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<Task> mapper = new LazyTaskMapper();
                 while (rs.next()) {
-                    tasks.add(extractTaskFromResultSet(rs));
+                    tasks.add(mapper.map(rs));
                 }
             }
         } catch (SQLException e) {
@@ -170,14 +274,15 @@ public class TaskDAO {
      */
     public List<Task> getTasksByProjectId(int projectId) {
         List<Task> tasks = new ArrayList<>();
-        String sql = "SELECT id, title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id FROM Tasks WHERE project_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        String sql = TASK_SELECT + " WHERE t.project_id = ?";
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, projectId);
             try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<Task> mapper = new LazyTaskMapper();
                 while (rs.next()) {
-                    tasks.add(extractTaskFromResultSet(rs));
+                    tasks.add(mapper.map(rs));
                 }
             }
         } catch (SQLException e) {
@@ -186,6 +291,341 @@ public class TaskDAO {
         return tasks;
     }
 
+    /**
+     * Retrieves all tasks visible to a specific user.
+     * Visibility rules are evaluated inside the database, so only visible rows are loaded.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @return A list of Task objects visible to the given user.
+     */
+    public List<Task> getTasksVisibleToUser(int viewerId) {
+        String sql = TASK_SELECT + " WHERE " + VISIBLE_TO_USER_PREDICATE;
+        return queryVisibleTasks(sql, viewerId, "Error retrieving tasks visible to user: ");
+    }
+
+    /**
+     * Retrieves tasks assigned to a specific user that are visible to the viewer.
+     *
+     * @param assignedUserId The ID of the assigned user.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @return A list of Task objects assigned to the given user and visible to the viewer.
+     */
+    public List<Task> getVisibleTasksByAssignedUserId(int assignedUserId, int viewerId) {
+        String sql = TASK_SELECT + " WHERE t.assigned_to_user_id = ? AND " + VISIBLE_TO_USER_PREDICATE;
+        return queryVisibleTasks(sql, viewerId, "Error retrieving visible tasks by assigned user ID: ", assignedUserId);
+    }
+
+    /**
+     * Retrieves tasks belonging to a specific project that are visible to the viewer.
+     *
+     * @param projectId The ID of the project.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @return A list of Task objects in the given project and visible to the viewer.
+     */
+    public List<Task> getVisibleTasksByProjectId(int projectId, int viewerId) {
+        String sql = TASK_SELECT + " WHERE t.project_id = ? AND " + VISIBLE_TO_USER_PREDICATE;
+        return queryVisibleTasks(sql, viewerId, "Error retrieving visible tasks by project ID: ", projectId);
+    }
+
+    /**
+     * Retrieves the tasks visible to the viewer that are due in a time range, ordered by due date and then ID.
+     * The range condition is on the indexed due date expression, so only the tasks in the range are read.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param from The start of the range, inclusive.
+     * @param to The end of the range, exclusive.
+     * @return A list of Task objects due in the range and visible to the viewer.
+     */
+    public List<Task> getVisibleTasksDueBetween(int viewerId, LocalDateTime from, LocalDateTime to) {
+        return queryVisibleTasksDueBetween(null, viewerId, Timestamps.toEpochMillis(from), Timestamps.toEpochMillis(to),
+                "Error retrieving visible tasks by due date: ");
+    }
+
+    /**
+     * Retrieves the tasks visible to the viewer that are past their due date and not completed,
+     * ordered by due date and then ID.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param now The current time; tasks due before it are overdue.
+     * @return A list of overdue Task objects visible to the viewer.
+     */
+    public List<Task> getVisibleOverdueTasks(int viewerId, LocalDateTime now) {
+        return queryVisibleTasksDueBetween("t.status <> " + Status.COMPLETED.getCode(), viewerId,
+                Long.MIN_VALUE, Timestamps.toEpochMillis(now), "Error retrieving visible overdue tasks: ");
+    }
+
+    /**
+     * Retrieves one page of all tasks, ordered by due date and then ID. Tasks without a due date come last.
+     *
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getAllTasks(int pageSize, String cursor) {
+        return queryTaskPage(null, TaskOrder.DEFAULT, TaskFetchPlan.LAZY, pageSize, cursor, "Error retrieving page of all tasks: ");
+    }
+
+    /**
+     * Retrieves one page of the tasks belonging to a specific project, ordered by due date and then ID.
+     *
+     * @param projectId The ID of the project.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getTasksByProjectId(int projectId, int pageSize, String cursor) {
+        return queryTaskPage("t.project_id = ?", TaskOrder.DEFAULT, TaskFetchPlan.LAZY, pageSize, cursor,
+                "Error retrieving page of tasks by project ID: ", projectId);
+    }
+
+    /**
+     * Retrieves one page of the tasks visible to a specific user in the given order.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getTasksVisibleToUser(int viewerId, TaskOrder order, int pageSize, String cursor) {
+        return getTasksVisibleToUser(viewerId, order, pageSize, cursor, TaskFetchPlan.LAZY);
+    }
+
+    /**
+     * Retrieves one page of the tasks visible to a specific user in the given order,
+     * loading their associations as the plan says.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param plan How the tasks' associations are loaded.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getTasksVisibleToUser(int viewerId, TaskOrder order, int pageSize, String cursor, TaskFetchPlan plan) {
+        return queryTaskPage(VISIBLE_TO_USER_PREDICATE, order, plan, pageSize, cursor,
+                "Error retrieving page of tasks visible to user: ", viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Retrieves one page of the tasks assigned to a specific user that are visible to the viewer,
+     * in the given order.
+     *
+     * @param assignedUserId The ID of the assigned user.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getVisibleTasksByAssignedUserId(int assignedUserId, int viewerId, TaskOrder order, int pageSize, String cursor) {
+        return getVisibleTasksByAssignedUserId(assignedUserId, viewerId, order, pageSize, cursor, TaskFetchPlan.LAZY);
+    }
+
+    /**
+     * Retrieves one page of the tasks assigned to a specific user that are visible to the viewer,
+     * in the given order, loading their associations as the plan says.
+     *
+     * @param assignedUserId The ID of the assigned user.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param plan How the tasks' associations are loaded.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getVisibleTasksByAssignedUserId(int assignedUserId, int viewerId, TaskOrder order, int pageSize, String cursor,
+                                                      TaskFetchPlan plan) {
+        return queryTaskPage("t.assigned_to_user_id = ? AND " + VISIBLE_TO_USER_PREDICATE, order, plan, pageSize, cursor,
+                "Error retrieving page of visible tasks by assigned user ID: ",
+                assignedUserId, viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Retrieves one page of the tasks belonging to a specific project that are visible to the viewer,
+     * in the given order.
+     *
+     * @param projectId The ID of the project.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getVisibleTasksByProjectId(int projectId, int viewerId, TaskOrder order, int pageSize, String cursor) {
+        return getVisibleTasksByProjectId(projectId, viewerId, order, pageSize, cursor, TaskFetchPlan.LAZY);
+    }
+
+    /**
+     * Retrieves one page of the tasks belonging to a specific project that are visible to the viewer,
+     * in the given order, loading their associations as the plan says.
+     *
+     * @param projectId The ID of the project.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param plan How the tasks' associations are loaded.
+     * @return The page of Task objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<Task> getVisibleTasksByProjectId(int projectId, int viewerId, TaskOrder order, int pageSize, String cursor,
+                                                 TaskFetchPlan plan) {
+        return queryTaskPage("t.project_id = ? AND " + VISIBLE_TO_USER_PREDICATE, order, plan, pageSize, cursor,
+                "Error retrieving page of visible tasks by project ID: ",
+                projectId, viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Retrieves one page of summaries of the tasks visible to a specific user in the given order.
+     * Pages and cursors are the same as those of {@link #getTasksVisibleToUser(int, TaskOrder, int, String)}.
+     *
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of TaskSummary objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<TaskSummary> getTaskSummariesVisibleToUser(int viewerId, TaskOrder order, int pageSize, String cursor) {
+        return queryPage(TASK_SUMMARY_COLUMNS, TASK_SUMMARY_FROM, VISIBLE_TO_USER_PREDICATE, order, pageSize, cursor,
+                TaskDAO::extractSummaryFromResultSet,
+                "Error retrieving page of task summaries visible to user: ", viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Retrieves one page of summaries of the tasks assigned to a specific user that are visible to the viewer,
+     * in the given order.
+     *
+     * @param assignedUserId The ID of the assigned user.
+     * @param viewerId The ID of the user viewing the tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return The page of TaskSummary objects; an empty page if the query fails.
+     * @throws IllegalArgumentException If pageSize is not positive or the cursor is malformed.
+     */
+    public Page<TaskSummary> getVisibleTaskSummariesByAssignedUserId(int assignedUserId, int viewerId, TaskOrder order,
+                                                                     int pageSize, String cursor) {
+        return queryPage(TASK_SUMMARY_COLUMNS, TASK_SUMMARY_FROM, "t.assigned_to_user_id = ? AND " + VISIBLE_TO_USER_PREDICATE,
+                order, pageSize, cursor, TaskDAO::extractSummaryFromResultSet,
+                "Error retrieving page of visible task summaries by assigned user ID: ",
+                assignedUserId, viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Counts the tasks assigned to a specific user that are visible to the viewer, by status and priority.
+     * Every task assigned to the viewer is visible to them, so counting the viewer's own tasks reads only
+     * the assignee count index of schema migration 8.
+     *
+     * @param assignedUserId The ID of the assigned user.
+     * @param viewerId The ID of the user viewing the counts.
+     * @param now The current time; tasks due before it that are not completed are overdue.
+     * @return The task counts; empty counts if the query fails.
+     */
+    public TaskCounts countVisibleTasksByAssignedUserId(int assignedUserId, int viewerId, LocalDateTime now) {
+        if (assignedUserId == viewerId) {
+            return queryTaskCounts("t.assigned_to_user_id = ?", now,
+                    "Error counting tasks by assigned user ID: ", assignedUserId);
+        }
+        return queryTaskCounts("t.assigned_to_user_id = ? AND " + VISIBLE_TO_USER_PREDICATE, now,
+                "Error counting visible tasks by assigned user ID: ", assignedUserId, viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Counts the tasks belonging to a specific project that are visible to the viewer, by status and priority.
+     *
+     * @param projectId The ID of the project.
+     * @param viewerId The ID of the user viewing the counts.
+     * @param now The current time; tasks due before it that are not completed are overdue.
+     * @return The task counts; empty counts if the query fails.
+     */
+    public TaskCounts countVisibleTasksByProjectId(int projectId, int viewerId, LocalDateTime now) {
+        return queryTaskCounts("t.project_id = ? AND " + VISIBLE_TO_USER_PREDICATE, now,
+                "Error counting visible tasks by project ID: ", projectId, viewerId, viewerId, viewerId);
+    }
+
+    /**
+     * Counts the tasks visible to the viewer that are past their due date and not completed,
+     * the tasks {@link #getVisibleOverdueTasks(int, LocalDateTime)} returns.
+     *
+     * @param viewerId The ID of the user viewing the count.
+     * @param now The current time; tasks due before it are overdue.
+     * @return The number of overdue tasks visible to the viewer; 0 if the query fails.
+     */
+    public int countVisibleOverdueTasks(int viewerId, LocalDateTime now) {
+        String sql = "SELECT COUNT(*) FROM Tasks t WHERE " + DUE_DATE_SORT_EXPRESSION + " < ?" +
+                " AND t.status <> " + Status.COMPLETED.getCode() +
+                " AND " + VISIBLE_TO_USER_PREDICATE;
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, Timestamps.toEpochMillis(now));
+            pstmt.setInt(2, viewerId);
+            pstmt.setInt(3, viewerId);
+            pstmt.setInt(4, viewerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Error counting visible overdue tasks: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Searches the titles and descriptions of tasks, and the comments on them, using the FTS5 indexes
+     * created by schema migration 4. Only tasks visible to the viewer are returned, most relevant first.
+     * Title matches weigh more than description matches, which weigh more than comment matches.
+     * The expression is matched against the task's own text and against each comment on its own, and the
+     * best of these matches ranks the task. Only the columns of a {@link TaskSummary} are read.
+     *
+     * @param viewerId The ID of the user searching.
+     * @param matchExpression An FTS5 MATCH expression; callers must build it from user input safely.
+     * @param limit The maximum number of results.
+     * @return The matching tasks with snippets; an empty list if nothing matches or the query fails.
+     */
+    public List<TaskSearchResult> searchVisibleTasks(int viewerId, String matchExpression, int limit) {
+        String sql = "WITH matches(task_id, score, snippet) AS (" +
+                "SELECT rowid, bm25(TaskSearch, 10.0, 1.0), snippet(TaskSearch, -1, '[', ']', '...', 12) " +
+                "FROM TaskSearch WHERE TaskSearch MATCH ? " +
+                "UNION ALL " +
+                "SELECT cm.task_id, bm25(CommentSearch) * 0.5, snippet(CommentSearch, 0, '[', ']', '...', 12) " +
+                "FROM CommentSearch JOIN Comments cm ON cm.id = CommentSearch.rowid WHERE CommentSearch MATCH ?), " +
+                // SQLite returns the snippet of the row holding the minimum score
+                "best_matches AS (SELECT task_id, MIN(score) AS score, snippet FROM matches GROUP BY task_id) " +
+                "SELECT " + TASK_SUMMARY_COLUMNS + ", b.score AS search_score, b.snippet AS search_snippet " +
+                TASK_SUMMARY_FROM + " JOIN best_matches b ON b.task_id = t.id " +
+                "WHERE " + VISIBLE_TO_USER_PREDICATE + " ORDER BY b.score LIMIT ?";
+        List<TaskSearchResult> results = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, matchExpression);
+            pstmt.setString(2, matchExpression);
+            pstmt.setInt(3, viewerId);
+            pstmt.setInt(4, viewerId);
+            pstmt.setInt(5, viewerId);
+            pstmt.setInt(6, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(new TaskSearchResult(extractSummaryFromResultSet(rs), rs.getString("search_snippet"),
+                            rs.getDouble("search_score")));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error searching tasks: " + e.getMessage());
+        }
+        return results;
+    }
+
     /**
      * Updates an existing task's information in the database.
      * The task's ID must be set for the update to occur.
@@ -198,25 +638,7 @@ public class TaskDAO {
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, task.getTitle());
-            pstmt.setString(2, task.getDescription());
-            pstmt.setString(3, task.getDueDate() != null ? task.getDueDate().format(FORMATTER) : null);
-            pstmt.setString(4, task.getPriority().name());
-            pstmt.setString(5, task.getStatus().name());
-
-            if (task.getAssignedTo() != null) {
-                pstmt.setInt(6, task.getAssignedTo().getId());
-            } else {
-                pstmt.setNull(6, java.sql.Types.INTEGER);
-            }
-
-            if (task.getProject() != null) {
-                pstmt.setInt(7, task.getProject().getId());
-            } else {
-                pstmt.setNull(7, java.sql.Types.INTEGER);
-            }
-            pstmt.setString(8, task.getVisibility().name()); // Update Visibility enum name as String
-            pstmt.setInt(9, task.getCreator().getId()); // Update Creator ID
+            bindTaskColumns(pstmt, task);
             pstmt.setInt(10, task.getId());
 
             int affectedRows = pstmt.executeUpdate();
@@ -249,42 +671,454 @@ public class TaskDAO {
     }
 
     /**
-     * Helper method to extract a Task object from a ResultSet.
-     * This centralizes the logic for mapping database rows to Task objects.
+     * Deletes several tasks in a single transaction.
+     * IDs that do not exist are ignored; if any delete fails, none is applied.
      *
-     * @param rs The ResultSet containing the task data.
-     * @return A Task object populated with data from the ResultSet.
-     * @throws SQLException If a database access error occurs or this method is called on a closed result set.
+     * @param ids The IDs of the tasks to delete.
+     * @return The number of tasks deleted, or 0 if the deletion failed.
      */
-    private Task extractTaskFromResultSet(ResultSet rs) throws SQLException {
-        int taskId = rs.getInt("id");
-        String title = rs.getString("title");
-        String description = rs.getString("description");
-        String dueDateStr = rs.getString("due_date");
-        LocalDateTime dueDate = (dueDateStr != null) ? LocalDateTime.parse(dueDateStr, FORMATTER) : null;
+    public int deleteTasks(Collection<Integer> ids) {
+        String sql = "DELETE FROM Tasks WHERE id = ?";
+        try {
+            return BatchWriter.execute(sql, ids, (pstmt, id) -> pstmt.setInt(1, id));
+        } catch (SQLException e) {
+            System.err.println("Error deleting tasks: " + e.getMessage());
+        }
+        return 0;
+    }
 
-        Priority priority = Priority.valueOf(rs.getString("priority"));
-        Status status = Status.valueOf(rs.getString("status"));
+    /**
+     * Binds the nine column values shared by the task INSERT and UPDATE statements,
+     * from title through creator_id, to parameters 1 to 9.
+     *
+     * @param pstmt The statement to bind.
+     * @param task The task whose values are bound.
+     * @throws SQLException If a parameter cannot be set.
+     */
+    private void bindTaskColumns(PreparedStatement pstmt, Task task) throws SQLException {
+        pstmt.setString(1, task.getTitle());
+        pstmt.setString(2, task.getDescription());
+        Timestamps.bind(pstmt, 3, task.getDueDate());
+        pstmt.setInt(4, task.getPriority().getCode()); // Store enum code as INTEGER
+        pstmt.setInt(5, task.getStatus().getCode());   // Store enum code as INTEGER
 
-        int assignedToUserId = rs.getInt("assigned_to_user_id");
-        User assignedTo = null;
-        if (!rs.wasNull()) {
-            assignedTo = userDAO.getUserById(assignedToUserId).orElse(null);
+        if (task.getAssignedToId() > 0) {
+            pstmt.setInt(6, task.getAssignedToId());
+        } else {
+            pstmt.setNull(6, java.sql.Types.INTEGER);
         }
 
-        int projectId = rs.getInt("project_id");
-        Project project = null;
-        if (!rs.wasNull()) {
-            project = projectDAO.getProjectById(projectId).orElse(null);
+        if (task.getProjectId() > 0) {
+            pstmt.setInt(7, task.getProjectId());
+        } else {
+            pstmt.setNull(7, java.sql.Types.INTEGER);
         }
+        pstmt.setInt(8, task.getVisibility().getCode()); // Store Visibility enum code as INTEGER
+        pstmt.setInt(9, task.getCreatorId()); // Store Creator ID
+    }
 
-        Visibility visibility = Visibility.valueOf(rs.getString("visibility")); // Extract Visibility
+    /**
+     * Runs a joined task query ending in {@link #VISIBLE_TO_USER_PREDICATE}.
+     *
+     * @param sql The query to run.
+     * @param viewerId The ID of the viewing user, bound to the visibility predicate.
+     * @param errorMessage The message prefix logged if the query fails.
+     * @param leadingParams Parameters bound before the visibility predicate.
+     * @return A list of the Task objects returned by the query.
+     */
+    private List<Task> queryVisibleTasks(String sql, int viewerId, String errorMessage, int... leadingParams) {
+        List<Task> tasks = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-        int creatorId = rs.getInt("creator_id"); // Extract Creator ID
-        User creator = userDAO.getUserById(creatorId)
-                .orElseThrow(() -> new SQLException("Associated User (creator) not found for task ID: " + taskId));
+            int index = 1;
+            for (int param : leadingParams) {
+                pstmt.setInt(index++, param);
+            }
+            pstmt.setInt(index++, viewerId);
+            pstmt.setInt(index++, viewerId);
+            pstmt.setInt(index, viewerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<Task> mapper = new LazyTaskMapper();
+                while (rs.next()) {
+                    tasks.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+        }
+        return tasks;
+    }
 
+    /**
+     * Runs a joined task query for the visible tasks whose due date falls in a range, in due date order.
+     *
+     * @param filter An additional WHERE condition without parameters, or null.
+     * @param viewerId The ID of the viewing user, bound to the visibility predicate.
+     * @param fromMillis The start of the range in epoch milliseconds, inclusive.
+     * @param toMillis The end of the range in epoch milliseconds, exclusive.
+     * @param errorMessage The message prefix logged if the query fails.
+     * @return A list of the Task objects returned by the query.
+     */
+    private List<Task> queryVisibleTasksDueBetween(String filter, int viewerId, long fromMillis, long toMillis,
+                                                   String errorMessage) {
+        String sql = TASK_SELECT +
+                " WHERE " + DUE_DATE_SORT_EXPRESSION + " >= ? AND " + DUE_DATE_SORT_EXPRESSION + " < ?" +
+                (filter != null ? " AND " + filter : "") +
+                " AND " + VISIBLE_TO_USER_PREDICATE +
+                " ORDER BY " + DUE_DATE_SORT_EXPRESSION + ", t.id";
+        List<Task> tasks = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, fromMillis);
+            pstmt.setLong(2, toMillis);
+            pstmt.setInt(3, viewerId);
+            pstmt.setInt(4, viewerId);
+            pstmt.setInt(5, viewerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<Task> mapper = new LazyTaskMapper();
+                while (rs.next()) {
+                    tasks.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+        }
+        return tasks;
+    }
+
+    /**
+     * Counts the tasks matching a filter, grouped by status and priority, and sums the groups into TaskCounts.
+     * A task is overdue if it has a due date before {@code now} and is not completed.
+     *
+     * @param filter The WHERE condition selecting the tasks.
+     * @param now The current time.
+     * @param errorMessage The message prefix logged if the query fails.
+     * @param filterParams Parameters bound to the filter, in order.
+     * @return The task counts; empty counts if the query fails.
+     */
+    private TaskCounts queryTaskCounts(String filter, LocalDateTime now, String errorMessage, int... filterParams) {
+        String sql = "SELECT t.status, t.priority, COUNT(*) AS task_count, " +
+                "SUM(CASE WHEN t.status <> " + Status.COMPLETED.getCode() + " AND t.due_date < ? THEN 1 ELSE 0 END) AS overdue_count " +
+                "FROM Tasks t WHERE " + filter + " GROUP BY t.status, t.priority";
+        Map<Status, Integer> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, Integer> byPriority = new EnumMap<>(Priority.class);
+        int overdue = 0;
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, Timestamps.toEpochMillis(now));
+            int index = 2;
+            for (int param : filterParams) {
+                pstmt.setInt(index++, param);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int count = rs.getInt("task_count");
+                    byStatus.merge(Status.fromCode(rs.getInt("status")), count, Integer::sum);
+                    byPriority.merge(Priority.fromCode(rs.getInt("priority")), count, Integer::sum);
+                    overdue += rs.getInt("overdue_count");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+            return TaskCounts.empty();
+        }
+        return new TaskCounts(byStatus, byPriority, overdue);
+    }
 
-        return new Task(taskId, title, description, dueDate, priority, status, assignedTo, project, visibility, creator);
+    /**
+     * Gets the SQL expression a task field is sorted by. The title yields TEXT and every other expression
+     * INTEGER; see {@link #bindSortKey}. Enum columns hold codes that follow the constants' declaration order.
+     *
+     * @param field The field to sort by.
+     * @return The sort expression over the task alias {@code t}.
+     */
+    private static String sortExpression(TaskOrder.Field field) {
+        return switch (field) {
+            case DUE_DATE -> DUE_DATE_SORT_EXPRESSION;
+            case TITLE -> "t.title";
+            case PRIORITY -> "t.priority";
+            case STATUS -> "t.status";
+        };
+    }
+
+    /**
+     * Binds the sort value of a cursor with the type of the field's sort expression. SQLite orders every
+     * INTEGER before every TEXT value, so a number bound as a string would compare after all rows.
+     *
+     * @param pstmt The statement to bind.
+     * @param index The parameter index.
+     * @param field The field the page is sorted by.
+     * @param sortKey The sort value taken from the cursor.
+     * @throws SQLException If the parameter cannot be set.
+     * @throws IllegalArgumentException If the sort value does not fit the field, which means the cursor is malformed.
+     */
+    private static void bindSortKey(PreparedStatement pstmt, int index, TaskOrder.Field field, String sortKey) throws SQLException {
+        if (field == TaskOrder.Field.TITLE) {
+            pstmt.setString(index, sortKey);
+            return;
+        }
+        try {
+            pstmt.setLong(index, Long.parseLong(sortKey));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed page cursor for " + field + " order: " + sortKey, e);
+        }
+    }
+
+    /**
+     * Runs a keyset-paginated query for tasks loaded as the plan says.
+     *
+     * @param filter The WHERE condition selecting the tasks, or null for all tasks.
+     * @param order The sort order of the pages.
+     * @param plan How the tasks' associations are loaded.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param errorMessage The message prefix logged if the query fails.
+     * @param filterParams Parameters bound to the filter, in order.
+     * @return The page of Task objects; an empty page if the query fails.
+     */
+    private Page<Task> queryTaskPage(String filter, TaskOrder order, TaskFetchPlan plan, int pageSize, String cursor,
+                                     String errorMessage, int... filterParams) {
+        boolean fullGraph = plan == TaskFetchPlan.FULL_GRAPH;
+        return queryPage(fullGraph ? TASK_GRAPH_COLUMNS : TASK_COLUMNS, fullGraph ? TASK_GRAPH_FROM : "FROM Tasks t",
+                filter, order, pageSize, cursor, newMapper(plan), errorMessage, filterParams);
+    }
+
+    /**
+     * Runs a keyset-paginated query over the Tasks table. Rows are ordered by the sort expression of the order
+     * and then by task ID, and the page starts after the row the cursor points to. One extra row is fetched
+     * to find out whether a next page exists. The cursor only depends on the order, so pages of tasks and
+     * of task summaries with the same filter and order share cursors.
+     *
+     * @param columns The selected columns; they must include {@code t.id}.
+     * @param from The FROM clause, with tasks aliased {@code t}.
+     * @param filter The WHERE condition selecting the tasks, or null for all tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of rows on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param mapper Maps each row of the result.
+     * @param errorMessage The message prefix logged if the query fails.
+     * @param filterParams Parameters bound to the filter, in order.
+     * @param <T> The type of the rows on the page.
+     * @return The page of rows; an empty page if the query fails.
+     */
+    private static <T> Page<T> queryPage(String columns, String from, String filter, TaskOrder order, int pageSize,
+                                         String cursor, RowMapper<T> mapper, String errorMessage, int... filterParams) {
+        KeysetCursor.requireValidPageSize(pageSize);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String sortKey = sortExpression(order.field());
+        String direction = order.descending() ? " DESC" : "";
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns)
+                .append(", ").append(sortKey).append(" AS sort_key ")
+                .append(from);
+        if (filter != null) {
+            sql.append(" WHERE ").append(filter);
+        }
+        if (after != null) {
+            sql.append(filter != null ? " AND " : " WHERE ")
+                    .append("(").append(sortKey).append(", t.id) ").append(order.descending() ? "<" : ">").append(" (?, ?)");
+        }
+        sql.append(" ORDER BY ").append(sortKey).append(direction).append(", t.id").append(direction).append(" LIMIT ?");
+
+        List<T> rows = new ArrayList<>();
+        String lastSortKey = null;
+        int lastId = 0;
+        boolean hasNext = false;
+        try (Connection conn = DatabaseManager.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            for (int param : filterParams) {
+                pstmt.setInt(index++, param);
+            }
+            if (after != null) {
+                bindSortKey(pstmt, index++, order.field(), after.sortKey());
+                pstmt.setInt(index++, after.id());
+            }
+            pstmt.setInt(index, pageSize + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    if (rows.size() == pageSize) {
+                        hasNext = true;
+                        break;
+                    }
+                    lastSortKey = rs.getString("sort_key");
+                    lastId = rs.getInt("id");
+                    rows.add(mapper.map(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+            return Page.empty();
+        }
+        String nextCursor = hasNext ? new KeysetCursor(lastSortKey, lastId).encode() : null;
+        return new Page<>(rows, nextCursor);
+    }
+
+    /**
+     * Builds the SELECT and FROM clauses loading tasks as the plan says. Callers append a WHERE clause.
+     *
+     * @param plan How the tasks' associations are loaded.
+     * @return The query without a WHERE clause.
+     */
+    private static String selectFor(TaskFetchPlan plan) {
+        return plan == TaskFetchPlan.FULL_GRAPH ? "SELECT " + TASK_GRAPH_COLUMNS + " " + TASK_GRAPH_FROM : TASK_SELECT;
+    }
+
+    /**
+     * Creates the mapper for rows of a query built for the plan. Use one mapper per result set.
+     *
+     * @param plan How the tasks' associations are loaded.
+     * @return The row mapper.
+     */
+    private RowMapper<Task> newMapper(TaskFetchPlan plan) {
+        return plan == TaskFetchPlan.FULL_GRAPH ? new TaskGraphMapper() : new LazyTaskMapper();
+    }
+
+    /**
+     * Maps the current row of a task query to an object.
+     *
+     * @param <T> The type the rows are mapped to.
+     */
+    private interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Builds a TaskSummary from the current row of a task summary query.
+     *
+     * @param rs The ResultSet positioned on a row containing the task summary columns.
+     * @return A TaskSummary populated with data from the ResultSet.
+     * @throws SQLException If a database access error occurs.
+     */
+    private static TaskSummary extractSummaryFromResultSet(ResultSet rs) throws SQLException {
+        return new TaskSummary(rs.getInt("id"), rs.getString("title"), rs.getString("description_excerpt"),
+                Timestamps.read(rs, "due_date"),
+                Priority.fromCode(rs.getInt("priority")), Status.fromCode(rs.getInt("status")),
+                Visibility.fromCode(rs.getInt("visibility")),
+                rs.getString("project_name"), rs.getString("assignee_username"),
+                rs.getInt("creator_id"), rs.getString("creator_username"));
+    }
+
+    /**
+     * Maps rows holding only task columns to Task objects with lazy references to their creator,
+     * assignee and project, resolved through {@link UserDAO#getUserById(int)} and
+     * {@link ProjectDAO#getProjectById(int)}. Tasks in the same result that share an associated
+     * entity share its reference, so each entity is looked up at most once.
+     */
+    private final class LazyTaskMapper implements RowMapper<Task> {
+        private final Map<Integer, LazyReference<User>> users = new HashMap<>();
+        private final Map<Integer, LazyReference<Project>> projects = new HashMap<>();
+
+        /**
+         * Builds a Task with unresolved references from the current row.
+         *
+         * @param rs The ResultSet positioned on a row containing the task columns.
+         * @return A Task object populated with data from the ResultSet.
+         * @throws SQLException If a database access error occurs.
+         */
+        @Override
+        public Task map(ResultSet rs) throws SQLException {
+            Task task = new Task(rs.getInt("id"), rs.getString("title"), rs.getString("description"),
+                    Timestamps.read(rs, "due_date"),
+                    Priority.fromCode(rs.getInt("priority")), Status.fromCode(rs.getInt("status")),
+                    null, null, Visibility.fromCode(rs.getInt("visibility")), null);
+
+            int assignedToUserId = rs.getInt("assigned_to_user_id");
+            if (!rs.wasNull()) {
+                task.setAssignedToReference(user(assignedToUserId));
+            }
+
+            int projectId = rs.getInt("project_id");
+            if (!rs.wasNull()) {
+                task.setProjectReference(projects.computeIfAbsent(projectId,
+                        id -> LazyReference.of(id, projectDAO::getProjectById)));
+            }
+
+            task.setCreatorReference(user(rs.getInt("creator_id")));
+            return task;
+        }
+
+        private LazyReference<User> user(int userId) {
+            return users.computeIfAbsent(userId, id -> LazyReference.of(id, userDAO::getUserById));
+        }
+    }
+
+    /**
+     * Maps rows of the joined task graph query to fully populated Task objects.
+     * One mapper is used per result set, so that tasks sharing a creator, assignee, project
+     * or team within the same result also share the same User, Project and Team instances.
+     */
+    private static final class TaskGraphMapper implements RowMapper<Task> {
+        private final Map<Integer, User> users = new HashMap<>();
+        private final Map<Integer, Project> projects = new HashMap<>();
+        private final Map<Integer, Team> teams = new HashMap<>();
+
+        /**
+         * Builds a Task, including its associated entities, from the current row.
+         *
+         * @param rs The ResultSet positioned on a row of the joined task query.
+         * @return A Task object populated with data from the ResultSet.
+         * @throws SQLException If a database access error occurs.
+         */
+        @Override
+        public Task map(ResultSet rs) throws SQLException {
+            int taskId = rs.getInt("id");
+            String title = rs.getString("title");
+            String description = rs.getString("description");
+            LocalDateTime dueDate = Timestamps.read(rs, "due_date");
+            Priority priority = Priority.fromCode(rs.getInt("priority"));
+            Status status = Status.fromCode(rs.getInt("status"));
+            Visibility visibility = Visibility.fromCode(rs.getInt("visibility"));
+
+            User assignedTo = null;
+            int assignedToUserId = rs.getInt("assigned_to_user_id");
+            if (!rs.wasNull()) {
+                assignedTo = user(rs, assignedToUserId, "assignee_");
+            }
+
+            Project project = null;
+            int projectId = rs.getInt("project_id");
+            if (!rs.wasNull()) {
+                project = project(rs, projectId);
+            }
+
+            User creator = user(rs, rs.getInt("creator_id"), "creator_");
+
+            return new Task(taskId, title, description, dueDate, priority, status, assignedTo, project, visibility, creator);
+        }
+
+        private User user(ResultSet rs, int userId, String prefix) throws SQLException {
+            User user = users.get(userId);
+            if (user == null) {
+                user = new User(userId,
+                        rs.getString(prefix + "username"),
+                        rs.getString(prefix + "email"),
+                        rs.getString(prefix + "password_hash"));
+                users.put(userId, user);
+            }
+            return user;
+        }
+
+        private Project project(ResultSet rs, int projectId) throws SQLException {
+            Project project = projects.get(projectId);
+            if (project == null) {
+                Team team = null;
+                int teamId = rs.getInt("project_team_id");
+                if (!rs.wasNull()) {
+                    team = teams.get(teamId);
+                    if (team == null) {
+                        team = new Team(teamId, rs.getString("team_name"));
+                        teams.put(teamId, team);
+                    }
+                }
+                project = new Project(projectId, rs.getString("project_name"), team);
+                projects.put(projectId, project);
+            }
+            return project;
+        }
     }
 }
@@ -0,0 +1,17 @@
+package com.taskforge.dao;
+
+/**
+ * How much of a task's associations {@link TaskDAO} loads together with the task.
+ */
+public enum TaskFetchPlan {
+    /**
+     * Only the task row is read. The assigned user, project and creator are loaded through the
+     * entity caches the first time they are accessed.
+     */
+    LAZY,
+    /**
+     * The assigned user, creator, project and project team are read in the same joined query as the
+     * task, for screens that show them for every task.
+     */
+    FULL_GRAPH
+}
@@ -0,0 +1,37 @@
+package com.taskforge.dao;
+
+import java.util.Objects;
+
+/**
+ * Sort order of a paginated task query. Ties are always broken by task ID in the same direction,
+ * so every order is total and can be paged with a keyset cursor.
+ * A cursor is only valid for the order of the page it was returned with.
+ *
+ * @param field The task attribute to sort by.
+ * @param descending true to sort from the largest value down, false to sort ascending.
+ */
+public record TaskOrder(Field field, boolean descending) {
+
+    /** Ascending by due date, with tasks without a due date last. */
+    public static final TaskOrder DEFAULT = new TaskOrder(Field.DUE_DATE, false);
+
+    /**
+     * The task attributes a paginated query can be sorted by.
+     */
+    public enum Field {
+        DUE_DATE,
+        TITLE,
+        PRIORITY,
+        STATUS
+    }
+
+    /**
+     * Constructs a TaskOrder.
+     *
+     * @param field The task attribute to sort by; must not be null.
+     * @param descending true to sort descending.
+     */
+    public TaskOrder {
+        Objects.requireNonNull(field, "field");
+    }
+}
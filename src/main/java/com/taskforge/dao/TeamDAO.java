@@ -1,7 +1,9 @@
 package com.taskforge.dao;
 
 import com.taskforge.model.Team;
+import com.taskforge.util.CacheStats;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.EntityCache;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -21,6 +23,14 @@ import java.util.Optional;
  */
 public class TeamDAO {
 
+    /** The maximum number of teams kept in the cache. */
+    private static final int CACHE_MAX_SIZE = 10_000;
+    /** How long a cached team stays valid, bounding staleness from writes made by other DAO instances. */
+    private static final long CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+
+    /** Identity-mapped cache of teams loaded by ID. */
+    private final EntityCache<Integer, Team> teamCache = new EntityCache<>("teams", CACHE_MAX_SIZE, CACHE_TTL_MILLIS);
+
     /**
      * Inserts a new team into the database.
      * The team's ID will be auto-generated by the database and set back into the Team object.
@@ -55,13 +65,25 @@ public class TeamDAO {
 
     /**
      * Retrieves a team from the database by its ID.
+     * Repeated lookups for the same ID are served from the cache and return the same instance
+     * until the team is updated, deleted, evicted or expires.
      *
      * @param id The ID of the team to retrieve.
      * @return An Optional containing the Team object if found, or an empty Optional if not found.
      */
     public Optional<Team> getTeamById(int id) {
+        return teamCache.getOrLoad(id, this::loadTeamById);
+    }
+
+    /**
+     * Loads a team from the database by its ID, bypassing the cache.
+     *
+     * @param id The ID of the team to load.
+     * @return An Optional containing the Team object if found, or an empty Optional if not found.
+     */
+    private Optional<Team> loadTeamById(int id) {
         String sql = "SELECT id, name FROM Teams WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -87,7 +109,7 @@ public class TeamDAO {
      */
     public Optional<Team> getTeamByName(String name) {
         String sql = "SELECT id, name FROM Teams WHERE name = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, name);
@@ -113,7 +135,7 @@ public class TeamDAO {
     public List<Team> getAllTeams() {
         List<Team> teams = new ArrayList<>();
         String sql = "SELECT id, name FROM Teams";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -148,6 +170,8 @@ public class TeamDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error updating team: " + e.getMessage());
+        } finally {
+            teamCache.invalidate(team.getId());
         }
         return false;
     }
@@ -169,7 +193,18 @@ public class TeamDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error deleting team: " + e.getMessage());
+        } finally {
+            teamCache.invalidate(id);
         }
         return false;
     }
+
+    /**
+     * Gets the hit, miss and eviction statistics of this DAO's team cache.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public CacheStats getCacheStats() {
+        return teamCache.getStats();
+    }
 }
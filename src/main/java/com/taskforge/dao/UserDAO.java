@@ -1,7 +1,9 @@
 package com.taskforge.dao;
 
 import com.taskforge.model.User;
+import com.taskforge.util.CacheStats;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.EntityCache;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -21,6 +23,14 @@ import java.util.Optional;
  */
 public class UserDAO {
 
+    /** The maximum number of users kept in the cache. */
+    private static final int CACHE_MAX_SIZE = 10_000;
+    /** How long a cached user stays valid, bounding staleness from writes made by other DAO instances. */
+    private static final long CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+
+    /** Identity-mapped cache of users loaded by ID. */
+    private final EntityCache<Integer, User> userCache = new EntityCache<>("users", CACHE_MAX_SIZE, CACHE_TTL_MILLIS);
+
     /**
      * Inserts a new user into the database.
      * The user's ID will be auto-generated by the database and set back into the User object.
@@ -57,13 +67,25 @@ public class UserDAO {
 
     /**
      * Retrieves a user from the database by their ID.
+     * Repeated lookups for the same ID are served from the cache and return the same instance
+     * until the user is updated, deleted, evicted or expires.
      *
      * @param id The ID of the user to retrieve.
      * @return An Optional containing the User object if found, or an empty Optional if not found.
      */
     public Optional<User> getUserById(int id) {
+        return userCache.getOrLoad(id, this::loadUserById);
+    }
+
+    /**
+     * Loads a user from the database by its ID, bypassing the cache.
+     *
+     * @param id The ID of the user to load.
+     * @return An Optional containing the User object if found, or an empty Optional if not found.
+     */
+    private Optional<User> loadUserById(int id) {
         String sql = "SELECT id, username, email, password_hash FROM Users WHERE id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, id);
@@ -91,7 +113,7 @@ public class UserDAO {
      */
     public Optional<User> getUserByUsername(String username) {
         String sql = "SELECT id, username, email, password_hash FROM Users WHERE username = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, username);
@@ -119,7 +141,7 @@ public class UserDAO {
      */
     public Optional<User> getUserByEmail(String email) {
         String sql = "SELECT id, username, email, password_hash FROM Users WHERE email = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, email);
@@ -147,7 +169,7 @@ public class UserDAO {
     public List<User> getAllUsers() {
         List<User> users = new ArrayList<>();
         String sql = "SELECT id, username, email, password_hash FROM Users";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
@@ -186,6 +208,8 @@ public class UserDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error updating user: " + e.getMessage());
+        } finally {
+            userCache.invalidate(user.getId());
         }
         return false;
     }
@@ -207,7 +231,18 @@ public class UserDAO {
             return affectedRows > 0;
         } catch (SQLException e) {
             System.err.println("Error deleting user: " + e.getMessage());
+        } finally {
+            userCache.invalidate(id);
         }
         return false;
     }
+
+    /**
+     * Gets the hit, miss and eviction statistics of this DAO's user cache.
+     *
+     * @return A snapshot of the cache statistics.
+     */
+    public CacheStats getCacheStats() {
+        return userCache.getStats();
+    }
 }
@@ -46,11 +46,7 @@ public class UserTeamDAO {
         try (Connection conn = DatabaseManager.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            // Use getId() on User and Team objects
-            pstmt.setInt(1, membership.getUser().getId());
-            pstmt.setInt(2, membership.getTeam().getId());
-            pstmt.setString(3, membership.getRole().name());
-            pstmt.setString(4, membership.getInvitationStatus().name());
+            bindMembershipColumns(pstmt, membership);
 
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
@@ -60,6 +56,23 @@ public class UserTeamDAO {
         return false;
     }
 
+    /**
+     * Creates several user-team membership records in a single transaction.
+     * Either every membership is created or, if any insert fails (for example a duplicate), none is.
+     *
+     * @param memberships The UserTeamMembership objects to be saved.
+     * @return true if all memberships were created successfully, false otherwise.
+     */
+    public boolean createMemberships(List<UserTeamMembership> memberships) {
+        String sql = "INSERT INTO UserTeamMemberships(user_id, team_id, role, invitation_status) VALUES(?, ?, ?, ?)";
+        try {
+            return BatchWriter.execute(sql, memberships, this::bindMembershipColumns) == memberships.size();
+        } catch (SQLException e) {
+            System.err.println("Error creating user-team memberships: " + e.getMessage());
+        }
+        return false;
+    }
+
     /**
      * Retrieves a specific user-team membership by user ID and team ID.
      *
@@ -69,7 +82,7 @@ public class UserTeamDAO {
      */
     public Optional<UserTeamMembership> getMembership(int userId, int teamId) {
         String sql = "SELECT user_id, team_id, role, invitation_status FROM UserTeamMemberships WHERE user_id = ? AND team_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
@@ -94,7 +107,7 @@ public class UserTeamDAO {
     public List<UserTeamMembership> getMembershipsByUserId(int userId) {
         List<UserTeamMembership> memberships = new ArrayList<>();
         String sql = "SELECT user_id, team_id, role, invitation_status FROM UserTeamMemberships WHERE user_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, userId);
@@ -118,7 +131,7 @@ public class UserTeamDAO {
     public List<UserTeamMembership> getMembershipsByTeamId(int teamId) {
         List<UserTeamMembership> memberships = new ArrayList<>();
         String sql = "SELECT user_id, team_id, role, invitation_status FROM UserTeamMemberships WHERE team_id = ?";
-        try (Connection conn = DatabaseManager.getConnection();
+        try (Connection conn = DatabaseManager.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, teamId);
@@ -181,6 +194,21 @@ public class UserTeamDAO {
         return false;
     }
 
+    /**
+     * Binds the column values of the membership INSERT statement to parameters 1 to 4.
+     *
+     * @param pstmt The statement to bind.
+     * @param membership The membership whose values are bound.
+     * @throws SQLException If a parameter cannot be set.
+     */
+    private void bindMembershipColumns(PreparedStatement pstmt, UserTeamMembership membership) throws SQLException {
+        // Use getId() on User and Team objects
+        pstmt.setInt(1, membership.getUser().getId());
+        pstmt.setInt(2, membership.getTeam().getId());
+        pstmt.setString(3, membership.getRole().name());
+        pstmt.setString(4, membership.getInvitationStatus().name());
+    }
+
     /**
      * Helper method to extract a UserTeamMembership object from a ResultSet.
      * This centralizes the logic for mapping database rows to UserTeamMembership objects.
@@ -0,0 +1,50 @@
+package com.taskforge.event;
+
+import com.taskforge.model.ChangeLogEntry;
+
+import java.util.List;
+
+/**
+ * Published when a commit to the database file has been detected, whether it was made by this
+ * application or by another process sharing the same file. It carries the change log entries written
+ * since the previous event, so consumers can skip changes to rows they do not show or cache.
+ *
+ * @param dataVersion The database's {@code PRAGMA data_version} value after the change.
+ * @param changes The logged row changes, oldest first.
+ * @param complete false if more rows changed than were read, in which case consumers should assume
+ *                 that anything may have changed.
+ */
+public record DatabaseChanged(long dataVersion, List<ChangeLogEntry> changes, boolean complete) implements DomainEvent {
+
+    public DatabaseChanged {
+        changes = List.copyOf(changes);
+    }
+
+    /**
+     * Checks whether rows of a table may have changed.
+     *
+     * @param entity The table, one of the entity names of {@link ChangeLogEntry}.
+     * @return true if a change to the table was logged, or the change set is incomplete.
+     */
+    public boolean affects(String entity) {
+        return !complete || changes.stream().anyMatch(change -> change.entity().equals(entity));
+    }
+
+    /**
+     * Checks whether rows of a table that belong to a given row may have changed,
+     * for example the notifications of one recipient.
+     *
+     * @param entity The table, one of the entity names of {@link ChangeLogEntry}.
+     * @param relatedId The ID of the row the changed rows belong to.
+     * @return true if such a change was logged, or the change set is incomplete.
+     */
+    public boolean affects(String entity, int relatedId) {
+        return !complete || changes.stream().anyMatch(change -> change.entity().equals(entity)
+                && change.relatedId() != null && change.relatedId() == relatedId);
+    }
+
+    @Override
+    public String orderingKey() {
+        return "database";
+    }
+}
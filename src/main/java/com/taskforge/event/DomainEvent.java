@@ -0,0 +1,19 @@
+package com.taskforge.event;
+
+/**
+ * A change to the application's data, published on the {@link EventBus} once it has been committed.
+ * Events that share an {@link #orderingKey()} are delivered to each asynchronous subscriber in the
+ * order they were published.
+ */
+public sealed interface DomainEvent
+        permits TaskCreated, TaskUpdated, TaskAssigned, TaskDeleted, MembershipChanged, NotificationCreated,
+        DatabaseChanged {
+
+    /**
+     * Gets the key that orders this event relative to other events about the same entity,
+     * for example {@code "task:42"}.
+     *
+     * @return The ordering key.
+     */
+    String orderingKey();
+}
@@ -0,0 +1,189 @@
+package com.taskforge.event;
+
+import com.taskforge.util.DatabaseManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe hub for {@link DomainEvent}s.
+ * Services publish an event for each change they make, and caches, counters and views subscribe
+ * to the event types they care about instead of reloading everything.
+ *
+ * <p>
+ * Synchronous subscribers run on the publishing thread, in subscription order, and should return quickly.
+ * Asynchronous subscribers run on a small set of delivery lanes, each a single background thread;
+ * an event's lane is chosen by its {@link DomainEvent#orderingKey()}, so events about the same entity
+ * reach each asynchronous subscriber in publish order, while events about different entities are
+ * delivered in parallel. A subscriber that throws is logged and does not affect other subscribers.
+ * </p>
+ *
+ * <p>
+ * An event published inside a unit of work opened with {@link DatabaseManager#inTransaction} is held
+ * back until the unit of work commits, and discarded if it rolls back, so subscribers never see
+ * changes that were not saved.
+ * </p>
+ *
+ * <p>
+ * Every subscription belongs to an owner; {@link #unsubscribeAll(Object)} removes the owner's
+ * subscriptions, which controllers rely on when the user navigates away.
+ * </p>
+ */
+public class EventBus {
+
+    /** The default number of asynchronous delivery lanes. */
+    public static final int DEFAULT_LANES = 4;
+
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService[] lanes;
+
+    /**
+     * Constructs an EventBus with {@link #DEFAULT_LANES} asynchronous delivery lanes.
+     */
+    public EventBus() {
+        this(DEFAULT_LANES);
+    }
+
+    /**
+     * Constructs an EventBus.
+     *
+     * @param laneCount The number of asynchronous delivery lanes.
+     * @throws IllegalArgumentException if {@code laneCount} is not positive.
+     */
+    public EventBus(int laneCount) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive.");
+        }
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String name = "taskforge-events-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Registers a handler that runs on the publishing thread for every event of the given type.
+     *
+     * @param owner The object the subscription belongs to, used by {@link #unsubscribeAll(Object)}.
+     * @param type The event type; subtypes match too, so {@code DomainEvent.class} receives every event.
+     * @param handler The handler.
+     * @param <E> The event type.
+     */
+    public <E extends DomainEvent> void subscribe(Object owner, Class<E> type, Consumer<? super E> handler) {
+        subscribers.add(new Subscriber<>(owner, type, handler, false));
+    }
+
+    /**
+     * Registers a handler that runs on a delivery lane for every event of the given type.
+     * Events with the same ordering key are handled in publish order.
+     *
+     * @param owner The object the subscription belongs to, used by {@link #unsubscribeAll(Object)}.
+     * @param type The event type; subtypes match too, so {@code DomainEvent.class} receives every event.
+     * @param handler The handler.
+     * @param <E> The event type.
+     */
+    public <E extends DomainEvent> void subscribeAsync(Object owner, Class<E> type, Consumer<? super E> handler) {
+        subscribers.add(new Subscriber<>(owner, type, handler, true));
+    }
+
+    /**
+     * Removes every subscription registered by an owner.
+     *
+     * @param owner The owner passed when subscribing.
+     */
+    public void unsubscribeAll(Object owner) {
+        subscribers.removeIf(subscriber -> subscriber.owner == owner);
+    }
+
+    /**
+     * Publishes an event to every matching subscriber, or queues it until the current
+     * unit of work commits.
+     *
+     * @param event The event to publish.
+     */
+    public void publish(DomainEvent event) {
+        DatabaseManager.afterCommit(() -> deliver(event));
+    }
+
+    /**
+     * Stops the delivery lanes, giving queued asynchronous deliveries a moment to finish.
+     * Should be called once when the application exits.
+     */
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(2, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Delivers an event to synchronous subscribers and hands it to its lane for asynchronous ones.
+     *
+     * @param event The event to deliver.
+     */
+    private void deliver(DomainEvent event) {
+        List<Subscriber<?>> asyncSubscribers = new ArrayList<>();
+        for (Subscriber<?> subscriber : subscribers) {
+            if (!subscriber.type.isInstance(event)) {
+                continue;
+            }
+            if (subscriber.async) {
+                asyncSubscribers.add(subscriber);
+            } else {
+                subscriber.handle(event);
+            }
+        }
+        if (asyncSubscribers.isEmpty()) {
+            return;
+        }
+        ExecutorService lane = lanes[Math.floorMod(event.orderingKey().hashCode(), lanes.length)];
+        try {
+            lane.execute(() -> asyncSubscribers.forEach(subscriber -> subscriber.handle(event)));
+        } catch (RejectedExecutionException e) {
+            System.err.println("Event bus is shut down, dropping " + event.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * A registered handler and the event type it accepts.
+     */
+    private static final class Subscriber<E extends DomainEvent> {
+        private final Object owner;
+        private final Class<E> type;
+        private final Consumer<? super E> handler;
+        private final boolean async;
+
+        private Subscriber(Object owner, Class<E> type, Consumer<? super E> handler, boolean async) {
+            this.owner = owner;
+            this.type = type;
+            this.handler = handler;
+            this.async = async;
+        }
+
+        private void handle(DomainEvent event) {
+            try {
+                handler.accept(type.cast(event));
+            } catch (RuntimeException e) {
+                System.err.println("Error handling " + event.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+    }
+}
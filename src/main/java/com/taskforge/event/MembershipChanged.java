@@ -0,0 +1,27 @@
+package com.taskforge.event;
+
+/**
+ * Published after a user's membership of a team has changed.
+ *
+ * @param userId The ID of the user.
+ * @param teamId The ID of the team.
+ * @param change What happened to the membership.
+ */
+public record MembershipChanged(int userId, int teamId, Change change) implements DomainEvent {
+
+    /**
+     * The kinds of membership change.
+     */
+    public enum Change {
+        INVITED,      // A pending invitation was created
+        JOINED,       // The user became an accepted member, by accepting or by creating the team
+        REJECTED,     // The user rejected an invitation
+        REMOVED,      // The membership was deleted
+        ROLE_CHANGED  // The member's role changed
+    }
+
+    @Override
+    public String orderingKey() {
+        return "membership:" + teamId + ":" + userId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskforge.event;
+
+import com.taskforge.model.Notification;
+
+/**
+ * Published after a notification has been inserted.
+ *
+ * @param notification The notification, with its generated ID.
+ */
+public record NotificationCreated(Notification notification) implements DomainEvent {
+
+    @Override
+    public String orderingKey() {
+        return "user:" + notification.getRecipient().getId();
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskforge.event;
+
+import com.taskforge.model.Task;
+import com.taskforge.model.User;
+
+/**
+ * Published after a task has been assigned to a new user, either when it is created
+ * or when it is updated. Follows the corresponding {@link TaskCreated} or {@link TaskUpdated}.
+ *
+ * @param task The assigned task.
+ * @param assignee The user the task is now assigned to.
+ * @param previousAssignee The user the task was assigned to before, or null.
+ */
+public record TaskAssigned(Task task, User assignee, User previousAssignee) implements DomainEvent {
+
+    @Override
+    public String orderingKey() {
+        return "task:" + task.getId();
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskforge.event;
+
+import com.taskforge.model.Task;
+
+/**
+ * Published after a task has been created.
+ *
+ * @param task The created task, with its generated ID.
+ */
+public record TaskCreated(Task task) implements DomainEvent {
+
+    @Override
+    public String orderingKey() {
+        return "task:" + task.getId();
+    }
+}
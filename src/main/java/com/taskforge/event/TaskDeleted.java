@@ -0,0 +1,14 @@
+package com.taskforge.event;
+
+/**
+ * Published after a task has been deleted.
+ *
+ * @param taskId The ID of the deleted task.
+ */
+public record TaskDeleted(int taskId) implements DomainEvent {
+
+    @Override
+    public String orderingKey() {
+        return "task:" + taskId;
+    }
+}
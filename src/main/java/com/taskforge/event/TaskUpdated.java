@@ -0,0 +1,16 @@
+package com.taskforge.event;
+
+import com.taskforge.model.Task;
+
+/**
+ * Published after a task's fields have been updated.
+ *
+ * @param task The task as it was saved.
+ */
+public record TaskUpdated(Task task) implements DomainEvent {
+
+    @Override
+    public String orderingKey() {
+        return "task:" + task.getId();
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskforge.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the database change log: a row of a watched table was inserted, updated or deleted.
+ *
+ * @param seq The position of the entry in the log. Later changes have higher sequence numbers.
+ * @param entity The name of the changed table, one of the constants of this record.
+ * @param entityId The ID of the changed row; the user ID for a membership.
+ * @param relatedId The ID of the row the changed row belongs to: the task of a comment or attachment,
+ *                  the recipient of a notification, the team of a project or membership. Null for tasks
+ *                  and for projects without a team.
+ * @param operation The kind of change.
+ * @param changedAt When the change was made.
+ */
+public record ChangeLogEntry(long seq, String entity, int entityId, Integer relatedId,
+                             Operation operation, LocalDateTime changedAt) {
+
+    /** Entity name of task changes. */
+    public static final String TASKS = "Tasks";
+    /** Entity name of comment changes. */
+    public static final String COMMENTS = "Comments";
+    /** Entity name of attachment changes. */
+    public static final String ATTACHMENTS = "Attachments";
+    /** Entity name of notification changes. */
+    public static final String NOTIFICATIONS = "Notifications";
+    /** Entity name of team membership changes. */
+    public static final String MEMBERSHIPS = "UserTeamMemberships";
+    /** Entity name of project changes. */
+    public static final String PROJECTS = "Projects";
+
+    /**
+     * The kind of change recorded by a log entry.
+     */
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+}
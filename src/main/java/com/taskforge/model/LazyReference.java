@@ -0,0 +1,93 @@
+package com.taskforge.model;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * A reference from one entity to another by ID, which loads the referenced entity the first time it
+ * is needed. The ID is always available without loading. A reference can also be created already
+ * resolved, for entities that were loaded together with the referencing one.
+ *
+ * <p>
+ * Resolution happens at most once per reference, also when several threads ask at the same time;
+ * afterwards the same instance is returned on every call. A referenced entity that no longer exists
+ * resolves to null.
+ * </p>
+ *
+ * @param <T> The type of the referenced entity.
+ */
+public final class LazyReference<T> {
+
+    private final int id;
+    private IntFunction<Optional<T>> loader; // Cleared once resolved, so the loader can be collected
+    private volatile boolean resolved;
+    private T entity;
+
+    private LazyReference(int id, IntFunction<Optional<T>> loader, T entity, boolean resolved) {
+        this.id = id;
+        this.loader = loader;
+        this.entity = entity;
+        this.resolved = resolved;
+    }
+
+    /**
+     * Creates a reference that loads the entity on first access.
+     *
+     * @param id The ID of the referenced entity.
+     * @param loader Looks the entity up by ID, typically through a DAO's entity cache.
+     * @param <T> The type of the referenced entity.
+     * @return The unresolved reference.
+     */
+    public static <T> LazyReference<T> of(int id, IntFunction<Optional<T>> loader) {
+        return new LazyReference<>(id, Objects.requireNonNull(loader, "loader"), null, false);
+    }
+
+    /**
+     * Creates a reference to an entity that is already loaded.
+     *
+     * @param id The ID of the referenced entity.
+     * @param entity The referenced entity.
+     * @param <T> The type of the referenced entity.
+     * @return The resolved reference.
+     */
+    public static <T> LazyReference<T> resolved(int id, T entity) {
+        return new LazyReference<>(id, null, entity, true);
+    }
+
+    /**
+     * Gets the ID of the referenced entity, without loading it.
+     *
+     * @return The referenced ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Indicates whether the referenced entity has been loaded.
+     *
+     * @return true if {@link #get()} returns without a lookup.
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * Gets the referenced entity, loading it on the first call.
+     *
+     * @return The referenced entity, or null if it does not exist.
+     */
+    public T get() {
+        if (!resolved) {
+            synchronized (this) {
+                if (!resolved) {
+                    entity = loader.apply(id).orElse(null);
+                    loader = null;
+                    resolved = true;
+                }
+            }
+        }
+        return entity;
+    }
+}
@@ -23,13 +23,51 @@ public class Notification {
 
     /**
      * Enum for the type of notification.
+     * Each type is stored in the database under a stable code; new types take the next free code.
      */
     public enum NotificationType {
-        GENERAL,          // General informational message
-        TEAM_INVITATION,  // Invitation to join a team
-        TASK_REMINDER,    // Reminder for an upcoming task
-        TASK_ASSIGNMENT;  // Notification about a task assignment
+        GENERAL(0),          // General informational message
+        TEAM_INVITATION(1),  // Invitation to join a team
+        TASK_REMINDER(2),    // Reminder for an upcoming task
+        TASK_ASSIGNMENT(3);  // Notification about a task assignment
         // Add more types as needed
+
+        private static final NotificationType[] BY_CODE = new NotificationType[values().length];
+
+        static {
+            for (NotificationType type : values()) {
+                BY_CODE[type.code] = type;
+            }
+        }
+
+        private final int code;
+
+        NotificationType(int code) {
+            this.code = code;
+        }
+
+        /**
+         * Gets the code under which this type is stored in the database.
+         *
+         * @return The type's code.
+         */
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Gets the notification type stored under a database code.
+         *
+         * @param code The stored code.
+         * @return The type with that code.
+         * @throws IllegalArgumentException if no type has the code.
+         */
+        public static NotificationType fromCode(int code) {
+            if (code < 0 || code >= BY_CODE.length) {
+                throw new IllegalArgumentException("Unknown notification type code: " + code);
+            }
+            return BY_CODE[code];
+        }
     }
 
     /**
@@ -3,11 +3,50 @@ package com.taskforge.model;
 /**
  * Represents the priority level of a task in the TaskForge system.
  * This enum defines a set of predefined priority levels.
+ * Each level has a stable code under which it is stored in the database; codes increase with
+ * the priority, so sorting by code sorts by priority.
  */
 public enum Priority {
-    LOW,    // Indicates a low priority task
-    MEDIUM, // Indicates a medium priority task
-    HIGH;   // Indicates a high priority task
+    LOW(0),    // Indicates a low priority task
+    MEDIUM(1), // Indicates a medium priority task
+    HIGH(2);   // Indicates a high priority task
+
+    private static final Priority[] BY_CODE = new Priority[values().length];
+
+    static {
+        for (Priority priority : values()) {
+            BY_CODE[priority.code] = priority;
+        }
+    }
+
+    private final int code;
+
+    Priority(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code under which this priority is stored in the database.
+     *
+     * @return The priority's code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the priority stored under a database code.
+     *
+     * @param code The stored code.
+     * @return The priority with that code.
+     * @throws IllegalArgumentException if no priority has the code.
+     */
+    public static Priority fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown priority code: " + code);
+        }
+        return BY_CODE[code];
+    }
 
     /**
      * Returns a user-friendly string representation of the priority.
@@ -5,10 +5,48 @@ package com.taskforge.model;
  * This enum defines a set of predefined task statuses.
  */
 public enum Status {
-    PENDING,    // Task has been created but not yet started
-    IN_PROGRESS, // Task is currently being worked on
-    COMPLETED,  // Task has been finished
-    BLOCKED;    // Task is blocked due to dependencies or other issues
+    PENDING(0),     // Task has been created but not yet started
+    IN_PROGRESS(1), // Task is currently being worked on
+    COMPLETED(2),   // Task has been finished
+    BLOCKED(3);     // Task is blocked due to dependencies or other issues
+
+    private static final Status[] BY_CODE = new Status[values().length];
+
+    static {
+        for (Status status : values()) {
+            BY_CODE[status.code] = status;
+        }
+    }
+
+    private final int code;
+
+    Status(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code under which this status is stored in the database.
+     * Codes follow the declaration order; new statuses must take the next free code.
+     *
+     * @return The status's code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the status stored under a database code.
+     *
+     * @param code The stored code.
+     * @return The status with that code.
+     * @throws IllegalArgumentException if no status has the code.
+     */
+    public static Status fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown status code: " + code);
+        }
+        return BY_CODE[code];
+    }
 
     /**
      * Returns a user-friendly string representation of the status.
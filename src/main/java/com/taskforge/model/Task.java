@@ -2,12 +2,15 @@ package com.taskforge.model;
 
 import java.time.LocalDateTime; // For handling dates and times
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Represents a task within the TaskForge task management system.
  * This class encapsulates task properties such as ID, title, description,
  * due date, priority level, status, assigned user, associated project,
  * its visibility level, and the user who created it.
+ * The assigned user, project and creator are held as {@link LazyReference}s: their IDs are always
+ * available, and the entities themselves may be loaded only when first requested.
  */
 public class Task {
 
@@ -17,10 +20,10 @@ public class Task {
     private LocalDateTime dueDate; // Using LocalDateTime for date and time
     private Priority priority;
     private Status status;
-    private User assignedTo; // The user this task is assigned to (can be null)
-    private Project project; // The project this task belongs to (can be null)
+    private LazyReference<User> assignedTo; // The user this task is assigned to (can be null)
+    private LazyReference<Project> project; // The project this task belongs to (can be null)
     private Visibility visibility; // Visibility level of the task
-    private User creator; // New: The user who created this task
+    private LazyReference<User> creator; // New: The user who created this task
 
     /**
      * Default constructor for Task.
@@ -52,10 +55,10 @@ public class Task {
         this.dueDate = dueDate;
         this.priority = priority;
         this.status = status;
-        this.assignedTo = assignedTo;
-        this.project = project;
+        this.assignedTo = reference(assignedTo);
+        this.project = reference(project);
         this.visibility = visibility;
-        this.creator = creator;
+        this.creator = reference(creator);
     }
 
     /**
@@ -82,10 +85,10 @@ public class Task {
         this.dueDate = dueDate;
         this.priority = priority;
         this.status = status;
-        this.assignedTo = assignedTo;
-        this.project = project;
+        this.assignedTo = reference(assignedTo);
+        this.project = reference(project);
         this.visibility = visibility;
-        this.creator = creator;
+        this.creator = reference(creator);
     }
 
     // --- Getters and Setters ---
@@ -188,11 +191,19 @@ public class Task {
     }
 
     /**
-     * Gets the user assigned to this task.
+     * Gets the user assigned to this task, loading it if it has not been loaded yet.
      * @return The User object assigned to the task, or null if unassigned.
      */
     public User getAssignedTo() {
-        return assignedTo;
+        return assignedTo != null ? assignedTo.get() : null;
+    }
+
+    /**
+     * Gets the ID of the user assigned to this task, without loading the user.
+     * @return The assigned user's ID, or 0 if unassigned.
+     */
+    public int getAssignedToId() {
+        return assignedTo != null ? assignedTo.getId() : 0;
     }
 
     /**
@@ -200,15 +211,32 @@ public class Task {
      * @param assignedTo The User object to assign, or null to unassign.
      */
     public void setAssignedTo(User assignedTo) {
+        this.assignedTo = reference(assignedTo);
+    }
+
+    /**
+     * Sets the reference to the user assigned to this task.
+     * This method is typically used by DAOs to defer loading the user.
+     * @param assignedTo The reference to the assigned user, or null to unassign.
+     */
+    public void setAssignedToReference(LazyReference<User> assignedTo) {
         this.assignedTo = assignedTo;
     }
 
     /**
-     * Gets the project this task belongs to.
+     * Gets the project this task belongs to, loading it if it has not been loaded yet.
      * @return The Project object this task belongs to, or null if not part of a project.
      */
     public Project getProject() {
-        return project;
+        return project != null ? project.get() : null;
+    }
+
+    /**
+     * Gets the ID of the project this task belongs to, without loading the project.
+     * @return The project's ID, or 0 if not part of a project.
+     */
+    public int getProjectId() {
+        return project != null ? project.getId() : 0;
     }
 
     /**
@@ -216,6 +244,15 @@ public class Task {
      * @param project The Project object to associate, or null to disassociate.
      */
     public void setProject(Project project) {
+        this.project = reference(project);
+    }
+
+    /**
+     * Sets the reference to the project this task belongs to.
+     * This method is typically used by DAOs to defer loading the project.
+     * @param project The reference to the project, or null to disassociate.
+     */
+    public void setProjectReference(LazyReference<Project> project) {
         this.project = project;
     }
 
@@ -236,11 +273,19 @@ public class Task {
     }
 
     /**
-     * Gets the user who created this task.
+     * Gets the user who created this task, loading it if it has not been loaded yet.
      * @return The User object who created the task.
      */
     public User getCreator() {
-        return creator;
+        return creator != null ? creator.get() : null;
+    }
+
+    /**
+     * Gets the ID of the user who created this task, without loading the user.
+     * @return The creator's ID, or 0 if no creator is set.
+     */
+    public int getCreatorId() {
+        return creator != null ? creator.getId() : 0;
     }
 
     /**
@@ -248,6 +293,15 @@ public class Task {
      * @param creator The User object who created the task.
      */
     public void setCreator(User creator) {
+        this.creator = reference(creator);
+    }
+
+    /**
+     * Sets the reference to the user who created this task.
+     * This method is typically used by DAOs to defer loading the user.
+     * @param creator The reference to the creator.
+     */
+    public void setCreatorReference(LazyReference<User> creator) {
         this.creator = creator;
     }
 
@@ -293,10 +347,46 @@ public class Task {
                 ", dueDate=" + dueDate +
                 ", priority=" + priority +
                 ", status=" + status +
-                ", assignedTo=" + (assignedTo != null ? assignedTo.getUsername() : "Unassigned") +
-                ", project=" + (project != null ? project.getName() : "None") +
+                ", assignedTo=" + describe(assignedTo, User::getUsername, "Unassigned") +
+                ", project=" + describe(project, Project::getName, "None") +
                 ", visibility=" + visibility +
-                ", creator=" + (creator != null ? creator.getUsername() : "Unknown") +
+                ", creator=" + describe(creator, User::getUsername, "Unknown") +
                 '}';
     }
+
+    /**
+     * Wraps an already loaded user in a resolved reference.
+     *
+     * @param entity The user, or null.
+     * @return The resolved reference, or null if entity is null.
+     */
+    private static LazyReference<User> reference(User entity) {
+        return entity != null ? LazyReference.resolved(entity.getId(), entity) : null;
+    }
+
+    /**
+     * Wraps an already loaded project in a resolved reference.
+     *
+     * @param entity The project, or null.
+     * @return The resolved reference, or null if entity is null.
+     */
+    private static LazyReference<Project> reference(Project entity) {
+        return entity != null ? LazyReference.resolved(entity.getId(), entity) : null;
+    }
+
+    /**
+     * Describes an association for {@link #toString()} without loading it.
+     *
+     * @param reference The reference to describe, or null.
+     * @param name Gives the display name of a loaded entity.
+     * @param absent The text used when there is no reference.
+     * @return The entity's name if loaded, its ID in the form "#id" otherwise.
+     */
+    private static <T> String describe(LazyReference<T> reference, Function<T, String> name, String absent) {
+        if (reference == null) {
+            return absent;
+        }
+        T entity = reference.isResolved() ? reference.get() : null;
+        return entity != null ? name.apply(entity) : "#" + reference.getId();
+    }
 }
@@ -0,0 +1,66 @@
+package com.taskforge.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * How many tasks of an assignee or project there are per status and per priority, and how many of them
+ * are overdue. Counted by the database, without loading the tasks.
+ *
+ * @param byStatus The number of tasks per status. Statuses without tasks may be missing.
+ * @param byPriority The number of tasks per priority. Priorities without tasks may be missing.
+ * @param overdue The number of tasks past their due date that are not completed.
+ */
+public record TaskCounts(Map<Status, Integer> byStatus, Map<Priority, Integer> byPriority, int overdue) {
+
+    /**
+     * Constructs TaskCounts, copying the maps so that later changes to them are not reflected.
+     */
+    public TaskCounts {
+        byStatus = Collections.unmodifiableMap(byStatus.isEmpty() ? new EnumMap<>(Status.class) : new EnumMap<>(byStatus));
+        byPriority = Collections.unmodifiableMap(byPriority.isEmpty() ? new EnumMap<>(Priority.class) : new EnumMap<>(byPriority));
+    }
+
+    /**
+     * Creates counts of no tasks, returned when a count query fails.
+     *
+     * @return Counts that are zero everywhere.
+     */
+    public static TaskCounts empty() {
+        return new TaskCounts(Map.of(), Map.of(), 0);
+    }
+
+    /**
+     * Gets the number of tasks with a status.
+     *
+     * @param status The status to count.
+     * @return The number of tasks with that status.
+     */
+    public int count(Status status) {
+        return byStatus.getOrDefault(status, 0);
+    }
+
+    /**
+     * Gets the number of tasks with a priority.
+     *
+     * @param priority The priority to count.
+     * @return The number of tasks with that priority.
+     */
+    public int count(Priority priority) {
+        return byPriority.getOrDefault(priority, 0);
+    }
+
+    /**
+     * Gets the number of tasks counted.
+     *
+     * @return The sum of the counts per status.
+     */
+    public int total() {
+        int total = 0;
+        for (int count : byStatus.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
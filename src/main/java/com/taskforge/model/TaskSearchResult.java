@@ -0,0 +1,13 @@
+package com.taskforge.model;
+
+/**
+ * A task found by a full-text search, together with the text around the match. The task is carried as
+ * a {@link TaskSummary}, since search results are shown in the task list.
+ *
+ * @param task The summary of the matching task.
+ * @param snippet An excerpt of the best matching title, description or comment, with the matched terms
+ *                wrapped in square brackets.
+ * @param score The relevance of the match. Lower scores are more relevant.
+ */
+public record TaskSearchResult(TaskSummary task, String snippet, double score) {
+}
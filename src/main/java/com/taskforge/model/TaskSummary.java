@@ -0,0 +1,65 @@
+package com.taskforge.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a task shown in the task lists, without the full description or the associated
+ * entities. Names of the project, assignee and creator are read with the task in one query.
+ * Use {@link Task} to edit a task.
+ *
+ * <p>
+ * Summaries are equal if their IDs are the same, like tasks, so a reloaded summary of an edited task
+ * still matches the row it replaces.
+ * </p>
+ *
+ * @param id The ID of the task.
+ * @param title The title of the task.
+ * @param descriptionExcerpt At most {@link #DESCRIPTION_EXCERPT_LENGTH} leading characters of the
+ *                           description, or null if the task has none.
+ * @param dueDate The due date, or null if the task has none.
+ * @param priority The priority of the task.
+ * @param status The status of the task.
+ * @param visibility The visibility of the task.
+ * @param projectName The name of the task's project, or null if it belongs to none.
+ * @param assigneeName The username of the assigned user, or null if the task is unassigned.
+ * @param creatorId The ID of the user who created the task.
+ * @param creatorName The username of the user who created the task.
+ */
+public record TaskSummary(int id, String title, String descriptionExcerpt, LocalDateTime dueDate,
+                          Priority priority, Status status, Visibility visibility,
+                          String projectName, String assigneeName, int creatorId, String creatorName) {
+
+    /** The most characters of the description carried by a summary. */
+    public static final int DESCRIPTION_EXCERPT_LENGTH = 100;
+
+    /**
+     * Creates the summary of a task that is already loaded, for example one that was just saved.
+     *
+     * @param task The task, with its associations loaded.
+     * @return The summary of the task.
+     */
+    public static TaskSummary of(Task task) {
+        String description = task.getDescription();
+        if (description != null && description.length() > DESCRIPTION_EXCERPT_LENGTH) {
+            description = description.substring(0, DESCRIPTION_EXCERPT_LENGTH);
+        }
+        return new TaskSummary(task.getId(), task.getTitle(), description, task.getDueDate(),
+                task.getPriority(), task.getStatus(), task.getVisibility(),
+                task.getProject() != null ? task.getProject().getName() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null,
+                task.getCreatorId(),
+                task.getCreator() != null ? task.getCreator().getUsername() : null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return id == ((TaskSummary) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
+}
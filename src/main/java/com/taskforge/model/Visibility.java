@@ -8,15 +8,52 @@ public enum Visibility {
     /**
      * Public tasks are visible to all users in the system.
      */
-    PUBLIC,
+    PUBLIC(0),
     /**
      * Restricted tasks are visible only to users who share a team with the task creator.
      */
-    RESTRICTED,
+    RESTRICTED(1),
     /**
      * Private tasks are visible only to the task creator.
      */
-    PRIVATE;
+    PRIVATE(2);
+
+    private static final Visibility[] BY_CODE = new Visibility[values().length];
+
+    static {
+        for (Visibility visibility : values()) {
+            BY_CODE[visibility.code] = visibility;
+        }
+    }
+
+    private final int code;
+
+    Visibility(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code under which this visibility is stored in the database.
+     *
+     * @return The visibility's code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the visibility stored under a database code.
+     *
+     * @param code The stored code.
+     * @return The visibility with that code.
+     * @throws IllegalArgumentException if no visibility has the code.
+     */
+    public static Visibility fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown visibility code: " + code);
+        }
+        return BY_CODE[code];
+    }
 
     /**
      * Returns a user-friendly string representation of the visibility.
@@ -0,0 +1,79 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.ChangeLogDAO;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically compacts the database change log with {@link ChangeLogDAO#compact(long)}, so that the
+ * log, which grows with every write, stays small enough to scan cheaply.
+ *
+ * <p>
+ * The default instance reads {@code taskforge.changelog.compactIntervalMs} (0 disables compaction) and
+ * {@code taskforge.changelog.retentionMs} from system properties.
+ * </p>
+ */
+public class ChangeLogCompactor {
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a ChangeLogCompactor configured from system properties and schedules it.
+     *
+     * @param changeLogDAO The Data Access Object used to compact the log.
+     */
+    public ChangeLogCompactor(ChangeLogDAO changeLogDAO) {
+        this(changeLogDAO,
+                Long.getLong("taskforge.changelog.compactIntervalMs", 600_000L),
+                Long.getLong("taskforge.changelog.retentionMs", 86_400_000L));
+    }
+
+    /**
+     * Constructs a ChangeLogCompactor and schedules it. The first compaction runs one interval after construction.
+     *
+     * @param changeLogDAO The Data Access Object used to compact the log.
+     * @param intervalMillis How often the log is compacted; 0 disables compaction.
+     * @param retentionMillis How long log entries are kept.
+     * @throws IllegalArgumentException if {@code intervalMillis} or {@code retentionMillis} is negative.
+     */
+    public ChangeLogCompactor(ChangeLogDAO changeLogDAO, long intervalMillis, long retentionMillis) {
+        if (intervalMillis < 0 || retentionMillis < 0) {
+            throw new IllegalArgumentException("Compaction interval and retention must not be negative.");
+        }
+        if (intervalMillis == 0) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskforge-changelog-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            int removed = changeLogDAO.compact(retentionMillis);
+            if (removed > 0) {
+                System.out.println("Compacted change log, removed " + removed + " entries.");
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic compaction. A compaction that is running is allowed to finish.
+     * Should be called once when the application exits, before the database is shut down.
+     */
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.ChangeLogDAO;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.EventBus;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects commits to the database file and publishes a {@link DatabaseChanged} event for them, so that
+ * open views stay current without a manual refresh, including when several TaskForge instances share
+ * one database file.
+ *
+ * <p>
+ * A background thread polls {@code PRAGMA data_version} on a connection of its own. SQLite changes that
+ * value whenever another connection, in this process or another one, has committed since the last poll,
+ * and answers it without touching any table, so polling costs next to nothing while the database is idle.
+ * Several commits between two polls are reported as one change, carrying the change log entries
+ * written since the previous one.
+ * </p>
+ *
+ * <p>
+ * The poll interval is read from the {@code taskforge.watch.pollIntervalMs} system property by the
+ * default instance; 0 disables watching.
+ * </p>
+ */
+public class DataVersionWatcher {
+
+    /** The most change log entries carried by one event; beyond this the event is marked incomplete. */
+    static final int MAX_CHANGES_PER_EVENT = 1_000;
+
+    private final ChangeLogDAO changeLogDAO;
+    private final EventBus eventBus;
+    private final ScheduledExecutorService scheduler;
+
+    /** The connection the data version is read from. Only used by the polling thread. */
+    private Connection connection;
+    /** The data version seen by the previous poll, or -1 before the first poll. */
+    private long lastVersion = -1;
+    /** The sequence number of the last change log entry published, or -1 before the first poll. */
+    private long lastSeq = -1;
+    /** Set after a failed poll, so the next successful one publishes whatever was logged in the meantime. */
+    private boolean assumeChanged;
+
+    /**
+     * Constructs a DataVersionWatcher configured from system properties and starts polling.
+     *
+     * @param changeLogDAO The Data Access Object the changes are read from.
+     * @param eventBus The bus that receives a {@link DatabaseChanged} event per detected change.
+     */
+    public DataVersionWatcher(ChangeLogDAO changeLogDAO, EventBus eventBus) {
+        this(changeLogDAO, eventBus, Long.getLong("taskforge.watch.pollIntervalMs", 1_000L));
+    }
+
+    /**
+     * Constructs a DataVersionWatcher and starts polling.
+     *
+     * @param changeLogDAO The Data Access Object the changes are read from.
+     * @param eventBus The bus that receives a {@link DatabaseChanged} event per detected change.
+     * @param pollIntervalMillis How often the data version is checked; 0 disables watching.
+     * @throws IllegalArgumentException if {@code pollIntervalMillis} is negative.
+     */
+    public DataVersionWatcher(ChangeLogDAO changeLogDAO, EventBus eventBus, long pollIntervalMillis) {
+        if (pollIntervalMillis < 0) {
+            throw new IllegalArgumentException("Poll interval must not be negative.");
+        }
+        this.changeLogDAO = changeLogDAO;
+        this.eventBus = eventBus;
+        if (pollIntervalMillis == 0) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskforge-data-version-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the database has changed since the previous poll and publishes an event if so.
+     * Runs on the polling thread.
+     */
+    private void poll() {
+        try {
+            if (connection == null) {
+                connection = DatabaseManager.openDedicatedReadConnection();
+            }
+            if (lastSeq < 0) {
+                lastSeq = changeLogDAO.getLatestSeq(); // Read before the version, so no change falls in between
+            }
+            long version;
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA data_version")) {
+                rs.next();
+                version = rs.getLong(1);
+            }
+            if (assumeChanged || (lastVersion >= 0 && version != lastVersion)) {
+                publishChanges(version);
+            }
+            lastVersion = version;
+            assumeChanged = false;
+        } catch (SQLException e) {
+            // Reopen on the next poll; a fresh connection starts a new version sequence
+            System.err.println("Error checking database data version: " + e.getMessage());
+            closeConnection();
+            lastVersion = -1;
+            assumeChanged = true;
+        }
+    }
+
+    /**
+     * Reads the change log entries written since the previous event and publishes them.
+     *
+     * @param version The data version the changes lead up to.
+     */
+    private void publishChanges(long version) {
+        List<ChangeLogEntry> changes = changeLogDAO.getChangesSince(lastSeq, MAX_CHANGES_PER_EVENT + 1);
+        if (changes.size() > MAX_CHANGES_PER_EVENT) {
+            // Too many to be worth filtering; consumers reload instead
+            lastSeq = changeLogDAO.getLatestSeq();
+            eventBus.publish(new DatabaseChanged(version, List.of(), false));
+            return;
+        }
+        if (!changes.isEmpty()) {
+            lastSeq = changes.get(changes.size() - 1).seq();
+        }
+        eventBus.publish(new DatabaseChanged(version, changes, true));
+    }
+
+    /**
+     * Stops polling and closes the watcher's connection.
+     * Should be called once when the application exits, before the database is shut down.
+     */
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(2, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeConnection();
+    }
+
+    /**
+     * Closes the watcher's connection, if open.
+     */
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing data version connection: " + e.getMessage());
+        }
+        connection = null;
+    }
+}
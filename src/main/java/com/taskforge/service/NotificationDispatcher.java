@@ -0,0 +1,329 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.NotificationDAO;
+import com.taskforge.event.EventBus;
+import com.taskforge.event.NotificationCreated;
+import com.taskforge.model.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes notifications behind the user-facing action that triggered them.
+ * Submitted notifications go into a bounded in-memory queue and a single writer thread inserts them
+ * with {@link NotificationDAO#createNotifications(List)}, one transaction per batch. A batch is written
+ * once it holds {@code maxBatchSize} notifications or {@code flushIntervalMillis} after its first one
+ * arrived, whichever comes first.
+ *
+ * <p>
+ * When the queue is full, {@link #submit(Notification)} waits up to {@code offerTimeoutMillis} for space,
+ * slowing producers down to the writer's pace; if no space frees up in time the notification is dropped.
+ * Both events are counted in {@link #getStats()}. {@link #shutdown()} writes everything still queued.
+ * Once a batch has been written, a {@link NotificationCreated} event is published for each notification in it.
+ * If a batch fails, for example because a recipient was deleted in the meantime, its notifications are
+ * inserted one at a time so that only the ones that cannot be written are lost.
+ * </p>
+ *
+ * <p>
+ * The following system properties tune the default instance: {@code taskforge.notifications.queueCapacity},
+ * {@code taskforge.notifications.batchSize}, {@code taskforge.notifications.flushIntervalMs} and
+ * {@code taskforge.notifications.offerTimeoutMs}.
+ * </p>
+ */
+public class NotificationDispatcher {
+
+    /** How often an idle writer checks whether the dispatcher has been shut down. */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final NotificationDAO notificationDAO;
+    private final EventBus eventBus;
+    private final BlockingQueue<Notification> queue;
+    private final int capacity;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Thread writer;
+
+    private volatile boolean closed;
+    /**
+     * Makes checking {@link #closed} and queueing a notification atomic with respect to {@link #shutdown()}:
+     * submitters hold the read lock, shutdown takes the write lock to close the dispatcher, so nothing is
+     * queued after the final drain.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    /** Notifications taken off the queue and written or failed. Guarded by {@code this}. */
+    private long processed;
+
+    /**
+     * Constructs a NotificationDispatcher configured from system properties and starts its writer thread.
+     *
+     * @param notificationDAO The Data Access Object used to insert notifications.
+     * @param eventBus The bus that receives a {@link NotificationCreated} event per written notification, or null.
+     */
+    public NotificationDispatcher(NotificationDAO notificationDAO, EventBus eventBus) {
+        this(notificationDAO,
+                Integer.getInteger("taskforge.notifications.queueCapacity", 10_000),
+                Integer.getInteger("taskforge.notifications.batchSize", 200),
+                Long.getLong("taskforge.notifications.flushIntervalMs", 5L),
+                Long.getLong("taskforge.notifications.offerTimeoutMs", 100L),
+                eventBus);
+    }
+
+    /**
+     * Constructs a NotificationDispatcher that publishes no events and starts its writer thread.
+     *
+     * @param notificationDAO The Data Access Object used to insert notifications.
+     * @param capacity The maximum number of queued notifications.
+     * @param maxBatchSize The maximum number of notifications inserted in one transaction.
+     * @param flushIntervalMillis How long the writer waits for a batch to fill up.
+     * @param offerTimeoutMillis How long {@link #submit(Notification)} waits for space before dropping.
+     * @throws IllegalArgumentException if {@code capacity} or {@code maxBatchSize} is not positive,
+     *                                  or a duration is negative.
+     */
+    public NotificationDispatcher(NotificationDAO notificationDAO, int capacity, int maxBatchSize,
+                                  long flushIntervalMillis, long offerTimeoutMillis) {
+        this(notificationDAO, capacity, maxBatchSize, flushIntervalMillis, offerTimeoutMillis, null);
+    }
+
+    /**
+     * Constructs a NotificationDispatcher and starts its writer thread.
+     *
+     * @param notificationDAO The Data Access Object used to insert notifications.
+     * @param capacity The maximum number of queued notifications.
+     * @param maxBatchSize The maximum number of notifications inserted in one transaction.
+     * @param flushIntervalMillis How long the writer waits for a batch to fill up.
+     * @param offerTimeoutMillis How long {@link #submit(Notification)} waits for space before dropping.
+     * @param eventBus The bus that receives a {@link NotificationCreated} event per written notification, or null.
+     * @throws IllegalArgumentException if {@code capacity} or {@code maxBatchSize} is not positive,
+     *                                  or a duration is negative.
+     */
+    public NotificationDispatcher(NotificationDAO notificationDAO, int capacity, int maxBatchSize,
+                                  long flushIntervalMillis, long offerTimeoutMillis, EventBus eventBus) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be positive.");
+        }
+        if (flushIntervalMillis < 0 || offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Flush interval and offer timeout must not be negative.");
+        }
+        this.notificationDAO = notificationDAO;
+        this.eventBus = eventBus;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.writer = new Thread(this::runWriter, "taskforge-notification-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a notification for insertion. The notification's ID is set once it has been written.
+     * After {@link #shutdown()}, the notification is inserted directly instead.
+     *
+     * @param notification The notification to write.
+     * @return true if the notification was queued or written, false if it was dropped.
+     */
+    public boolean submit(Notification notification) {
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                return enqueue(notification);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        if (notificationDAO.createNotification(notification) == null) {
+            return false;
+        }
+        publishCreated(List.of(notification));
+        return true;
+    }
+
+    /**
+     * Queues a notification, waiting for space if the queue is full. Called with the read lock of
+     * {@link #closeLock} held.
+     *
+     * @param notification The notification to queue.
+     * @return true if the notification was queued, false if it was dropped.
+     */
+    private boolean enqueue(Notification notification) {
+        if (queue.offer(notification)) {
+            submitted.incrementAndGet();
+            return true;
+        }
+        throttled.incrementAndGet();
+        try {
+            if (queue.offer(notification, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                submitted.incrementAndGet();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+        System.err.println("Notification queue full, dropping notification for user " + notification.getRecipient().getId());
+        return false;
+    }
+
+    /**
+     * Blocks until every notification queued before this call has been written or has failed.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     * @return true if the queue was flushed in time, false otherwise.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long target = submitted.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (this) {
+            while (processed < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting queued work, writes everything still in the queue and stops the writer thread.
+     * Should be called once when the application exits, before the database is shut down.
+     * Waits for submitters that are waiting for queue space, at most {@code offerTimeoutMillis}.
+     */
+    public void shutdown() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writer.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Write anything queued after the writer's last drain, e.g. when it timed out
+        List<Notification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeBatch(remaining);
+        System.out.println("Notification dispatcher stopped: " + getStats());
+    }
+
+    /**
+     * Returns a snapshot of the queue depth and throughput counters.
+     *
+     * @return The current {@link NotificationDispatcherStats}.
+     */
+    public NotificationDispatcherStats getStats() {
+        return new NotificationDispatcherStats(queue.size(), capacity, submitted.get(), written.get(),
+                failed.get(), dropped.get(), throttled.get(), batches.get());
+    }
+
+    /**
+     * Writer loop: waits for a first notification, gathers a batch until it is full or the
+     * flush interval has passed, and writes it.
+     */
+    private void runWriter() {
+        List<Notification> batch = new ArrayList<>(maxBatchSize);
+        while (!closed) {
+            try {
+                Notification first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    Notification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closed = true; // Write what has been gathered, then stop
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+        List<Notification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeBatch(remaining);
+    }
+
+    /**
+     * Inserts a batch in one transaction and records the outcome. If the transaction fails, the
+     * notifications are retried one at a time.
+     *
+     * @param batch The notifications to insert.
+     */
+    private void writeBatch(List<Notification> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (notificationDAO.createNotifications(batch).isEmpty()) {
+            writeIndividually(batch);
+        } else {
+            written.addAndGet(batch.size());
+            publishCreated(batch);
+        }
+        batches.incrementAndGet();
+        synchronized (this) {
+            processed += batch.size();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Inserts the notifications of a failed batch one by one, so that a single bad row does not take
+     * the rest of the batch with it.
+     *
+     * @param batch The notifications of the failed batch.
+     */
+    private void writeIndividually(List<Notification> batch) {
+        List<Notification> created = new ArrayList<>(batch.size());
+        for (Notification notification : batch) {
+            if (notificationDAO.createNotification(notification) != null) {
+                created.add(notification);
+            }
+        }
+        written.addAndGet(created.size());
+        failed.addAndGet(batch.size() - created.size());
+        publishCreated(created);
+    }
+
+    /**
+     * Publishes a {@link NotificationCreated} event for each written notification, if an event bus is configured.
+     *
+     * @param notifications The notifications that were written.
+     */
+    private void publishCreated(List<Notification> notifications) {
+        if (eventBus != null) {
+            for (Notification notification : notifications) {
+                eventBus.publish(new NotificationCreated(notification));
+            }
+        }
+    }
+}
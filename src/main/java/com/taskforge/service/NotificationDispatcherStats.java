@@ -0,0 +1,17 @@
+package com.taskforge.service;
+
+/**
+ * Snapshot of a {@link NotificationDispatcher}'s queue and throughput metrics.
+ *
+ * @param queueDepth The number of notifications waiting to be written.
+ * @param capacity The maximum number of notifications the queue holds.
+ * @param submitted The number of notifications accepted into the queue.
+ * @param written The number of notifications inserted into the database.
+ * @param failed The number of notifications lost because their batch insert failed.
+ * @param dropped The number of notifications rejected because the queue stayed full.
+ * @param throttled The number of submissions that had to wait for space in the queue.
+ * @param batches The number of batch inserts performed.
+ */
+public record NotificationDispatcherStats(int queueDepth, int capacity, long submitted, long written,
+                                          long failed, long dropped, long throttled, long batches) {
+}
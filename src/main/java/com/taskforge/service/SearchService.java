@@ -0,0 +1,86 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.TaskDAO;
+import com.taskforge.model.TaskSearchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class responsible for full-text search over tasks and their comments.
+ * It turns free text typed by the user into a safe FTS5 query and returns the matching tasks
+ * the user may see, ranked by relevance and with a snippet of the matching text.
+ */
+public class SearchService {
+
+    /** Maximum number of results returned when no limit is given. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    /** Maximum number of search terms taken from a query; further terms are ignored. */
+    static final int MAX_TERMS = 16;
+
+    /** Terms shorter than this are matched as whole words only, since the FTS prefix indexes start at two characters. */
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final TaskDAO taskDAO;
+
+    /**
+     * Constructs a SearchService with the TaskDAO dependency.
+     *
+     * @param taskDAO The Data Access Object for Task entities.
+     */
+    public SearchService(TaskDAO taskDAO) {
+        this.taskDAO = taskDAO;
+    }
+
+    /**
+     * Searches the tasks visible to the current user for the given text, returning at most {@link #DEFAULT_LIMIT} results.
+     *
+     * @param query The text typed by the user.
+     * @param currentUserId The ID of the user searching (for visibility checks).
+     * @return The matching tasks, most relevant first; an empty list if the query contains no searchable words.
+     */
+    public List<TaskSearchResult> searchTasks(String query, int currentUserId) {
+        return searchTasks(query, currentUserId, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Searches the tasks visible to the current user for the given text.
+     * A task matches if every word of the query occurs in its title and description, or every word occurs
+     * in one of its comments. The task text and each comment are matched separately, so words split between
+     * the description and a comment, or between two comments, do not match.
+     * Words match as prefixes, so partially typed words already find results.
+     *
+     * @param query The text typed by the user.
+     * @param currentUserId The ID of the user searching (for visibility checks).
+     * @param limit The maximum number of results.
+     * @return The matching tasks, most relevant first; an empty list if the query contains no searchable words.
+     */
+    public List<TaskSearchResult> searchTasks(String query, int currentUserId, int limit) {
+        String matchExpression = toMatchExpression(query);
+        if (matchExpression == null || limit < 1) {
+            return List.of();
+        }
+        return taskDAO.searchVisibleTasks(currentUserId, matchExpression, limit);
+    }
+
+    /**
+     * Builds an FTS5 MATCH expression from free text. The text is split into words of letters and digits,
+     * and each word is quoted, so FTS5 operators and punctuation in the input are never interpreted.
+     *
+     * @param query The text typed by the user.
+     * @return The match expression, or null if the text contains no words.
+     */
+    static String toMatchExpression(String query) {
+        if (query == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : query.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty() && terms.size() < MAX_TERMS) {
+                terms.add(word.length() >= MIN_PREFIX_LENGTH ? "\"" + word + "\"*" : "\"" + word + "\"");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -1,23 +1,36 @@
 package com.taskforge.service;
 
 import com.taskforge.dao.NotificationDAO;
+import com.taskforge.dao.Page;
 import com.taskforge.dao.ProjectDAO;
 import com.taskforge.dao.TaskDAO;
+import com.taskforge.dao.TaskFetchPlan;
+import com.taskforge.dao.TaskOrder;
 import com.taskforge.dao.UserDAO;
 import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.event.DomainEvent;
+import com.taskforge.event.EventBus;
+import com.taskforge.event.NotificationCreated;
+import com.taskforge.event.TaskAssigned;
+import com.taskforge.event.TaskCreated;
+import com.taskforge.event.TaskDeleted;
+import com.taskforge.event.TaskUpdated;
 import com.taskforge.model.Notification;
 import com.taskforge.model.Priority;
 import com.taskforge.model.Project;
 import com.taskforge.model.Status;
 import com.taskforge.model.Task;
+import com.taskforge.model.TaskCounts;
+import com.taskforge.model.TaskSummary;
 import com.taskforge.model.User;
 import com.taskforge.model.UserTeamMembership;
 import com.taskforge.model.Visibility;
+import com.taskforge.util.DatabaseManager;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service class responsible for managing task-related business logic.
@@ -28,12 +41,17 @@ import java.util.stream.Collectors;
  */
 public class TaskManagerService {
 
+    /** Number of tasks the task tables load per page. */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
     private final TaskDAO taskDAO;
     private final UserDAO userDAO;
     private final ProjectDAO projectDAO;
     private final NotificationDAO notificationDAO;
     private final UserTeamDAO userTeamDAO; // Dependency for team membership checks
     private final UserManagerService userManagerService; // Dependency for user/team related checks
+    private final NotificationDispatcher notificationDispatcher; // Writes notifications behind the action, if set
+    private final EventBus eventBus; // Receives an event for every task change, if set
 
     /**
      * Constructs a TaskManagerService with necessary DAO and Service dependencies.
@@ -48,12 +66,35 @@ public class TaskManagerService {
      */
     public TaskManagerService(TaskDAO taskDAO, UserDAO userDAO, ProjectDAO projectDAO,
                               NotificationDAO notificationDAO, UserTeamDAO userTeamDAO, UserManagerService userManagerService) {
+        this(taskDAO, userDAO, projectDAO, notificationDAO, userTeamDAO, userManagerService, null, null);
+    }
+
+    /**
+     * Constructs a TaskManagerService that hands assignment notifications to a write-behind dispatcher
+     * and publishes task events. Notifications are queued once the task write has committed,
+     * instead of being inserted in the same transaction.
+     *
+     * @param taskDAO The Data Access Object for Task entities.
+     * @param userDAO The Data Access Object for User entities.
+     * @param projectDAO The Data Access Object for Project entities.
+     * @param notificationDAO The Data Access Object for Notification entities.
+     * @param userTeamDAO The Data Access Object for UserTeamMembership entities.
+     * @param userManagerService The Service for managing users and teams.
+     * @param notificationDispatcher The dispatcher that writes notifications, or null to insert them directly.
+     * @param eventBus The bus that receives {@link TaskCreated}, {@link TaskUpdated}, {@link TaskAssigned},
+     *                 {@link TaskDeleted} and {@link NotificationCreated} events, or null.
+     */
+    public TaskManagerService(TaskDAO taskDAO, UserDAO userDAO, ProjectDAO projectDAO,
+                              NotificationDAO notificationDAO, UserTeamDAO userTeamDAO, UserManagerService userManagerService,
+                              NotificationDispatcher notificationDispatcher, EventBus eventBus) {
         this.taskDAO = taskDAO;
         this.userDAO = userDAO;
         this.projectDAO = projectDAO;
         this.notificationDAO = notificationDAO;
         this.userTeamDAO = userTeamDAO;
         this.userManagerService = userManagerService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -131,19 +172,30 @@ public class TaskManagerService {
 
         // Default status for new tasks
         Task newTask = new Task(title, description, dueDate, priority, Status.PENDING, assignedTo, project, visibility, creatorOptional.get());
-        Task createdTask = taskDAO.createTask(newTask);
-
-        if (createdTask != null) {
+        User assignee = assignedTo;
+        try {
+            // The task and its assignment notification are committed together
+            Task createdTask = DatabaseManager.inTransaction(() -> {
+                Task task = taskDAO.createTask(newTask);
+                if (task == null) {
+                    throw new SQLException("Database operation failed.");
+                }
+                publish(new TaskCreated(task));
+                if (assignee != null) {
+                    publish(new TaskAssigned(task, assignee, null));
+                }
+                // Send notification if assigned to a different user
+                if (assignee != null && assignee.getId() != creatorId) {
+                    String message = String.format("You have been assigned to a new task: '%s' by %s.",
+                            task.getTitle(), creatorOptional.get().getUsername());
+                    sendNotification(new Notification(assignee, message, LocalDateTime.now(), task.getId(), Notification.NotificationType.TASK_ASSIGNMENT));
+                }
+                return task;
+            });
             System.out.println("Task created successfully: " + createdTask.getTitle());
-            // Send notification if assigned to a different user
-            if (assignedTo != null && assignedTo.getId() != creatorId) {
-                String message = String.format("You have been assigned to a new task: '%s' by %s.",
-                        createdTask.getTitle(), creatorOptional.get().getUsername());
-                notificationDAO.createNotification(new Notification(assignedTo, message, LocalDateTime.now(), createdTask.getId(), Notification.NotificationType.TASK_ASSIGNMENT));
-            }
             return Optional.of(createdTask);
-        } else {
-            System.err.println("Task creation failed: Database operation failed.");
+        } catch (SQLException e) {
+            System.err.println("Task creation failed: " + e.getMessage());
             return Optional.empty();
         }
     }
@@ -158,6 +210,18 @@ public class TaskManagerService {
         return taskDAO.getTaskById(taskId);
     }
 
+    /**
+     * Retrieves a task by its ID, loading its associations as the plan says.
+     * The edit dialog loads the full graph, so that its ChoiceBoxes can select the assignee and project.
+     *
+     * @param taskId The ID of the task to retrieve.
+     * @param plan How the task's associations are loaded.
+     * @return An Optional containing the Task object if found, or an empty Optional.
+     */
+    public Optional<Task> getTaskById(int taskId, TaskFetchPlan plan) {
+        return taskDAO.getTaskById(taskId, plan);
+    }
+
     /**
      * Retrieves all tasks assigned to a specific user.
      *
@@ -166,21 +230,20 @@ public class TaskManagerService {
      * @return A list of Task objects assigned to the given user that are visible to the current user.
      */
     public List<Task> getTasksByAssignedUser(int assignedUserId, int currentUserId) {
-        List<Task> tasks = taskDAO.getTasksByAssignedUserId(assignedUserId);
-        return filterTasksByVisibility(tasks, currentUserId);
+        return taskDAO.getVisibleTasksByAssignedUserId(assignedUserId, currentUserId);
     }
 
     /**
      * Retrieves all tasks that are visible to a specific user.
      * This includes public tasks, tasks created by the user, tasks assigned to the user,
      * and restricted tasks if the user shares a team with the creator.
+     * The visibility rules are evaluated by the database, so invisible tasks are never loaded.
      *
      * @param currentUserId The ID of the user for whom to retrieve visible tasks.
      * @return A list of Task objects visible to the current user.
      */
     public List<Task> getAllVisibleTasks(int currentUserId) {
-        List<Task> allTasks = taskDAO.getAllTasks();
-        return filterTasksByVisibility(allTasks, currentUserId);
+        return taskDAO.getTasksVisibleToUser(currentUserId);
     }
 
     /**
@@ -191,44 +254,137 @@ public class TaskManagerService {
      * @return A list of Task objects associated with the given project that are visible to the current user.
      */
     public List<Task> getTasksByProject(int projectId, int currentUserId) {
-        List<Task> tasks = taskDAO.getTasksByProjectId(projectId);
-        return filterTasksByVisibility(tasks, currentUserId);
+        return taskDAO.getVisibleTasksByProjectId(projectId, currentUserId);
+    }
+
+    /**
+     * Retrieves the tasks visible to a user that are due between now and the given number of days from now,
+     * soonest first.
+     *
+     * @param currentUserId The ID of the user for whom to retrieve visible tasks.
+     * @param days The number of days to look ahead.
+     * @return A list of Task objects due within the period that are visible to the current user.
+     */
+    public List<Task> getTasksDueWithinDays(int currentUserId, int days) {
+        LocalDateTime now = LocalDateTime.now();
+        return taskDAO.getVisibleTasksDueBetween(currentUserId, now, now.plusDays(days));
+    }
+
+    /**
+     * Retrieves the tasks visible to a user that are past their due date and not completed, most overdue first.
+     *
+     * @param currentUserId The ID of the user for whom to retrieve visible tasks.
+     * @return A list of overdue Task objects visible to the current user.
+     */
+    public List<Task> getOverdueTasks(int currentUserId) {
+        return taskDAO.getVisibleOverdueTasks(currentUserId, LocalDateTime.now());
+    }
+
+    /**
+     * Counts the tasks assigned to a specific user by status and priority, including how many are overdue.
+     * The counts are computed by the database; no task is loaded.
+     *
+     * @param assignedUserId The ID of the user to whom tasks are assigned.
+     * @param currentUserId The ID of the currently logged-in user (for visibility checks).
+     * @return The counts of the tasks assigned to the given user that are visible to the current user.
+     */
+    public TaskCounts getTaskCountsByAssignedUser(int assignedUserId, int currentUserId) {
+        return taskDAO.countVisibleTasksByAssignedUserId(assignedUserId, currentUserId, LocalDateTime.now());
+    }
+
+    /**
+     * Counts the tasks associated with a specific project by status and priority, including how many are overdue.
+     *
+     * @param projectId The ID of the project.
+     * @param currentUserId The ID of the currently logged-in user (for visibility checks).
+     * @return The counts of the project's tasks that are visible to the current user.
+     */
+    public TaskCounts getTaskCountsByProject(int projectId, int currentUserId) {
+        return taskDAO.countVisibleTasksByProjectId(projectId, currentUserId, LocalDateTime.now());
+    }
+
+    /**
+     * Counts the tasks {@link #getOverdueTasks(int)} returns, without loading them.
+     *
+     * @param currentUserId The ID of the user for whom to count visible tasks.
+     * @return The number of overdue tasks visible to the current user.
+     */
+    public int countOverdueTasks(int currentUserId) {
+        return taskDAO.countVisibleOverdueTasks(currentUserId, LocalDateTime.now());
+    }
+
+    /**
+     * Retrieves one page of the tasks assigned to a specific user.
+     * Each task is loaded with its creator, assignee and project.
+     *
+     * @param assignedUserId The ID of the user to whom tasks are assigned.
+     * @param currentUserId The ID of the currently logged-in user (for visibility checks).
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return A page of Task objects assigned to the given user that are visible to the current user.
+     */
+    public Page<Task> getTasksByAssignedUser(int assignedUserId, int currentUserId, TaskOrder order, int pageSize, String cursor) {
+        return taskDAO.getVisibleTasksByAssignedUserId(assignedUserId, currentUserId, order, pageSize, cursor, TaskFetchPlan.FULL_GRAPH);
     }
 
     /**
-     * Filters a list of tasks based on the visibility rules for a given user.
+     * Retrieves one page of the tasks visible to a specific user.
+     * Each task is loaded with its creator, assignee and project.
+     * The same visibility rules as {@link #getAllVisibleTasks(int)} apply.
      *
-     * @param tasks The list of tasks to filter.
-     * @param currentUserId The ID of the user who is viewing the tasks.
-     * @return A new list containing only the tasks visible to the current user.
+     * @param currentUserId The ID of the user for whom to retrieve visible tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return A page of Task objects visible to the current user.
      */
-    private List<Task> filterTasksByVisibility(List<Task> tasks, int currentUserId) {
-        return tasks.stream()
-                .filter(task -> {
-                    // Task creator can always see their tasks
-                    if (task.getCreator() != null && task.getCreator().getId() == currentUserId) {
-                        return true;
-                    }
-                    // Task assigned to user can always see their tasks
-                    if (task.getAssignedTo() != null && task.getAssignedTo().getId() == currentUserId) {
-                        return true;
-                    }
-
-                    switch (task.getVisibility()) {
-                        case PUBLIC:
-                            return true; // Public tasks are visible to everyone
-                        case RESTRICTED:
-                            // Restricted tasks are visible if current user shares a team with creator
-                            // Ensure creator exists before checking team membership
-                            return task.getCreator() != null && userManagerService.areUsersInSameTeam(currentUserId, task.getCreator().getId());
-                        case PRIVATE:
-                            // Private tasks are only visible to creator (already handled above)
-                            return false;
-                        default:
-                            return false;
-                    }
-                })
-                .collect(Collectors.toList());
+    public Page<Task> getAllVisibleTasks(int currentUserId, TaskOrder order, int pageSize, String cursor) {
+        return taskDAO.getTasksVisibleToUser(currentUserId, order, pageSize, cursor, TaskFetchPlan.FULL_GRAPH);
+    }
+
+    /**
+     * Retrieves one page of the tasks associated with a specific project.
+     * Each task is loaded with its creator, assignee and project.
+     *
+     * @param projectId The ID of the project.
+     * @param currentUserId The ID of the currently logged-in user (for visibility checks).
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return A page of Task objects associated with the given project that are visible to the current user.
+     */
+    public Page<Task> getTasksByProject(int projectId, int currentUserId, TaskOrder order, int pageSize, String cursor) {
+        return taskDAO.getVisibleTasksByProjectId(projectId, currentUserId, order, pageSize, cursor, TaskFetchPlan.FULL_GRAPH);
+    }
+
+    /**
+     * Retrieves one page of summaries of the tasks assigned to a specific user, as listed by the My Tasks view.
+     *
+     * @param assignedUserId The ID of the user to whom tasks are assigned.
+     * @param currentUserId The ID of the currently logged-in user (for visibility checks).
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return A page of TaskSummary objects of the tasks assigned to the given user that are visible to the current user.
+     */
+    public Page<TaskSummary> getTaskSummariesByAssignedUser(int assignedUserId, int currentUserId, TaskOrder order,
+                                                            int pageSize, String cursor) {
+        return taskDAO.getVisibleTaskSummariesByAssignedUserId(assignedUserId, currentUserId, order, pageSize, cursor);
+    }
+
+    /**
+     * Retrieves one page of summaries of the tasks visible to a specific user, as listed by the All Tasks view.
+     * The same visibility rules as {@link #getAllVisibleTasks(int)} apply.
+     *
+     * @param currentUserId The ID of the user for whom to retrieve visible tasks.
+     * @param order The sort order of the pages.
+     * @param pageSize The maximum number of tasks on the page.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @return A page of TaskSummary objects of the tasks visible to the current user.
+     */
+    public Page<TaskSummary> getAllVisibleTaskSummaries(int currentUserId, TaskOrder order, int pageSize, String cursor) {
+        return taskDAO.getTaskSummariesVisibleToUser(currentUserId, order, pageSize, cursor);
     }
 
     /**
@@ -258,7 +414,7 @@ public class TaskManagerService {
         Task taskToUpdate = existingTaskOptional.get();
 
         // Permission check: Only creator can update
-        if (taskToUpdate.getCreator().getId() != currentUserId) {
+        if (taskToUpdate.getCreatorId() != currentUserId) {
             System.err.println("Task update failed: User " + currentUserId + " is not the creator of task " + taskId + ".");
             return false;
         }
@@ -306,21 +462,30 @@ public class TaskManagerService {
         }
         taskToUpdate.setProject(newProject);
 
-        boolean success = taskDAO.updateTask(taskToUpdate);
-        if (success) {
+        User assignee = newAssignedTo;
+        try {
+            // The update and its assignment notification are committed together
+            DatabaseManager.inTransaction(() -> {
+                if (!taskDAO.updateTask(taskToUpdate)) {
+                    throw new SQLException("Database operation failed.");
+                }
+                publish(new TaskUpdated(taskToUpdate));
+                // Send notification if assigned to a different user
+                if (assignee != null && (oldAssignedTo == null || !oldAssignedTo.equals(assignee))) {
+                    publish(new TaskAssigned(taskToUpdate, assignee, oldAssignedTo));
+                    String message = String.format("You have been assigned to task: '%s' by %s.",
+                            taskToUpdate.getTitle(), userDAO.getUserById(currentUserId).get().getUsername());
+                    sendNotification(new Notification(assignee, message, LocalDateTime.now(), taskToUpdate.getId(), Notification.NotificationType.TASK_ASSIGNMENT));
+                }
+                // TODO: Add notifications for status changes, due date reminders etc.
+                return null;
+            });
             System.out.println("Task ID " + taskId + " updated successfully.");
-
-            // Send notification if assigned to a different user
-            if (newAssignedTo != null && (oldAssignedTo == null || !oldAssignedTo.equals(newAssignedTo))) {
-                String message = String.format("You have been assigned to task: '%s' by %s.",
-                        taskToUpdate.getTitle(), userDAO.getUserById(currentUserId).get().getUsername());
-                notificationDAO.createNotification(new Notification(newAssignedTo, message, LocalDateTime.now(), taskToUpdate.getId(), Notification.NotificationType.TASK_ASSIGNMENT));
-            }
-            // TODO: Add notifications for status changes, due date reminders etc.
-        } else {
-            System.err.println("Task update failed: Database operation failed.");
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Task update failed: " + e.getMessage());
+            return false;
         }
-        return success;
     }
 
     /**
@@ -341,17 +506,47 @@ public class TaskManagerService {
         Task taskToDelete = taskOptional.get();
 
         // Permission check: Only the creator can delete the task
-        if (taskToDelete.getCreator().getId() != currentUserId) {
+        if (taskToDelete.getCreatorId() != currentUserId) {
             System.err.println("Task deletion failed: User " + currentUserId + " is not the creator of task " + taskId + ".");
             return false;
         }
 
         boolean success = taskDAO.deleteTask(taskId);
         if (success) {
+            publish(new TaskDeleted(taskId));
             System.out.println("Task ID " + taskId + " deleted successfully.");
         } else {
             System.err.println("Task deletion failed: Database operation failed.");
         }
         return success;
     }
+
+    /**
+     * Sends a notification from inside a unit of work. With a dispatcher, the notification is queued
+     * once the unit of work commits; otherwise it is inserted in the unit of work, failing it if the insert fails.
+     *
+     * @param notification The notification to send.
+     * @throws SQLException If the notification could not be inserted.
+     */
+    private void sendNotification(Notification notification) throws SQLException {
+        if (notificationDispatcher != null) {
+            DatabaseManager.afterCommit(() -> notificationDispatcher.submit(notification));
+        } else if (notificationDAO.createNotification(notification) != null) {
+            publish(new NotificationCreated(notification));
+        } else {
+            throw new SQLException("Failed to create notification.");
+        }
+    }
+
+    /**
+     * Publishes an event if an event bus is configured. Inside a unit of work the event is
+     * delivered once it commits.
+     *
+     * @param event The event to publish.
+     */
+    private void publish(DomainEvent event) {
+        if (eventBus != null) {
+            eventBus.publish(event);
+        }
+    }
 }
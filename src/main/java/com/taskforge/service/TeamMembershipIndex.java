@@ -0,0 +1,152 @@
+package com.taskforge.service;
+
+import com.taskforge.model.UserTeamMembership;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory index of accepted team memberships, mapping each user ID to a bitset of team IDs.
+ * A user's memberships are loaded from the database on first use and afterwards kept current by
+ * {@link UserManagerService} whenever it creates, updates or deletes a membership, and invalidated
+ * when the change log shows that someone else changed them.
+ *
+ * <p>
+ * Lookups ({@link #isMember(int, int)} and {@link #shareTeam(int, int)}) do not allocate once a
+ * user is loaded. Bitsets are never modified after they are published; updates replace them with
+ * a modified copy, so readers on background threads need no locking.
+ * </p>
+ */
+public class TeamMembershipIndex {
+
+    private static final BitSet NO_TEAMS = new BitSet(0);
+
+    private final IntFunction<List<UserTeamMembership>> membershipLoader;
+    private final Map<Integer, BitSet> acceptedTeamsByUser = new ConcurrentHashMap<>();
+    /**
+     * Incremented on every update, before the map is changed; a load that overlaps an update is used
+     * once but not kept. Loads compare it inside {@link ConcurrentHashMap#compute}, which holds the
+     * same lock as the update of that user's entry, so an update cannot slip between check and publish.
+     */
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * Constructs a TeamMembershipIndex.
+     *
+     * @param membershipLoader Loads all memberships of a user, e.g. {@code UserTeamDAO::getMembershipsByUserId}.
+     */
+    public TeamMembershipIndex(IntFunction<List<UserTeamMembership>> membershipLoader) {
+        this.membershipLoader = membershipLoader;
+    }
+
+    /**
+     * Checks whether a user is an accepted member of a team.
+     *
+     * @param userId The ID of the user.
+     * @param teamId The ID of the team.
+     * @return true if the user's membership in the team is ACCEPTED.
+     */
+    public boolean isMember(int userId, int teamId) {
+        return teamId >= 0 && teamsOf(userId).get(teamId);
+    }
+
+    /**
+     * Checks whether two users are accepted members of at least one common team.
+     *
+     * @param userId1 The ID of the first user.
+     * @param userId2 The ID of the second user.
+     * @return true if the users share a team.
+     */
+    public boolean shareTeam(int userId1, int userId2) {
+        return teamsOf(userId1).intersects(teamsOf(userId2));
+    }
+
+    /**
+     * Records that a user's membership in a team changed.
+     *
+     * @param userId The ID of the user.
+     * @param teamId The ID of the team.
+     * @param accepted true if the user is now an accepted member, false if the membership
+     *                 was removed or is not (or no longer) accepted.
+     */
+    public void setMember(int userId, int teamId, boolean accepted) {
+        modifications.incrementAndGet();
+        acceptedTeamsByUser.computeIfPresent(userId, (id, teams) -> {
+            if (teams.get(teamId) == accepted) {
+                return teams;
+            }
+            BitSet updated = (BitSet) teams.clone();
+            updated.set(teamId, accepted);
+            return updated;
+        });
+    }
+
+    /**
+     * Forgets a deleted user.
+     *
+     * @param userId The ID of the deleted user.
+     */
+    public void removeUser(int userId) {
+        modifications.incrementAndGet();
+        acceptedTeamsByUser.remove(userId);
+    }
+
+    /**
+     * Forgets a user's memberships so that they are loaded again on next use,
+     * for example after another process changed them.
+     *
+     * @param userId The ID of the user.
+     */
+    public void invalidate(int userId) {
+        modifications.incrementAndGet();
+        acceptedTeamsByUser.remove(userId);
+    }
+
+    /**
+     * Forgets every user's memberships so that they are loaded again on next use.
+     */
+    public void invalidateAll() {
+        modifications.incrementAndGet();
+        acceptedTeamsByUser.clear();
+    }
+
+    /**
+     * Removes a deleted team from every user's memberships.
+     *
+     * @param teamId The ID of the deleted team.
+     */
+    public void removeTeam(int teamId) {
+        modifications.incrementAndGet();
+        for (Integer userId : acceptedTeamsByUser.keySet()) {
+            setMember(userId, teamId, false);
+        }
+    }
+
+    private BitSet teamsOf(int userId) {
+        BitSet teams = acceptedTeamsByUser.get(userId);
+        if (teams != null) {
+            return teams;
+        }
+
+        long modificationsBeforeLoad = modifications.get();
+        BitSet loaded = new BitSet();
+        for (UserTeamMembership membership : membershipLoader.apply(userId)) {
+            if (membership.getInvitationStatus() == UserTeamMembership.InvitationStatus.ACCEPTED
+                    && membership.getTeam() != null) {
+                loaded.set(membership.getTeam().getId());
+            }
+        }
+        BitSet result = loaded.isEmpty() ? NO_TEAMS : loaded;
+        BitSet published = acceptedTeamsByUser.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current; // Loaded by another thread in the meantime
+            }
+            return modifications.get() == modificationsBeforeLoad ? result : null;
+        });
+        return published != null ? published : result;
+    }
+}
@@ -4,11 +4,19 @@ import com.taskforge.dao.TeamDAO;
 import com.taskforge.dao.UserDAO;
 import com.taskforge.dao.UserTeamDAO;
 import com.taskforge.dao.NotificationDAO;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.DomainEvent;
+import com.taskforge.event.EventBus;
+import com.taskforge.event.MembershipChanged;
+import com.taskforge.event.NotificationCreated;
+import com.taskforge.model.ChangeLogEntry;
 import com.taskforge.model.Team;
 import com.taskforge.model.User;
 import com.taskforge.model.Notification;
 import com.taskforge.model.UserTeamMembership;
+import com.taskforge.util.DatabaseManager;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +34,9 @@ public class UserManagerService {
     private final TeamDAO teamDAO;
     private final UserTeamDAO userTeamDAO;
     private final NotificationDAO notificationDAO; // Added for sending notifications
+    private final TeamMembershipIndex membershipIndex; // Accepted memberships, kept current by the methods below
+    private final NotificationDispatcher notificationDispatcher; // Writes notifications behind the action, if set
+    private final EventBus eventBus; // Receives an event for every membership change, if set
 
     /**
      * Constructs a UserManagerService with necessary DAO dependencies.
@@ -36,10 +47,63 @@ public class UserManagerService {
      * @param userTeamDAO The Data Access Object for UserTeamMembership entities.
      */
     public UserManagerService(UserDAO userDAO, TeamDAO teamDAO, UserTeamDAO userTeamDAO) {
+        this(userDAO, teamDAO, userTeamDAO, new NotificationDAO(userDAO));
+    }
+
+    /**
+     * Constructs a UserManagerService that sends notifications through a shared NotificationDAO.
+     *
+     * @param userDAO The Data Access Object for User entities.
+     * @param teamDAO The Data Access Object for Team entities.
+     * @param userTeamDAO The Data Access Object for UserTeamMembership entities.
+     * @param notificationDAO The Data Access Object for Notification entities.
+     */
+    public UserManagerService(UserDAO userDAO, TeamDAO teamDAO, UserTeamDAO userTeamDAO, NotificationDAO notificationDAO) {
+        this(userDAO, teamDAO, userTeamDAO, notificationDAO, null, null);
+    }
+
+    /**
+     * Constructs a UserManagerService that hands invitation notifications to a write-behind dispatcher
+     * and publishes membership events. Notifications are queued once the invitation has committed,
+     * instead of being inserted in the same transaction.
+     *
+     * @param userDAO The Data Access Object for User entities.
+     * @param teamDAO The Data Access Object for Team entities.
+     * @param userTeamDAO The Data Access Object for UserTeamMembership entities.
+     * @param notificationDAO The Data Access Object for Notification entities.
+     * @param notificationDispatcher The dispatcher that writes notifications, or null to insert them directly.
+     * @param eventBus The bus that receives {@link MembershipChanged} and {@link NotificationCreated} events, or null.
+     */
+    public UserManagerService(UserDAO userDAO, TeamDAO teamDAO, UserTeamDAO userTeamDAO, NotificationDAO notificationDAO,
+                              NotificationDispatcher notificationDispatcher, EventBus eventBus) {
         this.userDAO = userDAO;
         this.teamDAO = teamDAO;
         this.userTeamDAO = userTeamDAO;
-        this.notificationDAO = new NotificationDAO(userDAO); // Initialize NotificationDAO here
+        this.notificationDAO = notificationDAO;
+        this.membershipIndex = new TeamMembershipIndex(userTeamDAO::getMembershipsByUserId);
+        this.notificationDispatcher = notificationDispatcher;
+        this.eventBus = eventBus;
+        if (eventBus != null) {
+            eventBus.subscribe(this, DatabaseChanged.class, this::invalidateChangedMemberships);
+        }
+    }
+
+    /**
+     * Drops the indexed memberships of users whose memberships were changed in the database,
+     * so that changes made by other instances sharing the database file are picked up.
+     *
+     * @param event The detected database change.
+     */
+    private void invalidateChangedMemberships(DatabaseChanged event) {
+        if (!event.complete()) {
+            membershipIndex.invalidateAll();
+            return;
+        }
+        for (ChangeLogEntry change : event.changes()) {
+            if (change.entity().equals(ChangeLogEntry.MEMBERSHIPS)) {
+                membershipIndex.invalidate(change.entityId());
+            }
+        }
     }
 
     /**
@@ -117,6 +181,7 @@ public class UserManagerService {
     public boolean deleteUser(int userId) {
         boolean success = userDAO.deleteUser(userId);
         if (success) {
+            membershipIndex.removeUser(userId); // Memberships are removed by ON DELETE CASCADE
             System.out.println("User ID " + userId + " deleted successfully.");
         } else {
             System.err.println("User deletion failed: User with ID " + userId + " not found or database error.");
@@ -166,27 +231,31 @@ public class UserManagerService {
             return Optional.empty();
         }
 
-        Team newTeam = new Team(teamName);
-        Team createdTeam = teamDAO.createTeam(newTeam);
-
-        if (createdTeam != null) {
-            // Assign the creator as an OWNER of the team
-            UserTeamMembership ownerMembership = new UserTeamMembership(
-                    creatorOptional.get(),
-                    createdTeam,
-                    UserTeamMembership.Role.OWNER,
-                    UserTeamMembership.InvitationStatus.ACCEPTED
-            );
-            if (userTeamDAO.createMembership(ownerMembership)) {
-                System.out.println("Team created successfully: " + createdTeam.getName() + " and owner assigned.");
-                return Optional.of(createdTeam);
-            } else {
-                System.err.println("Error creating user-team membership: Failed to assign owner. Deleting team.");
-                teamDAO.deleteTeam(createdTeam.getId()); // Rollback team creation
-                return Optional.empty();
-            }
-        } else {
-            System.err.println("Team creation failed: Database operation failed.");
+        try {
+            // The team and its owner membership are committed together, or not at all
+            Team createdTeam = DatabaseManager.inTransaction(() -> {
+                Team team = teamDAO.createTeam(new Team(teamName));
+                if (team == null) {
+                    throw new SQLException("Database operation failed.");
+                }
+                // Assign the creator as an OWNER of the team
+                UserTeamMembership ownerMembership = new UserTeamMembership(
+                        creatorOptional.get(),
+                        team,
+                        UserTeamMembership.Role.OWNER,
+                        UserTeamMembership.InvitationStatus.ACCEPTED
+                );
+                if (!userTeamDAO.createMembership(ownerMembership)) {
+                    throw new SQLException("Failed to assign owner.");
+                }
+                publish(new MembershipChanged(creatorUserId, team.getId(), MembershipChanged.Change.JOINED));
+                return team;
+            });
+            membershipIndex.setMember(creatorUserId, createdTeam.getId(), true);
+            System.out.println("Team created successfully: " + createdTeam.getName() + " and owner assigned.");
+            return Optional.of(createdTeam);
+        } catch (SQLException e) {
+            System.err.println("Team creation failed: " + e.getMessage());
             return Optional.empty();
         }
     }
@@ -235,6 +304,7 @@ public class UserManagerService {
         // and handle them before deleting the team, or rely on CASCADE DELETE in DB schema.
         boolean success = teamDAO.deleteTeam(teamId);
         if (success) {
+            membershipIndex.removeTeam(teamId); // Memberships are removed by ON DELETE CASCADE
             System.out.println("Team ID " + teamId + " deleted successfully.");
         } else {
             System.err.println("Team deletion failed: Team with ID " + teamId + " not found or database error.");
@@ -296,11 +366,7 @@ public class UserManagerService {
      * @return true if they share at least one common team, false otherwise.
      */
     public boolean areUsersInSameTeam(int userId1, int userId2) {
-        List<Team> teams1 = getTeamsForUser(userId1);
-        List<Team> teams2 = getTeamsForUser(userId2);
-
-        // Check for any common team
-        return teams1.stream().anyMatch(teams2::contains);
+        return membershipIndex.shareTeam(userId1, userId2);
     }
 
     /**
@@ -311,9 +377,7 @@ public class UserManagerService {
      * @return true if the user is an active member of the team, false otherwise.
      */
     public boolean isUserMemberOfTeam(int userId, int teamId) {
-        return userTeamDAO.getMembership(userId, teamId)
-                .filter(membership -> membership.getInvitationStatus() == UserTeamMembership.InvitationStatus.ACCEPTED)
-                .isPresent();
+        return membershipIndex.isMember(userId, teamId);
     }
 
     /**
@@ -360,25 +424,38 @@ public class UserManagerService {
                 UserTeamMembership.InvitationStatus.PENDING
         );
 
-        boolean success = userTeamDAO.createMembership(newMembership);
-
-        if (success) {
-            // Send a notification to the invited user
-            String message = String.format("You have been invited to join the team '%s' as a %s.",
-                    teamOptional.get().getName(), role.name().toLowerCase());
-            Notification notification = new Notification(
-                    userOptional.get(),
-                    message,
-                    LocalDateTime.now(),
-                    teamId, // relatedEntityId is the team ID
-                    Notification.NotificationType.TEAM_INVITATION
-            );
-            notificationDAO.createNotification(notification);
+        try {
+            // The invitation and its notification are committed together
+            DatabaseManager.inTransaction(() -> {
+                if (!userTeamDAO.createMembership(newMembership)) {
+                    throw new SQLException("Database error during membership creation.");
+                }
+                publish(new MembershipChanged(userId, teamId, MembershipChanged.Change.INVITED));
+                // Send a notification to the invited user
+                String message = String.format("You have been invited to join the team '%s' as a %s.",
+                        teamOptional.get().getName(), role.name().toLowerCase());
+                Notification notification = new Notification(
+                        userOptional.get(),
+                        message,
+                        LocalDateTime.now(),
+                        teamId, // relatedEntityId is the team ID
+                        Notification.NotificationType.TEAM_INVITATION
+                );
+                if (notificationDispatcher != null) {
+                    DatabaseManager.afterCommit(() -> notificationDispatcher.submit(notification));
+                } else if (notificationDAO.createNotification(notification) != null) {
+                    publish(new NotificationCreated(notification));
+                } else {
+                    throw new SQLException("Database error during notification creation.");
+                }
+                return null;
+            });
             System.out.println("User " + userOptional.get().getUsername() + " invited to team " + teamOptional.get().getName() + ".");
-        } else {
-            System.err.println("Invitation failed: Database error during membership creation.");
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Invitation failed: " + e.getMessage());
+            return false;
         }
-        return success;
     }
 
     /**
@@ -406,6 +483,8 @@ public class UserManagerService {
         boolean success = userTeamDAO.updateMembership(membership);
 
         if (success) {
+            membershipIndex.setMember(userId, teamId, true);
+            publish(new MembershipChanged(userId, teamId, MembershipChanged.Change.JOINED));
             System.out.println("User " + userId + " successfully accepted invitation to team " + teamId + ".");
         } else {
             System.err.println("Accept invitation failed: Database error during membership update.");
@@ -438,6 +517,7 @@ public class UserManagerService {
         boolean success = userTeamDAO.deleteMembership(userId, teamId);
 
         if (success) {
+            publish(new MembershipChanged(userId, teamId, MembershipChanged.Change.REJECTED));
             System.out.println("User " + userId + " successfully rejected invitation to team " + teamId + ".");
         } else {
             System.err.println("Reject invitation failed: Database error during membership deletion.");
@@ -465,6 +545,8 @@ public class UserManagerService {
 
         boolean success = userTeamDAO.deleteMembership(userId, teamId);
         if (success) {
+            membershipIndex.setMember(userId, teamId, false);
+            publish(new MembershipChanged(userId, teamId, MembershipChanged.Change.REMOVED));
             System.out.println("User " + userId + " removed from team " + teamId + " successfully.");
         } else {
             System.err.println("Removal failed: Database error during membership deletion.");
@@ -492,6 +574,7 @@ public class UserManagerService {
 
         boolean success = userTeamDAO.updateMembership(membershipToUpdate);
         if (success) {
+            publish(new MembershipChanged(userId, teamId, MembershipChanged.Change.ROLE_CHANGED));
             System.out.println("User " + userId + "'s role in team " + teamId + " updated to " + newRole + ".");
         } else {
             System.err.println("Role update failed: Database error during membership update.");
@@ -522,4 +605,16 @@ public class UserManagerService {
                 .map(UserTeamMembership::getUser)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Publishes an event if an event bus is configured. Inside a unit of work the event is
+     * delivered once it commits.
+     *
+     * @param event The event to publish.
+     */
+    private void publish(DomainEvent event) {
+        if (eventBus != null) {
+            eventBus.publish(event);
+        }
+    }
 }
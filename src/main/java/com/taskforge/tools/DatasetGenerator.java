@@ -0,0 +1,402 @@
+package com.taskforge.tools;
+
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Visibility;
+import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.SecurityUtil;
+import com.taskforge.util.Timestamps;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-populates a TaskForge database with a synthetic but realistic dataset:
+ * Users, Teams, UserTeamMemberships, Projects, Tasks, Comments, Attachments and Notifications.
+ * The shape of the data is controlled by {@link DatasetOptions}; the same options and seed
+ * produce the same rows, with timestamps spread over the months before the time of the run.
+ *
+ * <p>
+ * Rows are written through the schema managed by {@link DatabaseManager} with batched prepared
+ * statements inside a single transaction, so a failed run leaves the database unchanged.
+ * Generated rows are appended after the highest existing ID of each table, so an existing
+ * database can be grown. Every generated user can log in with {@link #PASSWORD}.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code java -cp <classpath> com.taskforge.tools.DatasetGenerator --db=big.db --users=10000
+ * --meanTasksPerUser=30 --unreadRatio=0.5}. Every setter of {@link DatasetOptions} is available as an option.
+ * </p>
+ */
+public class DatasetGenerator {
+
+    /** Password of every generated user. */
+    public static final String PASSWORD = "password123";
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final Notification.NotificationType[] NOTIFICATION_TYPES = {
+            Notification.NotificationType.GENERAL, Notification.NotificationType.TASK_REMINDER};
+
+    private final DatasetOptions options;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    /**
+     * Constructs a DatasetGenerator.
+     *
+     * @param options The shape of the dataset to generate.
+     * @throws IllegalArgumentException if the options are invalid.
+     */
+    public DatasetGenerator(DatasetOptions options) {
+        options.validate();
+        this.options = options;
+        this.random = new SplittableRandom(options.getSeed());
+    }
+
+    /**
+     * Command-line entry point. Points {@link DatabaseManager} at {@code --db} (default {@code taskforge.db}),
+     * applies pending migrations and generates the dataset.
+     *
+     * @param args {@code --name=value} options, see {@link DatasetOptions#fromArgs(Map)}.
+     * @throws SQLException If generation fails.
+     */
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> parsed = ToolArgs.parse(args);
+        if (parsed.containsKey("db")) {
+            System.setProperty("taskforge.db.path", parsed.get("db"));
+        }
+        // A large run holds the writer for a long time on purpose
+        if (System.getProperty("taskforge.db.pool.leakThresholdMs") == null) {
+            System.setProperty("taskforge.db.pool.leakThresholdMs", "0");
+        }
+        try {
+            DatabaseManager.initializeDatabase();
+            DatasetSummary summary = new DatasetGenerator(DatasetOptions.fromArgs(parsed)).generate();
+            System.out.println("Generated dataset: " + summary);
+        } finally {
+            DatabaseManager.shutdown();
+        }
+    }
+
+    /**
+     * Generates the dataset into the database configured for {@link DatabaseManager}.
+     * The schema must already exist.
+     *
+     * @return The number of rows inserted into each table.
+     * @throws SQLException If an insert fails; the transaction is rolled back.
+     */
+    public DatasetSummary generate() throws SQLException {
+        long start = System.currentTimeMillis();
+        String passwordHash = SecurityUtil.hashPassword(PASSWORD);
+
+        try (Connection conn = DatabaseManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                int firstUserId = maxId(conn, "Users") + 1;
+                int firstTeamId = maxId(conn, "Teams") + 1;
+                int firstProjectId = maxId(conn, "Projects") + 1;
+                int firstTaskId = maxId(conn, "Tasks") + 1;
+
+                int users = insertUsers(conn, firstUserId, passwordHash);
+                Memberships memberships = insertTeams(conn, firstUserId, firstTeamId);
+                int projects = insertProjects(conn, firstTeamId, memberships.teamCount, firstProjectId);
+                int[] taskCounts = insertTasks(conn, firstUserId, memberships, firstProjectId, firstTaskId);
+                int notifications = insertNotifications(conn, firstUserId, memberships);
+
+                conn.commit();
+                return new DatasetSummary(users, memberships.teamCount, memberships.rowCount, projects,
+                        taskCounts[0], taskCounts[1], taskCounts[2], notifications,
+                        System.currentTimeMillis() - start);
+            } catch (SQLException e) {
+                conn.rollback();
+                System.err.println("Error generating dataset: " + e.getMessage());
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    private int insertUsers(Connection conn, int firstUserId, String passwordHash) throws SQLException {
+        try (Batch batch = new Batch(conn, "INSERT INTO Users(id, username, email, password_hash) VALUES(?, ?, ?, ?)")) {
+            for (int i = 0; i < options.getUsers(); i++) {
+                int id = firstUserId + i;
+                batch.statement.setInt(1, id);
+                batch.statement.setString(2, "user" + id);
+                batch.statement.setString(3, "user" + id + "@example.com");
+                batch.statement.setString(4, passwordHash);
+                batch.add();
+            }
+            return batch.rows;
+        }
+    }
+
+    /**
+     * Creates teams of geometrically distributed size until every user has, on average,
+     * {@link DatasetOptions#getTeamsPerUser()} memberships. The first member of each team is its owner.
+     */
+    private Memberships insertTeams(Connection conn, int firstUserId, int firstTeamId) throws SQLException {
+        int userCount = options.getUsers();
+        Memberships memberships = new Memberships(userCount);
+        memberships.firstTeamId = firstTeamId;
+        long remainingSlots = (long) userCount * options.getTeamsPerUser();
+        int maxTeamSize = Math.min(options.getMaxTeamSize(), userCount);
+
+        try (Batch teams = new Batch(conn, "INSERT INTO Teams(id, name) VALUES(?, ?)");
+             Batch members = new Batch(conn, "INSERT INTO UserTeamMemberships(user_id, team_id, role, invitation_status) VALUES(?, ?, ?, ?)", teams)) {
+            while (remainingSlots > 0) {
+                int team = memberships.teamCount++;
+                int teamId = firstTeamId + team;
+                teams.statement.setInt(1, teamId);
+                teams.statement.setString(2, "Team " + teamId);
+                teams.add();
+
+                int size = Math.min(maxTeamSize, 2 + geometric(options.getMeanTeamSize() - 2));
+                List<Integer> accepted = new ArrayList<>(size);
+                Set<Integer> chosen = new HashSet<>();
+                while (chosen.size() < size) {
+                    int user = random.nextInt(userCount);
+                    if (!chosen.add(user)) {
+                        continue;
+                    }
+                    boolean owner = chosen.size() == 1;
+                    boolean pending = !owner && random.nextDouble() < options.getPendingInvitationRatio();
+                    members.statement.setInt(1, firstUserId + user);
+                    members.statement.setInt(2, teamId);
+                    members.statement.setString(3, owner ? "OWNER" : "MEMBER");
+                    members.statement.setString(4, pending ? "PENDING" : "ACCEPTED");
+                    members.add();
+                    if (pending) {
+                        memberships.pendingTeamsByUser.get(user).add(team);
+                    } else {
+                        memberships.teamsByUser.get(user).add(team);
+                        accepted.add(user);
+                    }
+                }
+                memberships.membersByTeam.add(accepted);
+                remainingSlots -= size;
+            }
+            memberships.rowCount = members.rows;
+        }
+        return memberships;
+    }
+
+    private int insertProjects(Connection conn, int firstTeamId, int teamCount, int firstProjectId) throws SQLException {
+        try (Batch batch = new Batch(conn, "INSERT INTO Projects(id, name, team_id) VALUES(?, ?, ?)")) {
+            for (int team = 0; team < teamCount; team++) {
+                for (int p = 0; p < options.getProjectsPerTeam(); p++) {
+                    int id = firstProjectId + team * options.getProjectsPerTeam() + p;
+                    batch.statement.setInt(1, id);
+                    batch.statement.setString(2, "Project " + id);
+                    batch.statement.setInt(3, firstTeamId + team);
+                    batch.add();
+                }
+            }
+            return batch.rows;
+        }
+    }
+
+    /**
+     * Inserts each user's tasks, placed in a project of one of the creator's teams and assigned to the
+     * creator or a teammate, together with their comments and attachments.
+     *
+     * @return The number of tasks, comments and attachments inserted.
+     */
+    private int[] insertTasks(Connection conn, int firstUserId, Memberships memberships,
+                              int firstProjectId, int firstTaskId) throws SQLException {
+        int taskId = firstTaskId;
+        try (Batch tasks = new Batch(conn, "INSERT INTO Tasks(id, title, description, due_date, priority, status, assigned_to_user_id, project_id, visibility, creator_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch comments = new Batch(conn, "INSERT INTO Comments(task_id, author_id, comment_text, created_at) VALUES(?, ?, ?, ?)", tasks);
+             Batch attachments = new Batch(conn, "INSERT INTO Attachments(task_id, file_name, file_path, uploaded_at) VALUES(?, ?, ?, ?)", tasks)) {
+            for (int creator = 0; creator < options.getUsers(); creator++) {
+                List<Integer> creatorTeams = memberships.teamsByUser.get(creator);
+                int taskCount = geometric(options.getMeanTasksPerUser());
+                for (int i = 0; i < taskCount; i++, taskId++) {
+                    int team = creatorTeams.isEmpty() ? -1 : creatorTeams.get(random.nextInt(creatorTeams.size()));
+                    int assignee = creator;
+                    if (team >= 0 && random.nextDouble() < options.getAssignToTeammateRatio()) {
+                        List<Integer> teammates = memberships.membersByTeam.get(team);
+                        assignee = teammates.get(random.nextInt(teammates.size()));
+                    }
+                    LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 180));
+
+                    tasks.statement.setInt(1, taskId);
+                    tasks.statement.setString(2, "Task " + taskId);
+                    tasks.statement.setString(3, "Synthetic task " + taskId + " created by user" + (firstUserId + creator));
+                    tasks.statement.setLong(4, Timestamps.toEpochMillis(createdAt.plusDays(random.nextInt(60))));
+                    tasks.statement.setInt(5, PRIORITIES[random.nextInt(PRIORITIES.length)].getCode());
+                    tasks.statement.setInt(6, STATUSES[random.nextInt(STATUSES.length)].getCode());
+                    tasks.statement.setInt(7, firstUserId + assignee);
+                    if (team >= 0 && options.getProjectsPerTeam() > 0) {
+                        tasks.statement.setInt(8, firstProjectId + team * options.getProjectsPerTeam()
+                                + random.nextInt(options.getProjectsPerTeam()));
+                    } else {
+                        tasks.statement.setNull(8, Types.INTEGER);
+                    }
+                    tasks.statement.setInt(9, randomVisibility().getCode());
+                    tasks.statement.setInt(10, firstUserId + creator);
+                    tasks.add();
+
+                    int commentCount = geometric(options.getMeanCommentsPerTask());
+                    for (int c = 0; c < commentCount; c++) {
+                        comments.statement.setInt(1, taskId);
+                        comments.statement.setInt(2, firstUserId + (random.nextBoolean() ? creator : assignee));
+                        comments.statement.setString(3, "Comment " + (c + 1) + " on task " + taskId);
+                        comments.statement.setLong(4, Timestamps.toEpochMillis(createdAt.plusMinutes(30L * (c + 1))));
+                        comments.add();
+                    }
+                    if (random.nextDouble() < options.getAttachmentRatio()) {
+                        attachments.statement.setInt(1, taskId);
+                        attachments.statement.setString(2, "attachment-" + taskId + ".pdf");
+                        attachments.statement.setString(3, "attachments/" + taskId + "/attachment-" + taskId + ".pdf");
+                        attachments.statement.setLong(4, Timestamps.toEpochMillis(createdAt.plusHours(1)));
+                        attachments.add();
+                    }
+                }
+            }
+            return new int[]{tasks.rows, comments.rows, attachments.rows};
+        }
+    }
+
+    /**
+     * Inserts general notifications for every user plus an unread TEAM_INVITATION notification
+     * for every pending membership.
+     */
+    private int insertNotifications(Connection conn, int firstUserId, Memberships memberships) throws SQLException {
+        try (Batch batch = new Batch(conn, "INSERT INTO Notifications(user_id, message, sent_at, is_read, related_entity_id, notification_type) VALUES(?, ?, ?, ?, ?, ?)")) {
+            for (int user = 0; user < options.getUsers(); user++) {
+                int count = geometric(options.getMeanNotificationsPerUser());
+                for (int n = 0; n < count; n++) {
+                    batch.statement.setInt(1, firstUserId + user);
+                    batch.statement.setString(2, "Synthetic notification " + (n + 1));
+                    batch.statement.setLong(3, Timestamps.toEpochMillis(now.minusMinutes(random.nextInt(60 * 24 * 90))));
+                    batch.statement.setBoolean(4, random.nextDouble() >= options.getUnreadRatio());
+                    batch.statement.setInt(5, 0);
+                    batch.statement.setInt(6, NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)].getCode());
+                    batch.add();
+                }
+                for (int team : memberships.pendingTeamsByUser.get(user)) {
+                    batch.statement.setInt(1, firstUserId + user);
+                    batch.statement.setString(2, "You have been invited to join the team 'Team " + (memberships.firstTeamId + team) + "' as a member.");
+                    batch.statement.setLong(3, Timestamps.toEpochMillis(now.minusMinutes(random.nextInt(60 * 24 * 7))));
+                    batch.statement.setBoolean(4, false);
+                    batch.statement.setInt(5, memberships.firstTeamId + team);
+                    batch.statement.setInt(6, Notification.NotificationType.TEAM_INVITATION.getCode());
+                    batch.add();
+                }
+            }
+            return batch.rows;
+        }
+    }
+
+    private Visibility randomVisibility() {
+        double r = random.nextDouble();
+        if (r < options.getPublicRatio()) {
+            return Visibility.PUBLIC;
+        }
+        return r < options.getPublicRatio() + options.getRestrictedRatio() ? Visibility.RESTRICTED : Visibility.PRIVATE;
+    }
+
+    /**
+     * Draws from a geometric distribution over 0, 1, 2, ... with the given mean.
+     *
+     * @param mean The mean of the distribution.
+     * @return The sample.
+     */
+    private int geometric(int mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1.0 / (mean + 1);
+        return (int) Math.min(Integer.MAX_VALUE / 2, Math.floor(Math.log(1 - random.nextDouble()) / Math.log(1 - p)));
+    }
+
+    private static int maxId(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Generated team structure, indexed by zero-based user and team offsets.
+     */
+    private static final class Memberships {
+        private final List<List<Integer>> teamsByUser;
+        private final List<List<Integer>> pendingTeamsByUser;
+        private final List<List<Integer>> membersByTeam = new ArrayList<>();
+        private int teamCount;
+        private int rowCount;
+        private int firstTeamId;
+
+        private Memberships(int userCount) {
+            teamsByUser = new ArrayList<>(userCount);
+            pendingTeamsByUser = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                teamsByUser.add(new ArrayList<>(2));
+                pendingTeamsByUser.add(new ArrayList<>(0));
+            }
+        }
+    }
+
+    /**
+     * A prepared statement that executes its batch every {@link DatasetOptions#getBatchSize()} rows
+     * and once more when closed. Foreign keys are checked per statement, so a batch whose rows
+     * reference another batch's rows flushes that parent batch first.
+     */
+    private final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private final Batch parent;
+        private int pending;
+        private int rows;
+
+        private Batch(Connection conn, String sql) throws SQLException {
+            this(conn, sql, null);
+        }
+
+        private Batch(Connection conn, String sql, Batch parent) throws SQLException {
+            this.statement = conn.prepareStatement(sql);
+            this.parent = parent;
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            rows++;
+            if (++pending >= options.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
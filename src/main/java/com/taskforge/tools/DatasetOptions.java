@@ -0,0 +1,372 @@
+package com.taskforge.tools;
+
+import java.util.Map;
+
+/**
+ * Shape of a synthetic dataset produced by {@link DatasetGenerator}.
+ * Counts marked "mean" are drawn per entity from a geometric distribution with that mean,
+ * which gives the long tail of very large teams and very busy users seen in real databases.
+ * Setters return this instance so options can be chained.
+ */
+public class DatasetOptions {
+
+    private int users = 1_000;
+    private int meanTeamSize = 8;
+    private int maxTeamSize = 50;
+    private int teamsPerUser = 2;
+    private int projectsPerTeam = 3;
+    private int meanTasksPerUser = 20;
+    private double publicRatio = 0.5;
+    private double restrictedRatio = 0.3;
+    private double assignToTeammateRatio = 0.7;
+    private int meanCommentsPerTask = 2;
+    private double attachmentRatio = 0.1;
+    private int meanNotificationsPerUser = 15;
+    private double unreadRatio = 0.3;
+    private double pendingInvitationRatio = 0.05;
+    private int batchSize = 5_000;
+    private long seed = 42L;
+
+    /**
+     * Builds options from {@code --name=value} command-line arguments, keeping the default for every
+     * option that is not given. Option names match the setter names, e.g. {@code --meanTasksPerUser=50}.
+     *
+     * @param args The parsed arguments, see {@link ToolArgs#parse(String[])}.
+     * @return The options.
+     * @throws IllegalArgumentException if a value is not a valid number.
+     */
+    public static DatasetOptions fromArgs(Map<String, String> args) {
+        DatasetOptions options = new DatasetOptions();
+        options.setUsers(ToolArgs.getInt(args, "users", options.users));
+        options.setMeanTeamSize(ToolArgs.getInt(args, "meanTeamSize", options.meanTeamSize));
+        options.setMaxTeamSize(ToolArgs.getInt(args, "maxTeamSize", options.maxTeamSize));
+        options.setTeamsPerUser(ToolArgs.getInt(args, "teamsPerUser", options.teamsPerUser));
+        options.setProjectsPerTeam(ToolArgs.getInt(args, "projectsPerTeam", options.projectsPerTeam));
+        options.setMeanTasksPerUser(ToolArgs.getInt(args, "meanTasksPerUser", options.meanTasksPerUser));
+        options.setPublicRatio(ToolArgs.getDouble(args, "publicRatio", options.publicRatio));
+        options.setRestrictedRatio(ToolArgs.getDouble(args, "restrictedRatio", options.restrictedRatio));
+        options.setAssignToTeammateRatio(ToolArgs.getDouble(args, "assignToTeammateRatio", options.assignToTeammateRatio));
+        options.setMeanCommentsPerTask(ToolArgs.getInt(args, "meanCommentsPerTask", options.meanCommentsPerTask));
+        options.setAttachmentRatio(ToolArgs.getDouble(args, "attachmentRatio", options.attachmentRatio));
+        options.setMeanNotificationsPerUser(ToolArgs.getInt(args, "meanNotificationsPerUser", options.meanNotificationsPerUser));
+        options.setUnreadRatio(ToolArgs.getDouble(args, "unreadRatio", options.unreadRatio));
+        options.setPendingInvitationRatio(ToolArgs.getDouble(args, "pendingInvitationRatio", options.pendingInvitationRatio));
+        options.setBatchSize(ToolArgs.getInt(args, "batchSize", options.batchSize));
+        options.setSeed(ToolArgs.getLong(args, "seed", options.seed));
+        return options;
+    }
+
+    /**
+     * Checks that the options describe a dataset that can be generated.
+     *
+     * @throws IllegalArgumentException if an option is out of range.
+     */
+    public void validate() {
+        if (users < 2) {
+            throw new IllegalArgumentException("users must be at least 2.");
+        }
+        if (meanTeamSize < 2 || maxTeamSize < meanTeamSize) {
+            throw new IllegalArgumentException("meanTeamSize must be at least 2 and not exceed maxTeamSize.");
+        }
+        if (teamsPerUser < 1 || projectsPerTeam < 0 || meanTasksPerUser < 0 || meanCommentsPerTask < 0
+                || meanNotificationsPerUser < 0 || batchSize < 1) {
+            throw new IllegalArgumentException("Counts must not be negative, and teamsPerUser and batchSize must be positive.");
+        }
+        if (publicRatio < 0 || restrictedRatio < 0 || publicRatio + restrictedRatio > 1) {
+            throw new IllegalArgumentException("publicRatio and restrictedRatio must be non-negative and sum to at most 1.");
+        }
+        for (double ratio : new double[]{assignToTeammateRatio, attachmentRatio, unreadRatio, pendingInvitationRatio}) {
+            if (ratio < 0 || ratio > 1) {
+                throw new IllegalArgumentException("Ratios must be between 0 and 1.");
+            }
+        }
+    }
+
+    /**
+     * Gets the number of users to create.
+     * @return The number of users.
+     */
+    public int getUsers() {
+        return users;
+    }
+
+    /**
+     * Sets the number of users to create.
+     * @param users The number of users.
+     * @return These options.
+     */
+    public DatasetOptions setUsers(int users) {
+        this.users = users;
+        return this;
+    }
+
+    /**
+     * Gets the mean number of members per team.
+     * @return The mean team size.
+     */
+    public int getMeanTeamSize() {
+        return meanTeamSize;
+    }
+
+    /**
+     * Sets the mean number of members per team.
+     * @param meanTeamSize The mean team size, at least 2.
+     * @return These options.
+     */
+    public DatasetOptions setMeanTeamSize(int meanTeamSize) {
+        this.meanTeamSize = meanTeamSize;
+        return this;
+    }
+
+    /**
+     * Gets the largest allowed team.
+     * @return The maximum team size.
+     */
+    public int getMaxTeamSize() {
+        return maxTeamSize;
+    }
+
+    /**
+     * Sets the largest allowed team.
+     * @param maxTeamSize The maximum team size.
+     * @return These options.
+     */
+    public DatasetOptions setMaxTeamSize(int maxTeamSize) {
+        this.maxTeamSize = maxTeamSize;
+        return this;
+    }
+
+    /**
+     * Gets the average number of teams each user belongs to.
+     * @return The teams per user.
+     */
+    public int getTeamsPerUser() {
+        return teamsPerUser;
+    }
+
+    /**
+     * Sets the average number of teams each user belongs to.
+     * @param teamsPerUser The teams per user.
+     * @return These options.
+     */
+    public DatasetOptions setTeamsPerUser(int teamsPerUser) {
+        this.teamsPerUser = teamsPerUser;
+        return this;
+    }
+
+    /**
+     * Gets the number of projects created for each team.
+     * @return The projects per team.
+     */
+    public int getProjectsPerTeam() {
+        return projectsPerTeam;
+    }
+
+    /**
+     * Sets the number of projects created for each team.
+     * @param projectsPerTeam The projects per team.
+     * @return These options.
+     */
+    public DatasetOptions setProjectsPerTeam(int projectsPerTeam) {
+        this.projectsPerTeam = projectsPerTeam;
+        return this;
+    }
+
+    /**
+     * Gets the mean number of tasks created by each user.
+     * @return The mean tasks per user.
+     */
+    public int getMeanTasksPerUser() {
+        return meanTasksPerUser;
+    }
+
+    /**
+     * Sets the mean number of tasks created by each user.
+     * @param meanTasksPerUser The mean tasks per user.
+     * @return These options.
+     */
+    public DatasetOptions setMeanTasksPerUser(int meanTasksPerUser) {
+        this.meanTasksPerUser = meanTasksPerUser;
+        return this;
+    }
+
+    /**
+     * Gets the share of tasks with PUBLIC visibility.
+     * @return The public ratio.
+     */
+    public double getPublicRatio() {
+        return publicRatio;
+    }
+
+    /**
+     * Sets the share of tasks with PUBLIC visibility.
+     * @param publicRatio The public ratio.
+     * @return These options.
+     */
+    public DatasetOptions setPublicRatio(double publicRatio) {
+        this.publicRatio = publicRatio;
+        return this;
+    }
+
+    /**
+     * Gets the share of tasks with RESTRICTED visibility; the remainder is PRIVATE.
+     * @return The restricted ratio.
+     */
+    public double getRestrictedRatio() {
+        return restrictedRatio;
+    }
+
+    /**
+     * Sets the share of tasks with RESTRICTED visibility; the remainder is PRIVATE.
+     * @param restrictedRatio The restricted ratio.
+     * @return These options.
+     */
+    public DatasetOptions setRestrictedRatio(double restrictedRatio) {
+        this.restrictedRatio = restrictedRatio;
+        return this;
+    }
+
+    /**
+     * Gets the share of tasks assigned to a teammate of the creator rather than to the creator.
+     * @return The assign-to-teammate ratio.
+     */
+    public double getAssignToTeammateRatio() {
+        return assignToTeammateRatio;
+    }
+
+    /**
+     * Sets the share of tasks assigned to a teammate of the creator rather than to the creator.
+     * @param assignToTeammateRatio The assign-to-teammate ratio.
+     * @return These options.
+     */
+    public DatasetOptions setAssignToTeammateRatio(double assignToTeammateRatio) {
+        this.assignToTeammateRatio = assignToTeammateRatio;
+        return this;
+    }
+
+    /**
+     * Gets the mean number of comments per task.
+     * @return The mean comments per task.
+     */
+    public int getMeanCommentsPerTask() {
+        return meanCommentsPerTask;
+    }
+
+    /**
+     * Sets the mean number of comments per task.
+     * @param meanCommentsPerTask The mean comments per task.
+     * @return These options.
+     */
+    public DatasetOptions setMeanCommentsPerTask(int meanCommentsPerTask) {
+        this.meanCommentsPerTask = meanCommentsPerTask;
+        return this;
+    }
+
+    /**
+     * Gets the share of tasks that have an attachment.
+     * @return The attachment ratio.
+     */
+    public double getAttachmentRatio() {
+        return attachmentRatio;
+    }
+
+    /**
+     * Sets the share of tasks that have an attachment.
+     * @param attachmentRatio The attachment ratio.
+     * @return These options.
+     */
+    public DatasetOptions setAttachmentRatio(double attachmentRatio) {
+        this.attachmentRatio = attachmentRatio;
+        return this;
+    }
+
+    /**
+     * Gets the mean number of notifications per user.
+     * @return The mean notifications per user.
+     */
+    public int getMeanNotificationsPerUser() {
+        return meanNotificationsPerUser;
+    }
+
+    /**
+     * Sets the mean number of notifications per user.
+     * @param meanNotificationsPerUser The mean notifications per user.
+     * @return These options.
+     */
+    public DatasetOptions setMeanNotificationsPerUser(int meanNotificationsPerUser) {
+        this.meanNotificationsPerUser = meanNotificationsPerUser;
+        return this;
+    }
+
+    /**
+     * Gets the share of notifications that are unread.
+     * @return The unread ratio.
+     */
+    public double getUnreadRatio() {
+        return unreadRatio;
+    }
+
+    /**
+     * Sets the share of notifications that are unread.
+     * @param unreadRatio The unread ratio.
+     * @return These options.
+     */
+    public DatasetOptions setUnreadRatio(double unreadRatio) {
+        this.unreadRatio = unreadRatio;
+        return this;
+    }
+
+    /**
+     * Gets the share of memberships that are still PENDING invitations.
+     * @return The pending invitation ratio.
+     */
+    public double getPendingInvitationRatio() {
+        return pendingInvitationRatio;
+    }
+
+    /**
+     * Sets the share of memberships that are still PENDING invitations.
+     * @param pendingInvitationRatio The pending invitation ratio.
+     * @return These options.
+     */
+    public DatasetOptions setPendingInvitationRatio(double pendingInvitationRatio) {
+        this.pendingInvitationRatio = pendingInvitationRatio;
+        return this;
+    }
+
+    /**
+     * Gets the number of rows inserted per batch.
+     * @return The batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the number of rows inserted per batch.
+     * @param batchSize The batch size.
+     * @return These options.
+     */
+    public DatasetOptions setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the random seed; the same seed and options produce the same dataset.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the random seed; the same seed and options produce the same dataset.
+     * @param seed The seed.
+     * @return These options.
+     */
+    public DatasetOptions setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskforge.tools;
+
+/**
+ * Row counts inserted by one {@link DatasetGenerator#generate()} run.
+ *
+ * @param users Users inserted.
+ * @param teams Teams inserted.
+ * @param memberships UserTeamMemberships inserted (accepted and pending).
+ * @param projects Projects inserted.
+ * @param tasks Tasks inserted.
+ * @param comments Comments inserted.
+ * @param attachments Attachments inserted.
+ * @param notifications Notifications inserted.
+ * @param elapsedMillis Wall-clock time of the run.
+ */
+public record DatasetSummary(int users, int teams, int memberships, int projects, int tasks,
+                             int comments, int attachments, int notifications, long elapsedMillis) {
+
+    @Override
+    public String toString() {
+        return "DatasetSummary{users=" + users + ", teams=" + teams + ", memberships=" + memberships
+                + ", projects=" + projects + ", tasks=" + tasks + ", comments=" + comments
+                + ", attachments=" + attachments + ", notifications=" + notifications
+                + ", elapsedMillis=" + elapsedMillis + "}";
+    }
+}
@@ -0,0 +1,380 @@
+package com.taskforge.tools;
+
+import com.taskforge.AppContext;
+import com.taskforge.dao.TaskFetchPlan;
+import com.taskforge.dao.TaskOrder;
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.TaskSummary;
+import com.taskforge.model.User;
+import com.taskforge.model.Visibility;
+import com.taskforge.service.TaskManagerService;
+import com.taskforge.util.DatabaseManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Replays a mix of read and write service calls from many concurrent simulated users against
+ * a TaskForge database and reports per-operation latency percentiles.
+ *
+ * <p>
+ * Each simulated user runs on its own virtual thread, logs in as a random existing user and,
+ * until the run ends, repeatedly performs an operation drawn from {@link Operation} followed by
+ * a randomized think time. A fraction {@code writeRatio} of the operations are writes.
+ * All calls go through one shared {@link AppContext}, as they would in the application.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code java -cp <classpath> com.taskforge.tools.LoadDriver --db=big.db --simulatedUsers=100
+ * --durationSeconds=60 --writeRatio=0.1 --thinkTimeMs=50}. With {@code --generate}, a dataset is first
+ * generated with the {@link DatasetGenerator} options given on the same command line.
+ * </p>
+ */
+public class LoadDriver {
+
+    /**
+     * The service calls a simulated user can make.
+     */
+    public enum Operation {
+        VIEW_ALL_TASKS(false),
+        VIEW_MY_TASKS(false),
+        VIEW_INBOX(false),
+        VIEW_TEAMS(false),
+        CHECK_TEAMMATE(false),
+        CREATE_TASK(true),
+        UPDATE_TASK_STATUS(true),
+        MARK_NOTIFICATION_READ(true);
+
+        private final boolean write;
+
+        Operation(boolean write) {
+            this.write = write;
+        }
+
+        /**
+         * Checks whether the operation modifies the database.
+         * @return true for writes.
+         */
+        public boolean isWrite() {
+            return write;
+        }
+    }
+
+    private static final Operation[] READS = Arrays.stream(Operation.values()).filter(op -> !op.isWrite()).toArray(Operation[]::new);
+    private static final Operation[] WRITES = Arrays.stream(Operation.values()).filter(Operation::isWrite).toArray(Operation[]::new);
+
+    private final AppContext context;
+    private final int simulatedUsers;
+    private final Duration duration;
+    private final double writeRatio;
+    private final long thinkTimeMillis;
+    private final long seed;
+
+    /**
+     * Constructs a LoadDriver.
+     *
+     * @param context The DAO and service graph to drive.
+     * @param simulatedUsers The number of concurrent simulated users.
+     * @param duration How long to run.
+     * @param writeRatio The fraction of operations that are writes, between 0 and 1.
+     * @param thinkTimeMillis The mean pause between two operations of one simulated user (0 for none).
+     * @param seed The random seed.
+     * @throws IllegalArgumentException if an argument is out of range.
+     */
+    public LoadDriver(AppContext context, int simulatedUsers, Duration duration, double writeRatio,
+                      long thinkTimeMillis, long seed) {
+        if (simulatedUsers < 1 || duration.isNegative() || writeRatio < 0 || writeRatio > 1 || thinkTimeMillis < 0) {
+            throw new IllegalArgumentException("Invalid load driver settings.");
+        }
+        this.context = context;
+        this.simulatedUsers = simulatedUsers;
+        this.duration = duration;
+        this.writeRatio = writeRatio;
+        this.thinkTimeMillis = thinkTimeMillis;
+        this.seed = seed;
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args {@code --name=value} options: {@code db}, {@code simulatedUsers} (default 50),
+     *             {@code durationSeconds} (60), {@code writeRatio} (0.1), {@code thinkTimeMs} (100),
+     *             {@code seed} and {@code generate}.
+     * @throws Exception If dataset generation or the run fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> parsed = ToolArgs.parse(args);
+        if (parsed.containsKey("db")) {
+            System.setProperty("taskforge.db.path", parsed.get("db"));
+        }
+        AppContext context = null;
+        try {
+            DatabaseManager.initializeDatabase();
+            if (Boolean.parseBoolean(parsed.getOrDefault("generate", "false"))) {
+                System.out.println("Generated dataset: " + new DatasetGenerator(DatasetOptions.fromArgs(parsed)).generate());
+            }
+            context = new AppContext();
+            LoadDriver driver = new LoadDriver(context,
+                    ToolArgs.getInt(parsed, "simulatedUsers", 50),
+                    Duration.ofSeconds(ToolArgs.getLong(parsed, "durationSeconds", 60)),
+                    ToolArgs.getDouble(parsed, "writeRatio", 0.1),
+                    ToolArgs.getLong(parsed, "thinkTimeMs", 100),
+                    ToolArgs.getLong(parsed, "seed", 42L));
+            System.out.println(driver.run());
+        } finally {
+            if (context != null) {
+                context.shutdown();
+            }
+            DatabaseManager.shutdown();
+        }
+    }
+
+    /**
+     * Runs the load for the configured duration and waits for every simulated user to finish.
+     *
+     * @return The measured latencies.
+     * @throws IllegalStateException if the database contains no users.
+     * @throws InterruptedException If interrupted while waiting for the simulated users.
+     */
+    public LoadReport run() throws InterruptedException {
+        List<User> users = context.getUserManagerService().getAllUsers();
+        if (users.isEmpty()) {
+            throw new IllegalStateException("The database has no users to simulate; generate a dataset first.");
+        }
+        int[] userIds = users.stream().mapToInt(User::getId).toArray();
+
+        SplittableRandom master = new SplittableRandom(seed);
+        List<Recorder> recorders = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < simulatedUsers; i++) {
+                SplittableRandom random = master.split();
+                Recorder recorder = new Recorder();
+                recorders.add(recorder);
+                SimulatedUser user = new SimulatedUser(userIds[random.nextInt(userIds.length)], userIds, random, recorder);
+                futures.add(executor.submit(() -> user.runUntil(deadline)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    System.err.println("Simulated user failed: " + e.getCause());
+                }
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<LoadReport.OperationStats> stats = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Samples merged = new Samples();
+            long errors = 0;
+            for (Recorder recorder : recorders) {
+                merged.addAll(recorder.samples.get(operation));
+                errors += recorder.errors.get(operation)[0];
+            }
+            stats.add(merged.toStats(operation, errors));
+        }
+        return new LoadReport(simulatedUsers, elapsedMillis, stats);
+    }
+
+    /**
+     * One simulated user, with the state a real user would carry between screens.
+     */
+    private final class SimulatedUser {
+        private final int userId;
+        private final int[] allUserIds;
+        private final SplittableRandom random;
+        private final Recorder recorder;
+        /** IDs of the tasks this user created and may therefore update. */
+        private List<Integer> ownTaskIds = new ArrayList<>();
+        private List<Integer> unreadNotificationIds = new ArrayList<>();
+
+        private SimulatedUser(int userId, int[] allUserIds, SplittableRandom random, Recorder recorder) {
+            this.userId = userId;
+            this.allUserIds = allUserIds;
+            this.random = random;
+            this.recorder = recorder;
+        }
+
+        private void runUntil(long deadline) {
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                Operation[] choices = random.nextDouble() < writeRatio ? WRITES : READS;
+                Operation operation = choices[random.nextInt(choices.length)];
+
+                long begin = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(operation);
+                } catch (RuntimeException e) {
+                    ok = false;
+                }
+                recorder.record(operation, System.nanoTime() - begin, ok);
+
+                if (thinkTimeMillis > 0) {
+                    try {
+                        // Uniform between 0 and twice the mean
+                        Thread.sleep(random.nextLong(2 * thinkTimeMillis + 1));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        private boolean execute(Operation operation) {
+            switch (operation) {
+                case VIEW_ALL_TASKS:
+                    ownTaskIds = loadOwnTaskIds();
+                    return true;
+                case VIEW_MY_TASKS:
+                    context.getTaskManagerService().getTaskSummariesByAssignedUser(userId, userId, TaskOrder.DEFAULT, TaskManagerService.DEFAULT_PAGE_SIZE, null);
+                    return true;
+                case VIEW_INBOX:
+                    unreadNotificationIds = new ArrayList<>();
+                    for (Notification notification : context.getNotificationDAO()
+                            .getNotificationsByUserId(userId, TaskManagerService.DEFAULT_PAGE_SIZE, null).getItems()) {
+                        if (!notification.isRead()) {
+                            unreadNotificationIds.add(notification.getId());
+                        }
+                    }
+                    return true;
+                case VIEW_TEAMS:
+                    context.getUserManagerService().getTeamsForUser(userId);
+                    return true;
+                case CHECK_TEAMMATE:
+                    context.getUserManagerService().areUsersInSameTeam(userId, allUserIds[random.nextInt(allUserIds.length)]);
+                    return true;
+                case CREATE_TASK:
+                    Optional<Task> created = context.getTaskManagerService().createTask("Load test task", "Created by the load driver",
+                            LocalDateTime.now().plusDays(random.nextInt(30)),
+                            Priority.values()[random.nextInt(Priority.values().length)],
+                            userId, 0, Visibility.values()[random.nextInt(Visibility.values().length)], userId);
+                    created.ifPresent(task -> ownTaskIds.add(task.getId()));
+                    return created.isPresent();
+                case UPDATE_TASK_STATUS:
+                    if (ownTaskIds.isEmpty()) {
+                        ownTaskIds = loadOwnTaskIds();
+                        if (ownTaskIds.isEmpty()) {
+                            return true;
+                        }
+                    }
+                    // Like the edit dialog, read the full task before saving it
+                    Optional<Task> loaded = context.getTaskManagerService()
+                            .getTaskById(ownTaskIds.get(random.nextInt(ownTaskIds.size())), TaskFetchPlan.FULL_GRAPH);
+                    if (loaded.isEmpty()) {
+                        return false;
+                    }
+                    Task task = loaded.get();
+                    return context.getTaskManagerService().updateTask(task.getId(), task.getTitle(), task.getDescription(),
+                            task.getDueDate(), task.getPriority(), Status.values()[random.nextInt(Status.values().length)],
+                            task.getAssignedToId(),
+                            task.getProjectId(),
+                            task.getVisibility(), userId);
+                case MARK_NOTIFICATION_READ:
+                    if (unreadNotificationIds.isEmpty()) {
+                        for (Notification notification : context.getNotificationDAO().getUnreadNotificationsByUserId(userId)) {
+                            unreadNotificationIds.add(notification.getId());
+                        }
+                        if (unreadNotificationIds.isEmpty()) {
+                            return true;
+                        }
+                    }
+                    return context.getNotificationDAO().markNotificationAsRead(
+                            unreadNotificationIds.remove(unreadNotificationIds.size() - 1));
+                default:
+                    throw new IllegalArgumentException("Unknown operation: " + operation);
+            }
+        }
+
+        private List<Integer> loadOwnTaskIds() {
+            List<Integer> own = new ArrayList<>();
+            for (TaskSummary task : context.getTaskManagerService()
+                    .getAllVisibleTaskSummaries(userId, TaskOrder.DEFAULT, TaskManagerService.DEFAULT_PAGE_SIZE, null).getItems()) {
+                if (task.creatorId() == userId) {
+                    own.add(task.id());
+                }
+            }
+            return own;
+        }
+    }
+
+    /**
+     * Latencies and error counts of one simulated user. Only touched by that user's thread until the run ends.
+     */
+    private static final class Recorder {
+        private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        private final Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+
+        private Recorder() {
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new Samples());
+                errors.put(operation, new long[1]);
+            }
+        }
+
+        private void record(Operation operation, long nanos, boolean ok) {
+            samples.get(operation).add(nanos);
+            if (!ok) {
+                errors.get(operation)[0]++;
+            }
+        }
+    }
+
+    /**
+     * A growable array of latencies in nanoseconds.
+     */
+    private static final class Samples {
+        private long[] values = new long[256];
+        private int size;
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        private LoadReport.OperationStats toStats(Operation operation, long errors) {
+            if (size == 0) {
+                return new LoadReport.OperationStats(operation, 0, errors, 0, 0, 0, 0, 0);
+            }
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double sum = 0;
+            for (long value : sorted) {
+                sum += value;
+            }
+            return new LoadReport.OperationStats(operation, size, errors, sum / size / 1e6,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+        }
+    }
+}
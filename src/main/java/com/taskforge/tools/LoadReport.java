@@ -0,0 +1,65 @@
+package com.taskforge.tools;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Latency and throughput measured by one {@link LoadDriver#run()}.
+ *
+ * @param simulatedUsers The number of concurrent simulated users.
+ * @param elapsedMillis Wall-clock duration of the run.
+ * @param operations Per-operation statistics, in {@link LoadDriver.Operation} order.
+ */
+public record LoadReport(int simulatedUsers, long elapsedMillis, List<OperationStats> operations) {
+
+    /**
+     * Statistics for one kind of operation. Latencies are in milliseconds.
+     *
+     * @param operation The operation.
+     * @param count Completed calls, including failed ones.
+     * @param errors Calls that threw or reported failure.
+     * @param meanMillis Mean latency.
+     * @param p50Millis Median latency.
+     * @param p95Millis 95th percentile latency.
+     * @param p99Millis 99th percentile latency.
+     * @param maxMillis Maximum latency.
+     */
+    public record OperationStats(LoadDriver.Operation operation, long count, long errors, double meanMillis,
+                                 double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * Gets the total number of completed calls across all operations.
+     * @return The total call count.
+     */
+    public long getTotalCount() {
+        return operations.stream().mapToLong(OperationStats::count).sum();
+    }
+
+    /**
+     * Gets the overall throughput of the run.
+     * @return Completed calls per second.
+     */
+    public double getThroughputPerSecond() {
+        return elapsedMillis > 0 ? getTotalCount() * 1000.0 / elapsedMillis : 0;
+    }
+
+    /**
+     * Formats the report as a table, one row per operation.
+     * @return The formatted report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d simulated users, %d calls in %.1f s (%.1f calls/s)%n",
+                simulatedUsers, getTotalCount(), elapsedMillis / 1000.0, getThroughputPerSecond()));
+        sb.append(String.format(Locale.ROOT, "%-24s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (OperationStats stats : operations) {
+            sb.append(String.format(Locale.ROOT, "%-24s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.operation(), stats.count(), stats.errors(), stats.meanMillis(),
+                    stats.p50Millis(), stats.p95Millis(), stats.p99Millis(), stats.maxMillis()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.taskforge.tools;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Minimal parser for the {@code --name=value} arguments accepted by the command-line tools.
+ */
+final class ToolArgs {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ToolArgs() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Parses {@code --name=value} arguments. A bare {@code --name} is read as {@code --name=true}.
+     *
+     * @param args The raw command-line arguments.
+     * @return The arguments by name, in the order given.
+     * @throws IllegalArgumentException if an argument does not start with {@code --}.
+     */
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                parsed.put(arg.substring(2), "true");
+            } else {
+                parsed.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parsed;
+    }
+
+    static int getInt(Map<String, String> args, String name, int defaultValue) {
+        String value = args.get(name);
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer: " + value, e);
+        }
+    }
+
+    static long getLong(Map<String, String> args, String name, long defaultValue) {
+        String value = args.get(name);
+        try {
+            return value != null ? Long.parseLong(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer: " + value, e);
+        }
+    }
+
+    static double getDouble(Map<String, String> args, String name, double defaultValue) {
+        String value = args.get(name);
+        try {
+            return value != null ? Double.parseDouble(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.taskforge.ui;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs database and service calls off the JavaFX Application Thread.
+ * Work is executed on virtual threads and its result is delivered back on the FX thread
+ * via {@link Platform#runLater(Runnable)}, so callbacks may update controls directly.
+ *
+ * <p>
+ * Every submission belongs to an owner, typically the controller that issued it.
+ * {@link #cancelAll(Object)} discards the owner's pending callbacks and interrupts the work
+ * when nobody else is waiting for it, which controllers use when the user navigates away.
+ * </p>
+ *
+ * <p>
+ * Submissions that share a key are coalesced: while a request with the same key is in flight,
+ * further submissions attach to it instead of running the work again, and every subscriber
+ * receives the same result.
+ * </p>
+ */
+public class BackgroundExecutor {
+
+    private final ExecutorService executor;
+    private final Consumer<Runnable> fxDispatcher;
+
+    /** In-flight requests by coalescing key. Guarded by {@code this}. */
+    private final Map<String, Flight<?>> flightsByKey = new HashMap<>();
+    /** Pending subscriptions by owner. Guarded by {@code this}. */
+    private final Map<Object, Set<Subscription<?>>> subscriptionsByOwner = new IdentityHashMap<>();
+
+    /**
+     * Constructs a BackgroundExecutor that runs work on virtual threads and
+     * delivers results on the JavaFX Application Thread.
+     */
+    public BackgroundExecutor() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), Platform::runLater);
+    }
+
+    /**
+     * Constructs a BackgroundExecutor with a custom executor and result dispatcher.
+     *
+     * @param executor The executor that runs submitted work.
+     * @param fxDispatcher Delivers completion callbacks to the UI thread.
+     */
+    public BackgroundExecutor(ExecutorService executor, Consumer<Runnable> fxDispatcher) {
+        this.executor = executor;
+        this.fxDispatcher = fxDispatcher;
+    }
+
+    /**
+     * Submits work to run in the background.
+     *
+     * @param owner The object the request belongs to, used for cancellation.
+     * @param key The coalescing key, or null if this request must never be shared.
+     *            Requests with equal keys must produce the same result.
+     * @param work The work to run, typically a service call.
+     * @param onSuccess Receives the result on the FX thread.
+     * @param onError Receives the failure on the FX thread.
+     * @param <T> The result type.
+     * @return A handle that can cancel this submission.
+     */
+    public synchronized <T> Subscription<T> submit(Object owner, String key, Callable<T> work,
+                                                  Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        @SuppressWarnings("unchecked")
+        Flight<T> flight = key != null ? (Flight<T>) flightsByKey.get(key) : null;
+        if (flight == null) {
+            flight = new Flight<>(key);
+            if (key != null) {
+                flightsByKey.put(key, flight);
+            }
+            Flight<T> started = flight;
+            flight.task = executor.submit(() -> run(started, work));
+        }
+
+        Subscription<T> subscription = new Subscription<>(this, owner, flight, onSuccess, onError);
+        flight.subscribers.add(subscription);
+        subscriptionsByOwner.computeIfAbsent(owner, o -> new LinkedHashSet<>()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Cancels every pending submission of the given owner. Their callbacks will not be invoked.
+     *
+     * @param owner The owner whose submissions should be cancelled.
+     */
+    public synchronized void cancelAll(Object owner) {
+        Set<Subscription<?>> owned = subscriptionsByOwner.remove(owner);
+        if (owned != null) {
+            for (Subscription<?> subscription : owned) {
+                cancelLocked(subscription);
+            }
+        }
+    }
+
+    /**
+     * Detaches the in-flight request for a key, so the next submission with that key runs the work again.
+     * Call this after a write that makes a running read stale; current subscribers still receive its result.
+     *
+     * @param key The coalescing key to detach.
+     */
+    public synchronized void invalidate(String key) {
+        flightsByKey.remove(key);
+    }
+
+    /**
+     * Checks whether the given owner has submissions whose callbacks have not run yet.
+     *
+     * @param owner The owner to check.
+     * @return true if the owner has pending submissions.
+     */
+    public synchronized boolean hasPending(Object owner) {
+        Set<Subscription<?>> owned = subscriptionsByOwner.get(owner);
+        return owned != null && !owned.isEmpty();
+    }
+
+    /**
+     * Stops accepting work and interrupts running requests. Called when the application exits.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void run(Flight<T> flight, Callable<T> work) {
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = work.call();
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        List<Subscription<T>> subscribers;
+        synchronized (this) {
+            if (flight.key != null) {
+                flightsByKey.remove(flight.key, flight);
+            }
+            flight.completed = true;
+            subscribers = new ArrayList<>(flight.subscribers);
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        T finalResult = result;
+        Throwable finalFailure = failure;
+        fxDispatcher.accept(() -> {
+            for (Subscription<T> subscription : subscribers) {
+                subscription.deliver(finalResult, finalFailure);
+            }
+        });
+    }
+
+    private synchronized void cancel(Subscription<?> subscription) {
+        Set<Subscription<?>> owned = subscriptionsByOwner.get(subscription.owner);
+        if (owned != null) {
+            owned.remove(subscription);
+            if (owned.isEmpty()) {
+                subscriptionsByOwner.remove(subscription.owner);
+            }
+        }
+        cancelLocked(subscription);
+    }
+
+    private void cancelLocked(Subscription<?> subscription) {
+        subscription.cancelled = true;
+        Flight<?> flight = subscription.flight;
+        flight.subscribers.remove(subscription);
+        if (flight.subscribers.isEmpty() && !flight.completed) {
+            if (flight.key != null) {
+                flightsByKey.remove(flight.key, flight);
+            }
+            flight.task.cancel(true);
+        }
+    }
+
+    private synchronized boolean complete(Subscription<?> subscription) {
+        if (subscription.cancelled) {
+            return false;
+        }
+        Set<Subscription<?>> owned = subscriptionsByOwner.get(subscription.owner);
+        if (owned != null) {
+            owned.remove(subscription);
+            if (owned.isEmpty()) {
+                subscriptionsByOwner.remove(subscription.owner);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A single background computation shared by every subscription with the same key.
+     */
+    private static final class Flight<T> {
+        private final String key;
+        private final List<Subscription<T>> subscribers = new ArrayList<>();
+        private Future<?> task;
+        private boolean completed;
+
+        private Flight(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A handle to one submission, returned by {@link #submit}.
+     *
+     * @param <T> The result type.
+     */
+    public static final class Subscription<T> {
+        private final BackgroundExecutor executor;
+        private final Object owner;
+        private final Flight<T> flight;
+        private final Consumer<T> onSuccess;
+        private final Consumer<Throwable> onError;
+        private volatile boolean cancelled;
+
+        private Subscription(BackgroundExecutor executor, Object owner, Flight<T> flight,
+                             Consumer<T> onSuccess, Consumer<Throwable> onError) {
+            this.executor = executor;
+            this.owner = owner;
+            this.flight = flight;
+            this.onSuccess = onSuccess;
+            this.onError = onError;
+        }
+
+        /**
+         * Cancels this submission. Its callbacks will not be invoked.
+         */
+        public void cancel() {
+            executor.cancel(this);
+        }
+
+        /**
+         * Checks whether this submission was cancelled.
+         * @return true if cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void deliver(T result, Throwable failure) {
+            // Re-checked on the FX thread: the owner may have been cancelled after the work finished.
+            if (!executor.complete(this)) {
+                return;
+            }
+            if (failure == null) {
+                onSuccess.accept(result);
+            } else {
+                onError.accept(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,615 @@
+package com.taskforge.ui;
+
+import com.taskforge.dao.Page;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A read-mostly ObservableList backed by a keyset-paginated query, for use as the items of a
+ * TableView or ListView. Rows are fetched in pages on the {@link BackgroundExecutor} only when
+ * the view asks for them, and pages far away from the visible rows are evicted again.
+ *
+ * <p>
+ * The list grows as the user scrolls: when a row near the end is requested and more rows exist,
+ * the next page is fetched and appended. Rows of a page that is not loaded read as null until the
+ * page arrives, at which point a replace change is fired so the view redraws them. An evicted page
+ * keeps its cursor and row count, so it can be reloaded in place without changing the list size.
+ * Sorting is not done in memory; callers pass a loader that queries in the wanted order and
+ * call {@link #load(String, PageLoader)} again when the order changes.
+ * </p>
+ *
+ * <p>
+ * Lookups that would have to scan every row, such as {@link #indexOf(Object)} and {@link #remove(Object)},
+ * only consider loaded rows. The list must only be used from the JavaFX Application Thread.
+ * </p>
+ *
+ * @param <T> The type of the rows.
+ */
+public class LazyPagedList<T> extends ObservableListBase<T> {
+
+    /**
+     * Loads one page of rows. Called on a background thread.
+     *
+     * @param <T> The type of the rows.
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        /**
+         * Loads the page following the cursor.
+         *
+         * @param pageSize The maximum number of rows to load.
+         * @param cursor The cursor returned with the previous page, or null for the first page.
+         * @return The loaded page.
+         * @throws Exception If the page cannot be loaded.
+         */
+        Page<T> load(int pageSize, String cursor) throws Exception;
+    }
+
+    /** Number of pages held in memory by default; enough for a screenful of rows plus prefetch on both sides. */
+    public static final int DEFAULT_MAX_LOADED_PAGES = 5;
+
+    private final BackgroundExecutor backgroundExecutor;
+    private final Object owner;
+    private final int pageSize;
+    private final int prefetchMargin;
+    private final int maxLoadedPages;
+
+    private PageLoader<T> loader;
+    private String keyPrefix; // Coalescing key of the current loader, or null if its pages are never shared
+    private final List<Slot<T>> slots = new ArrayList<>(); // Pages discovered so far, in list order
+    private int size;
+    private int generation; // Incremented by load(); results of older generations are dropped
+    private boolean failed; // Set when a page failed to load; stops automatic loading until the next load()
+    private int lastAccessedIndex;
+    private boolean reconciling; // A reconcile() is in flight
+    private boolean reconcileAgain; // reconcile() was called while one was in flight
+    private Runnable onPageLoaded = () -> { };
+    private Consumer<Throwable> onError = error -> { };
+
+    /**
+     * Constructs an empty LazyPagedList that prefetches half a page around requested rows and holds
+     * at most {@value #DEFAULT_MAX_LOADED_PAGES} pages in memory.
+     *
+     * @param backgroundExecutor The executor that runs the page queries.
+     * @param owner The owner the queries are submitted under, typically the controller showing the list.
+     * @param pageSize The number of rows fetched per query.
+     */
+    public LazyPagedList(BackgroundExecutor backgroundExecutor, Object owner, int pageSize) {
+        this(backgroundExecutor, owner, pageSize, pageSize / 2, DEFAULT_MAX_LOADED_PAGES);
+    }
+
+    /**
+     * Constructs an empty LazyPagedList. Nothing is fetched until {@link #load(String, PageLoader)} is called.
+     *
+     * @param backgroundExecutor The executor that runs the page queries.
+     * @param owner The owner the queries are submitted under, typically the controller showing the list.
+     * @param pageSize The number of rows fetched per query.
+     * @param prefetchMargin The number of rows before and after a requested row that are fetched ahead of time.
+     * @param maxLoadedPages The maximum number of pages held in memory; at least 2.
+     */
+    public LazyPagedList(BackgroundExecutor backgroundExecutor, Object owner, int pageSize, int prefetchMargin, int maxLoadedPages) {
+        if (pageSize < 1 || prefetchMargin < 0 || maxLoadedPages < 2) {
+            throw new IllegalArgumentException("Invalid paging parameters: pageSize=" + pageSize
+                    + ", prefetchMargin=" + prefetchMargin + ", maxLoadedPages=" + maxLoadedPages);
+        }
+        this.backgroundExecutor = backgroundExecutor;
+        this.owner = owner;
+        this.pageSize = pageSize;
+        this.prefetchMargin = prefetchMargin;
+        this.maxLoadedPages = maxLoadedPages;
+    }
+
+    /**
+     * Sets a callback run on the FX thread after each page has been applied to the list.
+     *
+     * @param onPageLoaded The callback.
+     */
+    public void setOnPageLoaded(Runnable onPageLoaded) {
+        this.onPageLoaded = Objects.requireNonNull(onPageLoaded);
+    }
+
+    /**
+     * Sets a callback run on the FX thread when a page fails to load.
+     * Automatic loading stops after a failure until the list is loaded again.
+     *
+     * @param onError The callback.
+     */
+    public void setOnError(Consumer<Throwable> onError) {
+        this.onError = Objects.requireNonNull(onError);
+    }
+
+    /**
+     * Discards all rows and starts loading from the first page of the given loader.
+     * Pages of the previous loader that are still in flight are ignored when they arrive, and
+     * are detached from their coalescing key so that they are not shared with the new pages.
+     *
+     * @param keyPrefix Identifies the query of the loader for {@link BackgroundExecutor} coalescing, for
+     *                  example the user and sort order; the cursor is appended per page. Null disables coalescing.
+     * @param loader The loader for the new contents, or null to leave the list empty.
+     */
+    public void load(String keyPrefix, PageLoader<T> loader) {
+        for (Slot<T> slot : slots) {
+            if (slot.loading && this.keyPrefix != null) {
+                backgroundExecutor.invalidate(pageKey(slot));
+            }
+        }
+        this.keyPrefix = keyPrefix;
+        this.loader = loader;
+        generation++;
+        failed = false;
+        lastAccessedIndex = 0;
+        if (size > 0) {
+            List<T> removed = new ArrayList<>(size);
+            for (Slot<T> slot : slots) {
+                for (int i = 0; i < slot.count; i++) {
+                    removed.add(slot.items != null && i < slot.items.size() ? slot.items.get(i) : null);
+                }
+            }
+            beginChange();
+            nextRemove(0, removed);
+            size = 0;
+            endChange();
+        }
+        slots.clear();
+        if (loader != null) {
+            Slot<T> first = new Slot<>(null, 0);
+            slots.add(first);
+            fetch(first);
+        }
+    }
+
+    /**
+     * Discards all rows and loads them again from the first page with the current loader.
+     * Call this after a write that the loaded rows do not reflect: pages of this query that are
+     * in flight for any owner may have read the old rows, so they are not joined.
+     */
+    public void refresh() {
+        if (keyPrefix != null) {
+            for (Slot<T> slot : slots) {
+                backgroundExecutor.invalidate(pageKey(slot));
+            }
+        }
+        load(keyPrefix, loader);
+    }
+
+    /**
+     * Brings the loaded rows up to date with the database without discarding the list, for example
+     * after another process changed rows this list may show. The loaded pages are queried again in the
+     * background, and only the differences are applied: rows that are still there are replaced in place,
+     * so the view keeps its scroll position and selection, while rows that appeared or disappeared are
+     * added or removed. Rows are matched by {@code equals} and {@code hashCode}, which for the model
+     * classes compare IDs.
+     *
+     * <p>
+     * Pages after the last loaded one are forgotten and discovered again when the view scrolls to them.
+     * A call made while an earlier one is still in flight runs once that one has been applied.
+     * </p>
+     */
+    public void reconcile() {
+        if (loader == null) {
+            return;
+        }
+        if (reconciling) {
+            reconcileAgain = true;
+            return;
+        }
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i).items != null) {
+                first = first < 0 ? i : first;
+                last = i;
+            }
+        }
+        if (failed || first < 0) {
+            refresh(); // Nothing to compare against
+            return;
+        }
+        Slot<T> firstSlot = slots.get(first);
+        int pageCount = last - first + 1;
+        int requestGeneration = generation;
+        PageLoader<T> pageLoader = loader;
+        reconciling = true;
+        backgroundExecutor.submit(owner, null,
+                () -> loadPages(pageLoader, firstSlot.startCursor, pageCount),
+                pages -> {
+                    reconciling = false;
+                    if (requestGeneration == generation) {
+                        applyReconciled(firstSlot, pageCount, pages);
+                    }
+                    if (reconcileAgain) {
+                        reconcileAgain = false;
+                        reconcile();
+                    }
+                },
+                error -> {
+                    reconciling = false;
+                    reconcileAgain = false;
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    failed = true;
+                    onError.accept(error);
+                });
+    }
+
+    /**
+     * Counts the rows currently held in memory.
+     *
+     * @return The number of loaded rows.
+     */
+    public int getLoadedRowCount() {
+        int loaded = 0;
+        for (Slot<T> slot : slots) {
+            if (slot.items != null) {
+                loaded += slot.items.size();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the row at the given index, fetching its page and the pages around it if needed.
+     *
+     * @param index The index of the row.
+     * @return The row, or null if its page has not been loaded yet.
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        lastAccessedIndex = index;
+        Slot<T> slot = slotAt(index);
+        prefetchAround(index);
+        int offsetInPage = index - slot.offset;
+        return slot.items != null && offsetInPage < slot.items.size() ? slot.items.get(offsetInPage) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes a loaded row, for example after it was deleted in the database. The position of the
+     * following rows shifts down by one; their cursors stay valid.
+     *
+     * @param index The index of the row.
+     * @return The removed row.
+     * @throws IllegalStateException If the page containing the row is not loaded.
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Slot<T> slot = slotAt(index);
+        int offsetInPage = index - slot.offset;
+        if (slot.items == null || offsetInPage >= slot.items.size()) {
+            throw new IllegalStateException("Row " + index + " is not loaded");
+        }
+        T removed = slot.items.remove(offsetInPage);
+        slot.count--;
+        for (int i = slots.indexOf(slot) + 1; i < slots.size(); i++) {
+            slots.get(i).offset--;
+        }
+        beginChange();
+        nextRemove(index, removed);
+        size--;
+        endChange();
+        return removed;
+    }
+
+    /**
+     * Removes the first loaded occurrence of the given row. Rows of pages that are not loaded are not searched.
+     *
+     * @param o The row to remove.
+     * @return true if a loaded row was removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Finds the first loaded occurrence of the given row. Rows of pages that are not loaded are not searched.
+     *
+     * @param o The row to look for.
+     * @return The index of the row, or -1 if it is not loaded.
+     */
+    @Override
+    public int indexOf(Object o) {
+        for (Slot<T> slot : slots) {
+            if (slot.items != null) {
+                int offsetInPage = slot.items.indexOf(o);
+                if (offsetInPage >= 0) {
+                    return slot.offset + offsetInPage;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Finds the page containing the row at the given index.
+     * Pages that became empty share their offset with the following page and are skipped.
+     */
+    private Slot<T> slotAt(int index) {
+        int low = 0;
+        int high = slots.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (slots.get(mid).offset <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return slots.get(low);
+    }
+
+    /**
+     * Fetches the pages within the prefetch margin of the given index, and discovers the next page
+     * when the margin reaches past the last known row.
+     */
+    private void prefetchAround(int index) {
+        int from = Math.max(0, index - prefetchMargin);
+        int to = Math.min(size - 1, index + prefetchMargin);
+        for (int i = slots.indexOf(slotAt(from)); i < slots.size() && slots.get(i).offset <= to; i++) {
+            Slot<T> slot = slots.get(i);
+            if (slot.items == null) {
+                fetch(slot);
+            }
+        }
+        Slot<T> last = slots.get(slots.size() - 1);
+        if (index + prefetchMargin >= size - 1 && last.discovered && last.nextCursor != null) {
+            Slot<T> next = new Slot<>(last.nextCursor, size);
+            slots.add(next);
+            fetch(next);
+        }
+    }
+
+    /**
+     * Starts loading a page in the background unless it is already loading.
+     */
+    private void fetch(Slot<T> slot) {
+        if (slot.loading || failed || loader == null) {
+            return;
+        }
+        slot.loading = true;
+        int requestGeneration = generation;
+        PageLoader<T> pageLoader = loader;
+        backgroundExecutor.submit(owner, keyPrefix != null ? pageKey(slot) : null,
+                () -> pageLoader.load(pageSize, slot.startCursor),
+                page -> applyPage(slot, requestGeneration, page),
+                error -> {
+                    if (requestGeneration != generation) {
+                        return;
+                    }
+                    slot.loading = false;
+                    failed = true;
+                    onError.accept(error);
+                });
+    }
+
+    /**
+     * Gets the coalescing key of a page of the current loader.
+     */
+    private String pageKey(Slot<T> slot) {
+        return keyPrefix + "@" + (slot.startCursor != null ? slot.startCursor : "");
+    }
+
+    /**
+     * Stores a loaded page and fires the matching change. Runs on the FX thread.
+     */
+    private void applyPage(Slot<T> slot, int requestGeneration, Page<T> page) {
+        if (requestGeneration != generation) {
+            return; // The list was reloaded while this page was in flight
+        }
+        slot.loading = false;
+        if (!slot.discovered) {
+            // A newly discovered page is always the last one
+            slot.discovered = true;
+            slot.items = new ArrayList<>(page.getItems());
+            slot.count = slot.items.size();
+            slot.nextCursor = page.getNextCursor();
+            if (slot.count > 0) {
+                beginChange();
+                nextAdd(slot.offset, slot.offset + slot.count);
+                size += slot.count;
+                endChange();
+            }
+        } else {
+            // A reloaded page keeps its row count so that later offsets stay valid. Rows added
+            // or removed in the database since it was first loaded show up after a refresh or reconcile.
+            List<T> items = page.getItems();
+            slot.items = new ArrayList<>(items.subList(0, Math.min(items.size(), slot.count)));
+            beginChange();
+            for (int i = 0; i < slot.count; i++) {
+                nextSet(slot.offset + i, null);
+            }
+            endChange();
+        }
+        evictFarPages();
+        onPageLoaded.run();
+    }
+
+    /**
+     * Loads consecutive pages, following each page's next cursor. Called on a background thread.
+     */
+    private List<Page<T>> loadPages(PageLoader<T> pageLoader, String startCursor, int pageCount) throws Exception {
+        List<Page<T>> pages = new ArrayList<>(pageCount);
+        String cursor = startCursor;
+        do {
+            Page<T> page = pageLoader.load(pageSize, cursor);
+            pages.add(page);
+            cursor = page.getNextCursor();
+        } while (cursor != null && pages.size() < pageCount);
+        return pages;
+    }
+
+    /**
+     * Replaces the pages from {@code firstSlot} on with freshly loaded ones and fires the differences
+     * between their rows as a single change. Runs on the FX thread.
+     */
+    private void applyReconciled(Slot<T> firstSlot, int pageCount, List<Page<T>> pages) {
+        int first = slots.indexOf(firstSlot);
+        if (first < 0) {
+            return;
+        }
+        int start = firstSlot.offset;
+        int end = Math.min(slots.size(), first + pageCount);
+        List<T> oldRows = rowsOf(slots.subList(first, end));
+        List<T> droppedRows = rowsOf(slots.subList(end, slots.size()));
+
+        // Pages of the replaced slots that are still in flight would apply to slots that no longer exist
+        for (Slot<T> slot : slots) {
+            if (slot.loading && keyPrefix != null) {
+                backgroundExecutor.invalidate(pageKey(slot));
+            }
+            slot.loading = false;
+        }
+        generation++;
+        slots.subList(first, slots.size()).clear();
+        List<T> newRows = new ArrayList<>();
+        String cursor = firstSlot.startCursor;
+        for (Page<T> page : pages) {
+            Slot<T> slot = new Slot<>(cursor, start + newRows.size());
+            slot.discovered = true;
+            slot.items = new ArrayList<>(page.getItems());
+            slot.count = slot.items.size();
+            slot.nextCursor = page.getNextCursor();
+            slots.add(slot);
+            newRows.addAll(slot.items);
+            cursor = slot.nextCursor;
+        }
+
+        // Walk both row lists in order: rows present in both are replaced in place, rows only in the old
+        // list are removed and rows only in the new one are added. A row whose position changed relative
+        // to the others, for example after its sort column was edited, is removed and added again.
+        Set<T> oldSet = new HashSet<>(oldRows);
+        Set<T> newSet = new HashSet<>(newRows);
+        Set<T> moved = new HashSet<>();
+        beginChange();
+        int position = start;
+        int i = 0;
+        int j = 0;
+        while (i < oldRows.size() || j < newRows.size()) {
+            T oldRow = i < oldRows.size() ? oldRows.get(i) : null;
+            T newRow = j < newRows.size() ? newRows.get(j) : null;
+            if (i < oldRows.size() && (oldRow == null || !newSet.contains(oldRow))) {
+                nextRemove(position, oldRow);
+                i++;
+            } else if (j < newRows.size() && (!oldSet.contains(newRow) || moved.contains(newRow))) {
+                nextAdd(position, position + 1);
+                position++;
+                j++;
+            } else if (sameRow(oldRow, newRow)) {
+                if (oldRow != newRow) {
+                    nextSet(position, oldRow);
+                }
+                position++;
+                i++;
+                j++;
+            } else {
+                moved.add(oldRow);
+                nextRemove(position, oldRow);
+                i++;
+            }
+        }
+        if (!droppedRows.isEmpty()) {
+            nextRemove(start + newRows.size(), droppedRows);
+        }
+        size = start + newRows.size();
+        endChange();
+        evictFarPages();
+        onPageLoaded.run();
+    }
+
+    /**
+     * Lists the rows of the given pages, with null for the rows of pages that are not loaded.
+     */
+    private static <T> List<T> rowsOf(List<Slot<T>> pages) {
+        List<T> rows = new ArrayList<>();
+        for (Slot<T> slot : pages) {
+            for (int i = 0; i < slot.count; i++) {
+                rows.add(slot.items != null && i < slot.items.size() ? slot.items.get(i) : null);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Whether a loaded row and a reloaded row are the same row; rows that were not loaded match nothing.
+     */
+    private static <T> boolean sameRow(T oldRow, T newRow) {
+        return oldRow != null && oldRow.equals(newRow);
+    }
+
+    /**
+     * Drops the loaded pages farthest from the most recently requested row until at most
+     * {@link #maxLoadedPages} are held.
+     */
+    private void evictFarPages() {
+        List<Slot<T>> loaded = new ArrayList<>();
+        for (Slot<T> slot : slots) {
+            if (slot.items != null) {
+                loaded.add(slot);
+            }
+        }
+        while (loaded.size() > maxLoadedPages) {
+            Slot<T> farthest = loaded.get(0);
+            for (Slot<T> slot : loaded) {
+                if (slot.distanceTo(lastAccessedIndex) > farthest.distanceTo(lastAccessedIndex)) {
+                    farthest = slot;
+                }
+            }
+            loaded.remove(farthest);
+            List<T> evicted = farthest.items;
+            farthest.items = null;
+            beginChange();
+            for (int i = 0; i < evicted.size(); i++) {
+                nextSet(farthest.offset + i, evicted.get(i));
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * One page of the list. Once discovered, its cursor and row count are kept even while its rows are evicted.
+     */
+    private static final class Slot<T> {
+        private final String startCursor; // Cursor that loads this page, null for the first page
+        private int offset;               // Index of the first row of this page in the list
+        private int count;                // Number of rows, known once discovered
+        private boolean discovered;       // Whether the page has been loaded at least once
+        private boolean loading;
+        private String nextCursor;        // Cursor of the following page, null if this is the last page
+        private List<T> items;            // The loaded rows, or null while not loaded
+
+        private Slot(String startCursor, int offset) {
+            this.startCursor = startCursor;
+            this.offset = offset;
+        }
+
+        private int distanceTo(int index) {
+            if (index < offset) {
+                return offset - index;
+            }
+            return Math.max(0, index - (offset + count - 1));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskforge.ui;
 
+import com.taskforge.AppContext;
 import com.taskforge.util.DatabaseManager;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader; // Import FXMLLoader
@@ -12,7 +13,7 @@ import java.io.IOException; // Import IOException
 /**
  * Main application class for TaskForge.
  * This class extends JavaFX's Application, serving as the entry point for the GUI.
- * It initializes the database and loads the initial login/registration view.
+ * It initializes the database, builds the shared {@link AppContext} and loads the initial login/registration view.
  *
  * <p>
  * The {@code start} method is the primary entry point for all JavaFX applications.
@@ -28,6 +29,9 @@ import java.io.IOException; // Import IOException
  */
 public class MainApp extends Application {
 
+    /** The application-wide DAO and service graph, shared by every screen. */
+    private AppContext context;
+
     /**
      * The main entry point for all JavaFX applications.
      * The start method is called after the init method has returned,
@@ -43,11 +47,14 @@ public class MainApp extends Application {
         // Initialize the database schema when the application starts.
         // This will create all necessary tables if they don't already exist.
         DatabaseManager.initializeDatabase();
+        // Build the DAO and service graph once; controllers receive it through the controller factory.
+        this.context = new AppContext();
 
         try {
             // Load the FXML file for the login view.
             // The path is relative to the classpath.
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/LoginView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent root = loader.load(); // Load the FXML and get the root node
 
             // Create a Scene with the loaded root layout and define its initial dimensions
@@ -68,6 +75,18 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Called when the application is about to exit.
+     * Stops background work and releases the pooled database connections.
+     */
+    @Override
+    public void stop() {
+        if (context != null) {
+            context.shutdown();
+        }
+        DatabaseManager.shutdown();
+    }
+
     /**
      * The main method is the entry point for the Java application.
      * It calls the launch() method, which is inherited from Application,
@@ -0,0 +1,53 @@
+package com.taskforge.ui;
+
+import com.taskforge.dao.TaskOrder;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Pushes the sorting of a task table down to the database.
+ * Clicking a column header does not sort the loaded rows; it reports the matching {@link TaskOrder}
+ * so that the controller can query the rows again in that order.
+ */
+public final class TaskTableSort {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private TaskTableSort() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Installs a sort policy on the table that translates its sort order into a TaskOrder.
+     * Only the columns in {@code sortFields} stay sortable, and only the first column of a
+     * multi-column sort is used.
+     *
+     * @param table The task table.
+     * @param sortFields The task field each sortable column sorts by.
+     * @param onOrderChanged Called with the new order whenever it changes, starting from {@link TaskOrder#DEFAULT}.
+     * @param <S> The type of the table's rows, such as tasks or task summaries.
+     */
+    public static <S> void install(TableView<S> table, Map<TableColumn<S, ?>, TaskOrder.Field> sortFields,
+                                   Consumer<TaskOrder> onOrderChanged) {
+        for (TableColumn<S, ?> column : table.getColumns()) {
+            column.setSortable(sortFields.containsKey(column));
+        }
+        TaskOrder[] current = {TaskOrder.DEFAULT};
+        table.setSortPolicy(sortedTable -> {
+            TaskOrder order = TaskOrder.DEFAULT;
+            if (!sortedTable.getSortOrder().isEmpty()) {
+                TableColumn<S, ?> column = sortedTable.getSortOrder().get(0);
+                order = new TaskOrder(sortFields.get(column), column.getSortType() == TableColumn.SortType.DESCENDING);
+            }
+            if (!order.equals(current[0])) {
+                current[0] = order;
+                onOrderChanged.accept(order);
+            }
+            return true;
+        });
+    }
+}
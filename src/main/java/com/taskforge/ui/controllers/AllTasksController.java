@@ -1,29 +1,39 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TaskDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO; // Import UserTeamDAO
-import com.taskforge.model.Task;
+import com.taskforge.AppContext;
+import com.taskforge.dao.Page;
+import com.taskforge.dao.TaskOrder;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.EventBus;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.model.TaskSearchResult;
+import com.taskforge.model.TaskSummary;
 import com.taskforge.model.Priority;
 import com.taskforge.model.Status;
 import com.taskforge.model.User; // Import User model
 import com.taskforge.model.Visibility; // Import Visibility enum
+import com.taskforge.service.SearchService;
 import com.taskforge.service.TaskManagerService;
-import com.taskforge.service.UserManagerService; // Import UserManagerService
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import com.taskforge.ui.BackgroundExecutor;
+import com.taskforge.ui.LazyPagedList;
+import com.taskforge.ui.TaskTableSort;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.control.TextField;
+import javafx.util.Callback;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Controller for the AllTasksView.fxml.
@@ -34,97 +44,118 @@ import java.util.List;
 public class AllTasksController {
 
     @FXML
-    private TableView<Task> allTasksTable;
+    private TableView<TaskSummary> allTasksTable;
     @FXML
-    private TableColumn<Task, String> titleColumn;
+    private TableColumn<TaskSummary, String> titleColumn;
     @FXML
-    private TableColumn<Task, String> descriptionColumn;
+    private TableColumn<TaskSummary, String> matchColumn; // Snippet of the matching text, shown while searching
     @FXML
-    private TableColumn<Task, String> dueDateColumn; // Will display formatted LocalDateTime
+    private TableColumn<TaskSummary, String> descriptionColumn; // Shows the start of the description
     @FXML
-    private TableColumn<Task, Priority> priorityColumn;
+    private TableColumn<TaskSummary, String> dueDateColumn; // Will display formatted LocalDateTime
     @FXML
-    private TableColumn<Task, Status> statusColumn;
+    private TableColumn<TaskSummary, Priority> priorityColumn;
     @FXML
-    private TableColumn<Task, String> assignedToColumn; // Will display assigned user's username
+    private TableColumn<TaskSummary, Status> statusColumn;
     @FXML
-    private TableColumn<Task, String> projectColumn; // Will display project name
+    private TableColumn<TaskSummary, String> assignedToColumn; // Will display assigned user's username
     @FXML
-    private TableColumn<Task, Visibility> visibilityColumn; // New column for Visibility
+    private TableColumn<TaskSummary, String> projectColumn; // Will display project name
     @FXML
-    private TableColumn<Task, String> creatorColumn; // New column for Creator
+    private TableColumn<TaskSummary, Visibility> visibilityColumn; // New column for Visibility
     @FXML
-    private TableColumn<Task, Void> actionsColumn; // For buttons like Edit/Delete
+    private TableColumn<TaskSummary, String> creatorColumn; // New column for Creator
+    @FXML
+    private TableColumn<TaskSummary, Void> actionsColumn; // For buttons like Edit/Delete
     @FXML
     private Label messageLabel;
+    @FXML
+    private ProgressIndicator loadingIndicator; // Shown while tasks are loading in the background
+    @FXML
+    private TextField searchField;
 
     private User currentUser; // To store the currently logged-in user
-    private TaskManagerService taskManagerService;
-    private ObservableList<Task> taskList = FXCollections.observableArrayList();
+    private final TaskManagerService taskManagerService;
+    private final SearchService searchService;
+    private final BackgroundExecutor backgroundExecutor;
+    private final EventBus eventBus;
+    // Holds only the pages around the visible rows; further pages are fetched while scrolling
+    private final LazyPagedList<TaskSummary> taskList;
+    private TaskOrder taskOrder = TaskOrder.DEFAULT; // Sort order of the table, applied by the database
+    private String searchQuery; // Active full-text search, or null to list all visible tasks
+    // Match snippets of the current search results by task ID, filled in by the background search
+    private final Map<Integer, String> searchSnippets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an AllTasksController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public AllTasksController(AppContext context) {
+        this.taskManagerService = context.getTaskManagerService();
+        this.searchService = context.getSearchService();
+        this.backgroundExecutor = context.getBackgroundExecutor();
+        this.eventBus = context.getEventBus();
+        this.taskList = new LazyPagedList<>(backgroundExecutor, this, TaskManagerService.DEFAULT_PAGE_SIZE);
+    }
 
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the table columns.
      */
     @FXML
     public void initialize() {
         System.out.println("AllTasksController: initialize() called. HashCode: " + this.hashCode());
-        // Initialize DAOs and Services
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO);
-        TaskDAO taskDAO = new TaskDAO(userDAO, projectDAO);
-        NotificationDAO notificationDAO = new NotificationDAO(userDAO);
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize UserManagerService first as TaskManagerService depends on it
-        UserManagerService userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-        // Corrected TaskManagerService instantiation to pass userManagerService
-        this.taskManagerService = new TaskManagerService(taskDAO, userDAO, projectDAO, notificationDAO, userTeamDAO, userManagerService);
-
         // Configure table columns
-        titleColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
-        descriptionColumn.setCellValueFactory(new PropertyValueFactory<>("description"));
-        priorityColumn.setCellValueFactory(new PropertyValueFactory<>("priority"));
-        statusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
+        // Rows whose page is still loading have no task; their cells stay blank
+        titleColumn.setCellValueFactory(summaryValue(TaskSummary::title));
+        descriptionColumn.setCellValueFactory(summaryValue(TaskSummary::descriptionExcerpt));
+        priorityColumn.setCellValueFactory(summaryValue(TaskSummary::priority));
+        statusColumn.setCellValueFactory(summaryValue(TaskSummary::status));
         // New columns
-        visibilityColumn.setCellValueFactory(new PropertyValueFactory<>("visibility"));
-        creatorColumn.setCellValueFactory(cellData -> {
-            Task task = cellData.getValue();
-            return new javafx.beans.property.SimpleStringProperty(
-                    task.getCreator() != null ? task.getCreator().getUsername() : "Unknown"
-            );
-        });
+        visibilityColumn.setCellValueFactory(summaryValue(TaskSummary::visibility));
+        creatorColumn.setCellValueFactory(summaryValue(task -> task.creatorName() != null ? task.creatorName() : "Unknown"));
+
+        matchColumn.setCellValueFactory(summaryValue(task -> searchSnippets.getOrDefault(task.id(), "")));
 
         // Custom cell factory for Due Date to format LocalDateTime
-        dueDateColumn.setCellValueFactory(cellData -> {
-            LocalDateTime dueDate = cellData.getValue().getDueDate();
-            return new javafx.beans.property.SimpleStringProperty(
-                    dueDate != null ? dueDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "N/A"
-            );
-        });
+        dueDateColumn.setCellValueFactory(summaryValue(task -> task.dueDate() != null
+                ? task.dueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "N/A"));
 
         // Custom cell factory for Assigned To to display username
-        assignedToColumn.setCellValueFactory(cellData -> {
-            Task task = cellData.getValue();
-            return new javafx.beans.property.SimpleStringProperty(
-                    task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : "Unassigned"
-            );
-        });
+        assignedToColumn.setCellValueFactory(summaryValue(task -> task.assigneeName() != null ? task.assigneeName() : "Unassigned"));
 
         // Custom cell factory for Project to display project name
-        projectColumn.setCellValueFactory(cellData -> {
-            Task task = cellData.getValue();
-            return new javafx.beans.property.SimpleStringProperty(
-                    task.getProject() != null ? task.getProject().getName() : "None"
-            );
-        });
+        projectColumn.setCellValueFactory(summaryValue(task -> task.projectName() != null ? task.projectName() : "None"));
 
         // TODO: Implement actionsColumn for Edit/Delete buttons (if applicable for All Tasks view)
-        // actionsColumn.setCellFactory(param -> new TableCell<Task, Void>() { ... });
+        // actionsColumn.setCellFactory(param -> new TableCell<TaskSummary, Void>() { ... });
 
         allTasksTable.setItems(taskList);
+        taskList.setOnPageLoaded(() -> {
+            updateLoadingIndicator();
+            if (searchQuery != null) {
+                displayMessage(taskList.size() + " matching task(s) found for \"" + searchQuery + "\".", false);
+            } else if (taskList.isEmpty()) {
+                displayMessage("No tasks found or visible to you in the system.", false);
+            } else {
+                displayMessage("All visible tasks loaded successfully.", false);
+            }
+        });
+        taskList.setOnError(error -> {
+            updateLoadingIndicator();
+            displayMessage("Error loading tasks: " + error.getMessage(), true);
+        });
+        // Clicking a column header reloads the tasks in that order instead of sorting the loaded rows
+        TaskTableSort.install(allTasksTable, Map.of(
+                titleColumn, TaskOrder.Field.TITLE,
+                dueDateColumn, TaskOrder.Field.DUE_DATE,
+                priorityColumn, TaskOrder.Field.PRIORITY,
+                statusColumn, TaskOrder.Field.STATUS), order -> {
+            taskOrder = order;
+            loadTasksForCurrentUser();
+        });
 
         // Tasks will be refreshed when setCurrentUser is called
     }
@@ -140,29 +171,89 @@ public class AllTasksController {
         System.out.println("AllTasksController: setCurrentUser called. User: " + (user != null ? user.getUsername() : "null") + " (Instance: " + this.hashCode() + ")");
         // Removed direct call to handleRefreshAllTasks() from here.
         // It will now be explicitly called by DashboardController after setCurrentUser.
+        eventBus.unsubscribeAll(this);
+        if (user != null) {
+            // Pick up changes from other instances sharing the database without reloading every page
+            eventBus.subscribe(this, DatabaseChanged.class, event -> {
+                if (event.affects(ChangeLogEntry.TASKS) || event.affects(ChangeLogEntry.PROJECTS)) {
+                    Platform.runLater(taskList::reconcile);
+                }
+            });
+        }
     }
 
     /**
-     * Loads and displays all tasks visible to the current user.
+     * Loads and displays the tasks visible to the current user, in the table's sort order.
+     * Pages are queried in the background as the table scrolls to them.
+     * While a search is active, the matching tasks are shown instead, ordered by relevance.
      * This method should be called after the currentUser has been set.
      */
     public void loadTasksForCurrentUser() {
         System.out.println("AllTasksController: loadTasksForCurrentUser called. Current User: " + (currentUser != null ? currentUser.getUsername() : "null") + " (Instance: " + this.hashCode() + ")");
         if (currentUser == null) {
             displayMessage("Cannot load tasks: No user is logged in.", true);
-            taskList.clear();
+            taskList.load(null, null);
             return;
         }
         System.out.println("Loading all tasks visible to user: " + currentUser.getUsername() + "...");
-        taskList.clear(); // Clear existing items
-        List<Task> tasks = taskManagerService.getAllVisibleTasks(currentUser.getId());
-        taskList.addAll(tasks);
+        int userId = currentUser.getId();
+        matchColumn.setVisible(searchQuery != null);
+        if (searchQuery != null) {
+            String query = searchQuery;
+            taskList.load("task-search:" + userId + ":" + query, (pageSize, cursor) -> searchTasks(query, userId));
+            updateLoadingIndicator();
+            return;
+        }
+        TaskOrder order = taskOrder;
+        taskList.load("visible-tasks:" + userId + ":" + order,
+                (pageSize, cursor) -> taskManagerService.getAllVisibleTaskSummaries(userId, order, pageSize, cursor));
+        updateLoadingIndicator();
+    }
 
-        if (tasks.isEmpty()) {
-            displayMessage("No tasks found or visible to you in the system.", false);
-        } else {
-            displayMessage("All visible tasks loaded successfully.", false);
+    /**
+     * Runs a full-text search in the background and returns its results as a single page.
+     * The snippets of the results are recorded for the match column.
+     *
+     * @param query The text typed into the search field.
+     * @param userId The ID of the user searching.
+     * @return Summaries of the matching tasks, most relevant first.
+     */
+    private Page<TaskSummary> searchTasks(String query, int userId) {
+        List<TaskSearchResult> results = searchService.searchTasks(query, userId);
+        List<TaskSummary> tasks = new ArrayList<>(results.size());
+        for (TaskSearchResult result : results) {
+            searchSnippets.put(result.task().id(), result.snippet());
+            tasks.add(result.task());
         }
+        return new Page<>(tasks, null);
+    }
+
+    /**
+     * Handles a search from the search field, either by pressing Enter or clicking "Search".
+     * An empty search field shows all visible tasks again.
+     */
+    @FXML
+    private void handleSearch() {
+        String query = searchField.getText() == null ? "" : searchField.getText().trim();
+        searchQuery = query.isEmpty() ? null : query;
+        searchSnippets.clear();
+        loadTasksForCurrentUser();
+    }
+
+    /**
+     * Handles the action when the "Clear Search" button is clicked. Shows all visible tasks again.
+     */
+    @FXML
+    private void handleClearSearch() {
+        searchField.clear();
+        handleSearch();
+    }
+
+    /**
+     * Shows the loading indicator while this controller has background requests pending.
+     */
+    private void updateLoadingIndicator() {
+        loadingIndicator.setVisible(backgroundExecutor.hasPending(this));
     }
 
     /**
@@ -175,6 +266,19 @@ public class AllTasksController {
         loadTasksForCurrentUser(); // Delegate to the dedicated loading method
     }
 
+    /**
+     * Creates a cell value factory showing one value of a row's task summary.
+     * Rows whose page is still loading get no value.
+     *
+     * @param value Reads the shown value from a summary.
+     * @param <T> The type of the column's values.
+     * @return The cell value factory.
+     */
+    private static <T> Callback<TableColumn.CellDataFeatures<TaskSummary, T>, ObservableValue<T>> summaryValue(
+            Function<TaskSummary, T> value) {
+        return cellData -> cellData.getValue() == null ? null : new ReadOnlyObjectWrapper<>(value.apply(cellData.getValue()));
+    }
+
     /**
      * Displays a message to the user in the messageLabel.
      *
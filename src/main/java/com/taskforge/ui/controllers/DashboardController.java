@@ -1,11 +1,19 @@
 package com.taskforge.ui.controllers;
 
+import com.taskforge.AppContext;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.TaskCounts;
 import com.taskforge.model.User;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
@@ -17,6 +25,7 @@ import java.io.IOException;
  * This class serves as the main navigation hub for the application after a user logs in.
  * It manages the display of different functional views (My Tasks, All Tasks, Projects, Teams, Users, Notifications)
  * within the main application window and ensures the logged-in user context is passed to sub-controllers.
+ * The side bar shows the user's unread notification count and task counts, which are counted by the database.
  */
 public class DashboardController {
 
@@ -24,8 +33,30 @@ public class DashboardController {
     private BorderPane rootLayout; // The root layout of the dashboard view
     @FXML
     private Label loggedInUserLabel; // Label to display the logged-in user's name
+    @FXML
+    private Button notificationsButton; // Shows the unread count as a badge
+    @FXML
+    private Label myTaskCountsLabel;
+    @FXML
+    private Label myTaskStatusLabel;
+    @FXML
+    private Label myTaskPriorityLabel;
+    @FXML
+    private Label overdueTasksLabel;
 
     private User loggedInUser; // Stores the currently logged-in user
+    private Object currentViewController; // Controller of the view shown in the center, if any
+    private final AppContext context;
+
+    /**
+     * Constructs a DashboardController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public DashboardController(AppContext context) {
+        this.context = context;
+    }
 
     /**
      * Sets the currently logged-in user for the dashboard.
@@ -38,11 +69,69 @@ public class DashboardController {
         this.loggedInUser = user;
         if (loggedInUser != null) {
             loggedInUserLabel.setText("Welcome, " + loggedInUser.getUsername() + "!");
+            subscribeToChanges(loggedInUser.getId());
+            refreshCounts();
             // Optionally, load a default view (e.g., My Tasks) when the dashboard opens
             handleMyTasks();
         }
     }
 
+    /**
+     * Refreshes the counts whenever tasks or the user's notifications change, in this instance or another
+     * one sharing the database file.
+     *
+     * @param userId The ID of the logged-in user.
+     */
+    private void subscribeToChanges(int userId) {
+        context.getEventBus().unsubscribeAll(this);
+        context.getEventBus().subscribe(this, DatabaseChanged.class, event -> {
+            if (event.affects(ChangeLogEntry.TASKS) || event.affects(ChangeLogEntry.NOTIFICATIONS, userId)) {
+                Platform.runLater(this::refreshCounts);
+            }
+        });
+    }
+
+    /**
+     * Counts the logged-in user's unread notifications and tasks in the background and shows the results.
+     * Only aggregate queries run; no notification or task is loaded.
+     */
+    private void refreshCounts() {
+        if (loggedInUser == null) {
+            return;
+        }
+        int userId = loggedInUser.getId();
+        context.getBackgroundExecutor().submit(this, "dashboard-counts:" + userId,
+                () -> new DashboardCounts(
+                        context.getNotificationDAO().countUnreadNotificationsByUserId(userId),
+                        context.getTaskManagerService().getTaskCountsByAssignedUser(userId, userId),
+                        context.getTaskManagerService().countOverdueTasks(userId)),
+                this::showCounts,
+                error -> System.err.println("Error loading dashboard counts: " + error.getMessage()));
+    }
+
+    /**
+     * Shows counts loaded in the background. Runs on the JavaFX Application Thread.
+     *
+     * @param counts The counts to show.
+     */
+    private void showCounts(DashboardCounts counts) {
+        notificationsButton.setText(counts.unreadNotifications() > 0
+                ? "Notifications (" + counts.unreadNotifications() + ")" : "Notifications");
+        TaskCounts mine = counts.myTasks();
+        myTaskCountsLabel.setText(mine.total() + " assigned, " + mine.overdue() + " overdue");
+        StringBuilder byStatus = new StringBuilder();
+        for (Status status : Status.values()) {
+            byStatus.append(byStatus.isEmpty() ? "" : "\n").append(status).append(": ").append(mine.count(status));
+        }
+        myTaskStatusLabel.setText(byStatus.toString());
+        StringBuilder byPriority = new StringBuilder();
+        for (Priority priority : Priority.values()) {
+            byPriority.append(byPriority.isEmpty() ? "" : "\n").append(priority).append(" priority: ").append(mine.count(priority));
+        }
+        myTaskPriorityLabel.setText(byPriority.toString());
+        overdueTasksLabel.setText("Overdue tasks visible to you: " + counts.overdueVisibleTasks());
+    }
+
     /**
      * Handles the action when the "Logout" button is clicked.
      * Navigates the user back to the LoginView.
@@ -50,11 +139,17 @@ public class DashboardController {
     @FXML
     private void handleLogout() {
         try {
-            // Clear the logged-in user
+            // Clear the logged-in user and stop loading data for the current view
             this.loggedInUser = null;
+            context.getBackgroundExecutor().cancelAll(this);
+            context.getEventBus().unsubscribeAll(this);
+            context.getBackgroundExecutor().cancelAll(currentViewController);
+            context.getEventBus().unsubscribeAll(currentViewController);
+            currentViewController = null;
 
             // Load the LoginView FXML
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/LoginView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent loginRoot = loader.load();
 
             // Get the current stage from the root layout
@@ -78,6 +173,7 @@ public class DashboardController {
     private void handleMyTasks() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/MyTasksView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent myTasksRoot = loader.load();
 
             MyTasksController myTasksController = loader.getController();
@@ -85,7 +181,7 @@ public class DashboardController {
             // Explicitly load tasks after setting the user
             myTasksController.loadTasksForCurrentUser();
 
-            rootLayout.setCenter(myTasksRoot);
+            showView(myTasksRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading MyTasksView.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -101,6 +197,7 @@ public class DashboardController {
     private void handleAllTasks() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/AllTasksView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent allTasksRoot = loader.load();
 
             AllTasksController allTasksController = loader.getController();
@@ -108,7 +205,7 @@ public class DashboardController {
             // Explicitly load tasks after setting the user
             allTasksController.loadTasksForCurrentUser();
 
-            rootLayout.setCenter(allTasksRoot);
+            showView(allTasksRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading AllTasksView.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -123,13 +220,14 @@ public class DashboardController {
     private void handleProjects() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/ProjectsView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent projectsRoot = loader.load();
 
             // ProjectsController does not currently need the currentUser, but can be extended
             // ProjectsController projectsController = loader.getController();
             // projectsController.setCurrentUser(loggedInUser); // If needed
 
-            rootLayout.setCenter(projectsRoot);
+            showView(projectsRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading ProjectsView.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -145,12 +243,13 @@ public class DashboardController {
     private void handleTeams() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/TeamsView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent teamsRoot = loader.load();
 
             TeamsController teamsController = loader.getController();
             teamsController.setCurrentUser(loggedInUser); // Pass the logged-in user
 
-            rootLayout.setCenter(teamsRoot);
+            showView(teamsRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading TeamsView.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -166,12 +265,13 @@ public class DashboardController {
     private void handleUsers() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/UsersView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent usersRoot = loader.load();
 
             UsersController usersController = loader.getController();
             usersController.setCurrentUser(loggedInUser); // Pass the logged-in user
 
-            rootLayout.setCenter(usersRoot);
+            showView(usersRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading UsersView.fxml: " + e.getMessage());
             e.printStackTrace();
@@ -187,16 +287,39 @@ public class DashboardController {
     private void handleNotifications() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/NotificationsView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent notificationsRoot = loader.load();
 
             NotificationsController notificationsController = loader.getController();
             notificationsController.setCurrentUser(loggedInUser); // Pass the logged-in user
             notificationsController.loadNotificationsForCurrentUser(); // Explicitly load notifications
 
-            rootLayout.setCenter(notificationsRoot);
+            showView(notificationsRoot, loader.getController());
         } catch (IOException e) {
             System.err.println("Error loading NotificationsView.fxml: " + e.getMessage());
             e.printStackTrace();
         }
     }
+
+    /**
+     * Shows a view in the center of the dashboard.
+     * Background loads still running for the previously shown view are cancelled and its event subscriptions removed.
+     *
+     * @param viewRoot The root node of the view to show.
+     * @param controller The controller of the view.
+     */
+    private void showView(Parent viewRoot, Object controller) {
+        if (currentViewController != null) {
+            context.getBackgroundExecutor().cancelAll(currentViewController);
+            context.getEventBus().unsubscribeAll(currentViewController);
+        }
+        currentViewController = controller;
+        rootLayout.setCenter(viewRoot);
+    }
+
+    /**
+     * The counts shown in the side bar, loaded in the background.
+     */
+    private record DashboardCounts(int unreadNotifications, TaskCounts myTasks, int overdueVisibleTasks) {
+    }
 }
@@ -1,9 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.Project;
 import com.taskforge.model.Team;
 import com.taskforge.service.ProjectManagerService;
@@ -37,26 +34,26 @@ public class EditProjectController {
     private Label messageLabel;
 
     private Project projectToEdit; // The project object being edited
-    private ProjectManagerService projectManagerService;
-    private UserManagerService userManagerService; // Needed to get all teams for choice box
+    private final ProjectManagerService projectManagerService;
+    private final UserManagerService userManagerService; // Needed to get all teams for choice box
+
+    /**
+     * Constructs an EditProjectController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public EditProjectController(AppContext context) {
+        this.projectManagerService = context.getProjectManagerService();
+        this.userManagerService = context.getUserManagerService();
+    }
 
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the ChoiceBox and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the ChoiceBox.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO);
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO); // Required for UserManagerService
-
-        // Initialize Services
-        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO);
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-
         // Populate Team ChoiceBox
         List<Team> allTeams = userManagerService.getAllTeams();
         // Add a "None" option for unassigned projects
@@ -1,11 +1,7 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TaskDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
+import com.taskforge.dao.TaskFetchPlan;
 import com.taskforge.model.Priority;
 import com.taskforge.model.Project;
 import com.taskforge.model.Status;
@@ -16,6 +12,7 @@ import com.taskforge.model.Visibility; // Import Visibility enum
 import com.taskforge.service.ProjectManagerService;
 import com.taskforge.service.TaskManagerService;
 import com.taskforge.service.UserManagerService;
+import com.taskforge.ui.BackgroundExecutor;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -23,12 +20,14 @@ import javafx.scene.control.Button;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -62,34 +61,35 @@ public class EditTaskController {
     private ChoiceBox<Visibility> editTaskVisibilityChoiceBox; // New: ChoiceBox for Visibility
     @FXML
     private Label messageLabel;
+    @FXML
+    private ProgressIndicator loadingIndicator; // Shown while the ChoiceBoxes are loading in the background
 
     private Task taskToEdit; // The task object being edited
     private User currentUser; // The currently logged-in user (updater), passed from MyTasksController
-    private TaskManagerService taskManagerService;
-    private UserManagerService userManagerService;
-    private ProjectManagerService projectManagerService;
+    private final TaskManagerService taskManagerService;
+    private final UserManagerService userManagerService;
+    private final ProjectManagerService projectManagerService;
+    private final BackgroundExecutor backgroundExecutor;
+
+    /**
+     * Constructs an EditTaskController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public EditTaskController(AppContext context) {
+        this.userManagerService = context.getUserManagerService();
+        this.taskManagerService = context.getTaskManagerService();
+        this.projectManagerService = context.getProjectManagerService();
+        this.backgroundExecutor = context.getBackgroundExecutor();
+    }
 
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the ChoiceBoxes and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the ChoiceBoxes.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO);
-        TaskDAO taskDAO = new TaskDAO(userDAO, projectDAO);
-        NotificationDAO notificationDAO = new NotificationDAO(userDAO);
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO); // Required for UserManagerService and TaskManagerService
-
-        // Initialize Services
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-        // Corrected TaskManagerService instantiation to pass userManagerService
-        this.taskManagerService = new TaskManagerService(taskDAO, userDAO, projectDAO, notificationDAO, userTeamDAO, userManagerService);
-        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO);
-
         // Populate Priority ChoiceBox
         editTaskPriorityChoiceBox.setItems(FXCollections.observableArrayList(Priority.values()));
 
@@ -140,6 +140,7 @@ public class EditTaskController {
     /**
      * Populates the "Assigned To" and "Project" ChoiceBoxes based on the current user's team memberships.
      * This ensures users can only assign tasks to team members or associate with projects in their teams.
+     * The membership checks run in the background; the ChoiceBoxes are filled once they complete.
      */
     private void populateAssignedToAndProjectChoiceBoxes() {
         if (currentUser == null) {
@@ -147,58 +148,127 @@ public class EditTaskController {
             return;
         }
 
+        User user = currentUser;
+        backgroundExecutor.submit(this, null,
+                () -> loadChoices(user),
+                this::applyChoices,
+                error -> {
+                    updateLoadingIndicator();
+                    displayMessage("Error loading users and projects: " + error.getMessage(), true);
+                });
+        updateLoadingIndicator();
+    }
+
+    /**
+     * Loads the users and projects the given user may associate a task with.
+     * Runs on a background thread.
+     *
+     * @param user The user editing the task.
+     * @return The assignable users and projects, each list starting with a null "none" option.
+     */
+    private TaskChoices loadChoices(User user) {
         // Populate Assigned To (Users) ChoiceBox - Filter by users in common teams
         List<User> allUsers = userManagerService.getAllUsers();
-        ObservableList<User> assignableUsers = FXCollections.observableArrayList();
+        List<User> assignableUsers = new ArrayList<>();
         assignableUsers.add(null); // Option for "Unassigned"
 
         // Add users who share at least one team with the current user, plus the current user themselves
-        for (User user : allUsers) {
-            if (user.equals(currentUser) || userManagerService.areUsersInSameTeam(currentUser.getId(), user.getId())) {
-                assignableUsers.add(user);
+        for (User candidate : allUsers) {
+            if (candidate.equals(user) || userManagerService.areUsersInSameTeam(user.getId(), candidate.getId())) {
+                assignableUsers.add(candidate);
             }
         }
-        editTaskAssignedToChoiceBox.setItems(assignableUsers);
-
 
         // Populate Project ChoiceBox - Filter by projects in teams the current user is a member of
         List<Project> allProjects = projectManagerService.getAllProjects();
-        ObservableList<Project> assignableProjects = FXCollections.observableArrayList();
+        List<Project> assignableProjects = new ArrayList<>();
         assignableProjects.add(null); // Option for "No Project"
 
         // Add projects whose associated team the current user is a member of
         for (Project project : allProjects) {
-            if (project.getTeam() == null || userManagerService.isUserMemberOfTeam(currentUser.getId(), project.getTeam().getId())) {
+            if (project.getTeam() == null || userManagerService.isUserMemberOfTeam(user.getId(), project.getTeam().getId())) {
                 assignableProjects.add(project);
             }
         }
+        return new TaskChoices(assignableUsers, assignableProjects);
+    }
+
+    /**
+     * Fills the ChoiceBoxes with choices loaded in the background. Runs on the JavaFX Application Thread.
+     *
+     * @param choices The assignable users and projects.
+     */
+    private void applyChoices(TaskChoices choices) {
+        updateLoadingIndicator();
+        ObservableList<User> assignableUsers = FXCollections.observableArrayList(choices.users());
+        editTaskAssignedToChoiceBox.setItems(assignableUsers);
+        ObservableList<Project> assignableProjects = FXCollections.observableArrayList(choices.projects());
         editTaskProjectChoiceBox.setItems(assignableProjects);
+        selectAssignedToAndProject();
+    }
 
-        // Re-select current assignedTo and project if they are still valid options
-        if (taskToEdit != null) {
-            if (taskToEdit.getAssignedTo() != null && assignableUsers.contains(taskToEdit.getAssignedTo())) {
-                editTaskAssignedToChoiceBox.getSelectionModel().select(taskToEdit.getAssignedTo());
-            } else {
-                editTaskAssignedToChoiceBox.getSelectionModel().selectFirst(); // Select "Unassigned"
-            }
+    /**
+     * Selects the task's assignee and project in the ChoiceBoxes if they are still valid options.
+     * Does nothing until both the task and the choices have been loaded, whichever arrives last selects.
+     */
+    private void selectAssignedToAndProject() {
+        ObservableList<User> assignableUsers = editTaskAssignedToChoiceBox.getItems();
+        ObservableList<Project> assignableProjects = editTaskProjectChoiceBox.getItems();
+        if (taskToEdit == null || assignableUsers.isEmpty()) {
+            return;
+        }
+        if (taskToEdit.getAssignedTo() != null && assignableUsers.contains(taskToEdit.getAssignedTo())) {
+            editTaskAssignedToChoiceBox.getSelectionModel().select(taskToEdit.getAssignedTo());
+        } else {
+            editTaskAssignedToChoiceBox.getSelectionModel().selectFirst(); // Select "Unassigned"
+        }
 
-            if (taskToEdit.getProject() != null && assignableProjects.contains(taskToEdit.getProject())) {
-                editTaskProjectChoiceBox.getSelectionModel().select(taskToEdit.getProject());
-            } else {
-                editTaskProjectChoiceBox.getSelectionModel().selectFirst(); // Select "No Project"
-            }
+        if (taskToEdit.getProject() != null && assignableProjects.contains(taskToEdit.getProject())) {
+            editTaskProjectChoiceBox.getSelectionModel().select(taskToEdit.getProject());
+        } else {
+            editTaskProjectChoiceBox.getSelectionModel().selectFirst(); // Select "No Project"
         }
     }
 
+    /**
+     * Shows the loading indicator while this controller has background requests pending.
+     */
+    private void updateLoadingIndicator() {
+        loadingIndicator.setVisible(backgroundExecutor.hasPending(this));
+    }
+
+    /**
+     * Loads the task to be edited in the background and populates the form fields once it arrives.
+     * The task lists only hold summaries, so the parent controller (e.g., MyTasksController) passes
+     * the ID of the selected task, and the full task, with its assignee and project, is read here.
+     *
+     * @param taskId The ID of the task whose details are to be edited.
+     */
+    public void loadTask(int taskId) {
+        taskIdLabel.setText(String.valueOf(taskId));
+        backgroundExecutor.submit(this, null,
+                () -> taskManagerService.getTaskById(taskId, TaskFetchPlan.FULL_GRAPH),
+                task -> {
+                    updateLoadingIndicator();
+                    if (task.isPresent()) {
+                        setTask(task.get());
+                    } else {
+                        displayMessage("This task no longer exists.", true);
+                    }
+                },
+                error -> {
+                    updateLoadingIndicator();
+                    displayMessage("Error loading task: " + error.getMessage(), true);
+                });
+        updateLoadingIndicator();
+    }
 
     /**
      * Sets the task object to be edited and populates the form fields with its data.
-     * This method should be called by the parent controller (e.g., MyTasksController)
-     * before showing this view.
      *
      * @param task The Task object whose details are to be edited.
      */
-    public void setTask(Task task) {
+    private void setTask(Task task) {
         this.taskToEdit = task;
         if (taskToEdit != null) {
             taskIdLabel.setText(String.valueOf(taskToEdit.getId()));
@@ -209,8 +279,8 @@ public class EditTaskController {
             editTaskStatusChoiceBox.getSelectionModel().select(taskToEdit.getStatus());
             editTaskVisibilityChoiceBox.getSelectionModel().select(taskToEdit.getVisibility()); // Select Visibility
 
-            // Populate and select assignedTo and project after currentUser is set
-            // The actual selection will happen in populateAssignedToAndProjectChoiceBoxes()
+            // The ChoiceBoxes may still be loading; applyChoices() selects once they are filled
+            selectAssignedToAndProject();
         }
     }
 
@@ -258,6 +328,11 @@ public class EditTaskController {
             displayMessage("Please select a visibility level.", true);
             return;
         }
+        if (backgroundExecutor.hasPending(this)) {
+            // Saving now would read the empty assignee and project ChoiceBoxes as "none"
+            displayMessage("Still loading the task, users and projects. Please try again in a moment.", true);
+            return;
+        }
 
         // Ensure description is null if empty or only whitespace
         String finalDescription = (description != null && !description.trim().isEmpty()) ? description.trim() : null;
@@ -311,4 +386,10 @@ public class EditTaskController {
             messageLabel.setStyle("-fx-text-fill: black;");
         }
     }
+
+    /**
+     * The users and projects a task may be associated with, loaded in the background.
+     */
+    private record TaskChoices(List<User> users, List<Project> projects) {
+    }
 }
@@ -1,8 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.Team;
 import com.taskforge.service.UserManagerService;
 import javafx.fxml.FXML;
@@ -27,21 +25,16 @@ public class EditTeamController {
     private Label messageLabel;
 
     private Team teamToEdit; // The team object being edited
-    private UserManagerService userManagerService; // Needed for updating team details
+    private final UserManagerService userManagerService; // Needed for updating team details
 
     /**
-     * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It initializes service dependencies.
+     * Constructs an EditTeamController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
      */
-    @FXML
-    public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize Service
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
+    public EditTeamController(AppContext context) {
+        this.userManagerService = context.getUserManagerService();
     }
 
     /**
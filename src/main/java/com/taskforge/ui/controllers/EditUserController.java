@@ -1,8 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.User;
 import com.taskforge.service.UserManagerService;
 import javafx.fxml.FXML;
@@ -30,21 +28,16 @@ public class EditUserController {
     private Label messageLabel;
 
     private User userToEdit; // The user object being edited (should always be the current user)
-    private UserManagerService userManagerService;
+    private final UserManagerService userManagerService;
 
     /**
-     * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It initializes service dependencies.
+     * Constructs an EditUserController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
      */
-    @FXML
-    public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO(); // Needed for UserTeamDAO
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO); // Needed for UserManagerService
-
-        // Initialize Service
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
+    public EditUserController(AppContext context) {
+        this.userManagerService = context.getUserManagerService();
     }
 
     /**
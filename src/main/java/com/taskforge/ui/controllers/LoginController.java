@@ -1,6 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.UserDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.User;
 import com.taskforge.service.AuthService;
 import javafx.event.ActionEvent;
@@ -33,16 +33,18 @@ public class LoginController {
     @FXML
     Label messageLabel;
 
-    private AuthService authService;
+    private final AppContext context;
+    private final AuthService authService;
 
     /**
-     * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded.
+     * Constructs a LoginController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
      */
-    @FXML
-    public void initialize() {
-        // Initialize the AuthService with a new UserDAO instance.
-        this.authService = new AuthService(new UserDAO());
+    public LoginController(AppContext context) {
+        this.context = context;
+        this.authService = context.getAuthService();
     }
 
     /**
@@ -66,6 +68,7 @@ public class LoginController {
             // Navigate to the main application dashboard
             try {
                 FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/DashboardView.fxml"));
+                loader.setControllerFactory(context::createController);
                 Parent dashboardRoot = loader.load();
 
                 // Get the controller of the loaded FXML
@@ -99,6 +102,7 @@ public class LoginController {
     private void handleGoToRegister(ActionEvent event) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/RegisterView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent root = loader.load();
 
             // Get the current stage from the button
@@ -1,9 +1,7 @@
 package com.taskforge.ui.controllers;
 
+import com.taskforge.AppContext;
 import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
 import com.taskforge.model.Notification;
 import com.taskforge.model.Team;
 import com.taskforge.model.User;
@@ -46,27 +44,28 @@ public class ManageTeamMembersController {
     private Label membersListMessageLabel;
 
     private Team currentTeam; // The team whose members are being managed
-    private UserManagerService userManagerService;
-    private NotificationDAO notificationDAO; // To send notifications
+    private final UserManagerService userManagerService;
+    private final NotificationDAO notificationDAO; // To send notifications
 
     private ObservableList<UserTeamMembership> currentMemberships = FXCollections.observableArrayList();
 
+    /**
+     * Constructs a ManageTeamMembersController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public ManageTeamMembersController(AppContext context) {
+        this.userManagerService = context.getUserManagerService();
+        this.notificationDAO = context.getNotificationDAO();
+    }
+
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up choice boxes and initializes services.
+     * after the FXML file has been loaded. It sets up choice boxes.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-        NotificationDAO notificationDAO = new NotificationDAO(userDAO); // Initialize NotificationDAO
-
-        // Initialize Service
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-        this.notificationDAO = notificationDAO; // Assign NotificationDAO
-
         // Populate Role ChoiceBox for adding new members
         addMemberRoleChoiceBox.setItems(FXCollections.observableArrayList(UserTeamMembership.Role.values()));
         addMemberRoleChoiceBox.getSelectionModel().select(UserTeamMembership.Role.MEMBER); // Default to MEMBER
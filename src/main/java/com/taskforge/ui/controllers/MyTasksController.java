@@ -1,22 +1,27 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TaskDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO; // Import UserTeamDAO
-import com.taskforge.dao.TeamDAO; // Import TeamDAO
+import com.taskforge.AppContext;
+import com.taskforge.dao.TaskOrder;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.TaskAssigned;
+import com.taskforge.model.ChangeLogEntry;
 import com.taskforge.model.Priority;
 import com.taskforge.model.Project;
 import com.taskforge.model.Status;
 import com.taskforge.model.Task;
+import com.taskforge.model.TaskSummary;
 import com.taskforge.model.User;
 import com.taskforge.model.Visibility; // Import Visibility enum
 import com.taskforge.service.ProjectManagerService;
 import com.taskforge.service.TaskManagerService;
 import com.taskforge.service.UserManagerService; // Import UserManagerService
+import com.taskforge.ui.BackgroundExecutor;
+import com.taskforge.ui.LazyPagedList;
+import com.taskforge.ui.TaskTableSort;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -25,22 +30,24 @@ import javafx.scene.control.Button;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import javafx.util.Callback;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Controller for the MyTasksView.fxml.
@@ -64,53 +71,61 @@ public class MyTasksController {
     private Label newTaskMessageLabel;
 
     @FXML
-    private TableView<Task> myTasksTable;
+    private TableView<TaskSummary> myTasksTable;
     @FXML
-    private TableColumn<Task, String> titleColumn;
+    private TableColumn<TaskSummary, String> titleColumn;
     @FXML
-    private TableColumn<Task, String> descriptionColumn;
+    private TableColumn<TaskSummary, String> descriptionColumn; // Shows the start of the description
     @FXML
-    private TableColumn<Task, String> dueDateColumn; // Will display formatted LocalDateTime
+    private TableColumn<TaskSummary, String> dueDateColumn; // Will display formatted LocalDateTime
     @FXML
-    private TableColumn<Task, Priority> priorityColumn;
+    private TableColumn<TaskSummary, Priority> priorityColumn;
     @FXML
-    private TableColumn<Task, Status> statusColumn;
+    private TableColumn<TaskSummary, Status> statusColumn;
     @FXML
-    private TableColumn<Task, String> projectColumn; // Will display project name
+    private TableColumn<TaskSummary, String> projectColumn; // Will display project name
     @FXML
-    private TableColumn<Task, Visibility> visibilityColumn; // New column for Visibility
+    private TableColumn<TaskSummary, Visibility> visibilityColumn; // New column for Visibility
     @FXML
-    private TableColumn<Task, Void> actionsColumn; // For buttons like Edit/Delete
+    private TableColumn<TaskSummary, Void> actionsColumn; // For buttons like Edit/Delete
 
     @FXML
     private Label messageLabel;
+    @FXML
+    private ProgressIndicator loadingIndicator; // Shown while tasks are loading in the background
 
     private User currentUser; // To store the currently logged-in user
-    private TaskManagerService taskManagerService;
-    private UserManagerService userManagerService; // New: Needed for user/team context
-    private ProjectManagerService projectManagerService; // New: Needed for project context
-    private ObservableList<Task> taskList = FXCollections.observableArrayList();
+    private final AppContext context;
+    private final BackgroundExecutor backgroundExecutor;
+    private final TaskManagerService taskManagerService;
+    private final UserManagerService userManagerService; // New: Needed for user/team context
+    private final ProjectManagerService projectManagerService; // New: Needed for project context
+    // Holds only the pages around the visible rows; further pages are fetched while scrolling.
+    // Rows are summaries; the edit dialog loads the full task.
+    private final LazyPagedList<TaskSummary> taskList;
+    private TaskOrder taskOrder = TaskOrder.DEFAULT; // Sort order of the table, applied by the database
+
+    /**
+     * Constructs a MyTasksController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public MyTasksController(AppContext context) {
+        this.context = context;
+        this.backgroundExecutor = context.getBackgroundExecutor();
+        this.userManagerService = context.getUserManagerService();
+        this.taskManagerService = context.getTaskManagerService();
+        this.projectManagerService = context.getProjectManagerService();
+        this.taskList = new LazyPagedList<>(backgroundExecutor, this, TaskManagerService.DEFAULT_PAGE_SIZE);
+    }
 
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the table columns.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO);
-        TaskDAO taskDAO = new TaskDAO(userDAO, projectDAO);
-        NotificationDAO notificationDAO = new NotificationDAO(userDAO);
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO); // Initialize UserTeamDAO
-
-        // Initialize Services
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO); // Initialize UserManagerService
-        this.taskManagerService = new TaskManagerService(taskDAO, userDAO, projectDAO, notificationDAO, userTeamDAO, userManagerService); // Pass userTeamDAO and userManagerService
-        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO); // Initialize ProjectManagerService
-
         // Populate Priority ChoiceBox
         newTaskPriorityChoiceBox.setItems(FXCollections.observableArrayList(Priority.values()));
         newTaskPriorityChoiceBox.getSelectionModel().select(Priority.MEDIUM); // Default selection
@@ -120,30 +135,22 @@ public class MyTasksController {
         newTaskVisibilityChoiceBox.getSelectionModel().select(Visibility.PRIVATE); // Default selection
 
         // Configure table columns
-        titleColumn.setCellValueFactory(new PropertyValueFactory<>("title"));
-        descriptionColumn.setCellValueFactory(new PropertyValueFactory<>("description"));
-        priorityColumn.setCellValueFactory(new PropertyValueFactory<>("priority"));
-        statusColumn.setCellValueFactory(new PropertyValueFactory<>("status"));
-        visibilityColumn.setCellValueFactory(new PropertyValueFactory<>("visibility")); // Set cell value factory for Visibility
+        // Rows whose page is still loading have no task; their cells stay blank
+        titleColumn.setCellValueFactory(summaryValue(TaskSummary::title));
+        descriptionColumn.setCellValueFactory(summaryValue(TaskSummary::descriptionExcerpt));
+        priorityColumn.setCellValueFactory(summaryValue(TaskSummary::priority));
+        statusColumn.setCellValueFactory(summaryValue(TaskSummary::status));
+        visibilityColumn.setCellValueFactory(summaryValue(TaskSummary::visibility)); // Set cell value factory for Visibility
 
         // Custom cell factory for Due Date to format LocalDateTime
-        dueDateColumn.setCellValueFactory(cellData -> {
-            LocalDateTime dueDate = cellData.getValue().getDueDate();
-            return new javafx.beans.property.SimpleStringProperty(
-                    dueDate != null ? dueDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "N/A"
-            );
-        });
+        dueDateColumn.setCellValueFactory(summaryValue(task -> task.dueDate() != null
+                ? task.dueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "N/A"));
 
         // Custom cell factory for Project to display project name
-        projectColumn.setCellValueFactory(cellData -> {
-            Task task = cellData.getValue();
-            return new javafx.beans.property.SimpleStringProperty(
-                    task.getProject() != null ? task.getProject().getName() : "None"
-            );
-        });
+        projectColumn.setCellValueFactory(summaryValue(task -> task.projectName() != null ? task.projectName() : "None"));
 
         // Custom cell factory for Actions column (Edit, Delete buttons)
-        actionsColumn.setCellFactory(param -> new TableCell<Task, Void>() {
+        actionsColumn.setCellFactory(param -> new TableCell<TaskSummary, Void>() {
             private final Button editButton = new Button("Edit");
             private final Button deleteButton = new Button("Delete");
             private final HBox pane = new HBox(5, editButton, deleteButton);
@@ -151,19 +158,23 @@ public class MyTasksController {
             {
                 // Set button actions
                 editButton.setOnAction(event -> {
-                    Task task = getTableView().getItems().get(getIndex());
-                    handleEditTask(task);
+                    TaskSummary task = getTableView().getItems().get(getIndex());
+                    if (task != null) {
+                        handleEditTask(task);
+                    }
                 });
                 deleteButton.setOnAction(event -> {
-                    Task task = getTableView().getItems().get(getIndex());
-                    handleDeleteTask(task);
+                    TaskSummary task = getTableView().getItems().get(getIndex());
+                    if (task != null) {
+                        handleDeleteTask(task);
+                    }
                 });
             }
 
             @Override
             protected void updateItem(Void item, boolean empty) {
                 super.updateItem(item, empty);
-                if (empty) {
+                if (empty || getTableRow() == null || getTableRow().getItem() == null) {
                     setGraphic(null);
                 } else {
                     setGraphic(pane);
@@ -172,6 +183,27 @@ public class MyTasksController {
         });
 
         myTasksTable.setItems(taskList);
+        taskList.setOnPageLoaded(() -> {
+            updateLoadingIndicator();
+            if (taskList.isEmpty()) {
+                displayMessage("No tasks assigned to you.", false);
+            } else {
+                displayMessage("Tasks loaded successfully.", false);
+            }
+        });
+        taskList.setOnError(error -> {
+            updateLoadingIndicator();
+            displayMessage("Error loading tasks: " + error.getMessage(), true);
+        });
+        // Clicking a column header reloads the tasks in that order instead of sorting the loaded rows
+        TaskTableSort.install(myTasksTable, Map.of(
+                titleColumn, TaskOrder.Field.TITLE,
+                dueDateColumn, TaskOrder.Field.DUE_DATE,
+                priorityColumn, TaskOrder.Field.PRIORITY,
+                statusColumn, TaskOrder.Field.STATUS), order -> {
+            taskOrder = order;
+            loadTasksForCurrentUser();
+        });
 
         // Tasks will be refreshed when setCurrentUser is called
     }
@@ -186,29 +218,60 @@ public class MyTasksController {
         this.currentUser = user;
         // Removed direct call to handleRefreshTasks() from here.
         // It will now be explicitly called by DashboardController after setCurrentUser.
+        context.getEventBus().unsubscribeAll(this);
+        if (user != null) {
+            // Only a task's creator can change its assignee, so changes by this user are already reloaded
+            int userId = user.getId();
+            context.getEventBus().subscribe(this, TaskAssigned.class, event -> {
+                boolean affectsUser = event.assignee().getId() == userId
+                        || (event.previousAssignee() != null && event.previousAssignee().getId() == userId);
+                if (affectsUser && event.task().getCreatorId() != userId) {
+                    Platform.runLater(this::reloadAfterWrite);
+                }
+            });
+            // Edits made elsewhere, for example by another instance on the same database file, are merged into the loaded rows
+            context.getEventBus().subscribe(this, DatabaseChanged.class, event -> {
+                if (event.affects(ChangeLogEntry.TASKS) || event.affects(ChangeLogEntry.PROJECTS)) {
+                    Platform.runLater(taskList::reconcile);
+                }
+            });
+        }
     }
 
     /**
-     * Loads and displays tasks assigned to the current user.
+     * Loads and displays the tasks assigned to the current user, in the table's sort order.
+     * Pages are queried in the background as the table scrolls to them.
      * This method should be called after the currentUser has been set.
      */
     public void loadTasksForCurrentUser() {
         if (currentUser == null) {
             displayMessage("Cannot load tasks: No user is logged in.", true);
-            taskList.clear();
+            taskList.load(null, null);
             return;
         }
         System.out.println("Loading tasks for user: " + currentUser.getUsername());
-        taskList.clear(); // Clear existing items
         // Fetch tasks assigned to the current user that are visible to them
-        List<Task> tasks = taskManagerService.getTasksByAssignedUser(currentUser.getId(), currentUser.getId());
-        taskList.addAll(tasks); // Add refreshed tasks
+        int userId = currentUser.getId();
+        TaskOrder order = taskOrder;
+        taskList.load("assigned-tasks:" + userId + ":" + order,
+                (pageSize, cursor) -> taskManagerService.getTaskSummariesByAssignedUser(userId, userId, order, pageSize, cursor));
+        updateLoadingIndicator();
+    }
 
-        if (tasks.isEmpty()) {
-            displayMessage("No tasks assigned to you.", false);
-        } else {
-            displayMessage("Tasks loaded successfully.", false);
-        }
+    /**
+     * Reloads the task table after this controller changed tasks.
+     * A load that was already running may have read the old rows, so it is not joined.
+     */
+    private void reloadAfterWrite() {
+        taskList.refresh();
+        updateLoadingIndicator();
+    }
+
+    /**
+     * Shows the loading indicator while this controller has background requests pending.
+     */
+    private void updateLoadingIndicator() {
+        loadingIndicator.setVisible(backgroundExecutor.hasPending(this));
     }
 
     /**
@@ -267,7 +330,7 @@ public class MyTasksController {
         if (createdTask.isPresent()) {
             displayNewTaskMessage("Task '" + createdTask.get().getTitle() + "' added successfully!", false);
             handleClearForm(); // Clear the form after successful addition
-            loadTasksForCurrentUser(); // Refresh the table to show the new task
+            reloadAfterWrite(); // Refresh the table to show the new task
         } else {
             displayNewTaskMessage("Failed to add task. Check console for details.", true);
         }
@@ -298,33 +361,35 @@ public class MyTasksController {
 
     /**
      * Handles the action for the "Edit" button in a task row.
-     * This method opens a new modal dialog to edit the selected task.
+     * This method opens a new modal dialog to edit the selected task, which loads the full task.
      *
-     * @param task The Task object to be edited.
+     * @param task The summary of the task to be edited.
      */
-    private void handleEditTask(Task task) {
+    private void handleEditTask(TaskSummary task) {
         try {
             // Load the FXML for the edit task view
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/EditTaskView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent editTaskRoot = loader.load();
 
             // Get the controller and pass the task to be edited and the current user
             EditTaskController editTaskController = loader.getController();
-            editTaskController.setTask(task);
+            editTaskController.loadTask(task.id());
             editTaskController.setCurrentUser(currentUser); // Pass current user for permission checks
 
             // Create a new stage for the dialog
             Stage dialogStage = new Stage();
-            dialogStage.setTitle("Edit Task: " + task.getTitle());
+            dialogStage.setTitle("Edit Task: " + task.title());
             dialogStage.initModality(Modality.WINDOW_MODAL); // Make it a modal dialog
             dialogStage.initOwner(myTasksTable.getScene().getWindow()); // Set the owner window
             Scene scene = new Scene(editTaskRoot);
             dialogStage.setScene(scene);
             dialogStage.setResizable(false); // Make the dialog not resizable
             dialogStage.showAndWait(); // Show the dialog and wait for it to be closed
+            backgroundExecutor.cancelAll(editTaskController); // Drop any choice box loads still running
 
             // After the dialog is closed, refresh the tasks table in case changes were made
-            loadTasksForCurrentUser(); // Refresh the table after changes
+            reloadAfterWrite(); // Refresh the table after changes
 
         } catch (IOException e) {
             System.err.println("Error loading EditTaskView.fxml: " + e.getMessage());
@@ -337,24 +402,37 @@ public class MyTasksController {
      * Handles the action for the "Delete" button in a task row.
      * This method deletes the selected task from the database.
      *
-     * @param task The Task object to be deleted.
+     * @param task The summary of the task to be deleted.
      */
-    private void handleDeleteTask(Task task) {
-        System.out.println("Delete Task button clicked for task: " + task.getTitle());
+    private void handleDeleteTask(TaskSummary task) {
+        System.out.println("Delete Task button clicked for task: " + task.title());
         // In a real application, you'd want a confirmation dialog here.
         if (currentUser == null) {
             displayMessage("Cannot delete task: No user logged in.", true);
             return;
         }
-        boolean success = taskManagerService.deleteTask(task.getId(), currentUser.getId());
+        boolean success = taskManagerService.deleteTask(task.id(), currentUser.getId());
         if (success) {
-            displayMessage("Task '" + task.getTitle() + "' deleted successfully.", false);
-            loadTasksForCurrentUser(); // Refresh the table after deletion
+            displayMessage("Task '" + task.title() + "' deleted successfully.", false);
+            reloadAfterWrite(); // Refresh the table after deletion
         } else {
-            displayMessage("Failed to delete task '" + task.getTitle() + "'. You must be the creator to delete a task.", true);
+            displayMessage("Failed to delete task '" + task.title() + "'. You must be the creator to delete a task.", true);
         }
     }
 
+    /**
+     * Creates a cell value factory showing one value of a row's task summary.
+     * Rows whose page is still loading get no value.
+     *
+     * @param value Reads the shown value from a summary.
+     * @param <T> The type of the column's values.
+     * @return The cell value factory.
+     */
+    private static <T> Callback<TableColumn.CellDataFeatures<TaskSummary, T>, ObservableValue<T>> summaryValue(
+            Function<TaskSummary, T> value) {
+        return cellData -> cellData.getValue() == null ? null : new ReadOnlyObjectWrapper<>(value.apply(cellData.getValue()));
+    }
+
     /**
      * Displays a message to the user in the main messageLabel.
      *
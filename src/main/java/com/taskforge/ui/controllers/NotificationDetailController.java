@@ -1,9 +1,7 @@
 package com.taskforge.ui.controllers;
 
+import com.taskforge.AppContext;
 import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
 import com.taskforge.model.Notification;
 import com.taskforge.model.Team;
 import com.taskforge.model.User;
@@ -38,23 +36,18 @@ public class NotificationDetailController {
 
     private Notification currentNotification;
     private User currentUser; // The user viewing the notification
-    private NotificationDAO notificationDAO;
-    private UserManagerService userManagerService;
+    private final NotificationDAO notificationDAO;
+    private final UserManagerService userManagerService;
 
     /**
-     * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up service dependencies.
+     * Constructs a NotificationDetailController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
      */
-    @FXML
-    public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize Services
-        this.notificationDAO = new NotificationDAO(userDAO);
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
+    public NotificationDetailController(AppContext context) {
+        this.notificationDAO = context.getNotificationDAO();
+        this.userManagerService = context.getUserManagerService();
     }
 
     /**
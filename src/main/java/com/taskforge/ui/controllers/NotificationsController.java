@@ -1,29 +1,35 @@
 package com.taskforge.ui.controllers;
 
+import com.taskforge.AppContext;
 import com.taskforge.dao.NotificationDAO;
-import com.taskforge.dao.TeamDAO; // Added for TeamDAO dependency
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO; // Added for UserTeamDAO dependency
+import com.taskforge.dao.Page;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.EventBus;
+import com.taskforge.event.NotificationCreated;
+import com.taskforge.model.ChangeLogEntry;
 import com.taskforge.model.Notification;
 import com.taskforge.model.Team; // Added for Team model
 import com.taskforge.model.User;
 import com.taskforge.model.UserTeamMembership; // Added for UserTeamMembership model
 import com.taskforge.service.UserManagerService; // Added for UserManagerService dependency
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import com.taskforge.ui.BackgroundExecutor;
+import com.taskforge.ui.LazyPagedList;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.Priority; // For HBox.setHgrow
 import javafx.scene.text.Font;
 
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Controller for the NotificationsView.fxml.
@@ -33,32 +39,46 @@ import java.util.Optional;
  */
 public class NotificationsController {
 
+    /** Number of notifications loaded per page. */
+    private static final int PAGE_SIZE = 50;
+
     @FXML
     private ListView<Notification> notificationsListView;
     @FXML
     private Label messageLabel;
+    @FXML
+    private ProgressIndicator loadingIndicator; // Shown while notifications are loading in the background
 
     private User currentUser; // The currently logged-in user
-    private NotificationDAO notificationDAO;
-    private UserManagerService userManagerService; // New: To handle team invitation actions
-    private ObservableList<Notification> notificationList = FXCollections.observableArrayList();
+    private final NotificationDAO notificationDAO;
+    private final UserManagerService userManagerService; // New: To handle team invitation actions
+    private final BackgroundExecutor backgroundExecutor;
+    private final EventBus eventBus;
+    // Holds only the pages around the visible notifications; older pages are fetched while scrolling
+    private final LazyPagedList<Notification> notificationList;
+    // IDs of teams whose invitation to the current user is still pending, filled in by the background page loads
+    private final Set<Integer> pendingInvitationTeamIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a NotificationsController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public NotificationsController(AppContext context) {
+        this.notificationDAO = context.getNotificationDAO();
+        this.userManagerService = context.getUserManagerService();
+        this.backgroundExecutor = context.getBackgroundExecutor();
+        this.eventBus = context.getEventBus();
+        this.notificationList = new LazyPagedList<>(backgroundExecutor, this, PAGE_SIZE);
+    }
 
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the list view and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the list view.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO(); // Needed for UserManagerService
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO); // Needed for UserManagerService
-
-        // Initialize Services
-        this.notificationDAO = new NotificationDAO(userDAO);
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO); // Initialize UserManagerService
-
         // Configure notificationsListView to display notification details and actions
         notificationsListView.setCellFactory(lv -> new ListCell<Notification>() {
             private final HBox hbox = new HBox(10); // Spacing between elements
@@ -133,9 +153,8 @@ public class NotificationsController {
 
                     // Configure based on notification type and read status
                     if (notification.getNotificationType() == Notification.NotificationType.TEAM_INVITATION) {
-                        // For team invitations, check the actual membership status
-                        Optional<UserTeamMembership> membershipOptional = userManagerService.getMembership(notification.getRecipient().getId(), notification.getRelatedEntityId());
-                        if (membershipOptional.isPresent() && membershipOptional.get().getInvitationStatus() == UserTeamMembership.InvitationStatus.PENDING) {
+                        // For team invitations, check the membership status loaded with the notifications
+                        if (pendingInvitationTeamIds.contains(notification.getRelatedEntityId())) {
                             acceptButton.setVisible(true);
                             rejectButton.setVisible(true);
                             markAsReadButton.setVisible(false); // Hide mark as read for actionable invites
@@ -162,6 +181,18 @@ public class NotificationsController {
         });
 
         notificationsListView.setItems(notificationList);
+        notificationList.setOnPageLoaded(() -> {
+            updateLoadingIndicator();
+            if (notificationList.isEmpty()) {
+                displayMessage("No notifications found.", false);
+            } else {
+                displayMessage("Notifications loaded successfully.", false);
+            }
+        });
+        notificationList.setOnError(error -> {
+            updateLoadingIndicator();
+            displayMessage("Error loading notifications: " + error.getMessage(), true);
+        });
     }
 
     /**
@@ -173,30 +204,69 @@ public class NotificationsController {
     public void setCurrentUser(User user) {
         this.currentUser = user;
         // The loading of notifications will now be explicitly called by DashboardController
+        eventBus.unsubscribeAll(this);
+        if (user != null) {
+            // Show notifications sent while this view is open, such as a new assignment, without a manual refresh
+            int userId = user.getId();
+            eventBus.subscribe(this, NotificationCreated.class, event -> {
+                if (event.notification().getRecipient().getId() == userId) {
+                    Platform.runLater(notificationList::refresh);
+                }
+            });
+            // Read flags and deletions made elsewhere are applied to the loaded rows in place
+            eventBus.subscribe(this, DatabaseChanged.class, event -> {
+                if (event.affects(ChangeLogEntry.NOTIFICATIONS, userId)) {
+                    Platform.runLater(notificationList::reconcile);
+                }
+            });
+        }
     }
 
     /**
-     * Loads and displays notifications for the current user.
+     * Loads and displays notifications for the current user, newest first.
+     * Pages are queried in the background as the list scrolls to them.
      * This method should be called after the currentUser has been set.
      */
     public void loadNotificationsForCurrentUser() {
         if (currentUser == null) {
             displayMessage("Cannot load notifications: No user is logged in.", true);
-            notificationList.clear();
+            notificationList.load(null, null);
             return;
         }
         System.out.println("Loading notifications for user: " + currentUser.getUsername());
-        notificationList.clear(); // Clear existing items
-        // Fetch all notifications for the current user
-        List<Notification> notifications = notificationDAO.getNotificationsByUserId(currentUser.getId());
-        notificationList.addAll(notifications); // Add refreshed notifications
+        pendingInvitationTeamIds.clear();
+        int userId = currentUser.getId();
+        notificationList.load(null, (pageSize, cursor) -> loadNotificationsPage(userId, pageSize, cursor));
+        updateLoadingIndicator();
+    }
 
-        if (notifications.isEmpty()) {
-            displayMessage("No notifications found.", false);
-        } else {
-            displayMessage("Notifications loaded successfully.", false);
+    /**
+     * Fetches a page of the user's notifications and records which of the team invitations on it are still pending.
+     * Runs on a background thread, so the list cells never query the database while rendering.
+     *
+     * @param userId The ID of the user whose notifications are loaded.
+     * @param pageSize The maximum number of notifications to load.
+     * @param cursor The cursor of the page to load, or null for the newest page.
+     * @return The page of notifications.
+     */
+    private Page<Notification> loadNotificationsPage(int userId, int pageSize, String cursor) {
+        Page<Notification> page = notificationDAO.getNotificationsByUserId(userId, pageSize, cursor);
+        for (Notification notification : page.getItems()) {
+            if (notification.getNotificationType() == Notification.NotificationType.TEAM_INVITATION) {
+                Optional<UserTeamMembership> membershipOptional = userManagerService.getMembership(userId, notification.getRelatedEntityId());
+                if (membershipOptional.isPresent() && membershipOptional.get().getInvitationStatus() == UserTeamMembership.InvitationStatus.PENDING) {
+                    pendingInvitationTeamIds.add(notification.getRelatedEntityId());
+                }
+            }
         }
-        notificationsListView.refresh(); // Ensure UI is updated based on new data
+        return page;
+    }
+
+    /**
+     * Shows the loading indicator while this controller has background requests pending.
+     */
+    private void updateLoadingIndicator() {
+        loadingIndicator.setVisible(backgroundExecutor.hasPending(this));
     }
 
     /**
@@ -278,6 +348,7 @@ public class NotificationsController {
             displayMessage("Failed to accept invitation. It might have been withdrawn or you are already a member.", true);
             // Keep the notification if acceptance failed, but mark as read if it's no longer actionable
             notificationDAO.markNotificationAsRead(notification.getId());
+            pendingInvitationTeamIds.remove(teamId); // No longer actionable
             notificationsListView.refresh();
         }
     }
@@ -320,6 +391,7 @@ public class NotificationsController {
             displayMessage("Failed to reject invitation. It might have been withdrawn or you are no longer invited.", true);
             // Keep the notification if rejection failed, but mark as read if it's no longer actionable
             notificationDAO.markNotificationAsRead(notification.getId());
+            pendingInvitationTeamIds.remove(teamId); // No longer actionable
             notificationsListView.refresh();
         }
     }
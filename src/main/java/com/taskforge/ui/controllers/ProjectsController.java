@@ -1,9 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.Project;
 import com.taskforge.model.Team;
 import com.taskforge.service.ProjectManagerService;
@@ -60,27 +57,30 @@ public class ProjectsController {
     @FXML
     private Label messageLabel;
 
-    private ProjectManagerService projectManagerService;
-    private UserManagerService userManagerService; // Needed to get all teams for choice box
+    private final AppContext context;
+    private final ProjectManagerService projectManagerService;
+    private final UserManagerService userManagerService; // Needed to get all teams for choice box
     private ObservableList<Project> projectList = FXCollections.observableArrayList();
 
+    /**
+     * Constructs a ProjectsController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public ProjectsController(AppContext context) {
+        this.context = context;
+        this.projectManagerService = context.getProjectManagerService();
+        this.userManagerService = context.getUserManagerService();
+    }
+
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns,
-     * initializes service dependencies, and populates the team choice box.
+     * after the FXML file has been loaded. It sets up the table columns
+     * and populates the team choice box.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO);
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize Services
-        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO);
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-
         // Configure table columns
         projectIdColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
         projectNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
@@ -218,6 +218,7 @@ public class ProjectsController {
         try {
             // Load the FXML for the edit project view
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/EditProjectView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent editProjectRoot = loader.load();
 
             // Get the controller and pass the project to be edited
@@ -1,6 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.UserDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.User;
 import com.taskforge.service.AuthService;
 import javafx.event.ActionEvent;
@@ -37,16 +37,18 @@ public class RegisterController {
     @FXML
     private Label messageLabel;
 
-    private AuthService authService;
+    private final AppContext context;
+    private final AuthService authService;
 
     /**
-     * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded.
+     * Constructs a RegisterController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
      */
-    @FXML
-    public void initialize() {
-        // Initialize the AuthService with a new UserDAO instance.
-        this.authService = new AuthService(new UserDAO());
+    public RegisterController(AppContext context) {
+        this.context = context;
+        this.authService = context.getAuthService();
     }
 
     /**
@@ -98,6 +100,7 @@ public class RegisterController {
     private void handleBackToLogin(ActionEvent event) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/LoginView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent root = loader.load();
 
             // Get the current stage from the button
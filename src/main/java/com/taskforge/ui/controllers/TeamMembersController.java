@@ -1,8 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.Team;
 import com.taskforge.model.User;
 import com.taskforge.model.UserTeamMembership;
@@ -61,24 +59,25 @@ public class TeamMembersController {
 
     private Team currentTeam; // The team whose members are being managed
     private User currentUser; // The currently logged-in user (must be an owner to manage)
-    private UserManagerService userManagerService;
+    private final UserManagerService userManagerService;
     private ObservableList<UserTeamMembership> memberList = FXCollections.observableArrayList();
 
+    /**
+     * Constructs a TeamMembersController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public TeamMembersController(AppContext context) {
+        this.userManagerService = context.getUserManagerService();
+    }
+
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the table columns.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize Service
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-
         // Populate Invite Role ChoiceBox
         inviteRoleChoiceBox.setItems(FXCollections.observableArrayList(UserTeamMembership.Role.values()));
         inviteRoleChoiceBox.getSelectionModel().select(UserTeamMembership.Role.MEMBER); // Default
@@ -1,9 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.ProjectDAO;
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.Team;
 import com.taskforge.model.User;
 import com.taskforge.model.UserTeamMembership;
@@ -62,28 +59,30 @@ public class TeamsController {
     private Label messageLabel;
 
     private User currentUser; // The currently logged-in user
-    private UserManagerService userManagerService;
-    private ProjectManagerService projectManagerService; // Needed for cascade delete check for projects
+    private final AppContext context;
+    private final UserManagerService userManagerService;
+    private final ProjectManagerService projectManagerService; // Needed for cascade delete check for projects
 
     private ObservableList<Team> teamList = FXCollections.observableArrayList();
 
+    /**
+     * Constructs a TeamsController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public TeamsController(AppContext context) {
+        this.context = context;
+        this.userManagerService = context.getUserManagerService();
+        this.projectManagerService = context.getProjectManagerService();
+    }
+
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the table columns.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-        ProjectDAO projectDAO = new ProjectDAO(teamDAO); // For ProjectManagerService
-
-        // Initialize Services
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-        this.projectManagerService = new ProjectManagerService(projectDAO, teamDAO);
-
         // Configure table columns
         teamIdColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
         teamNameColumn.setCellValueFactory(new PropertyValueFactory<>("name"));
@@ -247,6 +246,7 @@ public class TeamsController {
 
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/EditTeamView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent editTeamRoot = loader.load();
 
             EditTeamController editTeamController = loader.getController();
@@ -310,6 +310,7 @@ public class TeamsController {
 
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/TeamMembersView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent teamMembersRoot = loader.load();
 
             TeamMembersController teamMembersController = loader.getController();
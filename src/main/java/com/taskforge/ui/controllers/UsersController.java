@@ -1,8 +1,6 @@
 package com.taskforge.ui.controllers;
 
-import com.taskforge.dao.TeamDAO;
-import com.taskforge.dao.UserDAO;
-import com.taskforge.dao.UserTeamDAO;
+import com.taskforge.AppContext;
 import com.taskforge.model.User;
 import com.taskforge.service.UserManagerService;
 import javafx.collections.FXCollections;
@@ -48,24 +46,27 @@ public class UsersController {
     private Label messageLabel;
 
     private User currentUser; // The currently logged-in user
-    private UserManagerService userManagerService;
+    private final AppContext context;
+    private final UserManagerService userManagerService;
     private ObservableList<User> userList = FXCollections.observableArrayList();
 
+    /**
+     * Constructs a UsersController with the shared services of the application context.
+     * Invoked by the FXMLLoader controller factory.
+     *
+     * @param context The application-wide DAO and service registry.
+     */
+    public UsersController(AppContext context) {
+        this.context = context;
+        this.userManagerService = context.getUserManagerService();
+    }
+
     /**
      * Initializes the controller. This method is automatically called by JavaFX
-     * after the FXML file has been loaded. It sets up the table columns and
-     * initializes service dependencies.
+     * after the FXML file has been loaded. It sets up the table columns.
      */
     @FXML
     public void initialize() {
-        // Initialize DAOs
-        UserDAO userDAO = new UserDAO();
-        TeamDAO teamDAO = new TeamDAO();
-        UserTeamDAO userTeamDAO = new UserTeamDAO(userDAO, teamDAO);
-
-        // Initialize Service
-        this.userManagerService = new UserManagerService(userDAO, teamDAO, userTeamDAO);
-
         // Configure table columns
         userIdColumn.setCellValueFactory(new PropertyValueFactory<>("id"));
         usernameColumn.setCellValueFactory(new PropertyValueFactory<>("username"));
@@ -161,6 +162,7 @@ public class UsersController {
         try {
             // Load the FXML for the edit user view
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/taskforge/ui/views/EditUserView.fxml"));
+            loader.setControllerFactory(context::createController);
             Parent editUserRoot = loader.load();
 
             // Get the controller and pass the user to be edited
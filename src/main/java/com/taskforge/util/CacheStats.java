@@ -0,0 +1,122 @@
+package com.taskforge.util;
+
+/**
+ * Immutable snapshot of an {@link EntityCache}'s statistics.
+ * Instances are created by {@link EntityCache#getStats()}.
+ */
+public class CacheStats {
+
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    /**
+     * Constructs a new CacheStats snapshot.
+     *
+     * @param name The name of the cache.
+     * @param size The number of entries currently cached.
+     * @param maxSize The maximum number of entries the cache holds.
+     * @param hits The number of lookups served from the cache.
+     * @param misses The number of lookups that had to load from the database.
+     * @param evictions The number of entries removed because the cache was full.
+     * @param expirations The number of entries removed because their TTL elapsed.
+     */
+    public CacheStats(String name, int size, int maxSize, long hits, long misses, long evictions, long expirations) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    /**
+     * Gets the name of the cache.
+     * @return The cache name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of entries currently cached.
+     * @return The cache size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of entries the cache holds.
+     * @return The size limit.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to load from the database.
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of entries removed because the cache was full.
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of entries removed because their TTL elapsed.
+     * @return The expiration count.
+     */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache.
+     * @return A value between 0.0 and 1.0, or 0 if there were no lookups.
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns a string representation of the statistics.
+     * Useful for logging and debugging.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                String.format(", hitRate=%.3f", getHitRate()) +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                '}';
+    }
+}
@@ -0,0 +1,368 @@
+package com.taskforge.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of JDBC connections to a single database URL.
+ * Physical connections are opened lazily up to {@code maxSize}, initialized once with the
+ * configured setup statements (e.g., {@code PRAGMA foreign_keys = ON}) and then reused.
+ * Callers receive a proxy whose {@code close()} returns the physical connection to the pool,
+ * so the usual try-with-resources pattern used by the DAOs keeps working unchanged.
+ *
+ * <p>
+ * The pool validates idle connections before handing them out, evicts connections that have
+ * been idle for longer than {@code idleTimeoutMillis}, and reports connections that have been
+ * checked out for longer than {@code leakThresholdMillis} together with the stack trace of the
+ * code that borrowed them. Utilization figures are available through {@link #getStats()}.
+ * </p>
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /** Interval at which the housekeeping task checks for leaks and idle connections. */
+    private static final long HOUSEKEEPING_INTERVAL_MILLIS = 5_000;
+    /** Seconds passed to {@link Connection#isValid(int)} when validating an idle connection. */
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String url;
+    private final List<String> initStatements;
+    private final int maxSize;
+    private final long checkoutTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakThresholdMillis;
+
+    private final Semaphore permits;
+    private final Deque<PooledEntry> idle = new ArrayDeque<>();
+    private final Set<PooledEntry> leased = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    // Utilization metrics
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong connectionsClosed = new AtomicLong();
+    private final AtomicLong checkouts = new AtomicLong();
+    private final AtomicLong checkoutTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+
+    /**
+     * Constructs a new connection pool.
+     *
+     * @param url The JDBC URL used to open physical connections.
+     * @param initStatements Statements executed once on every newly opened physical connection.
+     * @param maxSize The maximum number of physical connections (leased plus idle).
+     * @param checkoutTimeoutMillis How long {@link #getConnection()} waits for a free connection before failing.
+     * @param idleTimeoutMillis How long a connection may stay idle before it is closed (0 disables eviction).
+     * @param leakThresholdMillis How long a connection may be leased before it is reported as a leak (0 disables detection).
+     * @throws IllegalArgumentException if {@code maxSize} is less than 1.
+     */
+    public ConnectionPool(String url, List<String> initStatements, int maxSize,
+                          long checkoutTimeoutMillis, long idleTimeoutMillis, long leakThresholdMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1.");
+        }
+        this.url = url;
+        this.initStatements = List.copyOf(initStatements);
+        this.maxSize = maxSize;
+        this.checkoutTimeoutMillis = checkoutTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskforge-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                HOUSEKEEPING_INTERVAL_MILLIS, HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from the pool, waiting up to the configured checkout timeout.
+     * The returned connection must be closed by the caller to give it back to the pool.
+     *
+     * @return A pooled {@link Connection}.
+     * @throws SQLException If the pool is closed, the wait times out, or a new connection cannot be opened.
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed.");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(checkoutTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                checkoutTimeouts.incrementAndGet();
+                throw new SQLException("Timed out after " + checkoutTimeoutMillis
+                        + " ms waiting for a database connection (pool size " + maxSize + ").");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            PooledEntry entry = takeValidIdleEntry();
+            if (entry == null) {
+                entry = new PooledEntry(openPhysicalConnection());
+            }
+            entry.leasedAt = System.currentTimeMillis();
+            entry.leaseTrace = leakThresholdMillis > 0 ? new Throwable("Connection leased here") : null;
+            entry.leakReported = false;
+            leased.add(entry);
+            checkouts.incrementAndGet();
+            return entry.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool's utilization metrics.
+     *
+     * @return A {@link PoolStats} object describing the current state of the pool.
+     */
+    public PoolStats getStats() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        return new PoolStats(maxSize, leased.size(), idleCount,
+                connectionsCreated.get(), connectionsClosed.get(), checkouts.get(),
+                checkoutTimeouts.get(), totalWaitNanos.get(), maxWaitNanos.get(),
+                validationFailures.get(), leaksDetected.get());
+    }
+
+    /**
+     * Closes the pool and all idle connections. Connections that are still leased
+     * are closed as soon as they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        List<PooledEntry> toClose;
+        synchronized (idle) {
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+        }
+        toClose.forEach(this::closePhysical);
+    }
+
+    /**
+     * Polls idle connections until a valid one is found. Invalid connections are discarded.
+     *
+     * @return A valid idle entry, or null if none is available.
+     */
+    private PooledEntry takeValidIdleEntry() {
+        while (true) {
+            PooledEntry entry;
+            synchronized (idle) {
+                entry = idle.pollFirst();
+            }
+            if (entry == null) {
+                return null;
+            }
+            try {
+                if (entry.physical.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    return entry;
+                }
+            } catch (SQLException e) {
+                // Treat as invalid below
+            }
+            validationFailures.incrementAndGet();
+            closePhysical(entry);
+        }
+    }
+
+    /**
+     * Opens a new physical connection and runs the per-connection setup statements on it.
+     *
+     * @return The newly opened connection.
+     * @throws SQLException If the connection cannot be opened or initialized.
+     */
+    private Connection openPhysicalConnection() throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : initStatements) {
+                stmt.execute(sql);
+            }
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        connectionsCreated.incrementAndGet();
+        return conn;
+    }
+
+    /**
+     * Gives a leased entry back to the pool, resetting any transaction state left behind.
+     *
+     * @param entry The entry being returned.
+     */
+    private void release(PooledEntry entry) {
+        leased.remove(entry);
+        entry.leaseTrace = null;
+        boolean reusable = !closed;
+        try {
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        if (reusable) {
+            entry.lastReturnedAt = System.currentTimeMillis();
+            synchronized (idle) {
+                idle.offerFirst(entry); // LIFO keeps the hottest connections in use
+            }
+        } else {
+            closePhysical(entry);
+        }
+        permits.release();
+    }
+
+    /**
+     * Periodic task that reports leaked connections and closes connections idle for too long.
+     */
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        if (leakThresholdMillis > 0) {
+            for (PooledEntry entry : leased) {
+                if (!entry.leakReported && now - entry.leasedAt > leakThresholdMillis) {
+                    entry.leakReported = true;
+                    leaksDetected.incrementAndGet();
+                    System.err.println("Possible connection leak: connection held for "
+                            + (now - entry.leasedAt) + " ms.");
+                    Throwable trace = entry.leaseTrace;
+                    if (trace != null) {
+                        trace.printStackTrace();
+                    }
+                }
+            }
+        }
+
+        if (idleTimeoutMillis > 0) {
+            List<PooledEntry> expired = new ArrayList<>();
+            synchronized (idle) {
+                idle.removeIf(entry -> {
+                    if (now - entry.lastReturnedAt > idleTimeoutMillis) {
+                        expired.add(entry);
+                        return true;
+                    }
+                    return false;
+                });
+            }
+            expired.forEach(this::closePhysical);
+        }
+    }
+
+    private void closePhysical(PooledEntry entry) {
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+        connectionsClosed.incrementAndGet();
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Bookkeeping for one physical connection owned by the pool.
+     */
+    private final class PooledEntry {
+        private final Connection physical;
+        private volatile long leasedAt;
+        private volatile long lastReturnedAt;
+        private volatile Throwable leaseTrace;
+        private volatile boolean leakReported;
+
+        private PooledEntry(Connection physical) {
+            this.physical = physical;
+            this.lastReturnedAt = System.currentTimeMillis();
+        }
+
+        /**
+         * Creates a fresh logical handle for one lease of this connection.
+         *
+         * @return A proxy {@link Connection} that returns this entry to the pool when closed.
+         */
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new LeaseHandler(this));
+        }
+    }
+
+    /**
+     * Invocation handler backing a single lease. Once closed, the handle rejects further use
+     * so that a stale reference can never touch a connection that now belongs to someone else.
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean handleClosed;
+
+        private LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + "]";
+                default:
+                    if (handleClosed) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    try {
+                        return method.invoke(entry.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -1,22 +1,89 @@
 package com.taskforge.util;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages the SQLite database connection and schema initialization for the TaskForge application.
  * This utility class provides static methods to establish a connection to the database
- * and to create all necessary tables if they do not already exist.
+ * and to bring the schema up to date through versioned migrations.
  * It ensures that the database structure is ready for data operations at application startup.
+ *
+ * <p>
+ * The database runs in WAL journal mode with a split connection topology: a single dedicated
+ * writer connection, handed out by {@link #getConnection()}, and a pool of read-only connections,
+ * handed out by {@link #getReadConnection()}. In WAL mode readers work from the last committed
+ * snapshot, so queries never wait behind an in-progress write, while funnelling all writes
+ * through one connection avoids lock contention between writers.
+ * </p>
+ *
+ * <p>
+ * Both sides are served by a {@link ConnectionPool}, so DAOs can keep opening and closing
+ * connections per call without paying for a new SQLite connection each time. The following
+ * system properties tune the setup:
+ * {@code taskforge.db.path} (database file, read when the pools are created),
+ * {@code taskforge.db.pool.size} (read pool size), {@code taskforge.db.pool.checkoutTimeoutMs},
+ * {@code taskforge.db.pool.idleTimeoutMs}, {@code taskforge.db.pool.leakThresholdMs},
+ * {@code taskforge.db.synchronous} (OFF, NORMAL, FULL or EXTRA), {@code taskforge.db.busyTimeoutMs},
+ * {@code taskforge.db.walAutocheckpointPages} and {@code taskforge.db.checkpointIntervalMs}
+ * (0 disables the periodic checkpoint).
+ * </p>
+ *
+ * <p>
+ * Writes that must succeed or fail together run in a unit of work opened by
+ * {@link #inTransaction(TransactionWork)}. While it is open, the writer connection is bound to the
+ * calling thread and every {@link #getConnection()} and {@link #getReadConnection()} call on that
+ * thread returns it, so DAO calls made inside the unit of work share one transaction and see each
+ * other's uncommitted writes. The unit of work commits once at the end, or rolls back as a whole.
+ * </p>
  */
 public class DatabaseManager {
 
-    /** The URL for the SQLite database. "jdbc:sqlite:" is the prefix for SQLite.
-     * "taskforge.db" is the name of the database file that will be created in the project root.
+    /** The URL prefix for SQLite databases. */
+    private static final String URL_PREFIX = "jdbc:sqlite:";
+    /** The default database file, created in the project root unless {@code taskforge.db.path} is set. */
+    private static final String DEFAULT_PATH = "taskforge.db";
+
+    /** Allowed values for the synchronous setting; PRAGMA values cannot be bound as parameters. */
+    private static final Set<String> SYNCHRONOUS_MODES = Set.of("OFF", "NORMAL", "FULL", "EXTRA");
+    /** Allowed checkpoint modes for {@link #checkpoint(String)}. */
+    private static final Set<String> CHECKPOINT_MODES = Set.of("PASSIVE", "FULL", "RESTART", "TRUNCATE");
+
+    /** The pool holding the single writer connection, created on first use. */
+    private static ConnectionPool writePool;
+    /** The pool of read-only connections, created on first use. */
+    private static ConnectionPool readPool;
+    /** Runs the periodic WAL checkpoint, if enabled. */
+    private static ScheduledExecutorService checkpointScheduler;
+    /** The unit of work open on the current thread, if any. */
+    private static final ThreadLocal<BoundTransaction> currentTransaction = new ThreadLocal<>();
+
+    /**
+     * A unit of work run by {@link #inTransaction(TransactionWork)}.
+     *
+     * @param <T> The type of the result.
      */
-    private static final String URL = "jdbc:sqlite:taskforge.db";
+    @FunctionalInterface
+    public interface TransactionWork<T> {
+        /**
+         * Performs the work. Throwing any exception rolls the transaction back.
+         *
+         * @return The result of the work.
+         * @throws SQLException If the work fails.
+         */
+        T run() throws SQLException;
+    }
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -26,140 +93,361 @@ public class DatabaseManager {
     }
 
     /**
-     * Establishes and returns a connection to the SQLite database.
+     * Borrows the writer connection to the SQLite database.
+     * There is exactly one writer connection, so callers that write are serialized;
+     * it should therefore be held only for the duration of the write.
      * This method should be called within a try-with-resources statement
-     * to ensure the connection is properly closed.
+     * to ensure the connection is returned to the pool.
      *
-     * @return A {@link Connection} object to the database.
-     * @throws SQLException If a database access error occurs (e.g., driver not found, invalid URL).
+     * @return A read-write {@link Connection} object to the database, with foreign key support enabled.
+     * @throws SQLException If a database access error occurs or the writer does not become available in time.
      */
     public static Connection getConnection() throws SQLException {
-        Connection conn = DriverManager.getConnection(URL);
+        BoundTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            return transaction.handle;
+        }
+        return getWritePool().getConnection();
+    }
+
+    /**
+     * Borrows a read-only connection to the SQLite database.
+     * Read connections see the most recently committed data and never wait for the writer.
+     * This method should be called within a try-with-resources statement
+     * to ensure the connection is returned to the pool.
+     *
+     * @return A read-only {@link Connection} object to the database.
+     * @throws SQLException If a database access error occurs or no connection becomes available in time.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        BoundTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            return transaction.handle;
+        }
+        return getReadPool().getConnection();
+    }
+
+    /**
+     * Opens a read-only connection outside the read pool, for a caller that must keep using the same
+     * physical connection, such as one polling {@code PRAGMA data_version}, whose value is tracked
+     * per connection. The caller owns the connection and must close it.
+     *
+     * @return A new read-only {@link Connection} object to the database.
+     * @throws SQLException If a database access error occurs.
+     */
+    public static Connection openDedicatedReadConnection() throws SQLException {
+        getWritePool(); // Make sure the database is in WAL mode before the reader opens it
+        Connection conn = DriverManager.getConnection(databaseUrl());
         try (Statement stmt = conn.createStatement()) {
-            stmt.execute("PRAGMA foreign_keys = ON");
+            for (String sql : commonInitStatements()) {
+                stmt.execute(sql);
+            }
+            stmt.execute("PRAGMA query_only = ON");
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
         }
         return conn;
     }
 
     /**
-     * Initializes the database schema by creating tables if they do not already exist.
-     * This method should be called once at application startup to ensure that
-     * the database structure is prepared for data operations.
-     * It also enables foreign key support for SQLite.
+     * Runs a unit of work in a single transaction on the writer connection.
+     * For the duration of the work, {@link #getConnection()} and {@link #getReadConnection()} on this
+     * thread return the transaction's connection, whose {@code close()} is a no-op. The transaction
+     * commits when the work returns and rolls back if it throws. DAOs report most failures through
+     * their return values, so the work should throw when a DAO call signals failure.
+     * A unit of work started while another is open on the same thread joins the outer one.
+     *
+     * @param work The work to run.
+     * @param <T> The type of the result.
+     * @return The result of the work.
+     * @throws SQLException If the work or the commit fails; the transaction has been rolled back.
      */
-    public static void initializeDatabase() {
+    public static <T> T inTransaction(TransactionWork<T> work) throws SQLException {
+        if (currentTransaction.get() != null) {
+            return work.run();
+        }
+        BoundTransaction transaction;
+        T result;
+        try (Connection conn = getWritePool().getConnection()) {
+            transaction = new BoundTransaction(conn);
+            conn.setAutoCommit(false);
+            currentTransaction.set(transaction);
+            try {
+                result = work.run();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                currentTransaction.remove();
+                conn.setAutoCommit(true);
+                BoundTransaction.runAll(transaction.completionActions);
+            }
+        }
+        // Run once the writer has been returned, so slow actions do not hold up other writers
+        BoundTransaction.runAll(transaction.commitActions);
+        return result;
+    }
+
+    /**
+     * Tells whether a unit of work is open on the current thread.
+     *
+     * @return true if called from inside {@link #inTransaction(TransactionWork)}.
+     */
+    public static boolean isInTransaction() {
+        return currentTransaction.get() != null;
+    }
+
+    /**
+     * Runs an action once the current thread's unit of work has committed or rolled back,
+     * or immediately if no unit of work is open. Used to drop cached state that may
+     * have been read from uncommitted data.
+     *
+     * @param action The action to run.
+     */
+    public static void afterTransaction(Runnable action) {
+        BoundTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            transaction.completionActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs an action once the current thread's unit of work has committed, or immediately
+     * if no unit of work is open. The action is discarded if the unit of work rolls back.
+     * Used for side effects, such as queued notifications, that must only follow durable writes.
+     *
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        BoundTransaction transaction = currentTransaction.get();
+        if (transaction != null) {
+            transaction.commitActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the writer pool's utilization metrics,
+     * including checkout counts and wait times.
+     *
+     * @return The current {@link PoolStats} of the writer connection.
+     */
+    public static PoolStats getWritePoolStats() {
+        return getWritePool().getStats();
+    }
+
+    /**
+     * Returns a snapshot of the read pool's utilization metrics,
+     * including checkout counts and wait times.
+     *
+     * @return The current {@link PoolStats} of the read connections.
+     */
+    public static PoolStats getReadPoolStats() {
+        return getReadPool().getStats();
+    }
+
+    /**
+     * Runs a WAL checkpoint, copying committed pages from the write-ahead log back into
+     * the main database file.
+     *
+     * @param mode The checkpoint mode: PASSIVE, FULL, RESTART or TRUNCATE.
+     * @throws IllegalArgumentException if {@code mode} is not a valid checkpoint mode.
+     * @throws SQLException If a database access error occurs.
+     */
+    public static void checkpoint(String mode) throws SQLException {
+        String normalized = mode.toUpperCase(Locale.ROOT);
+        if (!CHECKPOINT_MODES.contains(normalized)) {
+            throw new IllegalArgumentException("Invalid checkpoint mode: " + mode);
+        }
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA wal_checkpoint(" + normalized + ")");
+        }
+    }
 
-            // Enable foreign key support for SQLite. This must be done for each connection.
-            stmt.execute("PRAGMA foreign_keys = ON;");
-
-            // SQL to create the Users table
-            String createUsersTable = "CREATE TABLE IF NOT EXISTS Users (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "username TEXT NOT NULL UNIQUE," +
-                    "email TEXT NOT NULL UNIQUE," +
-                    "password_hash TEXT NOT NULL" +
-                    ");";
-            stmt.execute(createUsersTable);
-            System.out.println("Users table checked/created.");
-
-            // SQL to create the Teams table
-            String createTeamsTable = "CREATE TABLE IF NOT EXISTS Teams (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "name TEXT NOT NULL UNIQUE" +
-                    ");";
-            stmt.execute(createTeamsTable);
-            System.out.println("Teams table checked/created.");
-
-            // SQL to create the UserTeamMemberships table, defining the many-to-many relationship
-            String createUserTeamMembershipsTable = "CREATE TABLE IF NOT EXISTS UserTeamMemberships (" +
-                    "user_id INTEGER NOT NULL," +
-                    "team_id INTEGER NOT NULL," +
-                    "role TEXT NOT NULL," + // e.g., 'MEMBER', 'OWNER'
-                    "invitation_status TEXT NOT NULL," + // e.g., 'PENDING', 'ACCEPTED', 'REJECTED'
-                    "PRIMARY KEY (user_id, team_id)," + // Composite primary key
-                    "FOREIGN KEY (user_id) REFERENCES Users(id) ON DELETE CASCADE," +
-                    "FOREIGN KEY (team_id) REFERENCES Teams(id) ON DELETE CASCADE" +
-                    ");";
-            stmt.execute(createUserTeamMembershipsTable);
-            System.out.println("UserTeamMemberships table checked/created.");
-
-            // SQL to create the Projects table
-            String createProjectsTable = "CREATE TABLE IF NOT EXISTS Projects (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "name TEXT NOT NULL," +
-                    "team_id INTEGER," + // Optional foreign key to Teams
-                    "FOREIGN KEY (team_id) REFERENCES Teams(id) ON DELETE SET NULL" + // If team is deleted, set project's team_id to NULL
-                    ");";
-            stmt.execute(createProjectsTable);
-            System.out.println("Projects table checked/created.");
-
-            // SQL to create the Tasks table
-            // Includes foreign keys to Users (for assigned_to and creator) and Projects
-            String createTasksTable = "CREATE TABLE IF NOT EXISTS Tasks (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "title TEXT NOT NULL," +
-                    "description TEXT," +
-                    "due_date TEXT," + // Stored as ISO 8601 string (YYYY-MM-DDTHH:MM:SS)
-                    "priority TEXT NOT NULL," + // e.g., 'LOW', 'MEDIUM', 'HIGH'
-                    "status TEXT NOT NULL," +   // e.g., 'PENDING', 'IN_PROGRESS', 'COMPLETED', 'BLOCKED'
-                    "assigned_to_user_id INTEGER," + // Optional foreign key to Users
-                    "project_id INTEGER," +          // Optional foreign key to Projects
-                    "visibility TEXT NOT NULL," +    // 'PUBLIC', 'RESTRICTED', 'PRIVATE'
-                    "creator_id INTEGER NOT NULL," + // User who created the task
-                    "FOREIGN KEY (assigned_to_user_id) REFERENCES Users(id) ON DELETE SET NULL," +
-                    "FOREIGN KEY (project_id) REFERENCES Projects(id) ON DELETE SET NULL," +
-                    "FOREIGN KEY (creator_id) REFERENCES Users(id) ON DELETE CASCADE" + // If creator is deleted, their tasks are also deleted
-                    ");";
-            stmt.execute(createTasksTable);
-            System.out.println("Tasks table checked/created.");
-
-            // SQL to create the Comments table
-            // Includes foreign keys to Tasks and Users (for author)
-            String createCommentsTable = "CREATE TABLE IF NOT EXISTS Comments (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "task_id INTEGER NOT NULL," +
-                    "author_id INTEGER NOT NULL," +
-                    "comment_text TEXT NOT NULL," +
-                    "created_at TEXT NOT NULL," + // Stored as ISO 8601 string
-                    "FOREIGN KEY (task_id) REFERENCES Tasks(id) ON DELETE CASCADE," +
-                    "FOREIGN KEY (author_id) REFERENCES Users(id) ON DELETE CASCADE" +
-                    ");";
-            stmt.execute(createCommentsTable);
-            System.out.println("Comments table checked/created.");
-
-            // SQL to create the Attachments table
-            // Includes a foreign key to Tasks
-            String createAttachmentsTable = "CREATE TABLE IF NOT EXISTS Attachments (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "task_id INTEGER NOT NULL," +
-                    "file_name TEXT NOT NULL," +
-                    "file_path TEXT NOT NULL," + // Path where the file is stored (e.g., relative path on disk)
-                    "uploaded_at TEXT NOT NULL," + // Stored as ISO 8601 string
-                    "FOREIGN KEY (task_id) REFERENCES Tasks(id) ON DELETE CASCADE" +
-                    ");";
-            stmt.execute(createAttachmentsTable);
-            System.out.println("Attachments table checked/created.");
-
-            // SQL to create the Notifications table
-            // Includes foreign key to Users (for recipient) and new columns for context
-            String createNotificationsTable = "CREATE TABLE IF NOT EXISTS Notifications (" +
-                    "id INTEGER PRIMARY KEY AUTOINCREMENT," +
-                    "user_id INTEGER NOT NULL," + // Recipient of the notification
-                    "message TEXT NOT NULL," +
-                    "sent_at TEXT NOT NULL," + // Stored as ISO 8601 string
-                    "is_read BOOLEAN NOT NULL DEFAULT 0," + // 0 for unread, 1 for read
-                    "related_entity_id INTEGER NOT NULL DEFAULT 0," + // ID of related entity (e.g., Team ID for invitation)
-                    "notification_type TEXT NOT NULL DEFAULT 'GENERAL'," + // Type of notification (e.g., TEAM_INVITATION)
-                    "FOREIGN KEY (user_id) REFERENCES Users(id) ON DELETE CASCADE" +
-                    ");";
-            stmt.execute(createNotificationsTable);
-            System.out.println("Notifications table checked/created.");
+    /**
+     * Closes both connection pools and stops the periodic checkpoint.
+     * Before closing, a final TRUNCATE checkpoint folds the write-ahead log back into the database file.
+     * This method should be called once when the application exits.
+     * A later call to {@link #getConnection()} or {@link #getReadConnection()} creates new pools.
+     */
+    public static synchronized void shutdown() {
+        if (checkpointScheduler != null) {
+            checkpointScheduler.shutdownNow();
+            checkpointScheduler = null;
+        }
+        if (readPool != null) {
+            System.out.println("Shutting down database read pool: " + readPool.getStats());
+            readPool.close();
+            readPool = null;
+        }
+        if (writePool != null) {
+            try {
+                checkpoint("TRUNCATE");
+            } catch (SQLException e) {
+                System.err.println("Error running final WAL checkpoint: " + e.getMessage());
+            }
+            System.out.println("Shutting down database writer: " + writePool.getStats());
+            writePool.close();
+            writePool = null;
+        }
+    }
 
+    /**
+     * Returns the writer pool, creating it on first use. Creating the writer switches the
+     * database into WAL mode and starts the periodic checkpoint.
+     *
+     * @return The single-connection writer {@link ConnectionPool}.
+     */
+    private static synchronized ConnectionPool getWritePool() {
+        if (writePool == null) {
+            List<String> initStatements = new ArrayList<>(commonInitStatements());
+            initStatements.add("PRAGMA journal_mode = WAL");
+            initStatements.add("PRAGMA wal_autocheckpoint = " + Integer.getInteger("taskforge.db.walAutocheckpointPages", 1000));
+            writePool = new ConnectionPool(databaseUrl(), initStatements, 1,
+                    Long.getLong("taskforge.db.pool.checkoutTimeoutMs", 30_000L),
+                    0, // Keep the writer open for the lifetime of the application
+                    Long.getLong("taskforge.db.pool.leakThresholdMs", 60_000L));
+            startCheckpointScheduler();
+        }
+        return writePool;
+    }
+
+    /**
+     * Returns the read-only pool, creating it on first use.
+     *
+     * @return The read-only {@link ConnectionPool}.
+     */
+    private static synchronized ConnectionPool getReadPool() {
+        if (readPool == null) {
+            getWritePool(); // Make sure the database is in WAL mode before any reader opens it
+            List<String> initStatements = new ArrayList<>(commonInitStatements());
+            initStatements.add("PRAGMA query_only = ON");
+            readPool = new ConnectionPool(databaseUrl(), initStatements,
+                    Integer.getInteger("taskforge.db.pool.size", 8),
+                    Long.getLong("taskforge.db.pool.checkoutTimeoutMs", 30_000L),
+                    Long.getLong("taskforge.db.pool.idleTimeoutMs", 300_000L),
+                    Long.getLong("taskforge.db.pool.leakThresholdMs", 60_000L));
+        }
+        return readPool;
+    }
+
+    /**
+     * Builds the JDBC URL of the database file named by {@code taskforge.db.path}.
+     *
+     * @return The SQLite JDBC URL.
+     */
+    private static String databaseUrl() {
+        return URL_PREFIX + System.getProperty("taskforge.db.path", DEFAULT_PATH);
+    }
+
+    /**
+     * Builds the per-connection setup statements shared by readers and the writer.
+     *
+     * @return The PRAGMA statements to run on every new physical connection.
+     */
+    private static List<String> commonInitStatements() {
+        String synchronous = System.getProperty("taskforge.db.synchronous", "NORMAL").toUpperCase(Locale.ROOT);
+        if (!SYNCHRONOUS_MODES.contains(synchronous)) {
+            System.err.println("Ignoring invalid taskforge.db.synchronous value '" + synchronous + "', using NORMAL.");
+            synchronous = "NORMAL";
+        }
+        return List.of(
+                "PRAGMA foreign_keys = ON",
+                "PRAGMA busy_timeout = " + Integer.getInteger("taskforge.db.busyTimeoutMs", 5_000),
+                "PRAGMA synchronous = " + synchronous
+        );
+    }
+
+    /**
+     * Starts the background task that periodically runs a PASSIVE checkpoint,
+     * keeping the write-ahead log from growing between automatic checkpoints.
+     */
+    private static void startCheckpointScheduler() {
+        long intervalMillis = Long.getLong("taskforge.db.checkpointIntervalMs", 60_000L);
+        if (intervalMillis <= 0 || checkpointScheduler != null) {
+            return;
+        }
+        checkpointScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskforge-wal-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint("PASSIVE");
+            } catch (SQLException e) {
+                System.err.println("Error running WAL checkpoint: " + e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Initializes the database schema by applying any pending {@link SchemaMigrations}.
+     * This method should be called once at application startup to ensure that
+     * the database structure is prepared for data operations. When the stored schema
+     * version is already current, no DDL is executed.
+     */
+    public static void initializeDatabase() {
+        SchemaMigrator migrator = new SchemaMigrator(SchemaMigrations.all());
+        try (Connection conn = getConnection()) {
+            int applied = migrator.migrate(conn);
+            if (applied == 0) {
+                System.out.println("Database schema is up to date (version " + migrator.getLatestVersion() + ").");
+            }
         } catch (SQLException e) {
             System.err.println("Error initializing database: " + e.getMessage());
             e.printStackTrace();
         }
     }
+
+    /**
+     * The writer connection lease held by an open unit of work, and the handle given out to DAOs.
+     * The handle ignores {@code close()} and rejects transaction control calls, which belong to
+     * {@link #inTransaction(TransactionWork)}.
+     */
+    private static final class BoundTransaction {
+        private final Connection handle;
+        private final List<Runnable> completionActions = new ArrayList<>();
+        private final List<Runnable> commitActions = new ArrayList<>();
+
+        private BoundTransaction(Connection lease) {
+            this.handle = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                return null;
+                            case "setAutoCommit":
+                            case "commit":
+                            case "rollback":
+                            case "setSavepoint":
+                            case "releaseSavepoint":
+                                throw new SQLException("The transaction is controlled by DatabaseManager.inTransaction.");
+                            default:
+                                try {
+                                    return method.invoke(lease, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                        }
+                    });
+        }
+
+        private static void runAll(List<Runnable> actions) {
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error running transaction completion action: " + e.getMessage());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,228 @@
+package com.taskforge.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, thread-safe identity map for entities loaded by the DAOs.
+ * Entries are evicted in least-recently-used order once {@code maxSize} is exceeded,
+ * and expire {@code ttlMillis} after they were loaded. While an entry is cached, every lookup
+ * for its key returns the same instance.
+ *
+ * <p>
+ * Loads run outside the cache lock, so a slow query never blocks other readers. If the key is
+ * invalidated while a load is in flight, the loaded value is returned to its caller but not
+ * cached, so a load that started before an update cannot put the old row back into the cache.
+ * </p>
+ *
+ * <p>
+ * Inside a unit of work opened with {@link DatabaseManager#inTransaction(DatabaseManager.TransactionWork)},
+ * loads are not cached, since they may see rows that are later rolled back, and invalidations are
+ * repeated when the transaction ends, dropping anything other threads cached from the old row meanwhile.
+ * </p>
+ *
+ * @param <K> The type of the cache key, typically the entity ID.
+ * @param <V> The type of the cached entity.
+ */
+public class EntityCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<K, CacheEntry<V>> entries;
+
+    /** Incremented on every invalidation; loads that straddle an invalidation are not cached. */
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * Constructs a new EntityCache using the system clock.
+     *
+     * @param name A short name used when reporting statistics (e.g., "users").
+     * @param maxSize The maximum number of entries kept in the cache.
+     * @param ttlMillis How long an entry stays valid after it was loaded, in milliseconds.
+     */
+    public EntityCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a new EntityCache with a custom clock.
+     *
+     * @param name A short name used when reporting statistics (e.g., "users").
+     * @param maxSize The maximum number of entries kept in the cache.
+     * @param ttlMillis How long an entry stays valid after it was loaded, in milliseconds.
+     * @param clock Supplies the current time in milliseconds.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code ttlMillis} is not positive.
+     */
+    public EntityCache(String name, int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache size and TTL must be positive.");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > EntityCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for a key, loading and caching it on a miss.
+     * Empty results are not cached, so an entity created later is found on the next lookup.
+     *
+     * @param key The key to look up.
+     * @param loader Loads the value from the database when it is not cached.
+     * @return An Optional containing the cached or loaded value, or empty if the loader found nothing.
+     */
+    public Optional<V> getOrLoad(K key, Function<K, Optional<V>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = getIfPresentLocked(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        Optional<V> loaded = loader.apply(key);
+        if (loaded.isEmpty() || DatabaseManager.isInTransaction()) {
+            return loaded;
+        }
+
+        synchronized (this) {
+            // Another thread may have loaded the same key meanwhile; keep a single instance per key.
+            V cached = getIfPresentLocked(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            if (loadGeneration == generation) {
+                entries.put(key, new CacheEntry<>(loaded.get(), clock.getAsLong() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the cached value for a key without loading it.
+     *
+     * @param key The key to look up.
+     * @return An Optional containing the cached value, or empty if it is not cached or has expired.
+     */
+    public synchronized Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(getIfPresentLocked(key));
+    }
+
+    /**
+     * Adds or replaces a cache entry.
+     *
+     * @param key The key of the entry.
+     * @param value The value to cache. Must not be null.
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, clock.getAsLong() + ttlMillis));
+    }
+
+    /**
+     * Removes a single entry. Should be called whenever the underlying row is updated or deleted.
+     *
+     * @param key The key of the entry to remove.
+     */
+    public void invalidate(K key) {
+        remove(key);
+        if (DatabaseManager.isInTransaction()) {
+            DatabaseManager.afterTransaction(() -> remove(key));
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        clear();
+        if (DatabaseManager.isInTransaction()) {
+            DatabaseManager.afterTransaction(this::clear);
+        }
+    }
+
+    private synchronized void remove(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Returns a snapshot of the cache's hit, miss and eviction statistics.
+     *
+     * @return The current {@link CacheStats}.
+     */
+    public CacheStats getStats() {
+        int size;
+        synchronized (this) {
+            purgeExpiredLocked();
+            size = entries.size();
+        }
+        return new CacheStats(name, size, maxSize, hits.get(), misses.get(), evictions.get(), expirations.get());
+    }
+
+    private V getIfPresentLocked(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key);
+            expirations.incrementAndGet();
+            return null;
+        }
+        return entry.value;
+    }
+
+    private void purgeExpiredLocked() {
+        long now = clock.getAsLong();
+        Iterator<CacheEntry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                expirations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * A cached value together with its expiry time.
+     */
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskforge.util;
+
+import java.util.List;
+
+/**
+ * Represents a single versioned change to the TaskForge database schema.
+ * A migration consists of an ordered list of SQL statements that are applied together
+ * in one transaction by the {@link SchemaMigrator}. Once a migration has shipped,
+ * its statements must never change; further schema changes are added as new migrations.
+ */
+public class Migration {
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+
+    /**
+     * Constructs a new Migration.
+     *
+     * @param version The schema version this migration upgrades the database to. Must be positive.
+     * @param description A short human-readable description of the change.
+     * @param statements The SQL statements to execute, in order.
+     * @throws IllegalArgumentException if {@code version} is not positive or no statements are given.
+     */
+    public Migration(int version, String description, List<String> statements) {
+        if (version <= 0) {
+            throw new IllegalArgumentException("Migration version must be positive.");
+        }
+        if (statements == null || statements.isEmpty()) {
+            throw new IllegalArgumentException("Migration " + version + " must contain at least one statement.");
+        }
+        this.version = version;
+        this.description = description;
+        this.statements = List.copyOf(statements);
+    }
+
+    /**
+     * Gets the schema version this migration upgrades the database to.
+     * @return The target schema version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the description of this migration.
+     * @return The migration's description.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the SQL statements of this migration.
+     * @return An unmodifiable list of SQL statements.
+     */
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns a string representation of the Migration object.
+     * Useful for logging and debugging.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "Migration{" +
+                "version=" + version +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,178 @@
+package com.taskforge.util;
+
+/**
+ * Immutable snapshot of a {@link ConnectionPool}'s utilization metrics.
+ * Instances are created by {@link ConnectionPool#getStats()} and can be logged or displayed
+ * to see how busy the pool is and how long callers wait to check out a connection.
+ */
+public class PoolStats {
+
+    private final int maxSize;
+    private final int active;
+    private final int idle;
+    private final long connectionsCreated;
+    private final long connectionsClosed;
+    private final long checkouts;
+    private final long checkoutTimeouts;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long validationFailures;
+    private final long leaksDetected;
+
+    /**
+     * Constructs a new PoolStats snapshot.
+     *
+     * @param maxSize The configured maximum number of connections.
+     * @param active The number of connections currently checked out.
+     * @param idle The number of open connections waiting in the pool.
+     * @param connectionsCreated The total number of physical connections opened.
+     * @param connectionsClosed The total number of physical connections closed.
+     * @param checkouts The total number of successful checkouts.
+     * @param checkoutTimeouts The number of checkouts that timed out waiting for a connection.
+     * @param totalWaitNanos The cumulative time spent waiting for a connection, in nanoseconds.
+     * @param maxWaitNanos The longest single wait for a connection, in nanoseconds.
+     * @param validationFailures The number of idle connections discarded because they failed validation.
+     * @param leaksDetected The number of leases reported as possible leaks.
+     */
+    public PoolStats(int maxSize, int active, int idle, long connectionsCreated, long connectionsClosed,
+                     long checkouts, long checkoutTimeouts, long totalWaitNanos, long maxWaitNanos,
+                     long validationFailures, long leaksDetected) {
+        this.maxSize = maxSize;
+        this.active = active;
+        this.idle = idle;
+        this.connectionsCreated = connectionsCreated;
+        this.connectionsClosed = connectionsClosed;
+        this.checkouts = checkouts;
+        this.checkoutTimeouts = checkoutTimeouts;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.validationFailures = validationFailures;
+        this.leaksDetected = leaksDetected;
+    }
+
+    /**
+     * Gets the configured maximum number of connections.
+     * @return The pool size limit.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of connections currently checked out.
+     * @return The active connection count.
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the number of open connections waiting in the pool.
+     * @return The idle connection count.
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * Gets the total number of physical connections opened.
+     * @return The created connection count.
+     */
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    /**
+     * Gets the total number of physical connections closed.
+     * @return The closed connection count.
+     */
+    public long getConnectionsClosed() {
+        return connectionsClosed;
+    }
+
+    /**
+     * Gets the total number of successful checkouts.
+     * @return The checkout count.
+     */
+    public long getCheckouts() {
+        return checkouts;
+    }
+
+    /**
+     * Gets the number of checkouts that timed out.
+     * @return The timeout count.
+     */
+    public long getCheckoutTimeouts() {
+        return checkoutTimeouts;
+    }
+
+    /**
+     * Gets the cumulative checkout wait time.
+     * @return The total wait in nanoseconds.
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    /**
+     * Gets the longest single checkout wait.
+     * @return The maximum wait in nanoseconds.
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Gets the number of idle connections discarded by validation.
+     * @return The validation failure count.
+     */
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    /**
+     * Gets the number of leases reported as possible leaks.
+     * @return The leak count.
+     */
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    /**
+     * Gets the fraction of the pool currently checked out.
+     * @return A value between 0.0 and 1.0.
+     */
+    public double getUtilization() {
+        return maxSize == 0 ? 0.0 : (double) active / maxSize;
+    }
+
+    /**
+     * Gets the average time callers waited to check out a connection.
+     * @return The average checkout wait in milliseconds, or 0 if there were no checkouts.
+     */
+    public double getAverageWaitMillis() {
+        return checkouts == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / checkouts;
+    }
+
+    /**
+     * Returns a string representation of the statistics.
+     * Useful for logging and debugging.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "active=" + active +
+                ", idle=" + idle +
+                ", maxSize=" + maxSize +
+                ", created=" + connectionsCreated +
+                ", closed=" + connectionsClosed +
+                ", checkouts=" + checkouts +
+                ", timeouts=" + checkoutTimeouts +
+                String.format(", avgWaitMs=%.3f, maxWaitMs=%.3f", getAverageWaitMillis(), maxWaitNanos / 1_000_000.0) +
+                ", validationFailures=" + validationFailures +
+                ", leaks=" + leaksDetected +
+                '}';
+    }
+}
@@ -0,0 +1,405 @@
+package com.taskforge.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The ordered list of schema migrations for the TaskForge database.
+ * Migration 1 creates the original tables; every later schema change is appended as a new
+ * migration with the next version number. Shipped migrations must never be edited, since
+ * databases that already recorded their version will not run them again.
+ */
+public final class SchemaMigrations {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private SchemaMigrations() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns all schema migrations in version order.
+     *
+     * @return An unmodifiable list of migrations.
+     */
+    public static List<Migration> all() {
+        return List.of(
+                createBaseTables(),
+                createHotPathIndexes(),
+                createKeysetPaginationIndexes(),
+                createFullTextSearchTables(),
+                createChangeLog(),
+                convertTimestampsToEpochMillis(),
+                convertEnumsToCodes(),
+                createTaskCountIndexes()
+        );
+    }
+
+    /**
+     * Version 1: the base tables. Uses CREATE TABLE IF NOT EXISTS so that databases created
+     * before versioning was introduced are adopted without changes.
+     */
+    private static Migration createBaseTables() {
+        return new Migration(1, "Create base tables", List.of(
+                // SQL to create the Users table
+                "CREATE TABLE IF NOT EXISTS Users (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "username TEXT NOT NULL UNIQUE," +
+                        "email TEXT NOT NULL UNIQUE," +
+                        "password_hash TEXT NOT NULL" +
+                        ")",
+
+                // SQL to create the Teams table
+                "CREATE TABLE IF NOT EXISTS Teams (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "name TEXT NOT NULL UNIQUE" +
+                        ")",
+
+                // SQL to create the UserTeamMemberships table, defining the many-to-many relationship
+                "CREATE TABLE IF NOT EXISTS UserTeamMemberships (" +
+                        "user_id INTEGER NOT NULL," +
+                        "team_id INTEGER NOT NULL," +
+                        "role TEXT NOT NULL," + // e.g., 'MEMBER', 'OWNER'
+                        "invitation_status TEXT NOT NULL," + // e.g., 'PENDING', 'ACCEPTED', 'REJECTED'
+                        "PRIMARY KEY (user_id, team_id)," + // Composite primary key
+                        "FOREIGN KEY (user_id) REFERENCES Users(id) ON DELETE CASCADE," +
+                        "FOREIGN KEY (team_id) REFERENCES Teams(id) ON DELETE CASCADE" +
+                        ")",
+
+                // SQL to create the Projects table
+                "CREATE TABLE IF NOT EXISTS Projects (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "name TEXT NOT NULL," +
+                        "team_id INTEGER," + // Optional foreign key to Teams
+                        "FOREIGN KEY (team_id) REFERENCES Teams(id) ON DELETE SET NULL" + // If team is deleted, set project's team_id to NULL
+                        ")",
+
+                // SQL to create the Tasks table
+                // Includes foreign keys to Users (for assigned_to and creator) and Projects
+                "CREATE TABLE IF NOT EXISTS Tasks (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "title TEXT NOT NULL," +
+                        "description TEXT," +
+                        "due_date TEXT," + // Stored as ISO 8601 string (YYYY-MM-DDTHH:MM:SS)
+                        "priority TEXT NOT NULL," + // e.g., 'LOW', 'MEDIUM', 'HIGH'
+                        "status TEXT NOT NULL," +   // e.g., 'PENDING', 'IN_PROGRESS', 'COMPLETED', 'BLOCKED'
+                        "assigned_to_user_id INTEGER," + // Optional foreign key to Users
+                        "project_id INTEGER," +          // Optional foreign key to Projects
+                        "visibility TEXT NOT NULL," +    // 'PUBLIC', 'RESTRICTED', 'PRIVATE'
+                        "creator_id INTEGER NOT NULL," + // User who created the task
+                        "FOREIGN KEY (assigned_to_user_id) REFERENCES Users(id) ON DELETE SET NULL," +
+                        "FOREIGN KEY (project_id) REFERENCES Projects(id) ON DELETE SET NULL," +
+                        "FOREIGN KEY (creator_id) REFERENCES Users(id) ON DELETE CASCADE" + // If creator is deleted, their tasks are also deleted
+                        ")",
+
+                // SQL to create the Comments table
+                // Includes foreign keys to Tasks and Users (for author)
+                "CREATE TABLE IF NOT EXISTS Comments (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "task_id INTEGER NOT NULL," +
+                        "author_id INTEGER NOT NULL," +
+                        "comment_text TEXT NOT NULL," +
+                        "created_at TEXT NOT NULL," + // Stored as ISO 8601 string
+                        "FOREIGN KEY (task_id) REFERENCES Tasks(id) ON DELETE CASCADE," +
+                        "FOREIGN KEY (author_id) REFERENCES Users(id) ON DELETE CASCADE" +
+                        ")",
+
+                // SQL to create the Attachments table
+                // Includes a foreign key to Tasks
+                "CREATE TABLE IF NOT EXISTS Attachments (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "task_id INTEGER NOT NULL," +
+                        "file_name TEXT NOT NULL," +
+                        "file_path TEXT NOT NULL," + // Path where the file is stored (e.g., relative path on disk)
+                        "uploaded_at TEXT NOT NULL," + // Stored as ISO 8601 string
+                        "FOREIGN KEY (task_id) REFERENCES Tasks(id) ON DELETE CASCADE" +
+                        ")",
+
+                // SQL to create the Notifications table
+                // Includes foreign key to Users (for recipient) and new columns for context
+                "CREATE TABLE IF NOT EXISTS Notifications (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                        "user_id INTEGER NOT NULL," + // Recipient of the notification
+                        "message TEXT NOT NULL," +
+                        "sent_at TEXT NOT NULL," + // Stored as ISO 8601 string
+                        "is_read BOOLEAN NOT NULL DEFAULT 0," + // 0 for unread, 1 for read
+                        "related_entity_id INTEGER NOT NULL DEFAULT 0," + // ID of related entity (e.g., Team ID for invitation)
+                        "notification_type TEXT NOT NULL DEFAULT 'GENERAL'," + // Type of notification (e.g., TEAM_INVITATION)
+                        "FOREIGN KEY (user_id) REFERENCES Users(id) ON DELETE CASCADE" +
+                        ")"
+        ));
+    }
+
+    /**
+     * Version 2: secondary indexes for the foreign-key lookups and inbox queries that run on
+     * every screen load. Without them, these lookups scan the whole table.
+     */
+    private static Migration createHotPathIndexes() {
+        return new Migration(2, "Add indexes for task, comment, attachment, notification and membership lookups", List.of(
+                "CREATE INDEX IF NOT EXISTS idx_tasks_assigned_to_user_id ON Tasks(assigned_to_user_id)",
+                "CREATE INDEX IF NOT EXISTS idx_tasks_project_id ON Tasks(project_id)",
+                "CREATE INDEX IF NOT EXISTS idx_tasks_creator_id ON Tasks(creator_id)",
+                "CREATE INDEX IF NOT EXISTS idx_comments_task_id ON Comments(task_id)",
+                "CREATE INDEX IF NOT EXISTS idx_attachments_task_id ON Attachments(task_id)",
+                "CREATE INDEX IF NOT EXISTS idx_notifications_user_read_sent ON Notifications(user_id, is_read, sent_at)",
+                "CREATE INDEX IF NOT EXISTS idx_user_team_memberships_team_id ON UserTeamMemberships(team_id)",
+                "CREATE INDEX IF NOT EXISTS idx_projects_team_id ON Projects(team_id)"
+        ));
+    }
+
+    /**
+     * Version 3: indexes matching the sort order of the paginated task and inbox queries, so each page
+     * is read by seeking in the index instead of sorting every matching row. The task index is on the
+     * same expression TaskDAO sorts by, which places tasks without a due date last.
+     */
+    private static Migration createKeysetPaginationIndexes() {
+        return new Migration(3, "Add indexes for keyset-paginated task and notification queries", List.of(
+                "CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON Tasks(IFNULL(due_date, '~'), id)",
+                "CREATE INDEX IF NOT EXISTS idx_notifications_user_sent_id ON Notifications(user_id, sent_at, id)"
+        ));
+    }
+
+    /**
+     * Version 4: FTS5 full-text indexes over task titles and descriptions and over comment text.
+     * Both are external-content tables that store only the index; triggers keep them in sync with
+     * Tasks and Comments, and the final 'rebuild' commands index the rows that already exist.
+     * The prefix indexes make search-as-you-type prefix queries as cheap as whole-word queries.
+     */
+    private static Migration createFullTextSearchTables() {
+        return new Migration(4, "Add full-text search over tasks and comments", List.of(
+                "CREATE VIRTUAL TABLE IF NOT EXISTS TaskSearch USING fts5(" +
+                        "title, description, content='Tasks', content_rowid='id', " +
+                        "tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+                "CREATE VIRTUAL TABLE IF NOT EXISTS CommentSearch USING fts5(" +
+                        "comment_text, content='Comments', content_rowid='id', " +
+                        "tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+
+                "CREATE TRIGGER IF NOT EXISTS tasks_search_insert AFTER INSERT ON Tasks BEGIN " +
+                        "INSERT INTO TaskSearch(rowid, title, description) VALUES (new.id, new.title, new.description); " +
+                        "END",
+                "CREATE TRIGGER IF NOT EXISTS tasks_search_delete AFTER DELETE ON Tasks BEGIN " +
+                        "INSERT INTO TaskSearch(TaskSearch, rowid, title, description) VALUES ('delete', old.id, old.title, old.description); " +
+                        "END",
+                "CREATE TRIGGER IF NOT EXISTS tasks_search_update AFTER UPDATE OF title, description ON Tasks BEGIN " +
+                        "INSERT INTO TaskSearch(TaskSearch, rowid, title, description) VALUES ('delete', old.id, old.title, old.description); " +
+                        "INSERT INTO TaskSearch(rowid, title, description) VALUES (new.id, new.title, new.description); " +
+                        "END",
+
+                "CREATE TRIGGER IF NOT EXISTS comments_search_insert AFTER INSERT ON Comments BEGIN " +
+                        "INSERT INTO CommentSearch(rowid, comment_text) VALUES (new.id, new.comment_text); " +
+                        "END",
+                "CREATE TRIGGER IF NOT EXISTS comments_search_delete AFTER DELETE ON Comments BEGIN " +
+                        "INSERT INTO CommentSearch(CommentSearch, rowid, comment_text) VALUES ('delete', old.id, old.comment_text); " +
+                        "END",
+                "CREATE TRIGGER IF NOT EXISTS comments_search_update AFTER UPDATE OF comment_text ON Comments BEGIN " +
+                        "INSERT INTO CommentSearch(CommentSearch, rowid, comment_text) VALUES ('delete', old.id, old.comment_text); " +
+                        "INSERT INTO CommentSearch(rowid, comment_text) VALUES (new.id, new.comment_text); " +
+                        "END",
+
+                "INSERT INTO TaskSearch(TaskSearch) VALUES ('rebuild')",
+                "INSERT INTO CommentSearch(CommentSearch) VALUES ('rebuild')"
+        ));
+    }
+
+    /**
+     * Version 5: an append-only log of row changes, written by triggers on the tables whose rows are
+     * shown in lists or cached. Each entry names the table and the row's ID; {@code related_id} holds
+     * the row the entry belongs to (the task of a comment or attachment, the recipient of a notification,
+     * the team of a project or membership), so consumers can filter without loading the row. Memberships
+     * have no ID of their own and log the user ID instead. AUTOINCREMENT keeps {@code seq} strictly
+     * increasing even after old entries are deleted.
+     */
+    private static Migration createChangeLog() {
+        List<String> statements = new ArrayList<>();
+        statements.add("CREATE TABLE IF NOT EXISTS ChangeLog (" +
+                "seq INTEGER PRIMARY KEY AUTOINCREMENT," +
+                "entity TEXT NOT NULL," + // Name of the changed table
+                "entity_id INTEGER NOT NULL," +
+                "related_id INTEGER," +
+                "op TEXT NOT NULL CHECK (op IN ('INSERT', 'UPDATE', 'DELETE'))," +
+                "changed_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('subsec') * 1000 AS INTEGER))" + // Epoch milliseconds
+                ")");
+        statements.addAll(changeLogTriggers("Tasks", "id", "NULL"));
+        statements.addAll(changeLogTriggers("Comments", "id", "task_id"));
+        statements.addAll(changeLogTriggers("Attachments", "id", "task_id"));
+        statements.addAll(changeLogTriggers("Notifications", "id", "user_id"));
+        statements.addAll(changeLogTriggers("UserTeamMemberships", "user_id", "team_id"));
+        statements.addAll(changeLogTriggers("Projects", "id", "team_id"));
+        return new Migration(5, "Add change log fed by triggers", statements);
+    }
+
+    /**
+     * Builds the insert, update and delete triggers that record a table's changes in the ChangeLog.
+     *
+     * @param table The table to watch.
+     * @param idColumn The column logged as {@code entity_id}.
+     * @param relatedColumn The column logged as {@code related_id}, or {@code "NULL"}.
+     * @return The CREATE TRIGGER statements.
+     */
+    private static List<String> changeLogTriggers(String table, String idColumn, String relatedColumn) {
+        String prefix = table.toLowerCase(Locale.ROOT) + "_changelog_";
+        String oldRelated = "NULL".equals(relatedColumn) ? "NULL" : "old." + relatedColumn;
+        String newRelated = "NULL".equals(relatedColumn) ? "NULL" : "new." + relatedColumn;
+        return List.of(
+                "CREATE TRIGGER IF NOT EXISTS " + prefix + "insert AFTER INSERT ON " + table + " BEGIN " +
+                        "INSERT INTO ChangeLog(entity, entity_id, related_id, op) " +
+                        "VALUES ('" + table + "', new." + idColumn + ", " + newRelated + ", 'INSERT'); " +
+                        "END",
+                changeLogUpdateTrigger(table, idColumn, relatedColumn),
+                "CREATE TRIGGER IF NOT EXISTS " + prefix + "delete AFTER DELETE ON " + table + " BEGIN " +
+                        "INSERT INTO ChangeLog(entity, entity_id, related_id, op) " +
+                        "VALUES ('" + table + "', old." + idColumn + ", " + oldRelated + ", 'DELETE'); " +
+                        "END"
+        );
+    }
+
+    /**
+     * Builds the update trigger that records a table's updates in the ChangeLog.
+     *
+     * @param table The table to watch.
+     * @param idColumn The column logged as {@code entity_id}.
+     * @param relatedColumn The column logged as {@code related_id}, or {@code "NULL"}.
+     * @return The CREATE TRIGGER statement.
+     */
+    private static String changeLogUpdateTrigger(String table, String idColumn, String relatedColumn) {
+        String newRelated = "NULL".equals(relatedColumn) ? "NULL" : "new." + relatedColumn;
+        return "CREATE TRIGGER IF NOT EXISTS " + table.toLowerCase(Locale.ROOT) + "_changelog_update AFTER UPDATE ON " + table + " BEGIN " +
+                "INSERT INTO ChangeLog(entity, entity_id, related_id, op) " +
+                "VALUES ('" + table + "', new." + idColumn + ", " + newRelated + ", 'UPDATE'); " +
+                "END";
+    }
+
+    /**
+     * Runs statements that rewrite every row of a table without logging them as changes. The ChangeLog
+     * update trigger of version 5 is dropped before the statements and created again after them, in the
+     * same migration, so a column conversion does not add one log entry per existing row.
+     *
+     * @param table The table whose rows are rewritten; its rows are logged by their {@code id}.
+     * @param relatedColumn The column the table's trigger logs as {@code related_id}, or {@code "NULL"}.
+     * @param statements The statements rewriting the rows.
+     * @return The statements, preceded by dropping and followed by recreating the update trigger.
+     */
+    private static List<String> withoutChangeLogUpdates(String table, String relatedColumn, List<String> statements) {
+        List<String> wrapped = new ArrayList<>();
+        wrapped.add("DROP TRIGGER IF EXISTS " + table.toLowerCase(Locale.ROOT) + "_changelog_update");
+        wrapped.addAll(statements);
+        wrapped.add(changeLogUpdateTrigger(table, "id", relatedColumn));
+        return wrapped;
+    }
+
+    /**
+     * Version 6: stores the task due date and the comment, attachment and notification timestamps as
+     * INTEGER milliseconds since the epoch instead of ISO 8601 text, so rows are read without parsing
+     * and range conditions compare numbers. Existing values are local times and are converted with the
+     * 'utc' modifier. Each column is replaced by adding the new column, copying the converted values,
+     * dropping the old column and renaming the new one; indexes on the old columns have to be dropped
+     * first and are recreated at the end. The task index now places tasks without a due date last by
+     * sorting them as the largest INTEGER. The ChangeLog update triggers are suspended while the values
+     * are copied, since the rows only change representation.
+     */
+    private static Migration convertTimestampsToEpochMillis() {
+        List<String> statements = new ArrayList<>(List.of(
+                "DROP INDEX IF EXISTS idx_tasks_due_date_id",
+                "DROP INDEX IF EXISTS idx_notifications_user_read_sent",
+                "DROP INDEX IF EXISTS idx_notifications_user_sent_id"
+        ));
+        statements.addAll(withoutChangeLogUpdates("Tasks", "NULL", epochMillisColumn("Tasks", "due_date", false)));
+        statements.addAll(withoutChangeLogUpdates("Comments", "task_id", epochMillisColumn("Comments", "created_at", true)));
+        statements.addAll(withoutChangeLogUpdates("Attachments", "task_id", epochMillisColumn("Attachments", "uploaded_at", true)));
+        statements.addAll(withoutChangeLogUpdates("Notifications", "user_id", epochMillisColumn("Notifications", "sent_at", true)));
+        statements.add("CREATE INDEX IF NOT EXISTS idx_tasks_due_date_id ON Tasks(IFNULL(due_date, 9223372036854775807), id)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_notifications_user_read_sent ON Notifications(user_id, is_read, sent_at)");
+        statements.add("CREATE INDEX IF NOT EXISTS idx_notifications_user_sent_id ON Notifications(user_id, sent_at, id)");
+        return new Migration(6, "Store timestamps as epoch milliseconds", statements);
+    }
+
+    /**
+     * Builds the statements that replace an ISO 8601 TEXT column by an INTEGER epoch-millisecond column
+     * of the same name. SQLite only adds a NOT NULL column with a default, so required columns keep
+     * a default of 0 that the DAOs never rely on.
+     *
+     * @param table The table holding the column.
+     * @param column The column to convert.
+     * @param notNull Whether the column is NOT NULL.
+     * @return The ALTER TABLE and UPDATE statements.
+     */
+    private static List<String> epochMillisColumn(String table, String column, boolean notNull) {
+        return replaceColumn(table, column, column + "_millis", "INTEGER" + (notNull ? " NOT NULL DEFAULT 0" : ""),
+                "CAST(ROUND(unixepoch(" + column + ", 'utc', 'subsec') * 1000) AS INTEGER)");
+    }
+
+    /**
+     * Version 7: stores task priority, status and visibility and the notification type as small integer
+     * codes instead of constant names. The names are listed here rather than taken from the enums, so
+     * that the migration does not change when constants are added; each name maps to its position, which
+     * is the code the enum assigns to it. A name outside the list fails the NOT NULL constraint and
+     * aborts the migration. Rewriting the rows is not a change of the tasks or notifications and is not logged.
+     */
+    private static Migration convertEnumsToCodes() {
+        List<String> taskStatements = new ArrayList<>();
+        taskStatements.addAll(enumCodeColumn("Tasks", "priority", List.of("LOW", "MEDIUM", "HIGH")));
+        taskStatements.addAll(enumCodeColumn("Tasks", "status", List.of("PENDING", "IN_PROGRESS", "COMPLETED", "BLOCKED")));
+        taskStatements.addAll(enumCodeColumn("Tasks", "visibility", List.of("PUBLIC", "RESTRICTED", "PRIVATE")));
+        List<String> statements = new ArrayList<>(withoutChangeLogUpdates("Tasks", "NULL", taskStatements));
+        statements.addAll(withoutChangeLogUpdates("Notifications", "user_id", enumCodeColumn("Notifications", "notification_type",
+                List.of("GENERAL", "TEAM_INVITATION", "TASK_REMINDER", "TASK_ASSIGNMENT"))));
+        return new Migration(7, "Store enum columns as integer codes", statements);
+    }
+
+    /**
+     * Builds the statements that replace a NOT NULL TEXT column of enum constant names by an INTEGER
+     * column of codes with the same name. The column defaults to code 0.
+     *
+     * @param table The table holding the column.
+     * @param column The column to convert.
+     * @param names The constant names in code order.
+     * @return The ALTER TABLE and UPDATE statements.
+     */
+    private static List<String> enumCodeColumn(String table, String column, List<String> names) {
+        StringBuilder codeOf = new StringBuilder("CASE ").append(column);
+        for (int code = 0; code < names.size(); code++) {
+            codeOf.append(" WHEN '").append(names.get(code)).append("' THEN ").append(code);
+        }
+        codeOf.append(" END");
+        return replaceColumn(table, column, column + "_code", "INTEGER NOT NULL DEFAULT 0", codeOf.toString());
+    }
+
+    /**
+     * Builds the statements that replace a column by a new definition of the same name: the new column
+     * is added under a temporary name, filled from the old one, and renamed once the old one is dropped.
+     * SQLite cannot change the type of an existing column. Indexes on the column must be dropped first.
+     *
+     * @param table The table holding the column.
+     * @param column The column to replace.
+     * @param temporaryColumn The name the new column has until the old one is dropped.
+     * @param definition The type and constraints of the new column.
+     * @param value The expression over the old column that gives each row's new value.
+     * @return The ALTER TABLE and UPDATE statements.
+     */
+    private static List<String> replaceColumn(String table, String column, String temporaryColumn, String definition,
+                                              String value) {
+        return List.of(
+                "ALTER TABLE " + table + " ADD COLUMN " + temporaryColumn + " " + definition,
+                "UPDATE " + table + " SET " + temporaryColumn + " = " + value,
+                "ALTER TABLE " + table + " DROP COLUMN " + column,
+                "ALTER TABLE " + table + " RENAME COLUMN " + temporaryColumn + " TO " + column
+        );
+    }
+
+    /**
+     * Version 8: indexes for the task counts shown on the dashboard. Counting the tasks of an assignee or
+     * project by status and priority, and how many of them are overdue, reads only these indexes, in
+     * GROUP BY order. They start with the columns of the version 2 indexes on assignee and project, which
+     * they replace.
+     */
+    private static Migration createTaskCountIndexes() {
+        return new Migration(8, "Add covering indexes for task count aggregates", List.of(
+                "DROP INDEX IF EXISTS idx_tasks_assigned_to_user_id",
+                "DROP INDEX IF EXISTS idx_tasks_project_id",
+                "CREATE INDEX IF NOT EXISTS idx_tasks_assignee_counts ON Tasks(assigned_to_user_id, status, priority, due_date)",
+                "CREATE INDEX IF NOT EXISTS idx_tasks_project_counts ON Tasks(project_id, status, priority, due_date)"
+        ));
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskforge.util;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applies ordered, versioned {@link Migration}s to a SQLite database.
+ * The current schema version is stored in SQLite's {@code PRAGMA user_version} header field,
+ * which is updated in the same transaction as the migration's statements. A migration
+ * therefore either applies completely, including the version bump, or not at all.
+ * When the stored version already equals the latest known version, no DDL is executed.
+ */
+public class SchemaMigrator {
+
+    private final List<Migration> migrations;
+
+    /**
+     * Constructs a SchemaMigrator for the given migrations.
+     *
+     * @param migrations The migrations to apply. Versions must be unique.
+     * @throws IllegalArgumentException if two migrations share the same version.
+     */
+    public SchemaMigrator(List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::getVersion));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).getVersion() == sorted.get(i - 1).getVersion()) {
+                throw new IllegalArgumentException("Duplicate migration version: " + sorted.get(i).getVersion());
+            }
+        }
+        this.migrations = List.copyOf(sorted);
+    }
+
+    /**
+     * Gets the highest schema version known to this migrator.
+     *
+     * @return The latest version, or 0 if there are no migrations.
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    /**
+     * Reads the schema version currently stored in the database.
+     *
+     * @param conn An open connection to the database.
+     * @return The stored schema version (0 for a database that has never been migrated).
+     * @throws SQLException If a database access error occurs.
+     */
+    public int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Applies every migration newer than the database's stored version, in order.
+     * Each migration runs in its own transaction and is rolled back entirely if any statement fails.
+     *
+     * @param conn An open connection to the database. Its auto-commit mode is restored on return.
+     * @return The number of migrations applied (0 if the schema was already current).
+     * @throws SQLException If a migration fails; migrations applied before it remain committed.
+     */
+    public int migrate(Connection conn) throws SQLException {
+        int currentVersion = getCurrentVersion(conn);
+        if (currentVersion >= getLatestVersion()) {
+            return 0;
+        }
+
+        int applied = 0;
+        boolean originalAutoCommit = conn.getAutoCommit();
+        try {
+            conn.setAutoCommit(false);
+            for (Migration migration : migrations) {
+                if (migration.getVersion() <= currentVersion) {
+                    continue;
+                }
+                try (Statement stmt = conn.createStatement()) {
+                    for (String sql : migration.getStatements()) {
+                        stmt.execute(sql);
+                    }
+                    // PRAGMA arguments cannot be bound as parameters; the version is an int we control.
+                    stmt.execute("PRAGMA user_version = " + migration.getVersion());
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw new SQLException("Migration " + migration.getVersion() + " ("
+                            + migration.getDescription() + ") failed: " + e.getMessage(), e);
+                }
+                applied++;
+                System.out.println("Applied schema migration " + migration.getVersion() + ": " + migration.getDescription());
+            }
+        } finally {
+            conn.setAutoCommit(originalAutoCommit);
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskforge.util;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Utility class for converting between LocalDateTime values and the INTEGER epoch-millisecond
+ * columns the database stores them in. Values are interpreted in the system default time zone,
+ * which is the zone the application shows them in. Precision below one millisecond is dropped.
+ */
+public final class Timestamps {
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Timestamps() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Converts a local date-time to milliseconds since the epoch.
+     *
+     * @param dateTime The date-time to convert.
+     * @return The number of milliseconds since 1970-01-01T00:00Z.
+     */
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Converts milliseconds since the epoch to a local date-time.
+     *
+     * @param epochMillis The number of milliseconds since 1970-01-01T00:00Z.
+     * @return The corresponding date-time in the system default time zone.
+     */
+    public static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Binds a date-time, which may be null, to an INTEGER timestamp parameter.
+     *
+     * @param pstmt The statement to bind.
+     * @param index The parameter index.
+     * @param dateTime The date-time to bind, or null to bind SQL NULL.
+     * @throws SQLException If the parameter cannot be set.
+     */
+    public static void bind(PreparedStatement pstmt, int index, LocalDateTime dateTime) throws SQLException {
+        if (dateTime != null) {
+            pstmt.setLong(index, toEpochMillis(dateTime));
+        } else {
+            pstmt.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Reads an INTEGER timestamp column of the current row.
+     *
+     * @param rs The ResultSet positioned on a row.
+     * @param column The column label.
+     * @return The date-time stored in the column, or null if the column is NULL.
+     * @throws SQLException If the column cannot be read.
+     */
+    public static LocalDateTime read(ResultSet rs, String column) throws SQLException {
+        long epochMillis = rs.getLong(column);
+        return rs.wasNull() ? null : fromEpochMillis(epochMillis);
+    }
+}
@@ -16,6 +16,8 @@ module com.taskforge {
     exports com.taskforge.ui;
     exports com.taskforge.model;
     exports com.taskforge.dao;
+    exports com.taskforge.event;
     exports com.taskforge.service;
     exports com.taskforge.util;
+    exports com.taskforge.tools;
 }
\ No newline at end of file
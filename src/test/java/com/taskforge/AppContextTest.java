@@ -0,0 +1,46 @@
+package com.taskforge;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppContextTest {
+
+    private AppContext context;
+
+    public static class ContextAwareController {
+        private final AppContext context;
+
+        public ContextAwareController(AppContext context) {
+            this.context = context;
+        }
+    }
+
+    public static class PlainController {
+    }
+
+    @BeforeEach
+    void setUp() {
+        context = new AppContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Stops the change log watcher, compactor and notification writer started by the constructor
+        context.shutdown();
+    }
+
+    @Test
+    void testControllerFactoryInjectsContext() {
+        Object controller = context.createController(ContextAwareController.class);
+
+        assertSame(context, ((ContextAwareController) controller).context);
+    }
+
+    @Test
+    void testControllerFactoryFallsBackToNoArgConstructor() {
+        assertInstanceOf(PlainController.class, context.createController(PlainController.class));
+    }
+}
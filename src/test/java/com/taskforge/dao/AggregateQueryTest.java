@@ -0,0 +1,102 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Project;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.TaskCounts;
+import com.taskforge.model.User;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregateQueryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private AppContext context;
+    private TaskDAO taskDAO;
+    private User alice;
+    private User bob;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        taskDAO = context.getTaskDAO();
+        alice = TestDatabase.createUser(context, "alice");
+        bob = TestDatabase.createUser(context, "bob");
+        project = context.getProjectDAO().createProject(new Project("Launch", null));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    private void createTask(LocalDateTime dueDate, Priority priority, Status status, User assignee,
+                            Visibility visibility, User creator) {
+        assertNotNull(taskDAO.createTask(new Task("task", "", dueDate, priority, status, assignee, project,
+                visibility, creator)));
+    }
+
+    @Test
+    void testTaskCountsByAssigneeAndProject() {
+        createTask(NOW.minusDays(1), Priority.HIGH, Status.PENDING, alice, Visibility.PRIVATE, bob); // Overdue
+        createTask(NOW.minusDays(2), Priority.HIGH, Status.COMPLETED, alice, Visibility.PUBLIC, bob); // Done, not overdue
+        createTask(NOW.plusDays(1), Priority.LOW, Status.IN_PROGRESS, alice, Visibility.PUBLIC, alice);
+        createTask(null, Priority.LOW, Status.PENDING, alice, Visibility.PUBLIC, alice);
+        createTask(NOW.minusDays(3), Priority.MEDIUM, Status.BLOCKED, bob, Visibility.PRIVATE, bob); // Hidden from alice
+        createTask(NOW.minusDays(3), Priority.MEDIUM, Status.PENDING, bob, Visibility.PUBLIC, bob);
+
+        TaskCounts mine = taskDAO.countVisibleTasksByAssignedUserId(alice.getId(), alice.getId(), NOW);
+        assertEquals(4, mine.total());
+        assertEquals(2, mine.count(Status.PENDING));
+        assertEquals(1, mine.count(Status.IN_PROGRESS));
+        assertEquals(1, mine.count(Status.COMPLETED));
+        assertEquals(0, mine.count(Status.BLOCKED));
+        assertEquals(2, mine.count(Priority.HIGH));
+        assertEquals(0, mine.count(Priority.MEDIUM));
+        assertEquals(2, mine.count(Priority.LOW));
+        assertEquals(1, mine.overdue());
+
+        TaskCounts bobsSeenByAlice = taskDAO.countVisibleTasksByAssignedUserId(bob.getId(), alice.getId(), NOW);
+        assertEquals(1, bobsSeenByAlice.total());
+        assertEquals(0, bobsSeenByAlice.count(Status.BLOCKED));
+        assertEquals(1, bobsSeenByAlice.overdue());
+
+        TaskCounts projectForAlice = taskDAO.countVisibleTasksByProjectId(project.getId(), alice.getId(), NOW);
+        TaskCounts projectForBob = taskDAO.countVisibleTasksByProjectId(project.getId(), bob.getId(), NOW);
+        assertEquals(5, projectForAlice.total());
+        assertEquals(6, projectForBob.total());
+        assertEquals(3, projectForBob.overdue());
+
+        assertEquals(2, taskDAO.countVisibleOverdueTasks(alice.getId(), NOW));
+        assertEquals(taskDAO.getVisibleOverdueTasks(bob.getId(), NOW).size(), taskDAO.countVisibleOverdueTasks(bob.getId(), NOW));
+        assertEquals(0, taskDAO.countVisibleTasksByProjectId(project.getId() + 1, alice.getId(), NOW).total());
+    }
+
+    @Test
+    void testUnreadNotificationCount() {
+        NotificationDAO notificationDAO = context.getNotificationDAO();
+        Notification read = notificationDAO.createNotification(new Notification(alice, "read", NOW));
+        notificationDAO.createNotification(new Notification(alice, "unread", NOW.plusMinutes(1)));
+        notificationDAO.createNotification(new Notification(alice, "unread too", NOW.plusMinutes(2)));
+        notificationDAO.createNotification(new Notification(bob, "other inbox", NOW));
+        assertTrue(notificationDAO.markNotificationAsRead(read.getId()));
+
+        assertEquals(2, notificationDAO.countUnreadNotificationsByUserId(alice.getId()));
+        assertEquals(notificationDAO.getUnreadNotificationsByUserId(bob.getId()).size(),
+                notificationDAO.countUnreadNotificationsByUserId(bob.getId()));
+        assertEquals(0, notificationDAO.countUnreadNotificationsByUserId(bob.getId() + 1));
+    }
+}
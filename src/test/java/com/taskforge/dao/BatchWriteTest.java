@@ -0,0 +1,91 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.Team;
+import com.taskforge.model.User;
+import com.taskforge.model.UserTeamMembership;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchWriteTest {
+
+    private AppContext context;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        alice = TestDatabase.createUser(context, "alice");
+        bob = TestDatabase.createUser(context, "bob");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    @Test
+    void testCreateTasksReturnsGeneratedIdsInOrder() {
+        TaskDAO taskDAO = context.getTaskDAO();
+        taskDAO.createTask(new Task("Existing", null, null, Priority.LOW, Status.PENDING, null, null, Visibility.PUBLIC, alice));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new Task("Task " + i, null, null, Priority.MEDIUM, Status.PENDING, null, null, Visibility.PUBLIC, alice));
+        }
+
+        List<Task> created = taskDAO.createTasks(tasks);
+
+        assertEquals(5, created.size());
+        for (Task task : created) {
+            assertEquals(task.getTitle(), taskDAO.getTaskById(task.getId()).orElseThrow().getTitle());
+        }
+        assertEquals(3, taskDAO.deleteTasks(List.of(created.get(0).getId(), created.get(1).getId(), created.get(2).getId(), -1)));
+        assertEquals(3, taskDAO.getAllTasks().size());
+    }
+
+    @Test
+    void testNotificationBatchUpdatesOnlyGivenRows() {
+        NotificationDAO notificationDAO = context.getNotificationDAO();
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            notifications.add(new Notification(bob, "Message " + i, LocalDateTime.now()));
+        }
+        notificationDAO.createNotifications(notifications);
+
+        int updated = notificationDAO.markNotificationsAsRead(List.of(notifications.get(0).getId(), notifications.get(2).getId()));
+
+        assertEquals(2, updated);
+        assertEquals(List.of(notifications.get(1).getId(), notifications.get(3).getId()),
+                notificationDAO.getUnreadNotificationsByUserId(bob.getId()).stream().map(Notification::getId).sorted().toList());
+    }
+
+    @Test
+    void testFailedBatchWritesNothing() {
+        Team team = context.getTeamDAO().createTeam(new Team("Platform"));
+        UserTeamMembership membership = new UserTeamMembership(alice, team, UserTeamMembership.Role.OWNER,
+                UserTeamMembership.InvitationStatus.ACCEPTED);
+
+        boolean created = context.getUserTeamDAO().createMemberships(List.of(
+                new UserTeamMembership(bob, team, UserTeamMembership.Role.MEMBER, UserTeamMembership.InvitationStatus.PENDING),
+                membership, membership));
+
+        assertFalse(created);
+        assertTrue(context.getUserTeamDAO().getMembershipsByTeamId(team.getId()).isEmpty());
+        assertTrue(context.getUserTeamDAO().createMemberships(List.of(membership)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.model.ChangeLogEntry.Operation;
+import com.taskforge.model.Comment;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.Team;
+import com.taskforge.model.User;
+import com.taskforge.model.UserTeamMembership;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeLogTest {
+
+    private AppContext context;
+    private ChangeLogDAO changeLogDAO;
+    private User alice;
+    private long startSeq;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        changeLogDAO = context.getChangeLogDAO();
+        alice = TestDatabase.createUser(context, "alice");
+        startSeq = changeLogDAO.getLatestSeq();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    private Task createTask(String title) {
+        return context.getTaskDAO().createTask(
+                new Task(title, null, null, Priority.MEDIUM, Status.PENDING, null, null, Visibility.PUBLIC, alice));
+    }
+
+    @Test
+    void testTriggersLogEveryWriteInOrder() {
+        TaskDAO taskDAO = context.getTaskDAO();
+        Task task = createTask("Logged");
+        Comment comment = new CommentDAO(taskDAO, context.getUserDAO())
+                .createComment(new Comment(task, alice, "First", LocalDateTime.now()));
+        task.setTitle("Renamed");
+        assertTrue(taskDAO.updateTask(task));
+        assertTrue(taskDAO.deleteTask(task.getId()));
+
+        List<ChangeLogEntry> changes = changeLogDAO.getChangesSince(startSeq, 100);
+
+        assertEquals(List.of(
+                        ChangeLogEntry.TASKS + " " + task.getId() + " INSERT",
+                        ChangeLogEntry.COMMENTS + " " + comment.getId() + " INSERT",
+                        ChangeLogEntry.TASKS + " " + task.getId() + " UPDATE",
+                        ChangeLogEntry.COMMENTS + " " + comment.getId() + " DELETE", // Cascaded from the task
+                        ChangeLogEntry.TASKS + " " + task.getId() + " DELETE"),
+                changes.stream().map(change -> change.entity() + " " + change.entityId() + " " + change.operation()).toList());
+        assertEquals(task.getId(), changes.get(1).relatedId());
+        assertNull(changes.get(0).relatedId());
+        for (int i = 1; i < changes.size(); i++) {
+            assertTrue(changes.get(i).seq() > changes.get(i - 1).seq());
+        }
+        assertEquals(changes.get(changes.size() - 1).seq(), changeLogDAO.getLatestSeq());
+        assertEquals(2, changeLogDAO.getChangesSince(startSeq, 2).size());
+    }
+
+    @Test
+    void testMembershipChangesLogUserAndTeam() {
+        Team team = context.getTeamDAO().createTeam(new Team("Platform"));
+        assertTrue(context.getUserTeamDAO().createMembership(new UserTeamMembership(alice, team,
+                UserTeamMembership.Role.OWNER, UserTeamMembership.InvitationStatus.ACCEPTED)));
+
+        List<ChangeLogEntry> changes = changeLogDAO.getChangesSince(startSeq, 100);
+
+        assertEquals(1, changes.size(), "Teams are not logged, only the membership");
+        ChangeLogEntry change = changes.get(0);
+        assertEquals(ChangeLogEntry.MEMBERSHIPS, change.entity());
+        assertEquals(alice.getId(), change.entityId());
+        assertEquals(team.getId(), change.relatedId());
+        assertEquals(Operation.INSERT, change.operation());
+    }
+
+    @Test
+    void testCompactionKeepsNewestEntryPerRow() {
+        TaskDAO taskDAO = context.getTaskDAO();
+        Task first = createTask("First");
+        Task second = createTask("Second");
+        for (int i = 0; i < 3; i++) {
+            first.setTitle("First " + i);
+            assertTrue(taskDAO.updateTask(first));
+        }
+        long latestSeq = changeLogDAO.getLatestSeq();
+
+        int removed = changeLogDAO.compact(60_000);
+
+        assertEquals(3, removed);
+        List<ChangeLogEntry> changes = changeLogDAO.getChangesSince(startSeq, 100);
+        assertEquals(List.of(second.getId(), first.getId()), changes.stream().map(ChangeLogEntry::entityId).toList());
+        assertEquals(Operation.UPDATE, changes.get(1).operation());
+        assertEquals(latestSeq, changes.get(1).seq());
+
+        assertEquals(2, changeLogDAO.compact(0));
+        assertTrue(changeLogDAO.getChangesSince(startSeq, 100).isEmpty());
+        assertEquals(latestSeq, changeLogDAO.getLatestSeq(), "Sequence numbers must not be reused after compaction");
+    }
+}
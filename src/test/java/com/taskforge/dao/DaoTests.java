@@ -2,6 +2,7 @@ package com.taskforge.dao;
 
 import com.taskforge.model.*;
 import com.taskforge.util.DatabaseManager;
+import com.taskforge.util.Timestamps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
@@ -35,6 +36,7 @@ class DaoTests {
         // Mock static DatabaseManager for the entire test class
         mockedDatabaseManager = Mockito.mockStatic(DatabaseManager.class);
         mockedDatabaseManager.when(DatabaseManager::getConnection).thenReturn(mockConnection);
+        mockedDatabaseManager.when(DatabaseManager::getReadConnection).thenReturn(mockConnection);
 
         when(mockConnection.prepareStatement(anyString())).thenReturn(mockPreparedStatement);
         when(mockConnection.prepareStatement(anyString(), anyInt())).thenReturn(mockPreparedStatement);
@@ -72,7 +74,7 @@ class DaoTests {
         when(mockResultSet.getInt("task_id")).thenReturn(1);
         when(mockResultSet.getString("file_name")).thenReturn("test.txt");
         when(mockResultSet.getString("file_path")).thenReturn("/path");
-        when(mockResultSet.getString("uploaded_at")).thenReturn("2023-01-01T12:00:00");
+        when(mockResultSet.getLong("uploaded_at")).thenReturn(Timestamps.toEpochMillis(LocalDateTime.of(2023, 1, 1, 12, 0)));
         when(mockTaskDAO.getTaskById(1)).thenReturn(Optional.of(task));
 
         Optional<Attachment> found = attachmentDAO.getAttachmentById(1);
@@ -105,7 +107,7 @@ class DaoTests {
         when(mockResultSet.getInt("task_id")).thenReturn(1);
         when(mockResultSet.getInt("author_id")).thenReturn(1);
         when(mockResultSet.getString("comment_text")).thenReturn("Test comment");
-        when(mockResultSet.getString("created_at")).thenReturn("2023-01-01T12:00:00");
+        when(mockResultSet.getLong("created_at")).thenReturn(Timestamps.toEpochMillis(LocalDateTime.of(2023, 1, 1, 12, 0)));
         when(mockTaskDAO.getTaskById(1)).thenReturn(Optional.of(task));
         when(mockUserDAO.getUserById(1)).thenReturn(Optional.of(user));
 
@@ -136,10 +138,10 @@ class DaoTests {
         when(mockResultSet.getInt("id")).thenReturn(1);
         when(mockResultSet.getInt("user_id")).thenReturn(1);
         when(mockResultSet.getString("message")).thenReturn("Test message");
-        when(mockResultSet.getString("sent_at")).thenReturn("2023-01-01T12:00:00");
+        when(mockResultSet.getLong("sent_at")).thenReturn(Timestamps.toEpochMillis(LocalDateTime.of(2023, 1, 1, 12, 0)));
         when(mockResultSet.getBoolean("is_read")).thenReturn(false);
         when(mockResultSet.getInt("related_entity_id")).thenReturn(123);
-        when(mockResultSet.getString("notification_type")).thenReturn("TEAM_INVITATION");
+        when(mockResultSet.getInt("notification_type")).thenReturn(Notification.NotificationType.TEAM_INVITATION.getCode());
         when(mockUserDAO.getUserById(1)).thenReturn(Optional.of(user));
 
         Optional<Notification> found = notificationDAO.getNotificationById(1);
@@ -201,13 +203,13 @@ class DaoTests {
         when(mockResultSet.getInt("id")).thenReturn(1);
         when(mockResultSet.getString("title")).thenReturn("Test Task");
         when(mockResultSet.getString("description")).thenReturn("Description");
-        when(mockResultSet.getString("due_date")).thenReturn("2023-01-01T12:00:00");
-        when(mockResultSet.getString("priority")).thenReturn("HIGH");
-        when(mockResultSet.getString("status")).thenReturn("PENDING");
+        when(mockResultSet.getLong("due_date")).thenReturn(Timestamps.toEpochMillis(LocalDateTime.of(2023, 1, 1, 12, 0)));
+        when(mockResultSet.getInt("priority")).thenReturn(Priority.HIGH.getCode());
+        when(mockResultSet.getInt("status")).thenReturn(Status.PENDING.getCode());
         when(mockResultSet.getInt("assigned_to_user_id")).thenReturn(0);
         when(mockResultSet.wasNull()).thenReturn(true);
         when(mockResultSet.getInt("project_id")).thenReturn(0);
-        when(mockResultSet.getString("visibility")).thenReturn("PUBLIC");
+        when(mockResultSet.getInt("visibility")).thenReturn(Visibility.PUBLIC.getCode());
         when(mockResultSet.getInt("creator_id")).thenReturn(1);
         when(mockUserDAO.getUserById(1)).thenReturn(Optional.of(creator));
 
@@ -217,6 +219,62 @@ class DaoTests {
         assertEquals(Visibility.PUBLIC, found.get().getVisibility());
     }
 
+    @Test
+    void testTaskDAOFullGraphPlanUsesJoinedRows() throws SQLException {
+        UserDAO mockUserDAO = mock(UserDAO.class);
+        ProjectDAO mockProjectDAO = mock(ProjectDAO.class);
+        TaskDAO taskDAO = new TaskDAO(mockUserDAO, mockProjectDAO);
+
+        // Two rows created by the same user in the same project
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt("id")).thenReturn(1, 2);
+        when(mockResultSet.getString("title")).thenReturn("Task 1", "Task 2");
+        when(mockResultSet.getInt("priority")).thenReturn(Priority.HIGH.getCode());
+        when(mockResultSet.getInt("status")).thenReturn(Status.PENDING.getCode());
+        when(mockResultSet.getInt("visibility")).thenReturn(Visibility.PUBLIC.getCode());
+        when(mockResultSet.getInt("assigned_to_user_id")).thenReturn(0);
+        when(mockResultSet.getInt("project_id")).thenReturn(5);
+        when(mockResultSet.getInt("project_team_id")).thenReturn(7);
+        when(mockResultSet.wasNull()).thenReturn(true, true, false, false, true, true, false);
+        when(mockResultSet.getString("project_name")).thenReturn("Project");
+        when(mockResultSet.getString("team_name")).thenReturn("Team");
+        when(mockResultSet.getInt("creator_id")).thenReturn(1);
+        when(mockResultSet.getString("creator_username")).thenReturn("creator");
+
+        List<Task> tasks = taskDAO.getTasksVisibleToUser(1, TaskOrder.DEFAULT, 10, null, TaskFetchPlan.FULL_GRAPH).getItems();
+        assertEquals(2, tasks.size());
+        assertEquals("creator", tasks.get(0).getCreator().getUsername());
+        assertSame(tasks.get(0).getCreator(), tasks.get(1).getCreator());
+        assertSame(tasks.get(0).getProject(), tasks.get(1).getProject());
+        assertEquals("Team", tasks.get(0).getProject().getTeam().getName());
+        verifyNoInteractions(mockUserDAO, mockProjectDAO);
+    }
+
+    @Test
+    void testTaskDAOLazyPlanResolvesSharedReferencesOnAccess() throws SQLException {
+        UserDAO mockUserDAO = mock(UserDAO.class);
+        ProjectDAO mockProjectDAO = mock(ProjectDAO.class);
+        TaskDAO taskDAO = new TaskDAO(mockUserDAO, mockProjectDAO);
+
+        // Two unassigned rows without a project, created by the same user
+        when(mockResultSet.next()).thenReturn(true, true, false);
+        when(mockResultSet.getInt("id")).thenReturn(1, 2);
+        when(mockResultSet.getInt("creator_id")).thenReturn(7);
+        when(mockResultSet.wasNull()).thenReturn(true);
+        User creator = new User(7, "creator", "creator@example.com", "hash");
+        when(mockUserDAO.getUserById(7)).thenReturn(Optional.of(creator));
+
+        List<Task> tasks = taskDAO.getAllTasks();
+        assertEquals(2, tasks.size());
+        assertEquals(7, tasks.get(0).getCreatorId());
+        verifyNoInteractions(mockUserDAO, mockProjectDAO);
+
+        assertSame(creator, tasks.get(0).getCreator());
+        assertSame(creator, tasks.get(1).getCreator());
+        verify(mockUserDAO, times(1)).getUserById(7);
+        assertNull(tasks.get(0).getProject());
+    }
+
     @Test
     void testTeamDAO() throws SQLException {
         TeamDAO teamDAO = new TeamDAO();
@@ -329,13 +387,12 @@ class DaoTests {
         when(mockResultSet.getInt("id")).thenReturn(1);
         when(mockResultSet.getString("title")).thenReturn("Test Task");
         when(mockResultSet.getString("description")).thenReturn("Description");
-        when(mockResultSet.getString("due_date")).thenReturn(null);
-        when(mockResultSet.getString("priority")).thenReturn("HIGH");
-        when(mockResultSet.getString("status")).thenReturn("PENDING");
+        when(mockResultSet.getInt("priority")).thenReturn(Priority.HIGH.getCode());
+        when(mockResultSet.getInt("status")).thenReturn(Status.PENDING.getCode());
         when(mockResultSet.getInt("assigned_to_user_id")).thenReturn(0);
         when(mockResultSet.wasNull()).thenReturn(true);
         when(mockResultSet.getInt("project_id")).thenReturn(0);
-        when(mockResultSet.getString("visibility")).thenReturn("PUBLIC");
+        when(mockResultSet.getInt("visibility")).thenReturn(Visibility.PUBLIC.getCode());
         when(mockResultSet.getInt("creator_id")).thenReturn(1);
         when(mockUserDAO.getUserById(1)).thenReturn(Optional.of(creator));
 
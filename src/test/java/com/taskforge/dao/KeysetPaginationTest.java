@@ -0,0 +1,206 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Project;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.TaskSummary;
+import com.taskforge.model.User;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private AppContext context;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        alice = TestDatabase.createUser(context, "alice");
+        bob = TestDatabase.createUser(context, "bob");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    private Task createTask(String title, LocalDateTime dueDate, Visibility visibility, User creator) {
+        return context.getTaskDAO().createTask(new Task(title, "", dueDate, Priority.MEDIUM, Status.PENDING,
+                null, null, visibility, creator));
+    }
+
+    private static List<Integer> ids(List<?> items) {
+        List<Integer> ids = new ArrayList<>();
+        for (Object item : items) {
+            if (item instanceof Task task) {
+                ids.add(task.getId());
+            } else if (item instanceof TaskSummary summary) {
+                ids.add(summary.id());
+            } else {
+                ids.add(((Notification) item).getId());
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    void testTaskPagesFollowDueDateOrderWithUndatedTasksLast() {
+        Task undated = createTask("undated", null, Visibility.PUBLIC, alice);
+        Task late = createTask("late", BASE.plusDays(3), Visibility.PUBLIC, alice);
+        Task tieA = createTask("tie a", BASE.plusDays(1), Visibility.PUBLIC, alice);
+        Task tieB = createTask("tie b", BASE.plusDays(1), Visibility.PUBLIC, bob);
+        Task early = createTask("early", BASE, Visibility.PUBLIC, bob);
+        Task undatedToo = createTask("undated too", null, Visibility.PUBLIC, bob);
+
+        List<Task> loaded = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<Task> page = context.getTaskDAO().getAllTasks(4, cursor);
+            loaded.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(2, pages);
+        assertEquals(List.of(early.getId(), tieA.getId(), tieB.getId(), late.getId(), undated.getId(), undatedToo.getId()),
+                ids(loaded));
+    }
+
+    @Test
+    void testDueDateRangeQueries() {
+        Task overdue = createTask("overdue", BASE.minusDays(2), Visibility.PUBLIC, alice);
+        Task done = createTask("done", BASE.minusDays(1), Visibility.PUBLIC, alice);
+        done.setStatus(Status.COMPLETED);
+        assertTrue(context.getTaskDAO().updateTask(done));
+        Task soon = createTask("soon", BASE.plusDays(6), Visibility.PUBLIC, alice);
+        Task today = createTask("today", BASE.plusHours(1), Visibility.PUBLIC, alice);
+        createTask("later", BASE.plusDays(7), Visibility.PUBLIC, alice);
+        createTask("hidden", BASE.plusDays(1), Visibility.PRIVATE, bob);
+        createTask("undated", null, Visibility.PUBLIC, alice);
+
+        assertEquals(List.of(today.getId(), soon.getId()),
+                ids(context.getTaskDAO().getVisibleTasksDueBetween(alice.getId(), BASE, BASE.plusDays(7))));
+        assertEquals(List.of(overdue.getId()), ids(context.getTaskDAO().getVisibleOverdueTasks(alice.getId(), BASE)));
+    }
+
+    @Test
+    void testVisibleTaskPagesExcludeOtherUsersPrivateTasks() {
+        Task own = createTask("own private", BASE, Visibility.PRIVATE, alice);
+        createTask("bob private", BASE.plusDays(1), Visibility.PRIVATE, bob);
+        Task shared = createTask("bob public", BASE.plusDays(2), Visibility.PUBLIC, bob);
+
+        Page<Task> first = context.getTaskDAO().getTasksVisibleToUser(alice.getId(), TaskOrder.DEFAULT, 1, null);
+        Page<Task> second = context.getTaskDAO().getTasksVisibleToUser(alice.getId(), TaskOrder.DEFAULT, 1, first.getNextCursor());
+
+        assertEquals(List.of(own.getId()), ids(first.getItems()));
+        assertTrue(first.hasNext());
+        assertEquals(List.of(shared.getId()), ids(second.getItems()));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testTaskPagesFollowRequestedOrder() {
+        Task low = context.getTaskDAO().createTask(new Task("b low", "", null, Priority.LOW, Status.PENDING,
+                null, null, Visibility.PUBLIC, alice));
+        Task highA = context.getTaskDAO().createTask(new Task("c high", "", null, Priority.HIGH, Status.PENDING,
+                null, null, Visibility.PUBLIC, alice));
+        Task medium = context.getTaskDAO().createTask(new Task("a medium", "", null, Priority.MEDIUM, Status.PENDING,
+                null, null, Visibility.PUBLIC, alice));
+        Task highB = context.getTaskDAO().createTask(new Task("d high", "", null, Priority.HIGH, Status.PENDING,
+                null, null, Visibility.PUBLIC, alice));
+        TaskOrder byPriority = new TaskOrder(TaskOrder.Field.PRIORITY, true);
+
+        Page<Task> first = context.getTaskDAO().getTasksVisibleToUser(alice.getId(), byPriority, 3, null);
+        Page<Task> second = context.getTaskDAO().getTasksVisibleToUser(alice.getId(), byPriority, 3, first.getNextCursor());
+        Page<Task> byTitle = context.getTaskDAO().getTasksVisibleToUser(alice.getId(), new TaskOrder(TaskOrder.Field.TITLE, false), 10, null);
+
+        assertEquals(List.of(highB.getId(), highA.getId(), medium.getId()), ids(first.getItems()));
+        assertEquals(List.of(low.getId()), ids(second.getItems()));
+        assertEquals(List.of(medium.getId(), low.getId(), highA.getId(), highB.getId()), ids(byTitle.getItems()));
+    }
+
+    @Test
+    void testTaskSummaryPagesMatchTaskPages() {
+        Project project = context.getProjectDAO().createProject(new Project("Launch", null));
+        Task assigned = createTask("assigned", BASE.plusDays(1), Visibility.PUBLIC, bob);
+        assigned.setDescription("x".repeat(TaskSummary.DESCRIPTION_EXCERPT_LENGTH + 50));
+        assigned.setAssignedTo(alice);
+        assigned.setProject(project);
+        assertTrue(context.getTaskDAO().updateTask(assigned));
+        Task own = createTask("own", BASE, Visibility.PRIVATE, alice);
+        createTask("bob private", BASE.plusDays(2), Visibility.PRIVATE, bob);
+        Task undated = createTask("undated", null, Visibility.PUBLIC, bob);
+        TaskDAO taskDAO = context.getTaskDAO();
+
+        Page<Task> tasks = taskDAO.getTasksVisibleToUser(alice.getId(), TaskOrder.DEFAULT, 2, null);
+        Page<TaskSummary> first = taskDAO.getTaskSummariesVisibleToUser(alice.getId(), TaskOrder.DEFAULT, 2, null);
+        Page<TaskSummary> second = taskDAO.getTaskSummariesVisibleToUser(alice.getId(), TaskOrder.DEFAULT, 2, first.getNextCursor());
+
+        assertEquals(ids(tasks.getItems()), ids(first.getItems()));
+        assertEquals(tasks.getNextCursor(), first.getNextCursor());
+        assertEquals(List.of(own.getId(), assigned.getId()), ids(first.getItems()));
+        assertEquals(List.of(undated.getId()), ids(second.getItems()));
+        assertFalse(second.hasNext());
+
+        TaskSummary summary = first.getItems().get(1);
+        assertEquals("assigned", summary.title());
+        assertEquals(TaskSummary.DESCRIPTION_EXCERPT_LENGTH, summary.descriptionExcerpt().length());
+        assertEquals(BASE.plusDays(1), summary.dueDate());
+        assertEquals(Priority.MEDIUM, summary.priority());
+        assertEquals(Status.PENDING, summary.status());
+        assertEquals(Visibility.PUBLIC, summary.visibility());
+        assertEquals("Launch", summary.projectName());
+        assertEquals("alice", summary.assigneeName());
+        assertEquals(bob.getId(), summary.creatorId());
+        assertEquals("bob", summary.creatorName());
+        assertNull(first.getItems().get(0).projectName());
+        assertNull(first.getItems().get(0).assigneeName());
+
+        assertEquals(List.of(assigned.getId()), ids(taskDAO.getVisibleTaskSummariesByAssignedUserId(
+                alice.getId(), alice.getId(), TaskOrder.DEFAULT, 10, null).getItems()));
+    }
+
+    @Test
+    void testNotificationPagesAreNewestFirst() {
+        NotificationDAO notificationDAO = context.getNotificationDAO();
+        Notification oldest = notificationDAO.createNotification(new Notification(alice, "oldest", BASE));
+        Notification tieA = notificationDAO.createNotification(new Notification(alice, "tie a", BASE.plusHours(1)));
+        Notification tieB = notificationDAO.createNotification(new Notification(alice, "tie b", BASE.plusHours(1)));
+        Notification newest = notificationDAO.createNotification(new Notification(alice, "newest", BASE.plusHours(2)));
+        notificationDAO.createNotification(new Notification(bob, "other inbox", BASE.plusHours(3)));
+
+        Page<Notification> first = notificationDAO.getNotificationsByUserId(alice.getId(), 2, null);
+        Page<Notification> second = notificationDAO.getNotificationsByUserId(alice.getId(), 2, first.getNextCursor());
+
+        assertEquals(List.of(newest.getId(), tieB.getId()), ids(first.getItems()));
+        assertEquals(List.of(tieA.getId(), oldest.getId()), ids(second.getItems()));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void testInvalidPageArgumentsAreRejected() {
+        TaskDAO taskDAO = context.getTaskDAO();
+        assertThrows(IllegalArgumentException.class, () -> taskDAO.getAllTasks(0, null));
+        assertThrows(IllegalArgumentException.class, () -> taskDAO.getAllTasks(10, "not a cursor"));
+        assertThrows(IllegalArgumentException.class,
+                () -> context.getNotificationDAO().getNotificationsByUserId(alice.getId(), 10, "bm9wZQ"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Comment;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.TaskSearchResult;
+import com.taskforge.model.User;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchTest {
+
+    private AppContext context;
+    private TaskDAO taskDAO;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        taskDAO = context.getTaskDAO();
+        alice = TestDatabase.createUser(context, "alice");
+        bob = TestDatabase.createUser(context, "bob");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    private Task createTask(String title, String description, Visibility visibility, User creator) {
+        return taskDAO.createTask(new Task(title, description, null, Priority.MEDIUM, Status.PENDING,
+                null, null, visibility, creator));
+    }
+
+    private List<Integer> search(User viewer, String query) {
+        List<Integer> ids = new ArrayList<>();
+        for (TaskSearchResult result : context.getSearchService().searchTasks(query, viewer.getId())) {
+            ids.add(result.task().id());
+        }
+        return ids;
+    }
+
+    @Test
+    void testTitleMatchesRankAboveDescriptionMatches() {
+        Task inDescription = createTask("Quarterly report", "Mention the deployment freeze", Visibility.PUBLIC, alice);
+        Task inTitle = createTask("Deployment checklist", "Steps for Friday", Visibility.PUBLIC, alice);
+        createTask("Unrelated", "Nothing to see", Visibility.PUBLIC, alice);
+
+        List<TaskSearchResult> results = context.getSearchService().searchTasks("deploy", alice.getId());
+
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), results.stream().map(r -> r.task().id()).toList());
+        assertTrue(results.get(0).snippet().contains("[Deployment]"), results.get(0).snippet());
+        assertEquals("alice", results.get(0).task().creatorName());
+        assertEquals("Steps for Friday", results.get(0).task().descriptionExcerpt());
+    }
+
+    @Test
+    void testIndexFollowsTaskUpdatesAndDeletes() {
+        Task task = createTask("Draft budget", null, Visibility.PUBLIC, alice);
+        assertEquals(List.of(task.getId()), search(alice, "budget"));
+
+        task.setTitle("Final forecast");
+        assertTrue(taskDAO.updateTask(task));
+        assertEquals(List.of(), search(alice, "budget"));
+        assertEquals(List.of(task.getId()), search(alice, "forecast"));
+
+        assertTrue(taskDAO.deleteTask(task.getId()));
+        assertEquals(List.of(), search(alice, "forecast"));
+    }
+
+    @Test
+    void testCommentsAreSearchedAndVisibilityIsApplied() {
+        Task shared = createTask("Office move", "", Visibility.PUBLIC, bob);
+        Task hidden = createTask("Private plans", "", Visibility.PRIVATE, bob);
+        CommentDAO commentDAO = new CommentDAO(taskDAO, context.getUserDAO());
+        commentDAO.createComment(new Comment(shared, bob, "Book the elevator early", LocalDateTime.now()));
+        commentDAO.createComment(new Comment(hidden, bob, "Elevator access card", LocalDateTime.now()));
+
+        assertEquals(List.of(shared.getId()), search(alice, "elevator"));
+        assertEquals(2, search(bob, "elevator").size());
+    }
+
+    @Test
+    void testAllWordsMustMatchTaskTextOrOneComment() {
+        Task task = createTask("Office move", "Pack the monitors", Visibility.PUBLIC, alice);
+        CommentDAO commentDAO = new CommentDAO(taskDAO, context.getUserDAO());
+        commentDAO.createComment(new Comment(task, alice, "Book the elevator", LocalDateTime.now()));
+        commentDAO.createComment(new Comment(task, alice, "Order boxes", LocalDateTime.now()));
+
+        assertEquals(List.of(task.getId()), search(alice, "office monitors"));
+        assertEquals(List.of(task.getId()), search(alice, "book elevator"));
+        assertEquals(List.of(), search(alice, "monitors elevator"));
+        assertEquals(List.of(), search(alice, "elevator boxes"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskforge.dao;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Task;
+import com.taskforge.model.TaskSummary;
+import com.taskforge.model.Team;
+import com.taskforge.model.User;
+import com.taskforge.model.UserTeamMembership;
+import com.taskforge.model.UserTeamMembership.InvitationStatus;
+import com.taskforge.model.UserTeamMembership.Role;
+import com.taskforge.model.Visibility;
+import com.taskforge.testutil.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskVisibilityTest {
+
+    private AppContext context;
+    private TaskDAO taskDAO;
+    private User creator;
+    private User assignee;
+    private User teammate;
+    private User invitee;
+    private User stranger;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        context = TestDatabase.open();
+        taskDAO = context.getTaskDAO();
+        creator = TestDatabase.createUser(context, "creator");
+        assignee = TestDatabase.createUser(context, "assignee");
+        teammate = TestDatabase.createUser(context, "teammate");
+        invitee = TestDatabase.createUser(context, "invitee");
+        stranger = TestDatabase.createUser(context, "stranger");
+
+        team = createTeam("Core");
+        join(creator, team, Role.OWNER, InvitationStatus.ACCEPTED);
+        join(teammate, team, Role.MEMBER, InvitationStatus.ACCEPTED);
+        join(invitee, team, Role.MEMBER, InvitationStatus.PENDING);
+        Team otherTeam = createTeam("Other");
+        join(stranger, otherTeam, Role.OWNER, InvitationStatus.ACCEPTED);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.close(context);
+    }
+
+    private Team createTeam(String name) {
+        Team created = context.getTeamDAO().createTeam(new Team(name));
+        assertNotNull(created);
+        return created;
+    }
+
+    private void join(User user, Team target, Role role, InvitationStatus status) {
+        assertTrue(context.getUserTeamDAO().createMembership(new UserTeamMembership(user, target, role, status)));
+    }
+
+    private Task createTask(Visibility visibility, User taskCreator, User taskAssignee) {
+        Task task = taskDAO.createTask(new Task(visibility.name(), null, null, Priority.MEDIUM, Status.PENDING,
+                taskAssignee, null, visibility, taskCreator));
+        assertNotNull(task);
+        return task;
+    }
+
+    private Set<Integer> visibleTo(User viewer) {
+        Set<Integer> ids = new HashSet<>();
+        for (Task task : taskDAO.getTasksVisibleToUser(viewer.getId())) {
+            ids.add(task.getId());
+        }
+        Set<Integer> summaryIds = new HashSet<>();
+        for (TaskSummary summary : taskDAO.getTaskSummariesVisibleToUser(viewer.getId(), TaskOrder.DEFAULT, 100, null).getItems()) {
+            summaryIds.add(summary.id());
+        }
+        assertEquals(ids, summaryIds, "Lists and pages should apply the same visibility rules");
+        return ids;
+    }
+
+    @Test
+    void testCreatorAndAssigneeAlwaysSeeTheTask() {
+        Task privateTask = createTask(Visibility.PRIVATE, creator, assignee);
+        Task restrictedTask = createTask(Visibility.RESTRICTED, creator, assignee);
+
+        assertEquals(Set.of(privateTask.getId(), restrictedTask.getId()), visibleTo(creator));
+        assertEquals(Set.of(privateTask.getId(), restrictedTask.getId()), visibleTo(assignee));
+    }
+
+    @Test
+    void testPublicTasksVisibleToEveryone() {
+        Task publicTask = createTask(Visibility.PUBLIC, creator, null);
+
+        for (User viewer : List.of(creator, assignee, teammate, invitee, stranger)) {
+            assertEquals(Set.of(publicTask.getId()), visibleTo(viewer), viewer.getUsername());
+        }
+    }
+
+    @Test
+    void testPrivateTasksHiddenFromOthers() {
+        createTask(Visibility.PRIVATE, creator, null);
+
+        for (User viewer : List.of(assignee, teammate, invitee, stranger)) {
+            assertTrue(visibleTo(viewer).isEmpty(), viewer.getUsername());
+        }
+    }
+
+    @Test
+    void testRestrictedTasksVisibleOnlyThroughSharedAcceptedTeam() {
+        Task restrictedTask = createTask(Visibility.RESTRICTED, creator, null);
+
+        assertEquals(Set.of(restrictedTask.getId()), visibleTo(teammate));
+        assertTrue(visibleTo(invitee).isEmpty(), "A pending invitation should not grant access");
+        assertTrue(visibleTo(stranger).isEmpty(), "Users sharing no team should not see the task");
+        assertTrue(visibleTo(assignee).isEmpty(), "Users in no team should not see the task");
+    }
+
+    @Test
+    void testRestrictedTasksHiddenWhenCreatorMembershipIsPending() {
+        Task restrictedTask = createTask(Visibility.RESTRICTED, invitee, null);
+
+        assertEquals(Set.of(restrictedTask.getId()), visibleTo(invitee));
+        assertTrue(visibleTo(teammate).isEmpty(), "The creator's pending invitation should not share the task");
+        assertTrue(visibleTo(creator).isEmpty(), "The creator's pending invitation should not share the task");
+
+        assertTrue(context.getUserTeamDAO().updateMembership(
+                new UserTeamMembership(invitee, team, Role.MEMBER, InvitationStatus.ACCEPTED)));
+        assertEquals(Set.of(restrictedTask.getId()), visibleTo(teammate));
+    }
+}
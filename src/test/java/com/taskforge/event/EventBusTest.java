@@ -0,0 +1,98 @@
+package com.taskforge.event;
+
+import com.taskforge.model.Task;
+import com.taskforge.util.DatabaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusTest {
+
+    private EventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new EventBus(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventBus.shutdown();
+    }
+
+    private static Task task(int id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+
+    @Test
+    void testSynchronousSubscribersReceiveMatchingTypes() {
+        List<String> received = new ArrayList<>();
+        Object owner = new Object();
+        eventBus.subscribe(owner, TaskCreated.class, event -> received.add("created " + event.task().getId()));
+        eventBus.subscribe(owner, DomainEvent.class, event -> received.add("any " + event.orderingKey()));
+
+        eventBus.publish(new TaskCreated(task(1)));
+        eventBus.publish(new TaskDeleted(2));
+        eventBus.unsubscribeAll(owner);
+        eventBus.publish(new TaskDeleted(3));
+
+        assertEquals(List.of("created 1", "any task:1", "any task:2"), received);
+    }
+
+    @Test
+    void testAsyncDeliveryKeepsPerKeyOrder() throws InterruptedException {
+        Map<Integer, List<Integer>> updatesByTask = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(400);
+        eventBus.subscribeAsync(this, TaskUpdated.class, event -> {
+            // Sequence numbers are carried in the task's title
+            updatesByTask.computeIfAbsent(event.task().getId(), id -> new ArrayList<>())
+                    .add(Integer.parseInt(event.task().getTitle()));
+            done.countDown();
+        });
+
+        for (int sequence = 0; sequence < 100; sequence++) {
+            for (int taskId = 0; taskId < 4; taskId++) {
+                Task task = task(taskId);
+                task.setTitle(String.valueOf(sequence));
+                eventBus.publish(new TaskUpdated(task));
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (List<Integer> sequences : updatesByTask.values()) {
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testEventsInsideTransactionWaitForCommit() throws SQLException {
+        List<DomainEvent> received = new ArrayList<>();
+        eventBus.subscribe(this, DomainEvent.class, received::add);
+
+        DatabaseManager.inTransaction(() -> {
+            eventBus.publish(new TaskDeleted(1));
+            assertTrue(received.isEmpty());
+            return null;
+        });
+        assertThrows(SQLException.class, () -> DatabaseManager.inTransaction(() -> {
+            eventBus.publish(new TaskDeleted(2));
+            throw new SQLException("rolled back");
+        }));
+
+        assertEquals(List.of(new TaskDeleted(1)), received);
+    }
+}
@@ -2,6 +2,7 @@ package com.taskforge.model;
 
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ModelTests {
@@ -194,4 +195,66 @@ class ModelTests {
         assertEquals("Restricted", Visibility.RESTRICTED.toString());
         assertEquals("Private", Visibility.PRIVATE.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEnumCodesRoundTrip() {
+        for (Priority priority : Priority.values()) {
+            assertSame(priority, Priority.fromCode(priority.getCode()));
+        }
+        for (Status status : Status.values()) {
+            assertSame(status, Status.fromCode(status.getCode()));
+        }
+        for (Visibility visibility : Visibility.values()) {
+            assertSame(visibility, Visibility.fromCode(visibility.getCode()));
+        }
+        for (Notification.NotificationType type : Notification.NotificationType.values()) {
+            assertSame(type, Notification.NotificationType.fromCode(type.getCode()));
+        }
+        assertTrue(Priority.LOW.getCode() < Priority.MEDIUM.getCode() && Priority.MEDIUM.getCode() < Priority.HIGH.getCode());
+        assertThrows(IllegalArgumentException.class, () -> Status.fromCode(Status.values().length));
+        assertThrows(IllegalArgumentException.class, () -> Visibility.fromCode(-1));
+    }
+
+    @Test
+    void testLazyReferenceResolvesOnce() {
+        User user = new User(3, "lazy", "lazy@example.com", "hash");
+        int[] loads = {0};
+        LazyReference<User> reference = LazyReference.of(3, id -> {
+            loads[0]++;
+            return Optional.of(user);
+        });
+
+        assertEquals(3, reference.getId());
+        assertFalse(reference.isResolved());
+        assertSame(user, reference.get());
+        assertSame(user, reference.get());
+        assertTrue(reference.isResolved());
+        assertEquals(1, loads[0]);
+
+        Task task = new Task();
+        task.setCreatorReference(reference);
+        task.setAssignedToReference(LazyReference.of(4, id -> Optional.empty()));
+        assertEquals(4, task.getAssignedToId());
+        assertTrue(task.toString().contains("assignedTo=#4"), "toString must not load references");
+        assertNull(task.getAssignedTo(), "A missing entity resolves to null");
+        assertEquals(0, task.getProjectId());
+    }
+
+    @Test
+    void testTaskSummaryOfLoadedTask() {
+        User creator = new User(1, "creator", "creator@example.com", "hash");
+        Project project = new Project(2, "Launch", null);
+        Task task = new Task(3, "Ship", "d".repeat(TaskSummary.DESCRIPTION_EXCERPT_LENGTH + 1), null,
+                Priority.HIGH, Status.IN_PROGRESS, null, project, Visibility.PUBLIC, creator);
+
+        TaskSummary summary = TaskSummary.of(task);
+
+        assertEquals(TaskSummary.DESCRIPTION_EXCERPT_LENGTH, summary.descriptionExcerpt().length());
+        assertEquals("Launch", summary.projectName());
+        assertNull(summary.assigneeName());
+        assertEquals("creator", summary.creatorName());
+        task.setTitle("Renamed");
+        assertEquals(summary, TaskSummary.of(task), "Summaries of the same task are equal");
+        assertEquals(summary.hashCode(), TaskSummary.of(task).hashCode());
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.ChangeLogDAO;
+import com.taskforge.dao.NotificationDAO;
+import com.taskforge.dao.UserDAO;
+import com.taskforge.event.DatabaseChanged;
+import com.taskforge.event.EventBus;
+import com.taskforge.model.ChangeLogEntry;
+import com.taskforge.model.Notification;
+import com.taskforge.model.User;
+import com.taskforge.testutil.TestDatabase;
+import com.taskforge.util.DatabaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataVersionWatcherTest {
+
+    private EventBus eventBus;
+    private DataVersionWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseManager.initializeDatabase();
+        eventBus = new EventBus();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (watcher != null) {
+            watcher.shutdown();
+        }
+        eventBus.shutdown();
+        TestDatabase.reset();
+    }
+
+    @Test
+    void poll_PublishesLoggedChangesOnlyAfterACommit() throws InterruptedException {
+        // Arrange
+        UserDAO userDAO = new UserDAO();
+        User recipient = userDAO.createUser(new User("watched", "watched@example.com", "hash"));
+        List<DatabaseChanged> events = new CopyOnWriteArrayList<>();
+        eventBus.subscribe(this, DatabaseChanged.class, events::add);
+        watcher = new DataVersionWatcher(new ChangeLogDAO(), eventBus, 10);
+        Thread.sleep(200);
+        assertTrue(events.isEmpty(), "An idle database must not be reported as changed");
+
+        // Act
+        Notification notification = new NotificationDAO(userDAO)
+                .createNotification(new Notification(recipient, "Hello", LocalDateTime.now()));
+        assertNotNull(notification);
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (events.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(events.isEmpty(), "The commit should have been detected");
+        Thread.sleep(100);
+        assertEquals(1, events.size(), "One commit should be reported once");
+        DatabaseChanged event = events.get(0);
+        assertTrue(event.complete());
+        assertEquals(1, event.changes().size());
+        ChangeLogEntry change = event.changes().get(0);
+        assertEquals(ChangeLogEntry.NOTIFICATIONS, change.entity());
+        assertEquals(notification.getId(), change.entityId());
+        assertEquals(ChangeLogEntry.Operation.INSERT, change.operation());
+        assertTrue(event.affects(ChangeLogEntry.NOTIFICATIONS, recipient.getId()));
+        assertFalse(event.affects(ChangeLogEntry.TASKS));
+    }
+}
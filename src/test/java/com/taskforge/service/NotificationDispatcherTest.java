@@ -0,0 +1,174 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.NotificationDAO;
+import com.taskforge.model.Notification;
+import com.taskforge.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class NotificationDispatcherTest {
+
+    private static Notification notification(int i) {
+        User recipient = new User("user" + i, "user" + i + "@example.com", "hash");
+        recipient.setId(i);
+        return new Notification(recipient, "Message " + i, LocalDateTime.now());
+    }
+
+    @Test
+    void submit_WritesQueuedNotificationsInBatches() throws InterruptedException {
+        // Arrange
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(notificationDAO.createNotifications(anyList())).thenAnswer(invocation -> {
+            List<Notification> batch = invocation.getArgument(0);
+            synchronized (batchSizes) {
+                batchSizes.add(batch.size());
+            }
+            return batch;
+        });
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationDAO, 100, 4, 50, 0);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(dispatcher.submit(notification(i)));
+        }
+        assertTrue(dispatcher.flush(5_000));
+        dispatcher.shutdown();
+
+        // Assert
+        NotificationDispatcherStats stats = dispatcher.getStats();
+        assertEquals(10, stats.submitted());
+        assertEquals(10, stats.written());
+        assertEquals(0, stats.queueDepth());
+        assertEquals(10, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 4), batchSizes.toString());
+        assertTrue(batchSizes.size() < 10, "notifications should be batched: " + batchSizes);
+    }
+
+    @Test
+    void submit_DropsWhenQueueStaysFull() throws InterruptedException {
+        // Arrange: the first batch blocks the writer so the queue fills up
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationDAO.createNotifications(anyList())).thenAnswer(invocation -> {
+            writerBusy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationDAO, 2, 1, 0, 10);
+        dispatcher.submit(notification(0));
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+
+        // Act
+        assertTrue(dispatcher.submit(notification(1)));
+        assertTrue(dispatcher.submit(notification(2)));
+        boolean accepted = dispatcher.submit(notification(3));
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Assert
+        assertFalse(accepted);
+        NotificationDispatcherStats stats = dispatcher.getStats();
+        assertEquals(1, stats.dropped());
+        assertEquals(1, stats.throttled());
+        assertEquals(3, stats.written());
+    }
+
+    @Test
+    void shutdown_WritesDirectlyAfterwards() {
+        // Arrange
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationDAO, 10, 10, 5, 0);
+        dispatcher.shutdown();
+        Notification late = notification(1);
+        when(notificationDAO.createNotification(late)).thenReturn(late);
+
+        // Act
+        boolean result = dispatcher.submit(late);
+
+        // Assert
+        assertTrue(result);
+        verify(notificationDAO).createNotification(late);
+    }
+
+    @Test
+    void writeBatch_RetriesRowsOfFailedBatchIndividually() throws InterruptedException {
+        // Arrange: the batch fails because one recipient no longer exists
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        when(notificationDAO.createNotifications(anyList())).thenReturn(List.of());
+        Notification orphaned = notification(2);
+        when(notificationDAO.createNotification(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            return notification == orphaned ? null : notification;
+        });
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationDAO, 10, 10, 50, 0);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            dispatcher.submit(i == 2 ? orphaned : notification(i));
+        }
+        assertTrue(dispatcher.flush(5_000));
+        dispatcher.shutdown();
+
+        // Assert
+        NotificationDispatcherStats stats = dispatcher.getStats();
+        assertEquals(4, stats.written());
+        assertEquals(1, stats.failed());
+        verify(notificationDAO, times(5)).createNotification(any(Notification.class));
+    }
+
+    @Test
+    void shutdown_WritesEveryAcceptedNotificationWhileSubmittersRace() throws InterruptedException {
+        // Arrange
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        AtomicInteger inserted = new AtomicInteger();
+        when(notificationDAO.createNotifications(anyList())).thenAnswer(invocation -> {
+            List<Notification> batch = invocation.getArgument(0);
+            inserted.addAndGet(batch.size());
+            return batch;
+        });
+        when(notificationDAO.createNotification(any(Notification.class))).thenAnswer(invocation -> {
+            inserted.incrementAndGet();
+            return invocation.getArgument(0);
+        });
+        NotificationDispatcher dispatcher = new NotificationDispatcher(notificationDAO, 1_000, 16, 1, 10);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread submitter = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 2_000; i++) {
+                    if (dispatcher.submit(notification(i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            submitters.add(submitter);
+            submitter.start();
+        }
+
+        // Act
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+        for (Thread submitter : submitters) {
+            submitter.join(10_000);
+        }
+
+        // Assert
+        assertEquals(accepted.get(), inserted.get(), "no accepted notification should be left in the queue");
+        assertEquals(0, dispatcher.getStats().queueDepth());
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskforge.service;
+
+import com.taskforge.dao.TaskDAO;
+import com.taskforge.model.TaskSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class SearchServiceTest {
+
+    @Mock private TaskDAO taskDAO;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchService = new SearchService(taskDAO);
+    }
+
+    @Test
+    void toMatchExpression_QuotesWordsAndIgnoresOperators() {
+        assertEquals("\"release\"* \"notes\"*", SearchService.toMatchExpression("release notes"));
+        assertEquals("\"NEAR\"* \"foo\"* \"bar\"*", SearchService.toMatchExpression("NEAR(foo \"bar\")"));
+        assertEquals("\"café\"* \"a\"", SearchService.toMatchExpression("café, a"));
+        assertNull(SearchService.toMatchExpression(" *:- "));
+        assertNull(SearchService.toMatchExpression(null));
+    }
+
+    @Test
+    void searchTasks_DelegatesToDatabaseSearch() {
+        // Arrange
+        List<TaskSearchResult> results = List.of();
+        when(taskDAO.searchVisibleTasks(1, "\"deploy\"*", SearchService.DEFAULT_LIMIT)).thenReturn(results);
+
+        // Act
+        List<TaskSearchResult> found = searchService.searchTasks("deploy", 1);
+
+        // Assert
+        assertSame(results, found);
+    }
+
+    @Test
+    void searchTasks_BlankQuerySkipsDatabase() {
+        // Act
+        List<TaskSearchResult> found = searchService.searchTasks("   ", 1);
+
+        // Assert
+        assertTrue(found.isEmpty());
+        verify(taskDAO, never()).searchVisibleTasks(anyInt(), anyString(), anyInt());
+    }
+}
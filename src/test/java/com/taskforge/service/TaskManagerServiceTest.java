@@ -1,4 +1,80 @@
 package com.taskforge.service;
 
+import com.taskforge.dao.*;
+import com.taskforge.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
 public class TaskManagerServiceTest {
+
+    @Mock private TaskDAO taskDAO;
+    @Mock private UserDAO userDAO;
+    @Mock private ProjectDAO projectDAO;
+    @Mock private NotificationDAO notificationDAO;
+    @Mock private UserTeamDAO userTeamDAO;
+    @Mock private UserManagerService userManagerService;
+
+    private TaskManagerService taskManagerService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskManagerService = new TaskManagerService(taskDAO, userDAO, projectDAO,
+                notificationDAO, userTeamDAO, userManagerService);
+    }
+
+    @Test
+    void getAllVisibleTasks_UsesDatabaseVisibilityQuery() {
+        // Arrange
+        User creator = new User("creator", "creator@test.com", "hash");
+        creator.setId(2);
+        Task restrictedTask = new Task("Restricted", "", null, Priority.LOW, Status.PENDING,
+                null, null, Visibility.RESTRICTED, creator);
+        when(taskDAO.getTasksVisibleToUser(1)).thenReturn(List.of(restrictedTask));
+
+        // Act
+        List<Task> result = taskManagerService.getAllVisibleTasks(1);
+
+        // Assert
+        assertEquals(List.of(restrictedTask), result);
+        verify(taskDAO, never()).getAllTasks();
+        verify(userManagerService, never()).areUsersInSameTeam(anyInt(), anyInt());
+    }
+
+    @Test
+    void getTasksByProject_UsesDatabaseVisibilityQuery() {
+        // Arrange
+        when(taskDAO.getVisibleTasksByProjectId(5, 1)).thenReturn(List.of());
+
+        // Act
+        List<Task> result = taskManagerService.getTasksByProject(5, 1);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskDAO).getVisibleTasksByProjectId(5, 1);
+        verify(taskDAO, never()).getTasksByProjectId(anyInt());
+    }
+
+    @Test
+    void getAllVisibleTasksPage_PassesCursorToVisibilityQuery() {
+        // Arrange
+        Page<Task> page = new Page<>(List.of(), null);
+        when(taskDAO.getTasksVisibleToUser(1, TaskOrder.DEFAULT, 25, "cursor", TaskFetchPlan.FULL_GRAPH)).thenReturn(page);
+
+        // Act
+        Page<Task> result = taskManagerService.getAllVisibleTasks(1, TaskOrder.DEFAULT, 25, "cursor");
+
+        // Assert
+        assertSame(page, result);
+        verify(taskDAO, never()).getAllTasks(anyInt(), any());
+        verify(taskDAO, never()).getTasksVisibleToUser(anyInt());
+    }
 }
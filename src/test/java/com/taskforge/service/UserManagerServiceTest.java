@@ -78,6 +78,7 @@ class UserManagerServiceTest {
         when(teamDAO.getTeamById(teamId)).thenReturn(Optional.of(mockTeam));
         when(userTeamDAO.getMembership(userId, teamId)).thenReturn(Optional.empty());
         when(userTeamDAO.createMembership(any(UserTeamMembership.class))).thenReturn(true);
+        when(notificationDAO.createNotification(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         boolean result = userManagerService.inviteUserToTeam(
@@ -118,6 +119,69 @@ class UserManagerServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    void membershipChecks_FollowAcceptAndRemoveWithoutReloading() {
+        // Arrange
+        int userId1 = 1;
+        int userId2 = 2;
+        int teamId = 7;
+        Team team = new Team("Team");
+        team.setId(teamId);
+        UserTeamMembership ownerMembership = new UserTeamMembership(
+                new User(), team, UserTeamMembership.Role.OWNER,
+                UserTeamMembership.InvitationStatus.ACCEPTED
+        );
+        UserTeamMembership pendingMembership = new UserTeamMembership(
+                new User(), team, UserTeamMembership.Role.MEMBER,
+                UserTeamMembership.InvitationStatus.PENDING
+        );
+
+        when(userTeamDAO.getMembershipsByUserId(userId1)).thenReturn(List.of(ownerMembership));
+        when(userTeamDAO.getMembershipsByUserId(userId2)).thenReturn(List.of(pendingMembership));
+        when(userTeamDAO.getMembership(userId2, teamId)).thenReturn(Optional.of(pendingMembership));
+        when(userTeamDAO.updateMembership(any(UserTeamMembership.class))).thenReturn(true);
+        when(userTeamDAO.deleteMembership(userId2, teamId)).thenReturn(true);
+
+        // Act & Assert
+        assertFalse(userManagerService.areUsersInSameTeam(userId1, userId2));
+        assertFalse(userManagerService.isUserMemberOfTeam(userId2, teamId));
+
+        assertTrue(userManagerService.acceptTeamInvitation(userId2, teamId));
+        assertTrue(userManagerService.areUsersInSameTeam(userId1, userId2));
+        assertTrue(userManagerService.isUserMemberOfTeam(userId2, teamId));
+
+        assertTrue(userManagerService.removeUserFromTeam(userId2, teamId));
+        assertFalse(userManagerService.areUsersInSameTeam(userId1, userId2));
+        assertFalse(userManagerService.isUserMemberOfTeam(userId2, teamId));
+
+        verify(userTeamDAO, times(1)).getMembershipsByUserId(userId1);
+        verify(userTeamDAO, times(1)).getMembershipsByUserId(userId2);
+    }
+
+    @Test
+    void deleteTeam_RemovesTeamFromMembershipChecks() {
+        // Arrange
+        int userId1 = 1;
+        int userId2 = 2;
+        Team team = new Team("Team");
+        team.setId(3);
+        UserTeamMembership membership = new UserTeamMembership(
+                new User(), team, UserTeamMembership.Role.MEMBER,
+                UserTeamMembership.InvitationStatus.ACCEPTED
+        );
+
+        when(userTeamDAO.getMembershipsByUserId(anyInt())).thenReturn(List.of(membership));
+        when(teamDAO.deleteTeam(3)).thenReturn(true);
+        assertTrue(userManagerService.areUsersInSameTeam(userId1, userId2));
+
+        // Act
+        boolean result = userManagerService.deleteTeam(3);
+
+        // Assert
+        assertTrue(result);
+        assertFalse(userManagerService.areUsersInSameTeam(userId1, userId2));
+    }
+
     @Test
     void updateUser_Success() {
         // Arrange
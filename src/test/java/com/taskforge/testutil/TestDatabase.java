@@ -0,0 +1,74 @@
+package com.taskforge.testutil;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.User;
+import com.taskforge.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sets up and resets the database shared by the tests that run against a real SQLite file.
+ * Tests call {@link #open()} or {@link DatabaseManager#initializeDatabase()} before each test and
+ * {@link #close(AppContext)} or {@link #reset()} after it, so that every test starts from an empty schema.
+ */
+public final class TestDatabase {
+
+    /** Every table of the schema, children before the tables they reference. */
+    private static final String[] TABLES = {
+            "TaskSearch", "CommentSearch", "ChangeLog", "Notifications", "Attachments", "Comments", "Tasks",
+            "Projects", "UserTeamMemberships", "Teams", "Users"
+    };
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Creates the schema and an application context on top of it.
+     *
+     * @return The new context; pass it to {@link #close(AppContext)} after the test.
+     */
+    public static AppContext open() {
+        DatabaseManager.initializeDatabase();
+        return new AppContext();
+    }
+
+    /**
+     * Creates a user named after the username, with an example email and a dummy password hash.
+     *
+     * @param context The context whose UserDAO stores the user.
+     * @param username The username.
+     * @return The created user, with its ID set.
+     */
+    public static User createUser(AppContext context, String username) {
+        return context.getUserDAO().createUser(new User(username, username + "@example.com", "hash"));
+    }
+
+    /**
+     * Shuts the context down and resets the database.
+     *
+     * @param context The context returned by {@link #open()}.
+     * @throws SQLException if the tables cannot be dropped.
+     */
+    public static void close(AppContext context) throws SQLException {
+        context.shutdown();
+        reset();
+    }
+
+    /**
+     * Drops every table and sets the schema version back to 0, so the next
+     * {@link DatabaseManager#initializeDatabase()} runs all migrations again.
+     *
+     * @throws SQLException if the tables cannot be dropped.
+     */
+    public static void reset() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String table : TABLES) {
+                stmt.execute("DROP TABLE IF EXISTS " + table);
+            }
+            stmt.execute("PRAGMA user_version = 0");
+        }
+    }
+}
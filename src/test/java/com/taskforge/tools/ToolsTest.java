@@ -0,0 +1,91 @@
+package com.taskforge.tools;
+
+import com.taskforge.AppContext;
+import com.taskforge.model.Notification;
+import com.taskforge.testutil.TestDatabase;
+import com.taskforge.util.DatabaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ToolsTest {
+
+    @BeforeEach
+    void setUp() {
+        DatabaseManager.initializeDatabase();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TestDatabase.reset();
+    }
+
+    private static int count(String sql) throws SQLException {
+        try (Connection conn = DatabaseManager.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    void testGeneratorInsertsReportedRows() throws SQLException {
+        DatasetOptions options = new DatasetOptions()
+                .setUsers(60)
+                .setMeanTasksPerUser(5)
+                .setPendingInvitationRatio(0.2)
+                .setBatchSize(7);
+
+        DatasetSummary summary = new DatasetGenerator(options).generate();
+
+        assertEquals(60, summary.users());
+        assertEquals(summary.users(), count("SELECT COUNT(*) FROM Users"));
+        assertEquals(summary.teams(), count("SELECT COUNT(*) FROM Teams"));
+        assertEquals(summary.memberships(), count("SELECT COUNT(*) FROM UserTeamMemberships"));
+        assertEquals(summary.projects(), count("SELECT COUNT(*) FROM Projects"));
+        assertEquals(summary.tasks(), count("SELECT COUNT(*) FROM Tasks"));
+        assertEquals(summary.comments(), count("SELECT COUNT(*) FROM Comments"));
+        assertEquals(summary.attachments(), count("SELECT COUNT(*) FROM Attachments"));
+        assertEquals(summary.notifications(), count("SELECT COUNT(*) FROM Notifications"));
+        assertTrue(summary.tasks() > 0);
+        assertEquals(summary.teams(), count("SELECT COUNT(*) FROM UserTeamMemberships WHERE role = 'OWNER'"));
+        assertEquals(count("SELECT COUNT(*) FROM UserTeamMemberships WHERE invitation_status = 'PENDING'"),
+                count("SELECT COUNT(*) FROM Notifications WHERE notification_type = " + Notification.NotificationType.TEAM_INVITATION.getCode()));
+    }
+
+    @Test
+    void testGeneratorAppendsToExistingData() throws SQLException {
+        DatasetOptions options = new DatasetOptions().setUsers(10).setMeanTasksPerUser(2);
+
+        DatasetSummary first = new DatasetGenerator(options).generate();
+        DatasetSummary second = new DatasetGenerator(options).generate();
+
+        assertEquals(first.users() + second.users(), count("SELECT COUNT(*) FROM Users"));
+        assertEquals(first.tasks() + second.tasks(), count("SELECT COUNT(*) FROM Tasks"));
+    }
+
+    @Test
+    void testLoadDriverRunsMixedWorkload() throws Exception {
+        new DatasetGenerator(new DatasetOptions().setUsers(20).setMeanTasksPerUser(5)).generate();
+        AppContext context = new AppContext();
+        try {
+            LoadReport report = new LoadDriver(context, 4, Duration.ofMillis(500), 0.3, 0, 1L).run();
+
+            assertTrue(report.getTotalCount() > 0);
+            for (LoadReport.OperationStats stats : report.operations()) {
+                assertEquals(0, stats.errors(), stats.operation() + " reported errors");
+            }
+        } finally {
+            context.shutdown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskforge.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundExecutorTest {
+
+    private ExecutorService threads;
+    private BlockingQueue<Runnable> uiQueue;
+    private BackgroundExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        threads = Executors.newVirtualThreadPerTaskExecutor();
+        uiQueue = new LinkedBlockingQueue<>();
+        executor = new BackgroundExecutor(threads, uiQueue::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Runs the next callback batch that was handed to the UI thread. */
+    private void runNextUiBatch() throws InterruptedException {
+        Runnable batch = uiQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch, "Expected a result to be dispatched to the UI thread");
+        batch.run();
+    }
+
+    @Test
+    void testRequestsWithSameKeyAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        List<String> received = new ArrayList<>();
+        Object firstOwner = new Object();
+        Object secondOwner = new Object();
+
+        executor.submit(firstOwner, "tasks:1", () -> {
+            runs.incrementAndGet();
+            release.await();
+            return "tasks";
+        }, received::add, Throwable::printStackTrace);
+        executor.submit(secondOwner, "tasks:1", () -> {
+            runs.incrementAndGet();
+            return "other";
+        }, received::add, Throwable::printStackTrace);
+        release.countDown();
+        runNextUiBatch();
+
+        assertEquals(1, runs.get());
+        assertEquals(List.of("tasks", "tasks"), received);
+        assertFalse(executor.hasPending(firstOwner));
+        assertFalse(executor.hasPending(secondOwner));
+    }
+
+    @Test
+    void testCancelledOwnerReceivesNoCallbackAndWorkIsInterrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Object owner = new Object();
+
+        executor.submit(owner, "slow", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, result -> fail("Cancelled request must not deliver"), error -> fail("Cancelled request must not deliver"));
+        assertTrue(executor.hasPending(owner));
+        started.await();
+        executor.cancelAll(owner);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertFalse(executor.hasPending(owner));
+        assertNull(uiQueue.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testInvalidatedKeyRunsWorkAgain() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        List<Integer> received = new ArrayList<>();
+        Object owner = new Object();
+
+        executor.submit(owner, "tasks:1", () -> {
+            int run = runs.incrementAndGet();
+            release.await();
+            return run;
+        }, received::add, Throwable::printStackTrace);
+        executor.invalidate("tasks:1");
+        executor.submit(owner, "tasks:1", () -> {
+            int run = runs.incrementAndGet();
+            release.await();
+            return run;
+        }, received::add, Throwable::printStackTrace);
+        release.countDown();
+        runNextUiBatch();
+        runNextUiBatch();
+
+        assertEquals(2, runs.get());
+        assertEquals(2, received.size());
+        assertTrue(received.containsAll(List.of(1, 2)));
+    }
+
+    @Test
+    void testFailureIsDeliveredToErrorCallback() throws Exception {
+        List<Throwable> errors = new ArrayList<>();
+
+        executor.submit(this, null, () -> {
+            throw new IllegalStateException("database unavailable");
+        }, result -> fail("Failed request must not deliver a result"), errors::add);
+        runNextUiBatch();
+
+        assertEquals(1, errors.size());
+        assertEquals("database unavailable", errors.get(0).getMessage());
+    }
+}
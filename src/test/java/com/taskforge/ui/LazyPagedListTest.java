@@ -0,0 +1,184 @@
+package com.taskforge.ui;
+
+import com.taskforge.dao.Page;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyPagedListTest {
+
+    private ExecutorService threads;
+    private BlockingQueue<Runnable> uiQueue;
+    private BackgroundExecutor executor;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        threads = Executors.newVirtualThreadPerTaskExecutor();
+        uiQueue = new LinkedBlockingQueue<>();
+        executor = new BackgroundExecutor(threads, uiQueue::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Pages over the integers 0 to rowCount - 1; the cursor is the last integer of the previous page. */
+    private LazyPagedList.PageLoader<Integer> rows(int rowCount) {
+        return (pageSize, cursor) -> {
+            queries.incrementAndGet();
+            int from = cursor == null ? 0 : Integer.parseInt(cursor) + 1;
+            List<Integer> items = new ArrayList<>();
+            for (int i = from; i < Math.min(rowCount, from + pageSize); i++) {
+                items.add(i);
+            }
+            boolean hasNext = from + pageSize < rowCount;
+            return new Page<>(items, hasNext ? String.valueOf(from + pageSize - 1) : null);
+        };
+    }
+
+    /** Runs UI callbacks until no background request of the owner is pending. */
+    private void awaitIdle(Object owner) throws InterruptedException {
+        while (executor.hasPending(owner)) {
+            Runnable batch = uiQueue.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch, "Expected a page to be dispatched to the UI thread");
+            batch.run();
+        }
+    }
+
+    @Test
+    void testFirstPageLoadsAndNextPageIsFetchedNearTheEnd() throws Exception {
+        Object owner = new Object();
+        LazyPagedList<Integer> list = new LazyPagedList<>(executor, owner, 10, 3, 5);
+
+        list.load(null, rows(25));
+        awaitIdle(owner);
+        assertEquals(10, list.size());
+        assertEquals(Integer.valueOf(4), list.get(4));
+        assertFalse(executor.hasPending(owner), "Rows far from the end must not fetch the next page");
+
+        list.get(8);
+        awaitIdle(owner);
+        assertEquals(20, list.size());
+        list.get(19);
+        awaitIdle(owner);
+        assertEquals(25, list.size());
+        assertEquals(Integer.valueOf(24), list.get(24));
+        assertEquals(3, queries.get());
+    }
+
+    @Test
+    void testFarPagesAreEvictedAndReloadedInPlace() throws Exception {
+        Object owner = new Object();
+        LazyPagedList<Integer> list = new LazyPagedList<>(executor, owner, 10, 0, 2);
+        list.load(null, rows(40));
+        awaitIdle(owner);
+        for (int index = 9; index < 40; index += 10) {
+            list.get(index); // Reaching the last row of each page discovers the next one
+            awaitIdle(owner);
+        }
+        assertEquals(40, list.size());
+        assertEquals(20, list.getLoadedRowCount());
+        assertNull(list.get(0), "The first page should have been evicted");
+
+        awaitIdle(owner);
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(40, list.size());
+        assertEquals(20, list.getLoadedRowCount());
+    }
+
+    @Test
+    void testReloadDropsPagesOfThePreviousLoader() throws Exception {
+        Object owner = new Object();
+        LazyPagedList<Integer> list = new LazyPagedList<>(executor, owner, 10, 0, 5);
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> changes.add(change.toString()));
+
+        list.load(null, rows(100));
+        list.load(null, rows(3));
+        awaitIdle(owner);
+
+        assertEquals(List.of(0, 1, 2), List.copyOf(list));
+        assertEquals(1, changes.size(), "Only the page of the current loader should be applied");
+    }
+
+    @Test
+    void testRemoveShiftsLaterRows() throws Exception {
+        Object owner = new Object();
+        LazyPagedList<Integer> list = new LazyPagedList<>(executor, owner, 5, 0, 5);
+        list.load(null, rows(10));
+        awaitIdle(owner);
+        list.get(4);
+        awaitIdle(owner);
+
+        assertTrue(list.remove(Integer.valueOf(2)));
+        assertEquals(9, list.size());
+        assertEquals(Integer.valueOf(5), list.get(4));
+        assertEquals(Integer.valueOf(9), list.get(8));
+        assertFalse(list.remove(Integer.valueOf(42)));
+    }
+
+    @Test
+    void testReconcileAppliesOnlyTheDifferences() throws Exception {
+        Object owner = new Object();
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            data.add(i * 10);
+        }
+        // Keyset loader over the current contents of data; the cursor is the last value of the previous page
+        LazyPagedList.PageLoader<Integer> loader = (pageSize, cursor) -> {
+            int after = cursor == null ? Integer.MIN_VALUE : Integer.parseInt(cursor);
+            List<Integer> matching = data.stream().filter(value -> value > after).toList();
+            List<Integer> items = matching.subList(0, Math.min(pageSize, matching.size()));
+            boolean hasNext = matching.size() > pageSize;
+            return new Page<>(new ArrayList<>(items), hasNext ? String.valueOf(items.get(items.size() - 1)) : null);
+        };
+        LazyPagedList<Integer> list = new LazyPagedList<>(executor, owner, 10, 0, 5);
+        list.load(null, loader);
+        awaitIdle(owner);
+        list.get(9);
+        awaitIdle(owner);
+        list.get(19);
+        awaitIdle(owner);
+        assertEquals(30, list.size());
+        List<Integer> removed = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        List<Integer> changedFrom = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changedFrom.add(change.getFrom());
+                if (!change.wasReplaced()) {
+                    removed.addAll(change.getRemoved());
+                    added.addAll(change.getAddedSubList());
+                }
+            }
+        });
+
+        data.remove(Integer.valueOf(50));
+        data.remove(Integer.valueOf(60));
+        data.add(data.indexOf(200), 195);
+        list.reconcile();
+        awaitIdle(owner);
+
+        assertEquals(data, List.copyOf(list));
+        assertEquals(List.of(50, 60), removed, "Only the deleted rows should be removed");
+        assertEquals(List.of(195), added, "Only the inserted row should be added");
+        assertTrue(changedFrom.stream().allMatch(from -> from >= 5), "Unchanged leading rows must not be touched");
+        list.get(28);
+        awaitIdle(owner);
+        assertEquals(29, list.size());
+    }
+}
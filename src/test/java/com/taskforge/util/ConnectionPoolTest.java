@@ -0,0 +1,98 @@
+package com.taskforge.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:sqlite:" + tempDir.resolve("pool-test.db");
+        pool = new ConnectionPool(url, List.of("PRAGMA foreign_keys = ON"), 2, 200, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testConnectionIsReused() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            assertFalse(conn.isClosed());
+        }
+        try (Connection conn = pool.getConnection()) {
+            assertFalse(conn.isClosed());
+        }
+
+        PoolStats stats = pool.getStats();
+        assertEquals(1, stats.getConnectionsCreated(), "Second checkout should reuse the first connection");
+        assertEquals(2, stats.getCheckouts());
+        assertEquals(0, stats.getActive());
+        assertEquals(1, stats.getIdle());
+    }
+
+    @Test
+    void testInitStatementsApplied() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA foreign_keys")) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1), "Foreign keys should be enabled by the pool");
+        }
+    }
+
+    @Test
+    void testCheckoutTimesOutWhenExhausted() throws SQLException {
+        try (Connection first = pool.getConnection();
+             Connection second = pool.getConnection()) {
+            assertThrows(SQLException.class, () -> pool.getConnection());
+            assertEquals(2, pool.getStats().getActive());
+        }
+        assertEquals(1, pool.getStats().getCheckoutTimeouts());
+    }
+
+    @Test
+    void testClosedHandleRejectsUse() throws SQLException {
+        Connection conn = pool.getConnection();
+        conn.close();
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+
+    @Test
+    void testUncommittedWorkRolledBackOnReturn() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Items (id INTEGER PRIMARY KEY)");
+        }
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            stmt.execute("INSERT INTO Items (id) VALUES (1)");
+        }
+        try (Connection conn = pool.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM Items")) {
+            assertTrue(conn.getAutoCommit(), "Returned connection should be back in auto-commit mode");
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskforge.util;
 
+import com.taskforge.testutil.TestDatabase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,17 +20,7 @@ class DatabaseManagerTest {
 
     @AfterEach
     void tearDown() throws SQLException {
-        try (Connection conn = DatabaseManager.getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute("DROP TABLE IF EXISTS Notifications");
-            stmt.execute("DROP TABLE IF EXISTS Attachments");
-            stmt.execute("DROP TABLE IF EXISTS Comments");
-            stmt.execute("DROP TABLE IF EXISTS Tasks");
-            stmt.execute("DROP TABLE IF EXISTS Projects");
-            stmt.execute("DROP TABLE IF EXISTS UserTeamMemberships");
-            stmt.execute("DROP TABLE IF EXISTS Teams");
-            stmt.execute("DROP TABLE IF EXISTS Users");
-        }
+        TestDatabase.reset();
     }
 
     @Test
@@ -57,6 +48,156 @@ class DatabaseManagerTest {
         }
     }
 
+    @Test
+    void testSchemaVersionRecorded() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+            assertTrue(rs.next());
+            assertEquals(new SchemaMigrator(SchemaMigrations.all()).getLatestVersion(), rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testHotPathIndexesCreated() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name IN (" +
+                     "'idx_tasks_assignee_counts', 'idx_tasks_project_counts', 'idx_tasks_creator_id', " +
+                     "'idx_comments_task_id', 'idx_attachments_task_id', 'idx_notifications_user_read_sent', " +
+                     "'idx_user_team_memberships_team_id')")) {
+            assertTrue(rs.next());
+            assertEquals(7, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void testPaginatedQueriesReadInIndexOrder() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            assertFalse(queryPlan(stmt, "SELECT t.id FROM Tasks t ORDER BY IFNULL(t.due_date, 9223372036854775807), t.id LIMIT 10")
+                    .contains("TEMP B-TREE"));
+            assertFalse(queryPlan(stmt, "SELECT id FROM Notifications WHERE user_id = 1 ORDER BY sent_at DESC, id DESC LIMIT 10")
+                    .contains("TEMP B-TREE"));
+            assertTrue(queryPlan(stmt, "SELECT t.id FROM Tasks t WHERE IFNULL(t.due_date, 9223372036854775807) >= 0 " +
+                    "AND IFNULL(t.due_date, 9223372036854775807) < 1 ORDER BY IFNULL(t.due_date, 9223372036854775807), t.id")
+                    .contains("USING INDEX idx_tasks_due_date_id"));
+        }
+    }
+
+    @Test
+    void testCountQueriesReadOnlyIndexes() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            String assigneeCounts = queryPlan(stmt, "SELECT t.status, t.priority, COUNT(*), " +
+                    "SUM(CASE WHEN t.status <> 2 AND t.due_date < 0 THEN 1 ELSE 0 END) " +
+                    "FROM Tasks t WHERE t.assigned_to_user_id = 1 GROUP BY t.status, t.priority");
+            assertTrue(assigneeCounts.contains("USING COVERING INDEX idx_tasks_assignee_counts"), assigneeCounts);
+            assertFalse(assigneeCounts.contains("TEMP B-TREE"), assigneeCounts);
+            assertTrue(queryPlan(stmt, "SELECT COUNT(*) FROM Notifications WHERE user_id = 1 AND is_read = 0")
+                    .contains("USING COVERING INDEX idx_notifications_user_read_sent"));
+        }
+    }
+
+    @Test
+    void testInTransactionCommitsOnceForAllConnections() throws SQLException {
+        int teamCount = DatabaseManager.inTransaction(() -> {
+            assertTrue(DatabaseManager.isInTransaction());
+            try (Connection conn = DatabaseManager.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("INSERT INTO Teams(name) VALUES('alpha')");
+            }
+            // Nested units of work join the outer transaction
+            DatabaseManager.inTransaction(() -> {
+                try (Connection conn = DatabaseManager.getConnection();
+                     Statement stmt = conn.createStatement()) {
+                    return stmt.executeUpdate("INSERT INTO Teams(name) VALUES('beta')");
+                }
+            });
+            // Reads inside the unit of work see its uncommitted writes
+            return countTeams();
+        });
+
+        assertFalse(DatabaseManager.isInTransaction());
+        assertEquals(2, teamCount);
+        assertEquals(2, countTeams());
+    }
+
+    @Test
+    void testInTransactionRollsBackEverythingOnFailure() throws SQLException {
+        StringBuilder completed = new StringBuilder();
+
+        SQLException thrown = assertThrows(SQLException.class, () -> DatabaseManager.inTransaction(() -> {
+            DatabaseManager.afterTransaction(() -> completed.append("done"));
+            try (Connection conn = DatabaseManager.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("INSERT INTO Teams(name) VALUES('alpha')");
+                assertThrows(SQLException.class, conn::commit);
+            }
+            throw new SQLException("second write failed");
+        }));
+
+        assertEquals("second write failed", thrown.getMessage());
+        assertEquals("done", completed.toString());
+        assertEquals(0, countTeams());
+    }
+
+    private static int countTeams() throws SQLException {
+        try (Connection conn = DatabaseManager.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM Teams")) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    private static String queryPlan(Statement stmt, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    @Test
+    void testWalJournalMode() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1).toLowerCase());
+        }
+    }
+
+    @Test
+    void testReadConnectionIsReadOnly() throws SQLException {
+        try (Connection conn = DatabaseManager.getReadConnection();
+             Statement stmt = conn.createStatement()) {
+            assertDoesNotThrow(() -> stmt.executeQuery("SELECT * FROM Users LIMIT 1").close());
+            assertThrows(SQLException.class, () -> stmt.execute("INSERT INTO Teams (name) VALUES ('readonly')"));
+        }
+    }
+
+    @Test
+    void testReadConnectionDoesNotWaitForOpenWrite() throws SQLException {
+        try (Connection writer = DatabaseManager.getConnection();
+             Statement writeStmt = writer.createStatement()) {
+            writer.setAutoCommit(false);
+            writeStmt.execute("INSERT INTO Teams (name) VALUES ('uncommitted')");
+
+            // The write transaction is still open; a reader must proceed and see the committed snapshot
+            try (Connection reader = DatabaseManager.getReadConnection();
+                 Statement readStmt = reader.createStatement();
+                 ResultSet rs = readStmt.executeQuery("SELECT COUNT(*) FROM Teams WHERE name = 'uncommitted'")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+            writer.rollback();
+        }
+    }
+
     @Test
     void testForeignKeysEnabled() throws SQLException {
         try (Connection conn = DatabaseManager.getConnection();
@@ -95,7 +236,7 @@ class DatabaseManagerTest {
             // Try to insert a task with invalid user reference (should fail)
             SQLException exception = assertThrows(SQLException.class, () -> {
                 stmt.execute("INSERT INTO Tasks (title, priority, status, visibility, creator_id) VALUES " +
-                        "('Test Task', 'MEDIUM', 'PENDING', 'PUBLIC', 999)");
+                        "('Test Task', 1, 0, 0, 999)");
             });
 
             assertTrue(exception.getMessage().contains("FOREIGN KEY constraint failed") ||
@@ -0,0 +1,85 @@
+package com.taskforge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void testHitReturnsSameInstanceWithoutReloading() {
+        EntityCache<Integer, StringBuilder> cache = new EntityCache<>("test", 10, 60_000, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<StringBuilder> first = cache.getOrLoad(1, id -> {
+            loads.incrementAndGet();
+            return Optional.of(new StringBuilder("one"));
+        });
+        Optional<StringBuilder> second = cache.getOrLoad(1, id -> {
+            loads.incrementAndGet();
+            return Optional.of(new StringBuilder("other"));
+        });
+
+        assertSame(first.get(), second.get());
+        assertEquals(1, loads.get());
+        CacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testEmptyResultsAreNotCached() {
+        EntityCache<Integer, String> cache = new EntityCache<>("test", 10, 60_000, now::get);
+
+        assertTrue(cache.getOrLoad(1, id -> Optional.empty()).isEmpty());
+        assertEquals(Optional.of("created"), cache.getOrLoad(1, id -> Optional.of("created")));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryEvictedWhenFull() {
+        EntityCache<Integer, String> cache = new EntityCache<>("test", 2, 60_000, now::get);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.getIfPresent(1); // 2 becomes the least recently used entry
+        cache.put(3, "three");
+
+        assertTrue(cache.getIfPresent(1).isPresent());
+        assertTrue(cache.getIfPresent(2).isEmpty());
+        assertTrue(cache.getIfPresent(3).isPresent());
+        assertEquals(1, cache.getStats().getEvictions());
+        assertEquals(2, cache.getStats().getSize());
+    }
+
+    @Test
+    void testEntriesExpireAfterTtl() {
+        EntityCache<Integer, String> cache = new EntityCache<>("test", 10, 500, now::get);
+        cache.put(1, "one");
+
+        now.addAndGet(499);
+        assertTrue(cache.getIfPresent(1).isPresent());
+        now.addAndGet(1);
+        assertTrue(cache.getIfPresent(1).isEmpty());
+        assertEquals(1, cache.getStats().getExpirations());
+    }
+
+    @Test
+    void testLoadStraddlingInvalidationIsNotCached() {
+        EntityCache<Integer, String> cache = new EntityCache<>("test", 10, 60_000, now::get);
+
+        Optional<String> loaded = cache.getOrLoad(1, id -> {
+            cache.invalidate(id); // simulates an update committed while the old row was being read
+            return Optional.of("stale");
+        });
+
+        assertEquals(Optional.of("stale"), loaded);
+        assertTrue(cache.getIfPresent(1).isEmpty());
+        assertEquals(Optional.of("fresh"), cache.getOrLoad(1, id -> Optional.of("fresh")));
+    }
+}
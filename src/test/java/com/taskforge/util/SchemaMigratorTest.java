@@ -0,0 +1,193 @@
+package com.taskforge.util;
+
+import com.taskforge.model.Notification;
+import com.taskforge.model.Priority;
+import com.taskforge.model.Status;
+import com.taskforge.model.Visibility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Connection conn;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:sqlite:" + tempDir.resolve("migrator-test.db"));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void testMigrationsAppliedInOrderAndSkippedWhenCurrent() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+                new Migration(2, "Add index", List.of("CREATE INDEX idx_items_name ON Items(name)")),
+                new Migration(1, "Create table", List.of("CREATE TABLE Items (id INTEGER PRIMARY KEY, name TEXT)"))
+        ));
+
+        assertEquals(2, migrator.migrate(conn));
+        assertEquals(2, migrator.getCurrentVersion(conn));
+        assertEquals(0, migrator.migrate(conn), "No migrations should run when the schema is current");
+    }
+
+    @Test
+    void testFailedMigrationRolledBack() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+                new Migration(1, "Create table", List.of("CREATE TABLE Items (id INTEGER PRIMARY KEY)")),
+                new Migration(2, "Broken", List.of(
+                        "CREATE TABLE Other (id INTEGER PRIMARY KEY)",
+                        "CREATE INDEX idx_missing ON Missing(id)"))
+        ));
+
+        assertThrows(SQLException.class, () -> migrator.migrate(conn));
+        assertEquals(1, migrator.getCurrentVersion(conn), "Version should stay at the last successful migration");
+        assertTrue(conn.getAutoCommit());
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM sqlite_master WHERE name = 'Other'")) {
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1), "Statements of the failed migration should be rolled back");
+        }
+    }
+
+    @Test
+    void testDuplicateVersionsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaMigrator(List.of(
+                new Migration(1, "A", List.of("SELECT 1")),
+                new Migration(1, "B", List.of("SELECT 1")))));
+    }
+
+    @Test
+    void testTimestampMigrationConvertsIsoTextToEpochMillis() throws SQLException {
+        List<Migration> all = SchemaMigrations.all();
+        new SchemaMigrator(all.subList(0, 5)).migrate(conn);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO Tasks(id, title, due_date, priority, status, visibility, creator_id) " +
+                    "VALUES (1, 'dated', '2024-03-05T14:30:15.250', 'LOW', 'PENDING', 'PUBLIC', 1), " +
+                    "(2, 'undated', NULL, 'LOW', 'PENDING', 'PUBLIC', 1)");
+            stmt.execute("INSERT INTO Notifications(id, user_id, message, sent_at) VALUES (1, 1, 'hi', '2024-03-05T08:00:00')");
+        }
+
+        assertEquals(1, new SchemaMigrator(all.subList(0, 6)).migrate(conn));
+
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT typeof(due_date), due_date FROM Tasks ORDER BY id")) {
+            assertTrue(rs.next());
+            assertEquals("integer", rs.getString(1));
+            assertEquals(LocalDateTime.of(2024, 3, 5, 14, 30, 15, 250_000_000), Timestamps.fromEpochMillis(rs.getLong(2)));
+            assertTrue(rs.next());
+            assertEquals("null", rs.getString(1));
+        }
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT sent_at FROM Notifications")) {
+            assertTrue(rs.next());
+            assertEquals(LocalDateTime.of(2024, 3, 5, 8, 0), Timestamps.fromEpochMillis(rs.getLong(1)));
+        }
+    }
+
+    @Test
+    void testTimestampMigrationLeavesChangeLogUnchanged() throws SQLException {
+        List<Migration> all = SchemaMigrations.all();
+        new SchemaMigrator(all.subList(0, 5)).migrate(conn);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO Tasks(id, title, due_date, priority, status, visibility, creator_id) " +
+                    "VALUES (1, 'task', '2024-03-05T14:30:00', 'LOW', 'PENDING', 'PUBLIC', 1)");
+            stmt.execute("INSERT INTO Comments(id, task_id, author_id, comment_text, created_at) VALUES (1, 1, 1, 'hi', '2024-03-05T15:00:00')");
+            stmt.execute("INSERT INTO Attachments(id, task_id, file_name, file_path, uploaded_at) " +
+                    "VALUES (1, 1, 'a.txt', '/tmp/a.txt', '2024-03-05T15:00:00')");
+            stmt.execute("INSERT INTO Notifications(id, user_id, message, sent_at) VALUES (1, 1, 'hi', '2024-03-05T08:00:00')");
+        }
+        List<String> before = changeLogEntries();
+
+        assertEquals(1, new SchemaMigrator(all.subList(0, 6)).migrate(conn));
+
+        assertEquals(before, changeLogEntries(), "Converting the timestamps should not be logged as updates");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("UPDATE Tasks SET title = 'renamed' WHERE id = 1");
+            stmt.execute("UPDATE Comments SET comment_text = 'edited' WHERE id = 1");
+            stmt.execute("UPDATE Attachments SET file_name = 'b.txt' WHERE id = 1");
+            stmt.execute("UPDATE Notifications SET is_read = 1 WHERE id = 1");
+        }
+        List<String> after = changeLogEntries();
+        assertEquals(List.of("Tasks 1 UPDATE", "Comments 1 UPDATE", "Attachments 1 UPDATE", "Notifications 1 UPDATE"),
+                after.subList(before.size(), after.size()), "The update triggers should be in place again after the migration");
+    }
+
+    @Test
+    void testEnumMigrationConvertsNamesToCodes() throws SQLException {
+        List<Migration> all = SchemaMigrations.all();
+        new SchemaMigrator(all.subList(0, 6)).migrate(conn);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO Tasks(id, title, priority, status, visibility, creator_id) " +
+                    "VALUES (1, 'task', 'HIGH', 'BLOCKED', 'RESTRICTED', 1)");
+            stmt.execute("INSERT INTO Notifications(id, user_id, message, sent_at, notification_type) " +
+                    "VALUES (1, 1, 'hi', 0, 'TASK_ASSIGNMENT')");
+        }
+
+        assertEquals(1, new SchemaMigrator(all.subList(0, 7)).migrate(conn));
+
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT t.priority, t.status, t.visibility, n.notification_type " +
+                     "FROM Tasks t, Notifications n")) {
+            assertTrue(rs.next());
+            assertEquals(Priority.HIGH, Priority.fromCode(rs.getInt(1)));
+            assertEquals(Status.BLOCKED, Status.fromCode(rs.getInt(2)));
+            assertEquals(Visibility.RESTRICTED, Visibility.fromCode(rs.getInt(3)));
+            assertEquals(Notification.NotificationType.TASK_ASSIGNMENT, Notification.NotificationType.fromCode(rs.getInt(4)));
+        }
+    }
+
+    @Test
+    void testEnumMigrationLeavesChangeLogUnchanged() throws SQLException {
+        List<Migration> all = SchemaMigrations.all();
+        new SchemaMigrator(all.subList(0, 6)).migrate(conn);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("INSERT INTO Tasks(id, title, priority, status, visibility, creator_id) " +
+                    "VALUES (1, 'task', 'HIGH', 'BLOCKED', 'RESTRICTED', 1), (2, 'other', 'LOW', 'PENDING', 'PUBLIC', 1)");
+            stmt.execute("INSERT INTO Notifications(id, user_id, message, sent_at, notification_type) " +
+                    "VALUES (1, 1, 'hi', 0, 'TASK_ASSIGNMENT')");
+        }
+        List<String> before = changeLogEntries();
+
+        assertEquals(1, new SchemaMigrator(all.subList(0, 7)).migrate(conn));
+
+        assertEquals(before, changeLogEntries(), "Converting the columns should not be logged as updates");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("UPDATE Tasks SET title = 'renamed' WHERE id = 1");
+            stmt.execute("UPDATE Notifications SET is_read = 1 WHERE id = 1");
+        }
+        List<String> after = changeLogEntries();
+        assertEquals(List.of("Tasks 1 UPDATE", "Notifications 1 UPDATE"), after.subList(before.size(), after.size()),
+                "The update triggers should be in place again after the migration");
+    }
+
+    private List<String> changeLogEntries() throws SQLException {
+        List<String> entries = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT entity, entity_id, op FROM ChangeLog ORDER BY seq")) {
+            while (rs.next()) {
+                entries.add(rs.getString(1) + " " + rs.getInt(2) + " " + rs.getString(3));
+            }
+        }
+        return entries;
+    }
+}